@@ -56,6 +56,7 @@ subprojects {
         set("spotBugsVersion", "4.10.3")         // https://mvnrepository.com/artifact/com.github.spotbugs/spotbugs-annotations
         set("slf4jVersion", "2.0.18")            // https://mvnrepository.com/artifact/org.slf4j/slf4j-api
         set("log4jVersion", "2.26.1")           // https://mvnrepository.com/artifact/org.apache.logging.log4j/log4j-core
+        set("logbackVersion", "1.5.38")          // https://mvnrepository.com/artifact/ch.qos.logback/logback-classic
 
         set("jacksonVersion", "3.2.1")       // https://central.sonatype.com/artifact/tools.jackson.core/jackson-databind
         set("guavaVersion", "33.6.0-jre")         // https://mvnrepository.com/artifact/com.google.guava/guava
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Configuration for modules with JMH benchmarks
+ *
+ * <p>Adds a `jmh` source set, under `src/jmh`, with access to the module's main classes and
+ * dependencies, and a `jmh` task to run the benchmarks. Benchmarks are not run as part of the
+ * build.
+ *
+ * <p>Pass `-PjmhInclude=<regex>` to run a subset of the benchmarks, e.g.
+ * `./gradlew :logging:jmh -PjmhInclude=LogTemplate`.
+ *
+ * <p>Versions:
+ *  - 1.0: Initial version
+ */
+
+plugins {
+    java
+}
+
+val jmhVersion = "1.37"     // https://mvnrepository.com/artifact/org.openjdk.jmh/jmh-core
+
+val jmh: SourceSet = sourceSets.create("jmh") {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    jmh.implementationConfigurationName("org.openjdk.jmh:jmh-core:$jmhVersion")
+    jmh.annotationProcessorConfigurationName("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.named<JavaCompile>(jmh.compileJavaTaskName) {
+    // Code generated by the JMH annotation processor is not lint clean:
+    options.compilerArgs.remove("-Werror")
+}
+
+tasks.matching { it.name == "spotbugsJmh" }.configureEach {
+    // Code generated by the JMH annotation processor is not worth analysing:
+    enabled = false
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "creek"
+    description = "Run the JMH benchmarks"
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    if (project.hasProperty("jmhInclude")) {
+        args(project.property("jmhInclude").toString())
+    }
+}
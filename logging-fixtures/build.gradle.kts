@@ -18,6 +18,10 @@ plugins {
     `java-library`
 }
 
+val jacksonVersion : String by extra
+
 dependencies {
     api(project(":logging"))
+
+    implementation("tools.jackson.core:jackson-databind:$jacksonVersion")
 }
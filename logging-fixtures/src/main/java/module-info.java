@@ -1,6 +1,7 @@
 /** Module containing test fixtures to allow logging code to be tested */
 module creek.observability.logging.fixtures {
     requires transitive creek.observability.logging;
+    requires tools.jackson.databind;
 
     exports org.creekservice.api.test.observability.logging.structured;
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.observability.logging.structured;
+
+import static org.creekservice.api.test.observability.logging.structured.LogEntry.logEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.internal.observability.logging.structured.DefaultLogEntryCustomizer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Expands output written in the {@link
+ * org.creekservice.api.observability.logging.structured.SinkFormat#COMPACT_JSON} format back into
+ * {@link LogEntry}s.
+ *
+ * <p>Each entry's {@link LogEntry#message()} holds all its fields other than {@code level},
+ * including the {@code timestamp} and {@code logger} fields. Any {@code cause} is held as the
+ * formatted stack trace text, rather than as the {@link LogEntry#cause()}.
+ *
+ * <p>Instances are stateful, holding the schemas read so far, so output must be expanded in order,
+ * from its start, by a single instance. Lines written as plain JSON, e.g. once the encoder's schema
+ * limit was reached, are also supported.
+ */
+public final class CompactJsonExpander {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final String MESSAGE = DefaultLogEntryCustomizer.Field.message.name();
+
+    private final Map<Integer, Schema> schemas = new HashMap<>();
+
+    /** Create an expander, with no known schemas. */
+    public CompactJsonExpander() {}
+
+    /**
+     * Expand all the lines of NDJSON in the supplied {@code text}.
+     *
+     * @param text the NDJSON to expand.
+     * @return the expanded entries.
+     * @throws IllegalArgumentException on invalid input.
+     */
+    public List<LogEntry> expandAll(final String text) {
+        final List<LogEntry> entries = new ArrayList<>();
+        text.lines().map(this::expand).flatMap(Optional::stream).forEach(entries::add);
+        return entries;
+    }
+
+    /**
+     * Expand a single line of NDJSON.
+     *
+     * @param line the line to expand.
+     * @return the expanded entry, or empty if the line is a schema record.
+     * @throws IllegalArgumentException on invalid input, including entries that refer to unknown
+     *     schemas.
+     */
+    public Optional<LogEntry> expand(final String line) {
+        final JsonNode node = parse(line);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Not a JSON object: " + line);
+        }
+
+        if (!node.has("s")) {
+            return Optional.of(toEntry(MAPPER.treeToValue(node, Map.class)));
+        }
+
+        final int id = node.get("s").asInt();
+        if (node.has("k")) {
+            schemas.put(id, new Schema(node));
+            return Optional.empty();
+        }
+
+        final Schema schema = schemas.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown schema id: " + id);
+        }
+
+        return Optional.of(toEntry(schema.expand(node.get("v"))));
+    }
+
+    private static JsonNode parse(final String line) {
+        try {
+            return MAPPER.readTree(line);
+        } catch (final JacksonException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + line, e);
+        }
+    }
+
+    private static LogEntry toEntry(final Map<?, ?> fields) {
+        final Map<Object, Object> message = new LinkedHashMap<>(fields);
+        final Object level = message.remove("level");
+        if (level == null) {
+            throw new IllegalArgumentException("Entry has no level: " + fields);
+        }
+        return logEntry(Level.valueOf(String.valueOf(level)), message, Optional.empty());
+    }
+
+    private static final class Schema {
+
+        private final JsonNode message;
+        private final List<String> keys = new ArrayList<>();
+
+        Schema(final JsonNode node) {
+            this.message = node.get("m");
+            node.get("k").forEach(key -> keys.add(key.asString()));
+        }
+
+        Map<String, Object> expand(final JsonNode values) {
+            if (values == null || values.size() != keys.size()) {
+                throw new IllegalArgumentException(
+                        "Entry does not match schema " + keys + ": " + values);
+            }
+
+            final Map<String, Object> fields = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                fields.put(keys.get(i), MAPPER.treeToValue(values.get(i), Object.class));
+            }
+            if (message != null) {
+                fields.put(MESSAGE, message.asString());
+            }
+            return fields;
+        }
+    }
+}
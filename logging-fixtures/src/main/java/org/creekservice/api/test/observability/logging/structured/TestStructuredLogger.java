@@ -63,6 +63,11 @@ public final class TestStructuredLogger implements StructuredLogger {
         this.minLevel = requireNonNull(level, "level");
     }
 
+    @Override
+    public boolean isEnabled(final Level level) {
+        return level.ordinal() >= minLevel.ordinal();
+    }
+
     @Override
     public void log(
             final Level level,
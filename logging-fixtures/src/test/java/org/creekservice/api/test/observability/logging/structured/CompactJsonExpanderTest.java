@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.test.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.api.test.observability.logging.structured.LogEntry.logEntry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.internal.observability.logging.structured.CompactJsonEncoder;
+import org.junit.jupiter.api.Test;
+
+class CompactJsonExpanderTest {
+
+    private final CompactJsonEncoder encoder = new CompactJsonEncoder();
+    private final StringBuilder output = new StringBuilder();
+    private final CompactJsonExpander expander = new CompactJsonExpander();
+
+    @Test
+    void shouldExpandEntries() {
+        // Given:
+        write(Level.INFO, "first", Map.of("a", 1));
+        write(Level.WARN, "second", Map.of("b", List.of("x", true)));
+        write(Level.INFO, "first", Map.of("a", 2));
+
+        // When:
+        final List<LogEntry> result = expander.expandAll(output.toString());
+
+        // Then:
+        assertThat(
+                result,
+                contains(
+                        expected(Level.INFO, "first", Map.of("a", 1)),
+                        expected(Level.WARN, "second", Map.of("b", List.of("x", true))),
+                        expected(Level.INFO, "first", Map.of("a", 2))));
+    }
+
+    @Test
+    void shouldReturnEmptyForSchemaRecord() {
+        // When:
+        final Optional<LogEntry> result =
+                expander.expand("{\"s\":0,\"m\":\"msg\",\"k\":[\"level\",\"a\"]}");
+
+        // Then:
+        assertThat(result, is(Optional.empty()));
+    }
+
+    @Test
+    void shouldExpandPlainJsonLines() {
+        // When:
+        final Optional<LogEntry> result =
+                expander.expand("{\"level\":\"INFO\",\"message\":\"msg\",\"a\":1}");
+
+        // Then:
+        assertThat(result, is(Optional.of(logEntry(Level.INFO, "msg", Map.of("a", 1)))));
+    }
+
+    @Test
+    void shouldThrowOnUnknownSchema() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> expander.expand("{\"s\":3,\"v\":[\"INFO\"]}"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown schema id: 3"));
+    }
+
+    @Test
+    void shouldThrowOnValuesNotMatchingSchema() {
+        // Given:
+        expander.expand("{\"s\":0,\"m\":\"msg\",\"k\":[\"level\",\"a\"]}");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> expander.expand("{\"s\":0,\"v\":[\"INFO\"]}"));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("Entry does not match schema [level, a]"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidJson() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> expander.expand("{not json"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Invalid JSON: {not json"));
+    }
+
+    private void write(final Level level, final String message, final Map<String, ?> fields) {
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", "2026-10-18T10:15:30Z");
+        entry.put("level", level.name());
+        entry.put("logger", "some.logger");
+        entry.put("message", message);
+        entry.putAll(fields);
+        encoder.encode(entry, bytes -> output.append(UTF_8.decode(bytes)));
+    }
+
+    private static LogEntry expected(
+            final Level level, final String message, final Map<String, ?> fields) {
+        final Map<String, Object> all = new LinkedHashMap<>(fields);
+        all.put("timestamp", "2026-10-18T10:15:30Z");
+        all.put("logger", "some.logger");
+        return logEntry(level, message, all);
+    }
+}
@@ -72,6 +72,16 @@ class TestStructuredLoggerTest {
         assertThat(logger.entries().get(0).cause(), is(Optional.of(T)));
     }
 
+    @Test
+    void shouldReportLevelsHighEnoughAsEnabled() {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create(Level.INFO);
+
+        // Then:
+        assertThat(logger.isEnabled(Level.DEBUG), is(false));
+        assertThat(logger.isEnabled(Level.INFO), is(true));
+    }
+
     @Test
     void shouldNotCaptureLogsIfLevelTooLow() {
         // Given:
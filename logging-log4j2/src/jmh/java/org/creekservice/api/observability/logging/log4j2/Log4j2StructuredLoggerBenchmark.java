@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.log4j2;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the cost of logging via Slf4j against logging directly to Log4j2.
+ *
+ * <p>Both loggers output to the same, Log4j2, appender, configured in {@code
+ * log4j2-benchmark.xml}, which writes to {@code /dev/null} via a pattern layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class Log4j2StructuredLoggerBenchmark {
+
+    private StructuredLogger slf4j;
+    private StructuredLogger log4j2;
+    private int attempt;
+
+    /** Create the loggers under test. */
+    @Setup
+    public void setUp() {
+        slf4j = StructuredLoggerFactory.logger(Log4j2StructuredLoggerBenchmark.class);
+        log4j2 = Log4j2StructuredLoggerFactory.logger(Log4j2StructuredLoggerBenchmark.class);
+    }
+
+    /** Log via the Slf4j logger, whose entries Log4j2 receives as a pre-rendered message. */
+    @Benchmark
+    public void slf4j() {
+        log(slf4j);
+    }
+
+    /** Log directly to Log4j2, which streams the entry into the layout's buffer. */
+    @Benchmark
+    public void log4j2() {
+        log(log4j2);
+    }
+
+    private void log(final StructuredLogger logger) {
+        final int current = attempt++;
+        logger.info(
+                "Did stuff",
+                log ->
+                        log.ns("my.app")
+                                .with("attempt", current)
+                                .with("took", Duration.ofMillis(current)));
+    }
+}
@@ -0,0 +1,8 @@
+/** Module containing a structured logger implemented directly on Log4j2 */
+module creek.observability.logging.log4j2 {
+    requires transitive creek.observability.logging;
+    requires creek.base.type;
+    requires org.apache.logging.log4j;
+
+    exports org.creekservice.api.observability.logging.log4j2;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.log4j2;
+
+import java.util.Optional;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.internal.observability.logging.log4j2.Log4j2StructuredLogger;
+
+/**
+ * Factory class for loggers that log directly to Log4j2, bypassing Slf4j.
+ *
+ * <p>Use in place of {@link
+ * org.creekservice.api.observability.logging.structured.StructuredLoggerFactory} in services that
+ * use Log4j2 as their logging backend.
+ */
+public final class Log4j2StructuredLoggerFactory {
+
+    private Log4j2StructuredLoggerFactory() {}
+
+    /**
+     * Get a StructuredLogger for the given {@code clazz}.
+     *
+     * @param clazz the class requiring a logger
+     * @return the class's logger
+     */
+    public static StructuredLogger logger(final Class<?> clazz) {
+        return new Log4j2StructuredLogger(clazz, Optional.empty());
+    }
+
+    /**
+     * Get a StructuredLogger for use by Creek's internal code.
+     *
+     * @param clazz the class requiring a logger
+     * @return the class's logger
+     */
+    public static StructuredLogger internalLogger(final Class<?> clazz) {
+        return new Log4j2StructuredLogger(clazz, Optional.of("creek"));
+    }
+}
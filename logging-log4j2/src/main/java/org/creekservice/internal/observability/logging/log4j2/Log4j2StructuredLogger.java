@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.log4j2;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogEntryCustomizer;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.internal.observability.logging.structured.DefaultLogEntryCustomizer;
+import org.creekservice.internal.observability.logging.structured.LogEntryFormatters;
+
+/**
+ * Structured logger implementation for Log4j2.
+ *
+ * <p>Entries are passed to Log4j2 as {@link StructuredMessage}s, which layouts can stream directly
+ * into their own buffers.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class Log4j2StructuredLogger implements StructuredLogger {
+
+    private static final org.apache.logging.log4j.Level[] LOG4J_LEVELS = {
+        org.apache.logging.log4j.Level.TRACE,
+        org.apache.logging.log4j.Level.DEBUG,
+        org.apache.logging.log4j.Level.INFO,
+        org.apache.logging.log4j.Level.WARN,
+        org.apache.logging.log4j.Level.ERROR
+    };
+
+    private final Logger logger;
+    private final Optional<String> rootNs;
+    private final Function<String, DefaultLogEntryCustomizer> customizerFactory;
+    private final LogEntryFormatter formatter;
+
+    /**
+     * @param clazz the class doing the logging.
+     * @param rootNs optional root namespace all logs should be under.
+     */
+    public Log4j2StructuredLogger(final Class<?> clazz, final Optional<String> rootNs) {
+        this(
+                LogManager.getLogger(clazz),
+                rootNs,
+                DefaultLogEntryCustomizer::create,
+                LogEntryFormatters.json());
+    }
+
+    @VisibleForTesting
+    Log4j2StructuredLogger(
+            final Logger logger,
+            final Optional<String> rootNs,
+            final Function<String, DefaultLogEntryCustomizer> customizerFactory,
+            final LogEntryFormatter formatter) {
+        this.logger = requireNonNull(logger, "logger");
+        this.rootNs = requireNonNull(rootNs, "rootNs");
+        this.customizerFactory = requireNonNull(customizerFactory, "customizerFactory");
+        this.formatter = requireNonNull(formatter, "formatter");
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return logger.isEnabled(LOG4J_LEVELS[level.ordinal()]);
+    }
+
+    @Override
+    public void log(
+            final Level level,
+            final String message,
+            final Consumer<LogEntryCustomizer> customizeConsumer) {
+        final org.apache.logging.log4j.Level log4jLevel = LOG4J_LEVELS[level.ordinal()];
+        if (!logger.isEnabled(log4jLevel)) {
+            return;
+        }
+
+        final DefaultLogEntryCustomizer customizer = customizerFactory.apply(message);
+        customizeConsumer.accept(rootNs.map(customizer::ns).orElse(customizer));
+
+        final boolean causeInMsg = formatter.causeInMessage();
+        final Throwable cause = causeInMsg ? null : customizer.throwable().orElse(null);
+
+        logger.log(
+                log4jLevel,
+                new StructuredMessage(customizer.build(causeInMsg), formatter, cause),
+                cause);
+    }
+}
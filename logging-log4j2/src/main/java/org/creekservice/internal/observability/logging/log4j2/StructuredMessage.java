@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.log4j2;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Map;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+
+/**
+ * A Log4j2 message holding a structured log entry.
+ *
+ * <p>The entry is only formatted when the message is output. Layouts that support {@link
+ * StringBuilderFormattable} have the entry streamed directly into their own buffer, avoiding the
+ * intermediate {@code String}.
+ *
+ * <p>If Log4j2 requires an immutable copy of the message, e.g. when handing it to an async logger,
+ * it calls {@link #getFormattedMessage()}, which caches the formatted text.
+ */
+final class StructuredMessage implements Message, StringBuilderFormattable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<String, ?> entry;
+    private final transient LogEntryFormatter formatter;
+    private final transient Throwable cause;
+    private transient String formatted;
+
+    StructuredMessage(
+            final Map<String, ?> entry, final LogEntryFormatter formatter, final Throwable cause) {
+        this.entry = entry;
+        this.formatter = requireNonNull(formatter, "formatter");
+        this.cause = cause;
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        if (formatted == null) {
+            final StringBuilder sb = new StringBuilder();
+            formatter.format(entry, sb);
+            formatted = sb.toString();
+        }
+        return formatted;
+    }
+
+    @Override
+    public void formatTo(final StringBuilder buffer) {
+        if (formatted == null) {
+            formatter.format(entry, buffer);
+        } else {
+            buffer.append(formatted);
+        }
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return new Object[0];
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return getFormattedMessage();
+    }
+
+    /**
+     * Entries are not guaranteed to be serializable, so serialize the formatted text instead.
+     *
+     * @return the message to serialize in place of this one.
+     */
+    private Object writeReplace() {
+        return new SimpleMessage(getFormattedMessage());
+    }
+
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Serialized as a SimpleMessage");
+    }
+}
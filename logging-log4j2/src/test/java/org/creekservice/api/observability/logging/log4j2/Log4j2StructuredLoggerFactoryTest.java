@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.log4j2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.internal.observability.logging.log4j2.Log4j2StructuredLogger;
+import org.junit.jupiter.api.Test;
+
+class Log4j2StructuredLoggerFactoryTest {
+
+    @Test
+    void shouldConstructLog4j2Logger() {
+        // When:
+        final StructuredLogger logger =
+                Log4j2StructuredLoggerFactory.logger(Log4j2StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(Log4j2StructuredLogger.class)));
+    }
+
+    @Test
+    void shouldConstructInternalLog4j2Logger() {
+        // When:
+        final StructuredLogger logger =
+                Log4j2StructuredLoggerFactory.internalLogger(
+                        Log4j2StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(Log4j2StructuredLogger.class)));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.log4j2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.Message;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogEntryCustomizer;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.internal.observability.logging.structured.DefaultLogEntryCustomizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class Log4j2StructuredLoggerTest {
+
+    private static final Consumer<LogEntryCustomizer> NO_CUSTOMIZATION = entry -> {};
+    private static final Throwable THROWABLE = new OutOfMemoryError();
+    private static final Map<String, Object> LOG_STATE = Map.of("log", "state");
+
+    @Mock private Logger log4jLogger;
+    @Mock private Function<String, DefaultLogEntryCustomizer> customizerFactory;
+    @Mock private DefaultLogEntryCustomizer customizer;
+    @Mock private LogEntryFormatter formatter;
+    private Log4j2StructuredLogger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger =
+                new Log4j2StructuredLogger(
+                        log4jLogger, Optional.empty(), customizerFactory, formatter);
+
+        when(customizerFactory.apply(any())).thenReturn(customizer);
+        when(customizer.build(anyBoolean())).thenReturn(LOG_STATE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Level.class)
+    void shouldNotLogIfDisabled(final Level level) {
+        // When:
+        logger.log(level, "msg", NO_CUSTOMIZATION);
+
+        // Then:
+        verify(customizerFactory, never()).apply(any());
+        verify(log4jLogger, never())
+                .log(any(org.apache.logging.log4j.Level.class), any(Message.class), any());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Level.class)
+    void shouldLogAtMatchingLevelIfEnabled(final Level level) {
+        // Given:
+        final org.apache.logging.log4j.Level log4jLevel =
+                org.apache.logging.log4j.Level.valueOf(level.name());
+        when(log4jLogger.isEnabled(log4jLevel)).thenReturn(true);
+
+        // When:
+        logger.log(level, "msg", NO_CUSTOMIZATION);
+
+        // Then:
+        verify(customizerFactory).apply("msg");
+        verify(log4jLogger).log(eq(log4jLevel), any(Message.class), isNull(Throwable.class));
+    }
+
+    @Test
+    void shouldPassEntryToFormatterWhenMessageOutput() {
+        // Given:
+        givenInfoEnabled();
+        when(formatter.causeInMessage()).thenReturn(true);
+
+        // When:
+        logger.info("msg");
+
+        // Then:
+        verify(customizer).build(true);
+        verify(formatter, never()).format(any());
+        capturedMessage().formatTo(new StringBuilder());
+        verify(formatter).format(eq(LOG_STATE), any(StringBuilder.class));
+    }
+
+    @Test
+    void shouldNotPassThrowableIfCauseInMessage() {
+        // Given:
+        givenInfoEnabled();
+        when(formatter.causeInMessage()).thenReturn(true);
+        when(customizer.throwable()).thenReturn(Optional.of(THROWABLE));
+
+        // When:
+        logger.info("msg");
+
+        // Then:
+        verify(log4jLogger)
+                .log(
+                        eq(org.apache.logging.log4j.Level.INFO),
+                        any(Message.class),
+                        isNull(Throwable.class));
+        assertThat(capturedMessage().getThrowable(), is(nullValue()));
+    }
+
+    @Test
+    void shouldPassThrowableIfCauseNotInMessage() {
+        // Given:
+        givenInfoEnabled();
+        when(formatter.causeInMessage()).thenReturn(false);
+        when(customizer.throwable()).thenReturn(Optional.of(THROWABLE));
+
+        // When:
+        logger.info("msg");
+
+        // Then:
+        verify(customizer).build(false);
+        verify(log4jLogger)
+                .log(eq(org.apache.logging.log4j.Level.INFO), any(Message.class), eq(THROWABLE));
+        assertThat(capturedMessage().getThrowable(), is(THROWABLE));
+    }
+
+    @Test
+    void shouldAddRootNs() {
+        // Given:
+        logger =
+                new Log4j2StructuredLogger(
+                        log4jLogger, Optional.of("rootNs"), customizerFactory, formatter);
+        givenInfoEnabled();
+        final DefaultLogEntryCustomizer nestedCustomizer = mock(DefaultLogEntryCustomizer.class);
+        when(customizer.ns("rootNs")).thenReturn(nestedCustomizer);
+
+        // When:
+        logger.info("msg", customizer -> customizer.with("a", 1));
+
+        // Then:
+        verify(nestedCustomizer).with("a", 1);
+    }
+
+    private void givenInfoEnabled() {
+        when(log4jLogger.isEnabled(org.apache.logging.log4j.Level.INFO)).thenReturn(true);
+    }
+
+    private StructuredMessage capturedMessage() {
+        final ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(log4jLogger).log(any(org.apache.logging.log4j.Level.class), captor.capture(), any());
+        return (StructuredMessage) captor.getValue();
+    }
+}
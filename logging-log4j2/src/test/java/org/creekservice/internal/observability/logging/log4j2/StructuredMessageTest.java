@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.log4j2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import org.creekservice.internal.observability.logging.structured.JsonLogEntryFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StructuredMessageTest {
+
+    private static final Map<String, Object> ENTRY = Map.of("message", "some \"text\"");
+
+    private StructuredMessage message;
+
+    @BeforeEach
+    void setUp() {
+        message = new StructuredMessage(ENTRY, new JsonLogEntryFormatter(), null);
+    }
+
+    @Test
+    void shouldStreamEntryIntoBuffer() {
+        // Given:
+        final StringBuilder sb = new StringBuilder("prefix:");
+
+        // When:
+        message.formatTo(sb);
+
+        // Then:
+        assertThat(sb.toString(), is("prefix:{\"message\":\"some \\\"text\\\"\"}"));
+    }
+
+    @Test
+    void shouldReturnFormattedMessage() {
+        assertThat(message.getFormattedMessage(), is("{\"message\":\"some \\\"text\\\"\"}"));
+    }
+
+    @Test
+    void shouldStreamCachedTextOnceFormatted() {
+        // Given:
+        final String formatted = message.getFormattedMessage();
+        final StringBuilder sb = new StringBuilder();
+
+        // When:
+        message.formatTo(sb);
+
+        // Then:
+        assertThat(sb.toString(), is(formatted));
+    }
+
+    @Test
+    void shouldHaveNoParameters() {
+        assertThat(message.getParameters().length, is(0));
+    }
+}
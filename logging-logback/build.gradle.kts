@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    `java-library`
+}
+
+val logbackVersion : String by extra
+val slf4jVersion : String by extra
+val jacksonVersion : String by extra
+
+dependencies {
+    api(project(":logging"))
+
+    api("ch.qos.logback:logback-classic:$logbackVersion")
+    implementation("org.slf4j:slf4j-api:$slf4jVersion")
+
+    testImplementation("tools.jackson.core:jackson-databind:$jacksonVersion")
+}
+
+configurations.testRuntimeClasspath {
+    // Logback is the Slf4j provider under test:
+    exclude(group = "org.apache.logging.log4j", module = "log4j-slf4j2-impl")
+}
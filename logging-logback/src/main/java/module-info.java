@@ -0,0 +1,9 @@
+/** Module containing a Logback encoder for structured log entries */
+module creek.observability.logging.logback {
+    requires transitive creek.observability.logging;
+    requires transitive ch.qos.logback.classic;
+    requires transitive ch.qos.logback.core;
+    requires org.slf4j;
+
+    exports org.creekservice.api.observability.logging.logback;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.logback;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.internal.observability.logging.structured.EntryEncoder;
+import org.creekservice.internal.observability.logging.structured.LogEntryFormatters;
+import org.slf4j.event.KeyValuePair;
+
+/**
+ * Logback encoder that writes each event as a single line JSON document.
+ *
+ * <p>Creek structured entries, logged with {@link
+ * org.creekservice.api.observability.logging.structured.EmissionMode#KEY_VALUES}, have their fields
+ * written as raw JSON, i.e. namespaces as nested objects, rather than as an escaped string message.
+ *
+ * <p>Each document starts with the {@code timestamp}, {@code level} and {@code logger} of the
+ * event, followed by the {@code message}, the entry's fields and any {@code cause}. Fields whose
+ * name clashes with one of these are ignored.
+ *
+ * <p>Configure via {@code logback.xml}:
+ *
+ * <pre>{@code
+ * <appender name="STDOUT" class="ch.qos.logback.core.ConsoleAppender">
+ *   <encoder class="org.creekservice.api.observability.logging.logback.StructuredJsonEncoder"/>
+ * </appender>
+ * }</pre>
+ */
+public final class StructuredJsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    private final EntryEncoder encoder =
+            new EntryEncoder(LogEntryFormatters.json(), System.lineSeparator());
+
+    /** Constructor called by Logback. */
+    public StructuredJsonEncoder() {}
+
+    @Override
+    public byte[] headerBytes() {
+        return new byte[0];
+    }
+
+    @Override
+    public byte[] encode(final ILoggingEvent event) {
+        // Logback's Encoder API requires an exact length array, so copy out of the buffer:
+        return encoder.toByteArray(toEntry(event));
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return new byte[0];
+    }
+
+    private static Map<String, Object> toEntry(final ILoggingEvent event) {
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", event.getInstant().toString());
+        entry.put("level", event.getLevel().toString());
+        entry.put("logger", event.getLoggerName());
+        entry.put("message", event.getFormattedMessage());
+
+        final List<KeyValuePair> fields = event.getKeyValuePairs();
+        if (fields != null) {
+            fields.forEach(kv -> entry.putIfAbsent(kv.key, kv.value));
+        }
+
+        final IThrowableProxy cause = event.getThrowableProxy();
+        if (cause != null) {
+            entry.put("cause", ThrowableProxyUtil.asString(cause));
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.logback;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.ByteArrayOutputStream;
+import org.creekservice.api.observability.logging.structured.EmissionMode;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class StructuredJsonEncoderFunctionalTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private OutputStreamAppender<ILoggingEvent> appender;
+    private StructuredLogger logger;
+
+    @BeforeEach
+    void setUp() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        final StructuredJsonEncoder encoder = new StructuredJsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(output);
+        appender.start();
+
+        final Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.addAppender(appender);
+
+        logger =
+                StructuredLoggerFactory.builder()
+                        .emissionMode(EmissionMode.KEY_VALUES)
+                        .build()
+                        .create(StructuredJsonEncoderFunctionalTest.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).detachAppender(appender);
+        appender.stop();
+    }
+
+    @Test
+    void shouldEmbedCreekEntryAsRawJson() {
+        // When:
+        logger.error(
+                "some\t\n\"message",
+                line ->
+                        line.with("a", 10)
+                                .ns("some\"ns")
+                                .with("b", "some\t\n\"value")
+                                .withThrowable(new RuntimeException("boom")));
+
+        // Then:
+        final JsonNode root = toJson(output.toString(UTF_8));
+        assertThat(root.get("level").asString(), is("ERROR"));
+        assertThat(
+                root.get("logger").asString(),
+                is(StructuredJsonEncoderFunctionalTest.class.getName()));
+        assertThat(root.get("message").asString(), is("some\t\n\"message"));
+        assertThat(root.get("a").asInt(), is(10));
+        assertThat(root.get("some\"ns").get("b").asString(), is("some\t\n\"value"));
+        assertThat(root.get("cause").asString(), startsWith("java.lang.RuntimeException: boom"));
+    }
+
+    private static JsonNode toJson(final String value) {
+        try {
+            return JsonMapper.builder().build().readTree(value);
+        } catch (final Exception e) {
+            throw new AssertionError("Invalid JSON: " + value, e);
+        }
+    }
+}
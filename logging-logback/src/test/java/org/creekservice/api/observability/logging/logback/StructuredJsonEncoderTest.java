@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.logback;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.KeyValuePair;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class StructuredJsonEncoderTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    private StructuredJsonEncoder encoder;
+    private LoggingEvent event;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new StructuredJsonEncoder();
+
+        event = event("some {}", "message");
+    }
+
+    @Test
+    void shouldHaveNoHeaderOrFooter() {
+        assertThat(encoder.headerBytes().length, is(0));
+        assertThat(encoder.footerBytes().length, is(0));
+    }
+
+    @Test
+    void shouldPrependEnvelopeFields() {
+        // When:
+        final String result = encode();
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        "{\"timestamp\":\"2026-10-18T10:15:30.123Z\",\"level\":\"INFO\","
+                                + "\"logger\":\"some.logger\",\"message\":\"some message\"}"
+                                + System.lineSeparator()));
+    }
+
+    @Test
+    void shouldWriteFieldsAsRawJson() {
+        // Given:
+        event.addKeyValuePair(new KeyValuePair("a", 1));
+        event.addKeyValuePair(new KeyValuePair("ns", Map.of("b", "x\"y")));
+
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(root.get("a").isInt(), is(true));
+        assertThat(root.get("a").asInt(), is(1));
+        assertThat(root.get("ns").isObject(), is(true));
+        assertThat(root.get("ns").get("b").asString(), is("x\"y"));
+    }
+
+    @Test
+    void shouldOutputFieldsAfterEnvelope() {
+        // Given:
+        event.addKeyValuePair(new KeyValuePair("a", 1));
+
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(fieldNames(root), contains("timestamp", "level", "logger", "message", "a"));
+    }
+
+    @Test
+    void shouldIgnoreFieldsThatClashWithEnvelope() {
+        // Given:
+        event.addKeyValuePair(new KeyValuePair("level", "not the level"));
+
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(root.get("level").asString(), is("INFO"));
+    }
+
+    @Test
+    void shouldIncludeCause() {
+        // Given:
+        event.setThrowableProxy(new ThrowableProxy(new RuntimeException("boom")));
+
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(root.get("cause").asString(), startsWith("java.lang.RuntimeException: boom"));
+    }
+
+    @Test
+    void shouldNotIncludeCauseIfNone() {
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(root.get("cause"), is(nullValue()));
+    }
+
+    @Test
+    void shouldEncodeNonAsciiAsUtf8() {
+        // Given:
+        event = event("h\u00E9llo \u20AC \uD83D\uDE00");
+
+        // When:
+        final JsonNode root = toJson(encode());
+
+        // Then:
+        assertThat(root.get("message").asString(), is("h\u00E9llo \u20AC \uD83D\uDE00"));
+    }
+
+    @Test
+    void shouldReuseBuffersAcrossEvents() {
+        // Given:
+        event.addKeyValuePair(new KeyValuePair("a", "x".repeat(1000)));
+        encode();
+
+        event = event("m");
+
+        // When:
+        final String result = encode();
+
+        // Then:
+        assertThat(result, startsWith("{\"timestamp\":\"2026-10-18T10:15:30.123Z\""));
+        assertThat(result, endsWith("\"message\":\"m\"}" + System.lineSeparator()));
+    }
+
+    private static LoggingEvent event(final String message, final Object... args) {
+        final LoggingEvent event = new LoggingEvent();
+        event.setInstant(Instant.parse("2026-10-18T10:15:30.123Z"));
+        event.setLevel(Level.INFO);
+        event.setLoggerName("some.logger");
+        event.setMessage(message);
+        event.setArgumentArray(args);
+        return event;
+    }
+
+    private String encode() {
+        return new String(encoder.encode(event), UTF_8);
+    }
+
+    private static JsonNode toJson(final String value) {
+        try {
+            return MAPPER.readTree(value);
+        } catch (final Exception e) {
+            throw new AssertionError("Invalid JSON: " + value, e);
+        }
+    }
+
+    private static List<String> fieldNames(final JsonNode node) {
+        final List<String> names = new ArrayList<>();
+        node.propertyNames().forEach(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,7 @@
+/** Module containing an annotation processor that generates writers for log events */
+module creek.observability.logging.processor {
+    requires java.compiler;
+
+    provides javax.annotation.processing.Processor with
+            org.creekservice.internal.observability.logging.processor.LogEventProcessor;
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a {@code LogEventWriter} for each type annotated with
+ * {@code @LogEvent}.
+ *
+ * <p>Each generated writer, named {@code <Type>_LogEventWriter} and in the same package as the
+ * type, calls the type's accessors directly, avoiding reflection and {@code toString}. Writers are
+ * registered in {@code META-INF/services} so that the logging module can discover them.
+ */
+@SupportedAnnotationTypes(LogEventProcessor.LOG_EVENT)
+public final class LogEventProcessor extends AbstractProcessor {
+
+    static final String LOG_EVENT =
+            "org.creekservice.api.observability.logging.structured.LogEvent";
+    static final String LOG_EVENT_WRITER =
+            "org.creekservice.api.observability.logging.structured.LogEventWriter";
+    static final String WRITER_SUFFIX = "_LogEventWriter";
+
+    private final List<String> writers = new ArrayList<>();
+    private final List<Element> originators = new ArrayList<>();
+
+    /** Called by the compiler. */
+    public LogEventProcessor() {}
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(
+            final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                process(element);
+            }
+        }
+
+        if (roundEnv.processingOver() && !writers.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private void process(final Element element) {
+        if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+            error(element, "@LogEvent can only be applied to classes and records");
+            return;
+        }
+
+        final TypeElement type = (TypeElement) element;
+        if (!type.getTypeParameters().isEmpty()) {
+            error(element, "@LogEvent types can not be generic");
+            return;
+        }
+
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@LogEvent types, and any enclosing types, can not be private");
+                return;
+            }
+        }
+
+        final List<Property> properties =
+                type.getKind() == ElementKind.RECORD
+                        ? recordProperties(type)
+                        : beanProperties(type);
+
+        writeWriter(type, properties);
+    }
+
+    private static List<Property> recordProperties(final TypeElement type) {
+        final List<Property> properties = new ArrayList<>();
+        for (final RecordComponentElement component : type.getRecordComponents()) {
+            properties.add(
+                    new Property(
+                            component.getSimpleName().toString(),
+                            component.getAccessor().getSimpleName().toString(),
+                            component.asType()));
+        }
+        return properties;
+    }
+
+    private List<Property> beanProperties(final TypeElement type) {
+        final List<Property> properties = new ArrayList<>();
+        for (final ExecutableElement method :
+                ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final String name = propertyName(method);
+            if (name != null) {
+                properties.add(
+                        new Property(
+                                name, method.getSimpleName().toString(), method.getReturnType()));
+            }
+        }
+        return properties;
+    }
+
+    private static String propertyName(final ExecutableElement method) {
+        final Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC)
+                || !modifiers.contains(Modifier.PUBLIC)
+                || !method.getParameters().isEmpty()
+                || !method.getTypeParameters().isEmpty()) {
+            return null;
+        }
+
+        final String name = method.getSimpleName().toString();
+        final TypeKind returnKind = method.getReturnType().getKind();
+        if (name.equals("getClass") || returnKind == TypeKind.VOID) {
+            return null;
+        }
+
+        if (isAccessor(name, "get")) {
+            return decapitalize(name.substring(3));
+        }
+
+        if (isAccessor(name, "is") && returnKind == TypeKind.BOOLEAN) {
+            return decapitalize(name.substring(2));
+        }
+
+        return null;
+    }
+
+    private static boolean isAccessor(final String name, final String prefix) {
+        return name.length() > prefix.length()
+                && name.startsWith(prefix)
+                && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+
+    private static String decapitalize(final String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            // E.g. getURL -> URL, as per the JavaBeans spec:
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void writeWriter(final TypeElement type, final List<Property> properties) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        final String simpleName = writerSimpleName(type);
+        final String writerName =
+                packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            final FileObject file = processingEnv.getFiler().createSourceFile(writerName, type);
+            try (Writer out = file.openWriter()) {
+                out.write(source(packageName, simpleName, type, properties));
+            }
+        } catch (final IOException e) {
+            error(type, "Failed to write " + writerName + ": " + e.getMessage());
+            return;
+        }
+
+        writers.add(writerName);
+        originators.add(type);
+    }
+
+    private static String writerSimpleName(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement();
+                e instanceof TypeElement;
+                e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append(WRITER_SUFFIX).toString();
+    }
+
+    private static String source(
+            final String packageName,
+            final String simpleName,
+            final TypeElement type,
+            final List<Property> properties) {
+        final String typeName = type.getQualifiedName().toString();
+        final StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+
+        sb.append("/** Generated by ")
+                .append(LogEventProcessor.class.getSimpleName())
+                .append(". Do not edit. */\n")
+                .append("public final class ")
+                .append(simpleName)
+                .append("\n        implements ")
+                .append(LOG_EVENT_WRITER)
+                .append('<')
+                .append(typeName)
+                .append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<")
+                .append(typeName)
+                .append("> type() {\n")
+                .append("        return ")
+                .append(typeName)
+                .append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void write(\n")
+                .append("            final ")
+                .append(typeName)
+                .append(" event,\n")
+                .append("            final ")
+                .append(LOG_EVENT_WRITER)
+                .append(".Fields fields) {\n");
+
+        for (final Property property : properties) {
+            sb.append("        fields.field(\"")
+                    .append(property.name)
+                    .append("\", ")
+                    .append(property.valueExpression())
+                    .append(");\n");
+        }
+
+        return sb.append("    }\n}\n").toString();
+    }
+
+    private void writeServiceFile() {
+        try {
+            final FileObject file =
+                    processingEnv
+                            .getFiler()
+                            .createResource(
+                                    StandardLocation.CLASS_OUTPUT,
+                                    "",
+                                    "META-INF/services/" + LOG_EVENT_WRITER,
+                                    originators.toArray(new Element[0]));
+            try (Writer out = file.openWriter()) {
+                for (final String writer : writers) {
+                    out.write(writer);
+                    out.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write service file", e);
+        }
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Property {
+
+        final String name;
+        final String accessor;
+        final TypeMirror type;
+
+        Property(final String name, final String accessor, final TypeMirror type) {
+            this.name = name;
+            this.accessor = accessor;
+            this.type = type;
+        }
+
+        String valueExpression() {
+            final String call = "event." + accessor + "()";
+            if (type.getKind() == TypeKind.CHAR) {
+                // Avoid char widening to the long overload:
+                return "String.valueOf(" + call + ")";
+            }
+            // Other primitives resolve to the primitive overloads, avoiding boxing:
+            return call;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.processor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.creekservice.api.observability.logging.structured.LogEvent;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LogEventProcessorTest {
+
+    @TempDir private Path tempDir;
+
+    private Path srcDir;
+    private Path outDir;
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        srcDir = Files.createDirectory(tempDir.resolve("src"));
+        outDir = Files.createDirectory(tempDir.resolve("out"));
+        diagnostics = new DiagnosticCollector<>();
+    }
+
+    @Test
+    void shouldGenerateWriterForRecord() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public record Thing(String name, int count) {}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write("com.example.Thing", "com.example.Thing_LogEventWriter", "a", 10),
+                contains("name=a (Object)", "count=10 (long)"));
+    }
+
+    @Test
+    void shouldGenerateWriterForClass() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public class Thing {",
+                "  private final String name;",
+                "  private final boolean on;",
+                "  public Thing(String name, boolean on) { this.name = name; this.on = on; }",
+                "  public String getName() { return name; }",
+                "  public boolean isOn() { return on; }",
+                "}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write("com.example.Thing", "com.example.Thing_LogEventWriter", "a", true),
+                contains("name=a (Object)", "on=true (boolean)"));
+    }
+
+    @Test
+    void shouldIgnoreNonAccessorMethods() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public class Thing {",
+                "  public Thing() {}",
+                "  public static String getStatic() { return null; }",
+                "  private String getPrivate() { return null; }",
+                "  protected String getProtected() { return null; }",
+                "  String getPackagePrivate() { return null; }",
+                "  public String getWithParam(int i) { return null; }",
+                "  public void getVoid() {}",
+                "  public String isNotBoolean() { return null; }",
+                "  public String getter() { return null; }",
+                "  public String other() { return null; }",
+                "  public String getURL() { return \"u\"; }",
+                "}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write("com.example.Thing", "com.example.Thing_LogEventWriter"),
+                contains("URL=u (Object)"));
+    }
+
+    @Test
+    void shouldIgnoreInheritedNonPublicGetters() throws Exception {
+        // Given:
+        source(
+                "com.example.base.Base",
+                "package com.example.base;",
+                "public class Base {",
+                "  protected String getProtected() { return null; }",
+                "  String getPackagePrivate() { return null; }",
+                "  public String getPublic() { return \"p\"; }",
+                "}");
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public class Thing extends com.example.base.Base {",
+                "  public Thing() {}",
+                "}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write("com.example.Thing", "com.example.Thing_LogEventWriter"),
+                contains("public=p (Object)"));
+    }
+
+    @Test
+    void shouldWritePrimitivesWithoutBoxing() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public record Thing(byte b, short s, long l, float f, double d, char c,"
+                        + " Integer boxed) {}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write(
+                        "com.example.Thing",
+                        "com.example.Thing_LogEventWriter",
+                        (byte) 1,
+                        (short) 2,
+                        3L,
+                        4.5f,
+                        6.5d,
+                        'x',
+                        7),
+                contains(
+                        "b=1 (long)",
+                        "s=2 (long)",
+                        "l=3 (long)",
+                        "f=4.5 (double)",
+                        "d=6.5 (double)",
+                        "c=x (Object)",
+                        "boxed=7 (Object)"));
+    }
+
+    @Test
+    void shouldGenerateWriterForNestedType() throws Exception {
+        // Given:
+        source(
+                "com.example.Outer",
+                "package com.example;",
+                "public class Outer {",
+                "  @" + LogEvent.class.getName(),
+                "  public record Inner(String name) {}",
+                "}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(
+                write("com.example.Outer$Inner", "com.example.Outer_Inner_LogEventWriter", "a"),
+                contains("name=a (Object)"));
+    }
+
+    @Test
+    void shouldGenerateWriterInUnnamedPackage() throws Exception {
+        // Given:
+        source("Thing", "@" + LogEvent.class.getName(), "public record Thing(String name) {}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(write("Thing", "Thing_LogEventWriter", "a"), contains("name=a (Object)"));
+    }
+
+    @Test
+    void shouldRegisterWritersInServiceFile() throws Exception {
+        // Given:
+        source(
+                "com.example.A",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public record A(String name) {}");
+        source(
+                "com.example.B",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public record B(String name) {}");
+
+        // When:
+        compile();
+
+        // Then:
+        final List<String> lines =
+                Files.readAllLines(
+                        outDir.resolve("META-INF/services/" + LogEventWriter.class.getName()),
+                        UTF_8);
+        assertThat(lines, hasItem("com.example.A_LogEventWriter"));
+        assertThat(lines, hasItem("com.example.B_LogEventWriter"));
+        assertThat(lines.size(), is(2));
+    }
+
+    @Test
+    void shouldErrorOnInterface() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public interface Thing {}");
+
+        // When:
+        final boolean result = compile();
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(errors(), containsString("can only be applied to classes and records"));
+    }
+
+    @Test
+    void shouldErrorOnGenericType() throws Exception {
+        // Given:
+        source(
+                "com.example.Thing",
+                "package com.example;",
+                "@" + LogEvent.class.getName(),
+                "public record Thing<T>(T value) {}");
+
+        // When:
+        final boolean result = compile();
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(errors(), containsString("can not be generic"));
+    }
+
+    @Test
+    void shouldErrorOnPrivateType() throws Exception {
+        // Given:
+        source(
+                "com.example.Outer",
+                "package com.example;",
+                "public class Outer {",
+                "  @" + LogEvent.class.getName(),
+                "  private record Inner(String name) {}",
+                "}");
+
+        // When:
+        final boolean result = compile();
+
+        // Then:
+        assertThat(result, is(false));
+        assertThat(errors(), containsString("can not be private"));
+    }
+
+    @Test
+    void shouldNotWriteServiceFileIfNoEvents() throws Exception {
+        // Given:
+        source("com.example.Thing", "package com.example;", "public record Thing() {}");
+
+        // When:
+        compile();
+
+        // Then:
+        assertThat(Files.exists(outDir.resolve("META-INF")), is(false));
+        assertThat(errors(), is(""));
+    }
+
+    private void source(final String className, final String... lines) throws IOException {
+        final int lastDot = className.lastIndexOf('.');
+        final Path dir = srcDir.resolve(className.substring(0, lastDot + 1).replace('.', '/'));
+        Files.createDirectories(dir);
+        Files.write(dir.resolve(className.substring(lastDot + 1) + ".java"), List.of(lines), UTF_8);
+    }
+
+    private boolean compile() throws IOException, URISyntaxException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, Locale.ROOT, UTF_8)) {
+
+            final List<Path> sources;
+            try (var files = Files.walk(srcDir)) {
+                sources = files.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+
+            final List<String> options =
+                    List.of(
+                            "-d",
+                            outDir.toString(),
+                            "-classpath",
+                            Path.of(
+                                            LogEvent.class
+                                                    .getProtectionDomain()
+                                                    .getCodeSource()
+                                                    .getLocation()
+                                                    .toURI())
+                                    .toString());
+
+            final JavaCompiler.CompilationTask task =
+                    compiler.getTask(
+                            null,
+                            fileManager,
+                            diagnostics,
+                            options,
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(sources));
+
+            task.setProcessors(List.of(new LogEventProcessor()));
+            return task.call();
+        }
+    }
+
+    private String errors() {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(Locale.ROOT))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> write(
+            final String eventClassName, final String writerClassName, final Object... args)
+            throws Exception {
+        assertThat(errors(), is(""));
+
+        try (URLClassLoader loader =
+                new URLClassLoader(
+                        new URL[] {outDir.toUri().toURL()},
+                        LogEventProcessorTest.class.getClassLoader())) {
+
+            final Class<?> eventType = loader.loadClass(eventClassName);
+            final Object event = eventType.getDeclaredConstructors()[0].newInstance(args);
+
+            final LogEventWriter<Object> writer =
+                    (LogEventWriter<Object>)
+                            loader.loadClass(writerClassName)
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+
+            assertThat(writer.type(), is(eventType));
+
+            final RecordingFields fields = new RecordingFields();
+            writer.write(event, fields);
+            return fields.calls;
+        }
+    }
+
+    private static final class RecordingFields implements LogEventWriter.Fields {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void field(final String name, final Object value) {
+            calls.add(name + "=" + value + " (Object)");
+        }
+
+        @Override
+        public void field(final String name, final long value) {
+            calls.add(name + "=" + value + " (long)");
+        }
+
+        @Override
+        public void field(final String name, final double value) {
+            calls.add(name + "=" + value + " (double)");
+        }
+
+        @Override
+        public void field(final String name, final boolean value) {
+            calls.add(name + "=" + value + " (boolean)");
+        }
+    }
+}
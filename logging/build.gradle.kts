@@ -16,6 +16,7 @@
 
 plugins {
     `java-library`
+    `creek-jmh-convention`
 }
 
 val creekVersion : String by extra
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogSink;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.observability.logging.structured.StructuredLoggerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of logging the same entry via a {@link LogTemplate} and via a customizer
+ * lambda, to a JSON sink.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogTemplateBenchmark {
+
+    private static final LogTemplate PROCESSED =
+            LogTemplate.of(Level.INFO, "Processed request", "count", "latencyMs");
+
+    private StructuredLogger logger;
+    private int count;
+
+    /**
+     * Create the logger under test.
+     *
+     * @param blackhole the blackhole written entries are passed to.
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        logger =
+                StructuredLoggerFactory.builder()
+                        .sink(new BlackholeSink(blackhole), Level.INFO)
+                        .build()
+                        .create(LogTemplateBenchmark.class);
+    }
+
+    /** Log via a customizer lambda. */
+    @Benchmark
+    public void lambda() {
+        final int current = count++;
+        logger.info("Processed request", log -> log.with("count", current).with("latencyMs", 3.75));
+    }
+
+    /** Log via a template. */
+    @Benchmark
+    public void template() {
+        logger.log(PROCESSED, count++, 3.75);
+    }
+
+    private static final class BlackholeSink implements LogSink {
+
+        private final Blackhole blackhole;
+
+        BlackholeSink(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(final ByteBuffer entry) {
+            blackhole.consume(entry.remaining());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
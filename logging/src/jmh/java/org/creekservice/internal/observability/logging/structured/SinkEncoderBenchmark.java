@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of encoding the same entry in each of the sink formats.
+ *
+ * <p>The encoded size of the entry in each format is printed once, at the start of each run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SinkEncoderBenchmark {
+
+    private final Map<String, Object> entry = entry();
+    private final SinkEncoder json = new EntryEncoder(LogEntryFormatters.json(), "\n");
+    private final SinkEncoder logfmt =
+            new EntryEncoder(LogEntryFormatters.named(LogEntryFormatters.LOGFMT), "\n");
+    private final SinkEncoder cbor = new CborEntryEncoder();
+    private Consumer<ByteBuffer> sink;
+
+    /**
+     * Print the encoded sizes and create the sink.
+     *
+     * @param blackhole the blackhole encoded entries are passed to.
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        System.out.printf(
+                "%nEncoded size: JSON %d bytes, logfmt %d bytes, CBOR %d bytes%n",
+                size(json), size(logfmt), size(cbor));
+
+        sink = buffer -> blackhole.consume(buffer.remaining());
+    }
+
+    /** Encode the entry as NDJSON. */
+    @Benchmark
+    public void json() {
+        json.encode(entry, sink);
+    }
+
+    /** Encode the entry as logfmt. */
+    @Benchmark
+    public void logfmt() {
+        logfmt.encode(entry, sink);
+    }
+
+    /** Encode the entry as CBOR. */
+    @Benchmark
+    public void cbor() {
+        cbor.encode(entry, sink);
+    }
+
+    private int size(final SinkEncoder encoder) {
+        final int[] size = new int[1];
+        encoder.encode(entry, buffer -> size[0] = buffer.remaining());
+        return size[0];
+    }
+
+    private static Map<String, Object> entry() {
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.parse("2026-10-18T10:15:30.123456Z"));
+        entry.put("level", "INFO");
+        entry.put("logger", "org.example.SomeService");
+        entry.put("message", "Processed request");
+        entry.put("requestId", 1234567L);
+        entry.put("latencyMs", 3.75);
+        entry.put("payload", new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        entry.put("creek", Map.of("partition", 7, "topic", "input"));
+        entry.put("tags", Map.of("region", "eu-west-1", "retries", List.of(1, 2, 3)));
+        return entry;
+    }
+}
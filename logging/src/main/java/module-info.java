@@ -5,5 +5,16 @@ module creek.observability.logging {
 
     exports org.creekservice.api.observability.logging.structured;
     exports org.creekservice.internal.observability.logging.structured to
-            creek.observability.logging.fixtures;
+            creek.observability.logging.fixtures,
+            creek.observability.logging.log4j2,
+            creek.observability.logging.logback;
+
+    uses org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider;
+    uses org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+    provides org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider with
+            org.creekservice.internal.observability.logging.structured.JsonLogEntryFormatter
+                    .Provider,
+            org.creekservice.internal.observability.logging.structured.LogfmtLogEntryFormatter
+                    .Provider;
 }
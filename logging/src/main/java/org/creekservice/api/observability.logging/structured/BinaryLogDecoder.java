@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.readByte;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.readFixed;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.readText;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.readVarLong;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.readZigZag;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.internal.observability.logging.structured.BinaryRecords;
+import org.creekservice.internal.observability.logging.structured.LogEntryFormatters;
+
+/**
+ * Decodes logs written in the {@link SinkFormat#BINARY} format back to NDJSON.
+ *
+ * <p>Entries are decoded to the same JSON as the {@link SinkFormat#JSON} format would have written.
+ *
+ * <p>Instances are stateful, holding the dictionary defined by the records decoded so far, so a log
+ * must be decoded in order, from its start, by a single instance. Text that refers to an undefined
+ * dictionary id, e.g. because its definition was dropped, is decoded as {@code <undefined:id>}.
+ *
+ * <p>Can be run from the command line to decode files, or standard input, to standard output:
+ *
+ * <pre>{@code
+ * java -cp ... org.creekservice.api.observability.logging.structured.BinaryLogDecoder [file...]
+ * }</pre>
+ */
+public final class BinaryLogDecoder {
+
+    private final Map<Long, String> dictionary = new HashMap<>();
+    private final LogEntryFormatter formatter = LogEntryFormatters.json();
+    private final StringBuilder line = new StringBuilder();
+
+    /** Create a decoder, with an empty dictionary. */
+    public BinaryLogDecoder() {}
+
+    /**
+     * Decode the files named in {@code args}, in order, or standard input if none are supplied,
+     * writing NDJSON to standard output.
+     *
+     * @param args the paths of the files to decode.
+     * @throws IOException on failure to read or decode the input.
+     */
+    public static void main(final String... args) throws IOException {
+        final BinaryLogDecoder decoder = new BinaryLogDecoder();
+        final Writer out = new BufferedWriter(new OutputStreamWriter(System.out, UTF_8));
+        try {
+            if (args.length == 0) {
+                decoder.decode(System.in, out);
+            }
+
+            for (final String arg : args) {
+                try (InputStream in = Files.newInputStream(Path.of(arg))) {
+                    decoder.decode(in, out);
+                }
+            }
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Decode all records in the stream, up to its end.
+     *
+     * @param in the stream to read records from.
+     * @param out where to append each decoded entry, as a line of JSON.
+     * @throws IOException on failure to read or decode the input, including if the stream ends part
+     *     way through a record.
+     */
+    public void decode(final InputStream in, final Appendable out) throws IOException {
+        final InputStream buffered = new BufferedInputStream(in);
+        int type;
+        while ((type = buffered.read()) >= 0) {
+            decodeRecord(type, buffered, out);
+        }
+    }
+
+    /**
+     * Decode all records in the buffer, e.g. one read by a {@link MappedLogReader}.
+     *
+     * @param records the buffer to read records from.
+     * @param out where to append each decoded entry, as a line of JSON.
+     * @throws IOException on failure to decode the input, including if the buffer ends part way
+     *     through a record.
+     */
+    public void decode(final ByteBuffer records, final Appendable out) throws IOException {
+        decode(new ByteBufferInputStream(records.duplicate()), out);
+    }
+
+    private void decodeRecord(final int type, final InputStream in, final Appendable out)
+            throws IOException {
+        switch (type) {
+            case BinaryRecords.DEFINITION:
+                dictionary.put(readVarLong(in), readText(in));
+                break;
+            case BinaryRecords.ENTRY:
+                line.setLength(0);
+                formatter.format(readFields(in), line);
+                out.append(line).append('\n');
+                break;
+            default:
+                throw new IOException("Unknown record type: " + type);
+        }
+    }
+
+    private Map<String, Object> readFields(final InputStream in) throws IOException {
+        final long count = readVarLong(in);
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        for (long i = 0; i < count; i++) {
+            final Object key = readValue(in);
+            if (!(key instanceof String)) {
+                throw new IOException("Invalid key: " + key);
+            }
+            fields.put((String) key, readValue(in));
+        }
+        return fields;
+    }
+
+    private Object readValue(final InputStream in) throws IOException {
+        final int tag = readByte(in);
+        switch (tag) {
+            case BinaryRecords.NULL:
+                return null;
+            case BinaryRecords.FALSE:
+                return false;
+            case BinaryRecords.TRUE:
+                return true;
+            case BinaryRecords.INT:
+                return readZigZag(in);
+            case BinaryRecords.DOUBLE:
+                return Double.longBitsToDouble(readFixed(in, Double.BYTES));
+            case BinaryRecords.FLOAT:
+                return Float.intBitsToFloat((int) readFixed(in, Float.BYTES));
+            case BinaryRecords.DECIMAL:
+                return new BigDecimal(readText(in));
+            default:
+                return readNonScalar(tag, in);
+        }
+    }
+
+    private Object readNonScalar(final int tag, final InputStream in) throws IOException {
+        switch (tag) {
+            case BinaryRecords.STRING:
+                return readText(in);
+            case BinaryRecords.REF:
+                return lookup(readVarLong(in));
+            case BinaryRecords.INSTANT:
+                return Instant.ofEpochSecond(readZigZag(in), readVarLong(in));
+            case BinaryRecords.LIST:
+                return readList(in);
+            case BinaryRecords.MAP:
+                return readFields(in);
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    private String lookup(final long id) {
+        final String text = dictionary.get(id);
+        return text == null ? "<undefined:" + id + ">" : text;
+    }
+
+    private List<Object> readList(final InputStream in) throws IOException {
+        final long count = readVarLong(in);
+        final List<Object> items = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            items.add(readValue(in));
+        }
+        return items;
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
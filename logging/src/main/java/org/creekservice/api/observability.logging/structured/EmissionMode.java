@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+/** How structured log entries are handed to the underlying Slf4j logging framework. */
+public enum EmissionMode {
+    /**
+     * The whole entry, including the message text, is rendered by the factory's {@link
+     * StructuredLoggerFactory.Builder#formatter(String) formatter}, JSON by default, and passed as
+     * the Slf4j message.
+     *
+     * <p>Works with any logging backend, but backends that themselves output JSON will embed the
+     * entry as an escaped string.
+     */
+    MESSAGE,
+
+    /**
+     * The message text is passed as the Slf4j message and every other field is passed via Slf4j 2's
+     * key-value API.
+     *
+     * <p>Namespaces are passed as nested {@code Map} values. Allows structure-aware backends to
+     * serialise the fields natively, avoiding the need to render and later escape a JSON string.
+     */
+    KEY_VALUES
+}
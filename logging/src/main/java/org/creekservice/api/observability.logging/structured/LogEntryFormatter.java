@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022-2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import java.util.Map;
+
+/**
+ * A formatter of log entries.
+ *
+ * <p>A single instance is shared by all loggers created by a {@link StructuredLoggerFactory}, and
+ * called concurrently from all logging threads, so implementations must be immutable, or otherwise
+ * thread-safe.
+ *
+ * <p>Formatters can be passed to {@link
+ * StructuredLoggerFactory.Builder#formatter(LogEntryFormatter)} directly, or made selectable by
+ * name by registering a {@link LogEntryFormatterProvider}.
+ */
+public interface LogEntryFormatter {
+
+    /**
+     * @return {@code true} if any throwable should be included in the message payload in a `cause`
+     *     field, rather than passed to the underlying logging framework.
+     */
+    boolean causeInMessage();
+
+    /**
+     * Called to format a log entry.
+     *
+     * @param logEntry the log entry to format.
+     * @return the formatted data.
+     */
+    String format(Map<String, ?> logEntry);
+
+    /**
+     * Called to format a log entry into an existing buffer.
+     *
+     * <p>Allows logging backends that support streaming messages into their own, often reusable,
+     * buffers to avoid the intermediate {@code String} returned by {@link #format(Map)}.
+     *
+     * @param logEntry the log entry to format.
+     * @param sb the buffer to append the formatted data to.
+     */
+    default void format(Map<String, ?> logEntry, StringBuilder sb) {
+        sb.append(format(logEntry));
+    }
+}
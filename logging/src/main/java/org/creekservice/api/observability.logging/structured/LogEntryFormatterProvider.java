@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+/**
+ * Service provider of a named {@link LogEntryFormatter}.
+ *
+ * <p>Providers are discovered using {@link java.util.ServiceLoader}: declare them in the providing
+ * module's {@code module-info.java}, e.g. {@code provides
+ * org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider with
+ * com.example.MyFormatterProvider;}, or, for the class path, in a {@code META-INF/services} file
+ * named after this interface's fully qualified name.
+ *
+ * <p>Formatters are selected by name via {@link StructuredLoggerFactory.Builder#formatter(String)}.
+ * Creek provides {@code json} and {@code logfmt} formatters.
+ */
+public interface LogEntryFormatterProvider {
+
+    /**
+     * @return the unique name of the formatter, e.g. {@code json}.
+     */
+    String name();
+
+    /**
+     * Create the formatter.
+     *
+     * <p>Called at most once per name: the formatter returned is shared by all factories that
+     * select it.
+     *
+     * @return the formatter.
+     */
+    LogEntryFormatter create();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class or record as a structured log event.
+ *
+ * <p>When the {@code creek-observability-logging-processor} annotation processor is on the
+ * processor path, a {@link LogEventWriter} is generated at compile time for each annotated type.
+ * Instances of the type logged as values, e.g. via {@link LogEntryCustomizer#with(String, Object)},
+ * are then written as nested objects, field by field, without reflection or {@code toString}.
+ *
+ * <p>The fields of a record are its components. The fields of a class are its public, no-arg,
+ * {@code getX} and {@code isX} methods.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface LogEvent {}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+/**
+ * Writes the fields of a {@link LogEvent} type.
+ *
+ * <p>Implementations are normally generated by the {@code creek-observability-logging-processor}
+ * annotation processor, and discovered using {@link java.util.ServiceLoader}. The processor
+ * registers generated writers in {@code META-INF/services}. Modules on the module path must also
+ * declare them in their {@code module-info.java}, e.g. {@code provides
+ * org.creekservice.api.observability.logging.structured.LogEventWriter with
+ * com.example.MyEvent_LogEventWriter;}.
+ *
+ * @param <T> the event type.
+ */
+public interface LogEventWriter<T> {
+
+    /**
+     * @return the event type the writer writes. Only instances of exactly this type are written.
+     */
+    Class<T> type();
+
+    /**
+     * Write the fields of an event.
+     *
+     * @param event the event to write.
+     * @param fields the destination of the event's fields.
+     */
+    void write(T event, Fields fields);
+
+    /**
+     * The destination of an event's fields.
+     *
+     * <p>Primitive overloads allow formatters to write primitive values without boxing.
+     */
+    interface Fields {
+
+        /**
+         * Write a field.
+         *
+         * @param name the field name.
+         * @param value the field value.
+         */
+        void field(String name, Object value);
+
+        /**
+         * Write an integral field.
+         *
+         * @param name the field name.
+         * @param value the field value.
+         */
+        default void field(String name, long value) {
+            field(name, (Object) value);
+        }
+
+        /**
+         * Write a floating-point field.
+         *
+         * @param name the field name.
+         * @param value the field value.
+         */
+        default void field(String name, double value) {
+            field(name, (Object) value);
+        }
+
+        /**
+         * Write a boolean field.
+         *
+         * @param name the field name.
+         * @param value the field value.
+         */
+        default void field(String name, boolean value) {
+            field(name, (Object) value);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A destination for formatted log entries, written directly rather than via Slf4j.
+ *
+ * <p>See {@link LogSinks} for built-in sinks. Implementations must be thread-safe.
+ */
+public interface LogSink extends AutoCloseable {
+
+    /**
+     * Write a formatted entry.
+     *
+     * <p>The {@code entry} buffer is only valid for the duration of the call. Implementations that
+     * do not write it synchronously must copy its contents before returning.
+     *
+     * <p>Entries in text formats are UTF-8 encoded, including their trailing line separator.
+     * Entries in binary formats, e.g. {@link SinkFormat#CBOR}, are not line delimited, so
+     * implementations must not rely on an entry's content to find where it ends.
+     *
+     * @param entry the encoded entry.
+     */
+    void write(ByteBuffer entry);
+
+    /** Block until all previously written entries have been output. */
+    void flush();
+
+    /**
+     * @return the number of entries the sink has dropped, e.g. due to output failures or a full
+     *     buffer.
+     */
+    default long droppedEntries() {
+        return 0;
+    }
+
+    /**
+     * Whether the sink's output may restart part way through, as a new stream.
+     *
+     * <p>Stateful formats, e.g. {@link SinkFormat#BINARY}, write definitions once and refer to
+     * them from later entries, so can only be written to sinks that do not restart their output.
+     *
+     * @return {@code true} if the output may be split into separate streams, e.g. one per
+     *     connection of a sink that reconnects.
+     */
+    default boolean restartsStream() {
+        return false;
+    }
+
+    /** Flush any pending entries and release resources. */
+    @Override
+    void close();
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.creekservice.internal.observability.logging.structured.GroupCommitSink;
+import org.creekservice.internal.observability.logging.structured.MappedFileSink;
+import org.creekservice.internal.observability.logging.structured.SinkShutdownHook;
+import org.creekservice.internal.observability.logging.structured.UnixSocketSink;
+
+/** Factory methods for the built-in {@link LogSink}s. */
+public final class LogSinks {
+
+    private static final int STDOUT_BUFFER_SIZE = 64 * 1024;
+    private static final Duration STDOUT_MAX_DELAY = Duration.ofMillis(5);
+    private static final int SOCKET_BUFFER_SIZE = 1024 * 1024;
+    private static final Duration SOCKET_MAX_DELAY = Duration.ofMillis(5);
+    private static final Duration SOCKET_RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    private LogSinks() {}
+
+    /**
+     * Get the sink that writes to the process's standard output.
+     *
+     * <p>Entries from all threads are batched, and each batch written to {@link FileDescriptor#out}
+     * with a single write, bypassing {@code System.out} and its locking. A batch is written once it
+     * is half of the 64KB buffer, 5ms after its first entry, on {@link LogSink#flush()}, and on JVM
+     * shutdown.
+     *
+     * <p>As writes bypass {@code System.out}, its output may interleave with log entries out of
+     * order.
+     *
+     * @return the shared stdout sink.
+     */
+    public static LogSink stdout() {
+        return StdoutHolder.STDOUT;
+    }
+
+    /**
+     * Create a sink that appends entries to pre-allocated, memory-mapped, segment files.
+     *
+     * <p>Writer threads claim space in the current segment with a CAS and copy their entry directly
+     * into mapped memory, without any lock or appender thread. When a segment fills, the sink rolls
+     * to a new segment. A new sink starts a new segment after any existing ones. Old segments are
+     * not deleted.
+     *
+     * <p>The sink is closed on JVM shutdown, sealing and forcing its current segment.
+     *
+     * <p>Use {@link MappedLogReader} to read the segments.
+     *
+     * @param directory the directory to write segments to. Created if it does not exist.
+     * @param segmentSize the size of each segment, in bytes. Must be a multiple of 8 between 64
+     *     bytes and 1GB. Larger entries are dropped.
+     * @param forceInterval how often the current segment is forced to storage, protecting against
+     *     OS crashes. Zero disables periodic forcing, leaving it to the OS. Segments are also
+     *     forced when rolled, flushed and closed.
+     * @return the sink.
+     */
+    public static LogSink memoryMapped(
+            final Path directory, final int segmentSize, final Duration forceInterval) {
+        return SinkShutdownHook.register(
+                new MappedFileSink(directory, segmentSize, forceInterval));
+    }
+
+    /**
+     * Create a sink that streams entries to a Unix domain socket, e.g. one served by a log shipping
+     * sidecar.
+     *
+     * <p>Entries from all threads are buffered, in a 1MB buffer, and sent in batches by a sender
+     * thread using non-blocking writes. A batch is sent once it is half of the buffer, 5ms after
+     * its first entry, on {@link LogSink#flush()}, and on JVM shutdown.
+     *
+     * <p>Writers never block on the socket. If the socket can not be connected, or its reader can
+     * not keep up, entries are buffered until the buffer fills, after which they are dropped and
+     * counted in {@link LogSink#droppedEntries()}. A lost connection is retried every second.
+     *
+     * <p>Only whole entries are sent over a connection. Each connection starts a new stream, so
+     * the sink does not support stateful formats, e.g. {@link SinkFormat#BINARY}.
+     *
+     * @param socketPath the path of the socket to connect to.
+     * @return the sink.
+     */
+    public static LogSink unixSocket(final Path socketPath) {
+        return SinkShutdownHook.register(
+                new UnixSocketSink(
+                        socketPath,
+                        SOCKET_BUFFER_SIZE,
+                        SOCKET_MAX_DELAY,
+                        SOCKET_RECONNECT_DELAY,
+                        "creek-socket-sink"));
+    }
+
+    private static final class StdoutHolder {
+
+        static final LogSink STDOUT = create();
+
+        private static LogSink create() {
+            return SinkShutdownHook.register(
+                    new GroupCommitSink(
+                            new FileOutputStream(FileDescriptor.out).getChannel(),
+                            STDOUT_BUFFER_SIZE,
+                            STDOUT_MAX_DELAY,
+                            "creek-stdout-sink"));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import java.util.List;
+import org.creekservice.internal.observability.logging.structured.DefaultLogTemplate;
+
+/**
+ * A log statement with a fixed level, message and set of keys, declared once and logged many times.
+ *
+ * <p>For call sites that always log the same message with the same keys, templates avoid the cost
+ * of building each entry via a {@link LogEntryCustomizer}. The keys are validated, and the message
+ * and keys pre-rendered, when the template is created. Logging just fills in the values:
+ *
+ * <pre>{@code
+ * private static final LogTemplate PROCESSED =
+ *         LogTemplate.of(Level.INFO, "processed", "count", "latencyMs");
+ *
+ * LOGGER.log(PROCESSED, count, latencyMs);
+ * }</pre>
+ *
+ * <p>Loggers writing JSON, either to sinks or as the Slf4j message, write the pre-rendered entry
+ * directly. Other loggers fall back to building the entry as normal.
+ *
+ * <p>Values are passed as varargs, so primitives are boxed at the call site. Templates avoid the
+ * cost of building the entry, not of boxing its values.
+ */
+public interface LogTemplate {
+
+    /**
+     * Create a template.
+     *
+     * @param level the level to log at.
+     * @param message the message to log.
+     * @param keys the keys of the values supplied when logging, in order.
+     * @return the template.
+     * @throws IllegalArgumentException on blank or duplicate keys, or a {@code message} key.
+     */
+    static LogTemplate of(final Level level, final String message, final String... keys) {
+        return new DefaultLogTemplate(level, message, keys);
+    }
+
+    /**
+     * @return the level the template logs at.
+     */
+    Level level();
+
+    /**
+     * @return the message the template logs.
+     */
+    String message();
+
+    /**
+     * @return the keys of the template's values, in order.
+     */
+    List<String> keys();
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.creekservice.internal.observability.logging.structured.MappedSegments;
+
+/**
+ * Reads the entries written by a {@link LogSinks#memoryMapped memory-mapped sink}.
+ *
+ * <p>Use {@link #tail} to follow the segments of a running writer, polling for new entries as they
+ * are written. Use {@link #recover} to read the segments left by a writer that is no longer
+ * running, e.g. after a crash, where claimed but incomplete entries are skipped rather than waited
+ * for.
+ *
+ * <p>When tailing, an incomplete entry, or unwritten gap, is waited for until it has been stuck
+ * for longer than the reader's abandon timeout while later segments exist. It is then treated as
+ * left by a crashed writer and skipped, so the reader moves on to entries written since.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class MappedLogReader {
+
+    /** Default time an incomplete entry is waited for, when later segments exist. */
+    public static final Duration DEFAULT_ABANDON_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Path directory;
+    private final boolean recovering;
+    private final long abandonNanos;
+    private long sequence = -1;
+    private ByteBuffer segment;
+    private int offset;
+    private long stuckSequence = -1;
+    private int stuckOffset;
+    private long stuckSince;
+
+    /**
+     * Create a reader that follows the segments of a running writer.
+     *
+     * @param directory the directory holding the segments.
+     * @return the reader, positioned at the first entry of the oldest segment.
+     */
+    public static MappedLogReader tail(final Path directory) {
+        return tail(directory, DEFAULT_ABANDON_TIMEOUT);
+    }
+
+    /**
+     * Create a reader that follows the segments of a running writer.
+     *
+     * @param directory the directory holding the segments.
+     * @param abandonTimeout how long an incomplete entry, or unwritten gap, is waited for, once
+     *     later segments exist, before it is treated as left by a crashed writer and skipped.
+     * @return the reader, positioned at the first entry of the oldest segment.
+     */
+    public static MappedLogReader tail(final Path directory, final Duration abandonTimeout) {
+        if (abandonTimeout.isNegative()) {
+            throw new IllegalArgumentException("abandonTimeout must not be negative");
+        }
+        return new MappedLogReader(directory, false, abandonTimeout.toNanos());
+    }
+
+    /**
+     * Create a reader of the segments left by a writer that is no longer running.
+     *
+     * <p>Entries the writer had claimed, but not completed, are skipped. Any unwritten gap within a
+     * segment is treated as the end of that segment's entries.
+     *
+     * @param directory the directory holding the segments.
+     * @return the reader, positioned at the first entry of the oldest segment.
+     */
+    public static MappedLogReader recover(final Path directory) {
+        return new MappedLogReader(directory, true, 0);
+    }
+
+    private MappedLogReader(
+            final Path directory, final boolean recovering, final long abandonNanos) {
+        this.directory = requireNonNull(directory, "directory");
+        this.recovering = recovering;
+        this.abandonNanos = abandonNanos;
+    }
+
+    /**
+     * Read the next entry, if one is available.
+     *
+     * @param consumer the consumer of the entry. The buffer is read-only and only valid for the
+     *     duration of the call.
+     * @return {@code true} if an entry was read, {@code false} if no more entries are currently
+     *     available.
+     */
+    public boolean poll(final Consumer<? super ByteBuffer> consumer) {
+        while (segment != null || nextSegment()) {
+            final int header = header();
+            if (complete(header)) {
+                consumer.accept(
+                        segment.slice(offset + MappedSegments.HEADER_SIZE, header)
+                                .asReadOnlyBuffer());
+                offset += MappedSegments.recordLength(header);
+                return true;
+            }
+
+            if (header == 0 || incomplete(header)) {
+                if (!recovering && !abandoned()) {
+                    // The writer may yet complete it:
+                    return false;
+                }
+
+                if (header != 0) {
+                    // Skip abandoned entry:
+                    offset += MappedSegments.recordLength(-header);
+                    continue;
+                }
+            }
+
+            // End marker, end of segment, corrupt entry or, when recovering, unwritten gap:
+            if (!nextSegment()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private int header() {
+        return offset + MappedSegments.HEADER_SIZE > segment.capacity()
+                ? MappedSegments.END
+                : MappedSegments.header(segment, offset);
+    }
+
+    private boolean complete(final int header) {
+        return header > 0 && offset + MappedSegments.HEADER_SIZE + header <= segment.capacity();
+    }
+
+    private boolean incomplete(final int header) {
+        return header < 0
+                && header != MappedSegments.END
+                && offset + MappedSegments.recordLength(-header) <= segment.capacity();
+    }
+
+    /**
+     * @return {@code true} if the current position has been stuck for longer than the abandon
+     *     timeout, and a later segment exists.
+     */
+    private boolean abandoned() {
+        final long now = System.nanoTime();
+        if (stuckSequence != sequence || stuckOffset != offset) {
+            stuckSequence = sequence;
+            stuckOffset = offset;
+            stuckSince = now;
+        }
+
+        return now - stuckSince >= abandonNanos
+                && MappedSegments.next(directory, sequence).isPresent();
+    }
+
+    private boolean nextSegment() {
+        final Optional<Long> next = MappedSegments.next(directory, sequence);
+        if (next.isEmpty()) {
+            return false;
+        }
+
+        final Path path = MappedSegments.path(directory, next.get());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to open log segment " + path, e);
+        }
+
+        sequence = next.get();
+        offset = 0;
+        return true;
+    }
+}
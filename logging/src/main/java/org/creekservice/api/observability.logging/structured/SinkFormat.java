@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+/** The format log entries are written to a {@link LogSink} in. */
+public enum SinkFormat {
+    /** Newline delimited JSON, one document per entry. */
+    JSON,
+
+    /**
+     * Newline delimited logfmt, one line of space separated {@code key=value} pairs per entry.
+     *
+     * <p>Namespaces are flattened into dotted keys, e.g. {@code creek.partition=7}, and values are
+     * only quoted when required.
+     */
+    LOGFMT,
+
+    /**
+     * Newline delimited JSON, with the message text and keys of entries written once per schema.
+     *
+     * <p>The first entry with a given message text and set of keys is preceded by a schema record,
+     * e.g. {@code {"s":0,"m":"some message","k":["timestamp","level","logger","a"]}}. Entries are
+     * written as just their schema id and an array of their values, e.g. {@code
+     * {"s":0,"v":["2026-10-18T10:15:30Z","INFO","x",1]}}, avoiding repeating and escaping keys.
+     *
+     * <p>Schemas are per sink, so the sink must not be shared with another factory, and its output
+     * is only expandable from its start. Not supported by sinks that {@link
+     * LogSink#restartsStream() restart their output}, e.g. {@link LogSinks#unixSocket}.
+     */
+    COMPACT_JSON,
+
+    /**
+     * CBOR (RFC 8949), one data item per entry.
+     *
+     * <p>A standard, self-describing, binary format for internal transports that do not need
+     * human-readable text. Numbers are written in binary and {@code byte[]} values as byte strings.
+     */
+    CBOR,
+
+    /**
+     * Compact binary records, decoded offline with {@link BinaryLogDecoder}.
+     *
+     * <p>Keys and message text are written once, to a dictionary, and referred to by id thereafter.
+     * Other values are written raw, rather than formatted as text. Cheaper to write and much
+     * smaller than {@link #JSON}, but not human-readable until decoded.
+     *
+     * <p>The dictionary is per sink, so the sink must not be shared with another factory, and its
+     * output is only decodable from its start. Not supported by sinks that {@link
+     * LogSink#restartsStream() restart their output}, e.g. {@link LogSinks#unixSocket}.
+     */
+    BINARY
+}
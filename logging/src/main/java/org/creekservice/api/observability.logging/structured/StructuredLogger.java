@@ -16,6 +16,7 @@
 
 package org.creekservice.api.observability.logging.structured;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /** Logger interface that encourages more structured logging. */
@@ -24,6 +25,21 @@ public interface StructuredLogger {
     /** A consumer that does nothing. */
     Consumer<LogEntryCustomizer> NO_OP_CONSUMER = customizer -> {};
 
+    /**
+     * Check if a level is enabled.
+     *
+     * <p>Logging methods already check the level before building an entry. Use this to also skip
+     * work done to prepare the values logged, e.g. boxing or copying.
+     *
+     * <p>The default implementation returns {@code true}.
+     *
+     * @param level the level to check.
+     * @return {@code false} if entries logged at the {@code level} would be discarded.
+     */
+    default boolean isEnabled(Level level) {
+        return true;
+    }
+
     /**
      * Log a trace level message, if level is enabled.
      *
@@ -143,4 +159,36 @@ public interface StructuredLogger {
      *     entry
      */
     void log(Level level, String message, Consumer<LogEntryCustomizer> customizer);
+
+    /**
+     * Log a {@code template}, if its level is enabled.
+     *
+     * <p>The default implementation builds the entry via a {@link LogEntryCustomizer}.
+     * Implementations that can write the template's pre-rendered form override it.
+     *
+     * <p>The {@code values} are passed as an {@code Object} array, so primitive values are boxed,
+     * and the array allocated, by the caller, even if the template's level is disabled. Hot call
+     * sites logging at levels that are usually disabled should check {@link #isEnabled(Level)}
+     * first.
+     *
+     * @param template the template to log.
+     * @param values the values of the template's keys, in the same order as the keys.
+     * @throws IllegalArgumentException if the number of values does not match the number of keys.
+     */
+    default void log(LogTemplate template, Object... values) {
+        final List<String> keys = template.keys();
+        if (values.length != keys.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + keys.size() + " values, but got " + values.length);
+        }
+
+        log(
+                template.level(),
+                template.message(),
+                log -> {
+                    for (int i = 0; i < values.length; i++) {
+                        log.with(keys.get(i), values[i]);
+                    }
+                });
+    }
 }
@@ -16,31 +16,268 @@
 
 package org.creekservice.api.observability.logging.structured;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
+import org.creekservice.internal.observability.logging.structured.BinaryEntryEncoder;
+import org.creekservice.internal.observability.logging.structured.CborEntryEncoder;
+import org.creekservice.internal.observability.logging.structured.CompactJsonEncoder;
+import org.creekservice.internal.observability.logging.structured.EntryEncoder;
+import org.creekservice.internal.observability.logging.structured.LogEntryFormatters;
+import org.creekservice.internal.observability.logging.structured.SinkBinding;
+import org.creekservice.internal.observability.logging.structured.SinkEncoder;
+import org.creekservice.internal.observability.logging.structured.SinkStructuredLogger;
 import org.creekservice.internal.observability.logging.structured.Slf4jStructuredLogger;
+import org.creekservice.internal.observability.logging.structured.StatefulEncoders;
 
-/** Factory class for loggers. */
+/**
+ * Factory class for loggers.
+ *
+ * <p>The static {@link #logger} and {@link #internalLogger} methods use the default configuration.
+ * Use {@link #builder()} to create a factory with a custom configuration.
+ */
 public final class StructuredLoggerFactory {
 
-    private StructuredLoggerFactory() {}
+    private static final SinkEncoder JSON_LINES = new EntryEncoder(LogEntryFormatters.json(), "\n");
+
+    private static final StructuredLoggerFactory DEFAULT = builder().build();
+
+    private final EmissionMode emissionMode;
+    private final LogEntryFormatter formatter;
+    private final SinkEncoder defaultEncoder;
+    private final List<SinkBinding> sinks;
 
     /**
-     * Get a StructuredLogger for the given {@code clazz}.
+     * Get a StructuredLogger for the given {@code clazz}, using the default configuration.
      *
      * @param clazz the class requiring a logger
      * @return the class's logger
      */
     public static StructuredLogger logger(final Class<?> clazz) {
-        return new Slf4jStructuredLogger(clazz, Optional.empty());
+        return DEFAULT.create(clazz);
     }
 
     /**
-     * Get a StructuredLogger for use by Creek's internal code.
+     * Get a StructuredLogger for use by Creek's internal code, using the default configuration.
      *
      * @param clazz the class requiring a logger
      * @return the class's logger
      */
     public static StructuredLogger internalLogger(final Class<?> clazz) {
-        return new Slf4jStructuredLogger(clazz, Optional.of("creek"));
+        return DEFAULT.createInternal(clazz);
+    }
+
+    /**
+     * @return a builder of custom configured factories.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private StructuredLoggerFactory(
+            final EmissionMode emissionMode,
+            final LogEntryFormatter formatter,
+            final List<SinkBinding> sinks) {
+        this.emissionMode = requireNonNull(emissionMode, "emissionMode");
+        this.formatter = requireNonNull(formatter, "formatter");
+        this.defaultEncoder = lines(this.formatter);
+        this.sinks = List.copyOf(sinks);
+    }
+
+    /**
+     * Create a StructuredLogger for the given {@code clazz}.
+     *
+     * @param clazz the class requiring a logger
+     * @return the class's logger
+     */
+    public StructuredLogger create(final Class<?> clazz) {
+        return create(clazz, Optional.empty());
+    }
+
+    /**
+     * Create a StructuredLogger for use by Creek's internal code.
+     *
+     * @param clazz the class requiring a logger
+     * @return the class's logger
+     */
+    public StructuredLogger createInternal(final Class<?> clazz) {
+        return create(clazz, Optional.of("creek"));
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private StructuredLogger create(final Class<?> clazz, final Optional<String> rootNs) {
+        return sinks.isEmpty()
+                ? new Slf4jStructuredLogger(clazz, rootNs, formatter, emissionMode)
+                : new SinkStructuredLogger(clazz, rootNs, sinks, defaultEncoder);
+    }
+
+    private static SinkEncoder lines(final LogEntryFormatter formatter) {
+        return formatter == LogEntryFormatters.json()
+                ? JSON_LINES
+                : new EntryEncoder(formatter, "\n");
+    }
+
+    /** Builder of {@link StructuredLoggerFactory}. */
+    public static final class Builder {
+
+        private EmissionMode emissionMode = EmissionMode.MESSAGE;
+        private LogEntryFormatter formatter = LogEntryFormatters.json();
+        private final List<SinkBinding> sinks = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Set how log entries are passed to Slf4j.
+         *
+         * <p>Default: {@link EmissionMode#MESSAGE}.
+         *
+         * @param mode the emission mode.
+         * @return self, to allow chaining.
+         */
+        public Builder emissionMode(final EmissionMode mode) {
+            this.emissionMode = requireNonNull(mode, "mode");
+            return this;
+        }
+
+        /**
+         * Set the formatter, by name, used to render log entries.
+         *
+         * <p>The formatter is used when passing entries to Slf4j as an {@link
+         * EmissionMode#MESSAGE}, and for sinks added without a {@link SinkFormat}.
+         *
+         * <p>Formatters are discovered via their {@link LogEntryFormatterProvider}. Creek provides
+         * {@code json}, the default, and {@code logfmt}. A single instance of each formatter is
+         * shared by all factories that select it.
+         *
+         * @param name the name of the formatter.
+         * @return self, to allow chaining.
+         * @throws IllegalArgumentException if no provider of the named formatter is registered.
+         */
+        public Builder formatter(final String name) {
+            this.formatter = LogEntryFormatters.named(name);
+            return this;
+        }
+
+        /**
+         * Set the formatter used to render log entries.
+         *
+         * <p>The formatter is shared by all loggers the factory creates, and so must be
+         * thread-safe.
+         *
+         * @param formatter the formatter.
+         * @return self, to allow chaining.
+         * @see #formatter(String)
+         */
+        public Builder formatter(final LogEntryFormatter formatter) {
+            this.formatter = requireNonNull(formatter, "formatter");
+            return this;
+        }
+
+        /**
+         * Write log entries directly to a sink, rather than via Slf4j.
+         *
+         * <p>Entries are written as NDJSON, or in the format of any custom {@link #formatter}, one
+         * per line, prefixed with {@code timestamp}, {@code level} and {@code logger} fields. Once
+         * any sink is added, the {@link #emissionMode} is ignored.
+         *
+         * <p>Can be called multiple times to add multiple sinks. Sinks added via this method
+         * receive all fields and share a single formatted copy of each entry.
+         *
+         * @param sink the sink to write to, e.g. {@link LogSinks#stdout()}.
+         * @param threshold the minimum level to write to the sink.
+         * @return self, to allow chaining.
+         */
+        public Builder sink(final LogSink sink, final Level threshold) {
+            sinks.add(new SinkBinding(sink, threshold, SinkBinding.ALL_FIELDS));
+            return this;
+        }
+
+        /**
+         * Write log entries, with only some fields, directly to a sink, rather than via Slf4j.
+         *
+         * <p>The {@code fieldFilter} is tested against the names of the entry's top-level fields,
+         * excluding the {@code timestamp}, {@code level}, {@code logger} and {@code message}
+         * fields, which are always included.
+         *
+         * <p>Each entry is formatted once per distinct filter instance, so sinks passed the same
+         * filter instance share a single formatted copy of each entry.
+         *
+         * @param sink the sink to write to.
+         * @param threshold the minimum level to write to the sink.
+         * @param fieldFilter filter of the fields to include.
+         * @return self, to allow chaining.
+         * @see #sink(LogSink, Level)
+         */
+        public Builder sink(
+                final LogSink sink,
+                final Level threshold,
+                final Predicate<? super String> fieldFilter) {
+            sinks.add(new SinkBinding(sink, threshold, fieldFilter));
+            return this;
+        }
+
+        /**
+         * Write log entries, in the supplied format, directly to a sink, rather than via Slf4j.
+         *
+         * <p>Stateful formats, i.e. {@link SinkFormat#BINARY} and {@link SinkFormat#COMPACT_JSON},
+         * hold their state per sink. The state is shared by all loggers, and all factories, that
+         * write the format to the same sink instance, so factories can safely share a sink, e.g.
+         * {@link LogSinks#stdout()}. A sink can only receive one stateful format, and it must be
+         * a sink that does not {@link LogSink#restartsStream() restart its output}.
+         *
+         * @param sink the sink to write to.
+         * @param threshold the minimum level to write to the sink.
+         * @param format the format to write entries in.
+         * @return self, to allow chaining.
+         * @throws IllegalArgumentException if the format is stateful and the sink restarts its
+         *     output, e.g. {@link LogSinks#unixSocket}, or if the sink already receives a different
+         *     stateful format.
+         * @see #sink(LogSink, Level)
+         */
+        public Builder sink(final LogSink sink, final Level threshold, final SinkFormat format) {
+            if (stateful(format) && sink.restartsStream()) {
+                throw new IllegalArgumentException(
+                        "Stateful format "
+                                + format
+                                + " requires a sink that does not restart its output: "
+                                + sink);
+            }
+            final Optional<SinkEncoder> encoder = encoder(sink, format);
+            sinks.add(new SinkBinding(sink, threshold, SinkBinding.ALL_FIELDS, encoder));
+            return this;
+        }
+
+        /**
+         * @return the configured factory.
+         */
+        public StructuredLoggerFactory build() {
+            return new StructuredLoggerFactory(emissionMode, formatter, sinks);
+        }
+
+        private static boolean stateful(final SinkFormat format) {
+            return format == SinkFormat.BINARY || format == SinkFormat.COMPACT_JSON;
+        }
+
+        private static Optional<SinkEncoder> encoder(final LogSink sink, final SinkFormat format) {
+            switch (requireNonNull(format, "format")) {
+                case LOGFMT:
+                    return Optional.of(
+                            new EntryEncoder(
+                                    LogEntryFormatters.named(LogEntryFormatters.LOGFMT), "\n"));
+                case CBOR:
+                    return Optional.of(new CborEntryEncoder());
+                case COMPACT_JSON:
+                    return Optional.of(
+                            StatefulEncoders.forSink(sink, format, CompactJsonEncoder::new));
+                case BINARY:
+                    return Optional.of(
+                            StatefulEncoders.forSink(sink, format, BinaryEntryEncoder::new));
+                default:
+                    return Optional.of(JSON_LINES);
+            }
+        }
     }
 }
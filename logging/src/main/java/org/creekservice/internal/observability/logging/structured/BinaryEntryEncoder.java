@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.writeFixed;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.writeText;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.writeVarLong;
+import static org.creekservice.internal.observability.logging.structured.BinaryRecords.writeZigZag;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.base.type.Throwables;
+import org.creekservice.api.base.type.config.SystemProperties;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+/**
+ * Encodes log entries as compact binary records, deferring formatting to an offline decoder.
+ *
+ * <p>Keys, and the text of the {@code level}, {@code logger} and {@code message} fields, are
+ * registered in a dictionary the first time they are seen, with a definition record written ahead
+ * of the entry that first uses them. Later entries refer to them by id. Other values are written
+ * raw, e.g. numbers as varints, rather than being formatted as text.
+ *
+ * <p>The dictionary is held by the encoder, so each sink must be written by a single encoder, see
+ * {@link StatefulEncoders}, and a sink's output is only decodable from its start. Once the
+ * dictionary is full, further new text is written inline.
+ *
+ * <p>Entries that use only known text are encoded without locking. Entries that define new text are
+ * encoded and written under a lock, and the new ids only published once written, ensuring
+ * definitions are written before any entry that refers to them.
+ *
+ * @see BinaryRecords
+ */
+public final class BinaryEntryEncoder implements SinkEncoder {
+
+    private static final int DEFAULT_MAX_DICTIONARY_SIZE = 64 * 1024;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int INLINE = -1;
+    private static final Set<String> TEXT_FIELDS =
+            Set.of("level", "logger", DefaultLogEntryCustomizer.Field.message.name());
+
+    private final int maxDepth;
+    private final int maxDictionarySize;
+    private final Map<String, Integer> dictionary = new ConcurrentHashMap<>();
+    private final Object definitionLock = new Object();
+    private volatile boolean dictionaryFull;
+    private int nextId; // Guarded by definitionLock
+
+    /** Create an encoder, configured via system properties. */
+    public BinaryEntryEncoder() {
+        this(DEFAULT_MAX_DICTIONARY_SIZE);
+    }
+
+    @VisibleForTesting
+    BinaryEntryEncoder(final int maxDictionarySize) {
+        this.maxDepth = SystemProperties.getInt(JsonLogEntryFormatter.MAX_DEPTH_PROP, 8);
+        this.maxDictionarySize = maxDictionarySize;
+    }
+
+    @Override
+    public void encode(final Map<String, ?> entry, final Consumer<? super ByteBuffer> consumer) {
+        final EncodingBuffers buffers = EncodingBuffers.acquire();
+        try {
+            final RecordWriter writer = new RecordWriter(this, buffers.bytes);
+            writer.begin(null);
+            writer.writeEntry(entry);
+
+            if (!writer.missed) {
+                consumer.accept(writer.bytes.asByteBuffer());
+                return;
+            }
+
+            synchronized (definitionLock) {
+                final Map<String, Integer> added = new LinkedHashMap<>();
+                writer.begin(added);
+                writer.writeEntry(entry);
+
+                final EntryBuffer record = new EntryBuffer(writer.bytes.size() + INITIAL_CAPACITY);
+                added.forEach(
+                        (text, id) -> {
+                            record.write(BinaryRecords.DEFINITION);
+                            writeVarLong(record, id);
+                            writeText(record, text);
+                        });
+                final byte[] entryBytes = writer.bytes.toByteArray();
+                record.write(entryBytes, 0, entryBytes.length);
+
+                consumer.accept(record.asByteBuffer());
+
+                dictionary.putAll(added);
+                dictionaryFull = dictionary.size() >= maxDictionarySize;
+            }
+        } finally {
+            buffers.release();
+        }
+    }
+
+    /**
+     * Writes a single entry record, resolving text against the dictionary.
+     *
+     * <p>Static, and created per entry, so that the per-thread buffer it writes to never references
+     * the encoder.
+     */
+    private static final class RecordWriter {
+
+        private final BinaryEntryEncoder encoder;
+        final EntryBuffer bytes;
+        boolean missed;
+        private Map<String, Integer> added;
+
+        RecordWriter(final BinaryEntryEncoder encoder, final EntryBuffer bytes) {
+            this.encoder = encoder;
+            this.bytes = bytes;
+        }
+
+        /**
+         * @param added {@code null} to only use published ids, flagging any text missing from the
+         *     dictionary, or the map to add new definitions to, if called under the lock.
+         */
+        void begin(final Map<String, Integer> added) {
+            this.added = added;
+            this.missed = false;
+            bytes.clear();
+        }
+
+        void writeEntry(final Map<String, ?> entry) {
+            bytes.write(BinaryRecords.ENTRY);
+            writeVarLong(bytes, entry.size());
+            entry.forEach(
+                    (key, value) -> {
+                        writeDictionaryText(key);
+                        if (value instanceof String && TEXT_FIELDS.contains(key)) {
+                            writeDictionaryText((String) value);
+                        } else {
+                            writeValue(value, 1);
+                        }
+                    });
+        }
+
+        private void writeValue(final Object value, final int depth) {
+            if (depth > encoder.maxDepth) {
+                throw new IllegalArgumentException(
+                        "Max depth of " + encoder.maxDepth + " exceeded");
+            }
+
+            if (value == null) {
+                bytes.write(BinaryRecords.NULL);
+            } else if (value instanceof String) {
+                writeString((String) value);
+            } else if (value instanceof Number) {
+                writeNumber((Number) value);
+            } else if (value instanceof Boolean) {
+                bytes.write((Boolean) value ? BinaryRecords.TRUE : BinaryRecords.FALSE);
+            } else if (value instanceof Map) {
+                writeMap((Map<?, ?>) value, depth);
+            } else if (value instanceof Collection) {
+                writeCollection((Collection<?>) value, depth);
+            } else if (value.getClass().isArray()) {
+                writeArray(value, depth);
+            } else {
+                writeOther(value, depth);
+            }
+        }
+
+        private void writeNumber(final Number value) {
+            if (value instanceof Integer
+                    || value instanceof Long
+                    || value instanceof Short
+                    || value instanceof Byte) {
+                bytes.write(BinaryRecords.INT);
+                writeZigZag(bytes, value.longValue());
+            } else if (value instanceof Double) {
+                bytes.write(BinaryRecords.DOUBLE);
+                writeFixed(bytes, Double.doubleToRawLongBits((Double) value), Double.BYTES);
+            } else if (value instanceof Float) {
+                bytes.write(BinaryRecords.FLOAT);
+                writeFixed(bytes, Float.floatToRawIntBits((Float) value), Float.BYTES);
+            } else if (value instanceof BigDecimal) {
+                bytes.write(BinaryRecords.DECIMAL);
+                writeText(bytes, value.toString());
+            } else if (Double.compare(value.longValue(), value.doubleValue()) == 0) {
+                bytes.write(BinaryRecords.INT);
+                writeZigZag(bytes, value.longValue());
+            } else {
+                bytes.write(BinaryRecords.DOUBLE);
+                writeFixed(bytes, Double.doubleToRawLongBits(value.doubleValue()), Double.BYTES);
+            }
+        }
+
+        private void writeMap(final Map<?, ?> map, final int depth) {
+            bytes.write(BinaryRecords.MAP);
+            writeVarLong(bytes, map.size());
+            map.forEach(
+                    (key, value) -> {
+                        if (key == null) {
+                            throw new IllegalArgumentException(
+                                    "null key in " + map + " at depth " + depth);
+                        }
+                        writeDictionaryText(String.valueOf(key));
+                        writeValue(value, depth + 1);
+                    });
+        }
+
+        private void writeCollection(final Collection<?> items, final int depth) {
+            bytes.write(BinaryRecords.LIST);
+            writeVarLong(bytes, items.size());
+            items.forEach(item -> writeValue(item, depth + 1));
+        }
+
+        private void writeArray(final Object array, final int depth) {
+            final int length = Array.getLength(array);
+            bytes.write(BinaryRecords.LIST);
+            writeVarLong(bytes, length);
+            for (int i = 0; i < length; i++) {
+                writeValue(Array.get(array, i), depth + 1);
+            }
+        }
+
+        private void writeOther(final Object value, final int depth) {
+            final LogEventWriter<Object> writer = LogEventWriters.find(value.getClass());
+            if (writer != null) {
+                writeMap(LogEventWriters.toMap(value, writer), depth);
+            } else if (value instanceof Instant) {
+                final Instant instant = (Instant) value;
+                bytes.write(BinaryRecords.INSTANT);
+                writeZigZag(bytes, instant.getEpochSecond());
+                writeVarLong(bytes, instant.getNano());
+            } else if (value instanceof Throwable) {
+                writeString(Throwables.stackTrace((Throwable) value));
+            } else {
+                writeString(value.toString());
+            }
+        }
+
+        private void writeString(final String value) {
+            bytes.write(BinaryRecords.STRING);
+            writeText(bytes, value);
+        }
+
+        private void writeDictionaryText(final String text) {
+            final int id = resolve(text);
+            if (id == INLINE) {
+                writeString(text);
+            } else {
+                bytes.write(BinaryRecords.REF);
+                writeVarLong(bytes, id);
+            }
+        }
+
+        private int resolve(final String text) {
+            final Integer id = encoder.dictionary.get(text);
+            if (id != null) {
+                return id;
+            }
+
+            if (encoder.dictionaryFull) {
+                return INLINE;
+            }
+
+            if (added == null) {
+                missed = true;
+                return INLINE;
+            }
+
+            final Integer pending = added.get(text);
+            if (pending != null) {
+                return pending;
+            }
+
+            if (encoder.dictionary.size() + added.size() >= encoder.maxDictionarySize) {
+                return INLINE;
+            }
+
+            added.put(text, encoder.nextId);
+            return encoder.nextId++;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Constants and primitives of the binary log record format.
+ *
+ * <p>A binary log is a sequence of records, each starting with a record type byte:
+ *
+ * <ul>
+ *   <li>{@link #DEFINITION}: a dictionary definition: an unsigned varint id followed by the length
+ *       prefixed UTF-8 text it stands for.
+ *   <li>{@link #ENTRY}: a log entry: an unsigned varint field count followed by each field's key
+ *       and value.
+ * </ul>
+ *
+ * <p>Each value starts with a tag byte, e.g. {@link #REF} for text held in the dictionary, or
+ * {@link #STRING} for inline text. Keys are always {@link #REF} or {@link #STRING} values.
+ *
+ * <p>Integers are written as zig-zag varints and floating point numbers as little-endian IEEE 754.
+ */
+public final class BinaryRecords {
+
+    /** Record type of a dictionary definition. */
+    public static final int DEFINITION = 1;
+
+    /** Record type of a log entry. */
+    public static final int ENTRY = 2;
+
+    /** Value tag of {@code null}. */
+    public static final int NULL = 0;
+
+    /** Value tag of {@code false}. */
+    public static final int FALSE = 1;
+
+    /** Value tag of {@code true}. */
+    public static final int TRUE = 2;
+
+    /** Value tag of an integer: a zig-zag varint. */
+    public static final int INT = 3;
+
+    /** Value tag of a double: 8 bytes. */
+    public static final int DOUBLE = 4;
+
+    /** Value tag of a float: 4 bytes. */
+    public static final int FLOAT = 5;
+
+    /** Value tag of a decimal: its length prefixed text. */
+    public static final int DECIMAL = 6;
+
+    /** Value tag of inline text: length prefixed UTF-8. */
+    public static final int STRING = 7;
+
+    /** Value tag of dictionary text: an unsigned varint id. */
+    public static final int REF = 8;
+
+    /** Value tag of an instant: zig-zag varint epoch seconds and unsigned varint nanos. */
+    public static final int INSTANT = 9;
+
+    /** Value tag of a list: an unsigned varint count followed by each value. */
+    public static final int LIST = 10;
+
+    /** Value tag of a map: an unsigned varint count followed by each key and value. */
+    public static final int MAP = 11;
+
+    private BinaryRecords() {}
+
+    /**
+     * Write an unsigned varint.
+     *
+     * @param buffer the buffer to write to.
+     * @param value the value to write.
+     */
+    public static void writeVarLong(final EntryBuffer buffer, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.write((int) remaining);
+    }
+
+    /**
+     * Write a signed, zig-zag encoded, varint.
+     *
+     * @param buffer the buffer to write to.
+     * @param value the value to write.
+     */
+    public static void writeZigZag(final EntryBuffer buffer, final long value) {
+        writeVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write a little-endian fixed width value.
+     *
+     * @param buffer the buffer to write to.
+     * @param value the value to write.
+     * @param bytes the number of bytes to write.
+     */
+    public static void writeFixed(final EntryBuffer buffer, final long value, final int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            buffer.write((int) (value >>> (i * 8)));
+        }
+    }
+
+    /**
+     * Write length prefixed UTF-8 text.
+     *
+     * @param buffer the buffer to write to.
+     * @param text the text to write.
+     */
+    public static void writeText(final EntryBuffer buffer, final CharSequence text) {
+        writeVarLong(buffer, EntryBuffer.utf8Length(text));
+        buffer.writeUtf8(text);
+    }
+
+    /**
+     * Read an unsigned varint.
+     *
+     * @param in the stream to read from.
+     * @return the value.
+     * @throws IOException on failure to read, including if the stream ends.
+     */
+    public static long readVarLong(final InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Read a signed, zig-zag encoded, varint.
+     *
+     * @param in the stream to read from.
+     * @return the value.
+     * @throws IOException on failure to read, including if the stream ends.
+     */
+    public static long readZigZag(final InputStream in) throws IOException {
+        final long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Read a little-endian fixed width value.
+     *
+     * @param in the stream to read from.
+     * @param bytes the number of bytes to read.
+     * @return the value.
+     * @throws IOException on failure to read, including if the stream ends.
+     */
+    public static long readFixed(final InputStream in, final int bytes) throws IOException {
+        long value = 0;
+        for (int i = 0; i < bytes; i++) {
+            value |= (long) readByte(in) << (i * 8);
+        }
+        return value;
+    }
+
+    /**
+     * Read length prefixed UTF-8 text.
+     *
+     * @param in the stream to read from.
+     * @return the text.
+     * @throws IOException on failure to read, including if the stream ends.
+     */
+    public static String readText(final InputStream in) throws IOException {
+        final long length = readVarLong(in);
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Text too long: " + length);
+        }
+
+        final byte[] bytes = in.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new EOFException("Truncated record");
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Read a single byte.
+     *
+     * @param in the stream to read from.
+     * @return the byte, as an unsigned value.
+     * @throws IOException on failure to read, including if the stream ends.
+     */
+    public static int readByte(final InputStream in) throws IOException {
+        final int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Truncated record");
+        }
+        return b;
+    }
+}
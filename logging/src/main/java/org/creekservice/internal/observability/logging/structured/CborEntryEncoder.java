@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.creekservice.api.base.type.Throwables;
+import org.creekservice.api.base.type.config.SystemProperties;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+/**
+ * Encodes log entries as CBOR (RFC 8949), one data item per entry, i.e. a CBOR sequence (RFC 8742).
+ *
+ * <p>Values are mapped as {@link JsonLogEntryFormatter} maps them, except that numbers are written
+ * in binary, {@code byte[]} is written as a byte string, rather than an array of numbers, {@link
+ * BigInteger} as a bignum (tags 2 and 3), {@link BigDecimal} as a decimal fraction (tag 4) and
+ * {@link Instant} as a date/time string (tag 0).
+ */
+public final class CborEntryEncoder implements SinkEncoder {
+
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_BYTES = 2;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    private static final int MAJOR_TAG = 6;
+
+    private static final int TAG_DATE_TIME = 0;
+    private static final int TAG_POSITIVE_BIGNUM = 2;
+    private static final int TAG_NEGATIVE_BIGNUM = 3;
+    private static final int TAG_DECIMAL_FRACTION = 4;
+
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int FLOAT = 0xFA;
+    private static final int DOUBLE = 0xFB;
+
+    private final int maxDepth;
+
+    /** Create an encoder, configured via system properties. */
+    public CborEntryEncoder() {
+        this.maxDepth = SystemProperties.getInt(JsonLogEntryFormatter.MAX_DEPTH_PROP, 8);
+    }
+
+    @Override
+    public void encode(final Map<String, ?> entry, final Consumer<? super ByteBuffer> consumer) {
+        final EncodingBuffers buffers = EncodingBuffers.acquire();
+        try {
+            consumer.accept(fill(buffers, entry).asByteBuffer());
+        } finally {
+            buffers.release();
+        }
+    }
+
+    private EntryBuffer fill(final EncodingBuffers buffers, final Map<String, ?> entry) {
+        final EntryBuffer out = buffers.bytes;
+        out.clear();
+        writeMap(out, entry, 0);
+        return out;
+    }
+
+    private void writeValue(final EntryBuffer out, final Object value, final int depth) {
+        if (depth > maxDepth) {
+            throw new IllegalArgumentException("Max depth of " + maxDepth + " exceeded");
+        }
+
+        if (value == null) {
+            out.write(NULL);
+        } else if (value instanceof String) {
+            writeText(out, (String) value);
+        } else if (value instanceof Number) {
+            writeNumber(out, (Number) value);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Map) {
+            writeMap(out, (Map<?, ?>) value, depth);
+        } else if (value instanceof Collection) {
+            writeCollection(out, (Collection<?>) value, depth);
+        } else if (value.getClass().isArray()) {
+            writeArray(out, value, depth);
+        } else {
+            writeOther(out, value, depth);
+        }
+    }
+
+    private static void writeNumber(final EntryBuffer out, final Number value) {
+        if (value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte) {
+            writeLong(out, value.longValue());
+        } else if (value instanceof Double) {
+            out.write(DOUBLE);
+            writeBigEndian(out, Double.doubleToRawLongBits((Double) value), Double.BYTES);
+        } else if (value instanceof Float) {
+            out.write(FLOAT);
+            writeBigEndian(out, Float.floatToRawIntBits((Float) value), Float.BYTES);
+        } else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) value;
+            writeHeader(out, MAJOR_TAG, TAG_DECIMAL_FRACTION);
+            writeHeader(out, MAJOR_ARRAY, 2);
+            writeLong(out, -decimal.scale());
+            writeBigInteger(out, decimal.unscaledValue());
+        } else if (value instanceof BigInteger) {
+            writeBigInteger(out, (BigInteger) value);
+        } else if (Double.compare(value.longValue(), value.doubleValue()) == 0) {
+            writeLong(out, value.longValue());
+        } else {
+            out.write(DOUBLE);
+            writeBigEndian(out, Double.doubleToRawLongBits(value.doubleValue()), Double.BYTES);
+        }
+    }
+
+    private void writeMap(final EntryBuffer out, final Map<?, ?> map, final int depth) {
+        writeHeader(out, MAJOR_MAP, map.size());
+        map.forEach(
+                (key, value) -> {
+                    if (key == null) {
+                        throw new IllegalArgumentException(
+                                "null key in " + map + " at depth " + depth);
+                    }
+                    writeText(out, String.valueOf(key));
+                    writeValue(out, value, depth + 1);
+                });
+    }
+
+    private void writeCollection(
+            final EntryBuffer out, final Collection<?> items, final int depth) {
+        writeHeader(out, MAJOR_ARRAY, items.size());
+        items.forEach(item -> writeValue(out, item, depth + 1));
+    }
+
+    private void writeArray(final EntryBuffer out, final Object array, final int depth) {
+        if (array instanceof byte[]) {
+            final byte[] bytes = (byte[]) array;
+            writeHeader(out, MAJOR_BYTES, bytes.length);
+            out.write(bytes, 0, bytes.length);
+            return;
+        }
+
+        final int length = Array.getLength(array);
+        writeHeader(out, MAJOR_ARRAY, length);
+        for (int i = 0; i < length; i++) {
+            writeValue(out, Array.get(array, i), depth + 1);
+        }
+    }
+
+    private void writeOther(final EntryBuffer out, final Object value, final int depth) {
+        final LogEventWriter<Object> writer = LogEventWriters.find(value.getClass());
+        if (writer != null) {
+            writeMap(out, LogEventWriters.toMap(value, writer), depth);
+        } else if (value instanceof Instant) {
+            writeHeader(out, MAJOR_TAG, TAG_DATE_TIME);
+            writeText(out, value.toString());
+        } else if (value instanceof Throwable) {
+            writeText(out, Throwables.stackTrace((Throwable) value));
+        } else {
+            writeText(out, value.toString());
+        }
+    }
+
+    private static void writeText(final EntryBuffer out, final String text) {
+        writeHeader(out, MAJOR_TEXT, EntryBuffer.utf8Length(text));
+        out.writeUtf8(text);
+    }
+
+    private static void writeLong(final EntryBuffer out, final long value) {
+        if (value >= 0) {
+            writeHeader(out, MAJOR_UNSIGNED, value);
+        } else {
+            writeHeader(out, MAJOR_NEGATIVE, -1 - value);
+        }
+    }
+
+    private static void writeBigInteger(final EntryBuffer out, final BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            writeLong(out, value.longValue());
+            return;
+        }
+
+        final boolean negative = value.signum() < 0;
+        final byte[] magnitude =
+                (negative ? value.negate().subtract(BigInteger.ONE) : value).toByteArray();
+        final int offset = magnitude[0] == 0 ? 1 : 0;
+        writeHeader(out, MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeHeader(out, MAJOR_BYTES, magnitude.length - offset);
+        out.write(magnitude, offset, magnitude.length - offset);
+    }
+
+    /**
+     * Write the initial byte, and any following argument bytes, of a data item.
+     *
+     * @param major the major type.
+     * @param argument the argument, treated as unsigned.
+     */
+    private static void writeHeader(final EntryBuffer out, final int major, final long argument) {
+        final int type = major << 5;
+        if (argument >= 0 && argument < 24) {
+            out.write(type | (int) argument);
+        } else if (argument >= 0 && argument <= 0xFF) {
+            out.write(type | 24);
+            out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xFFFF) {
+            out.write(type | 25);
+            writeBigEndian(out, argument, 2);
+        } else if (argument >= 0 && argument <= 0xFFFFFFFFL) {
+            out.write(type | 26);
+            writeBigEndian(out, argument, 4);
+        } else {
+            out.write(type | 27);
+            writeBigEndian(out, argument, 8);
+        }
+    }
+
+    private static void writeBigEndian(final EntryBuffer out, final long value, final int bytes) {
+        for (int i = bytes - 1; i >= 0; i--) {
+            out.write((int) (value >>> (i * 8)));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+
+/**
+ * Encodes log entries as NDJSON, with the message text and keys of each entry written once per
+ * schema.
+ *
+ * <p>The first entry with a given message text and set of keys writes a schema record, e.g. {@code
+ * {"s":0,"m":"some message","k":["timestamp","level","logger","a"]}}, ahead of itself. That entry,
+ * and all later entries with the same schema, are written as just the schema id and an array of
+ * their values, in key order, e.g. {@code {"s":0,"v":["2026-...","INFO","x",1]}}.
+ *
+ * <p>Schemas are held by the encoder, so each sink must be written by a single encoder, see {@link
+ * StatefulEncoders}, and a sink's output is only expandable from its start. Once the maximum number
+ * of schemas is reached, entries with new schemas are written as plain JSON.
+ *
+ * <p>Entries with known schemas are encoded without locking. Entries with new schemas are encoded
+ * and written under a lock, and the new schema only published once written, ensuring schema records
+ * are written before any entry that refers to them.
+ */
+public final class CompactJsonEncoder implements SinkEncoder {
+
+    private static final int DEFAULT_MAX_SCHEMAS = 64 * 1024;
+    private static final String MESSAGE = DefaultLogEntryCustomizer.Field.message.name();
+
+    private final JsonLogEntryFormatter formatter;
+    private final int maxSchemas;
+    private final Map<Schema, Integer> schemas = new ConcurrentHashMap<>();
+    private final Object schemaLock = new Object();
+    private volatile boolean schemasFull;
+    private int nextId; // Guarded by schemaLock
+
+    /**
+     * Create an encoder that formats values with the shared {@link LogEntryFormatters#json() JSON
+     * formatter}.
+     *
+     * @throws IllegalStateException if the shared JSON formatter is not Creek's built-in formatter.
+     */
+    public CompactJsonEncoder() {
+        this(DEFAULT_MAX_SCHEMAS);
+    }
+
+    @VisibleForTesting
+    CompactJsonEncoder(final int maxSchemas) {
+        this.formatter = sharedJsonFormatter();
+        this.maxSchemas = maxSchemas;
+    }
+
+    @Override
+    public void encode(final Map<String, ?> entry, final Consumer<? super ByteBuffer> consumer) {
+        final EncodingBuffers b = EncodingBuffers.acquire();
+        try {
+            final Schema schema = Schema.of(entry);
+            final Integer id = schemas.get(schema);
+            if (id != null || schemasFull) {
+                b.chars.setLength(0);
+                if (id == null) {
+                    formatter.format(entry, b.chars);
+                    b.chars.append('\n');
+                } else {
+                    appendValues(b.chars, id, schema, entry);
+                }
+                consumer.accept(b.encodeChars().asByteBuffer());
+                return;
+            }
+
+            synchronized (schemaLock) {
+                b.chars.setLength(0);
+                final Integer existing = schemas.get(schema);
+                final int schemaId = existing == null ? nextId++ : existing;
+                if (existing == null) {
+                    appendSchema(b.chars, schemaId, schema);
+                }
+                appendValues(b.chars, schemaId, schema, entry);
+
+                consumer.accept(b.encodeChars().asByteBuffer());
+
+                schemas.putIfAbsent(schema, schemaId);
+                schemasFull = schemas.size() >= maxSchemas;
+            }
+        } finally {
+            b.release();
+        }
+    }
+
+    @VisibleForTesting
+    JsonLogEntryFormatter formatter() {
+        return formatter;
+    }
+
+    private static JsonLogEntryFormatter sharedJsonFormatter() {
+        final LogEntryFormatter formatter = LogEntryFormatters.json();
+        if (!(formatter instanceof JsonLogEntryFormatter)) {
+            throw new IllegalStateException(
+                    "Compact JSON requires Creek's built-in JSON formatter, but the json formatter"
+                            + " is: "
+                            + formatter.getClass().getName());
+        }
+        return (JsonLogEntryFormatter) formatter;
+    }
+
+    private void appendSchema(final StringBuilder sb, final int id, final Schema schema) {
+        sb.append("{\"s\":").append(id);
+        if (schema.message != null) {
+            sb.append(",\"m\":");
+            formatter.formatValue(schema.message, sb);
+        }
+        sb.append(",\"k\":[");
+        for (int i = 0; i < schema.keys.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            formatter.formatValue(schema.keys[i], sb);
+        }
+        sb.append("]}\n");
+    }
+
+    private void appendValues(
+            final StringBuilder sb, final int id, final Schema schema, final Map<String, ?> entry) {
+        sb.append("{\"s\":").append(id).append(",\"v\":[");
+        boolean first = true;
+        for (final Map.Entry<String, ?> field : entry.entrySet()) {
+            if (schema.message != null && MESSAGE.equals(field.getKey())) {
+                continue;
+            }
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            formatter.formatValue(field.getValue(), sb);
+        }
+        sb.append("]}\n");
+    }
+
+    /** The message text and keys, in order, of an entry. */
+    private static final class Schema {
+
+        final String message;
+        final String[] keys;
+        private final int hash;
+
+        static Schema of(final Map<String, ?> entry) {
+            final Object text = entry.get(MESSAGE);
+            final String message = text instanceof String ? (String) text : null;
+            final String[] keys = new String[message == null ? entry.size() : entry.size() - 1];
+
+            int i = 0;
+            for (final String key : entry.keySet()) {
+                if (message == null || !MESSAGE.equals(key)) {
+                    keys[i++] = key;
+                }
+            }
+            return new Schema(message, keys);
+        }
+
+        private Schema(final String message, final String[] keys) {
+            this.message = message;
+            this.keys = keys;
+            this.hash = 31 * Objects.hashCode(message) + Arrays.hashCode(keys);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Schema)) {
+                return false;
+            }
+            final Schema that = (Schema) o;
+            return hash == that.hash
+                    && Objects.equals(message, that.message)
+                    && Arrays.equals(keys, that.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.api.base.type.Preconditions.requireNonBlank;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.creekservice.api.base.type.json.Json;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
+
+/**
+ * Default {@link LogTemplate} implementation, holding the template's pre-rendered JSON.
+ *
+ * <p>The message field and each key are escaped and rendered once, on construction, leaving only
+ * the values to be formatted when the template is logged.
+ */
+public final class DefaultLogTemplate implements LogTemplate {
+
+    private static final String MESSAGE_FIELD = DefaultLogEntryCustomizer.Field.message.name();
+
+    private final Level level;
+    private final String message;
+    private final List<String> keys;
+    private final String jsonMessage;
+    private final String[] jsonKeys;
+
+    /**
+     * @param level the level to log at.
+     * @param message the message to log.
+     * @param keys the keys of the values supplied when logging, in order.
+     */
+    public DefaultLogTemplate(final Level level, final String message, final String... keys) {
+        this.level = requireNonNull(level, "level");
+        this.message = requireNonNull(message, "message");
+        this.keys = List.of(keys);
+        this.jsonMessage = jsonKey(MESSAGE_FIELD) + jsonString(message);
+        this.jsonKeys = new String[keys.length];
+
+        final Set<String> seen = new HashSet<>();
+        for (int i = 0; i < keys.length; i++) {
+            final String key = requireNonBlank(keys[i], "key");
+            if (key.equals(MESSAGE_FIELD)) {
+                throw new IllegalArgumentException("Key clashes with message field: " + key);
+            }
+            if (!seen.add(key)) {
+                throw new IllegalArgumentException("Duplicate key: " + key);
+            }
+            jsonKeys[i] = jsonKey(key);
+        }
+    }
+
+    @Override
+    public Level level() {
+        return level;
+    }
+
+    @Override
+    public String message() {
+        return message;
+    }
+
+    @Override
+    public List<String> keys() {
+        return keys;
+    }
+
+    /**
+     * Render the template's message and values as JSON fields, i.e. without enclosing braces.
+     *
+     * <p>As with entries built via a customizer, {@code null} values are omitted.
+     *
+     * @param sb the buffer to append to.
+     * @param jsonNs the pre-rendered key of the namespace to nest the values under, e.g. {@code
+     *     "creek":}, or {@code null} to write them at the top level.
+     * @param values the values, in key order.
+     * @param formatter the formatter of the values.
+     * @throws IllegalArgumentException if the number of values does not match the number of keys.
+     */
+    public void formatJson(
+            final StringBuilder sb,
+            final String jsonNs,
+            final Object[] values,
+            final JsonLogEntryFormatter formatter) {
+        if (values.length != jsonKeys.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + jsonKeys.length + " values, but got " + values.length);
+        }
+
+        sb.append(jsonMessage);
+
+        boolean first = true;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+
+            sb.append(',');
+            if (first && jsonNs != null) {
+                sb.append(jsonNs).append('{');
+            }
+            first = false;
+
+            sb.append(jsonKeys[i]);
+            formatter.formatValue(values[i], sb);
+        }
+
+        if (!first && jsonNs != null) {
+            sb.append('}');
+        }
+    }
+
+    /**
+     * Render a field key as JSON.
+     *
+     * @param key the key.
+     * @return the quoted and escaped key, followed by a colon.
+     */
+    public static String jsonKey(final String key) {
+        return jsonString(key) + ':';
+    }
+
+    /**
+     * Render a string as JSON.
+     *
+     * @param text the text.
+     * @return the quoted and escaped text.
+     */
+    public static String jsonString(final String text) {
+        final StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        sb.append(text);
+        Json.escapeJson(sb, 1);
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+/**
+ * Reusable per-thread buffers used to encode log entries.
+ *
+ * <p>A single set of buffers is held per thread and shared by all encoders. The buffers hold no
+ * reference to any encoder, so an encoder that is no longer used is not kept reachable by the
+ * threads that have used it. Re-entrant calls, e.g. from the {@code toString} of a value being
+ * encoded logging, get temporary buffers.
+ */
+final class EncodingBuffers {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<EncodingBuffers> POOL =
+            ThreadLocal.withInitial(() -> new EncodingBuffers(true));
+
+    /** Buffer for text, for encoders that format entries as text before encoding them. */
+    final StringBuilder chars = new StringBuilder(INITIAL_CAPACITY);
+
+    /** Buffer for the encoded bytes. */
+    final EntryBuffer bytes = new EntryBuffer(INITIAL_CAPACITY);
+
+    private final boolean pooled;
+    private boolean inUse;
+
+    private EncodingBuffers(final boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Acquire the calling thread's buffers, which must be {@link #release released} once done.
+     *
+     * @return the buffers, or temporary buffers if the thread's buffers are already in use.
+     */
+    static EncodingBuffers acquire() {
+        final EncodingBuffers buffers = POOL.get();
+        if (buffers.inUse) {
+            return new EncodingBuffers(false);
+        }
+        buffers.inUse = true;
+        return buffers;
+    }
+
+    /** Release buffers returned by {@link #acquire()}. */
+    void release() {
+        if (!pooled) {
+            return;
+        }
+
+        inUse = false;
+
+        if (bytes.capacity() > MAX_RETAINED_CAPACITY
+                || chars.capacity() > MAX_RETAINED_CAPACITY) {
+            // Avoid pinning the memory of the odd huge entry to the thread:
+            POOL.remove();
+        }
+    }
+
+    /**
+     * Encode the contents of {@link #chars} into {@link #bytes} as UTF-8.
+     *
+     * @return the bytes.
+     */
+    EntryBuffer encodeChars() {
+        bytes.clear();
+        bytes.writeUtf8(chars);
+        return bytes;
+    }
+}
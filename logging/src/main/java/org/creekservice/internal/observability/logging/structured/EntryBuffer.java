@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A growable, reusable, buffer of bytes for building formatted log entries.
+ *
+ * <p>Unlike {@link java.io.ByteArrayOutputStream}, methods are not synchronized, as instances are
+ * intended to be reused by a single thread.
+ */
+public final class EntryBuffer {
+
+    private static final byte REPLACEMENT = '?';
+
+    private byte[] bytes;
+    private int size;
+
+    /**
+     * @param initialCapacity the initial capacity of the buffer, in bytes.
+     */
+    public EntryBuffer(final int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("initialCapacity must be positive");
+        }
+        this.bytes = new byte[initialCapacity];
+    }
+
+    /** Clear the buffer, allowing it to be reused. */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the number of bytes in the buffer.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes the buffer can hold before it needs to grow.
+     */
+    public int capacity() {
+        return bytes.length;
+    }
+
+    /**
+     * Append a single byte.
+     *
+     * @param b the byte to append.
+     */
+    public void write(final int b) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) b;
+    }
+
+    /**
+     * Append bytes.
+     *
+     * @param src the source of the bytes.
+     * @param offset the offset in {@code src} of the first byte to append.
+     * @param length the number of bytes to append.
+     */
+    public void write(final byte[] src, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(src, offset, bytes, size, length);
+        size += length;
+    }
+
+    /**
+     * Append the UTF-8 encoding of the supplied {@code chars}.
+     *
+     * <p>Encodes directly into the buffer, avoiding the intermediate array of {@link
+     * String#getBytes}. Unpaired surrogates are replaced with {@code '?'}.
+     *
+     * @param chars the characters to encode.
+     */
+    public void writeUtf8(final CharSequence chars) {
+        final int length = chars.length();
+        ensureCapacity(length);
+
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                if (size == bytes.length) {
+                    ensureCapacity(length - i);
+                }
+                bytes[size++] = (byte) c;
+            } else if (c < 0x800) {
+                ensureCapacity(2);
+                bytes[size++] = (byte) (0xC0 | (c >> 6));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                final char low = i + 1 < length ? chars.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    final int cp = Character.toCodePoint(c, low);
+                    ensureCapacity(4);
+                    bytes[size++] = (byte) (0xF0 | (cp >> 18));
+                    bytes[size++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (cp & 0x3F));
+                    i++;
+                } else {
+                    ensureCapacity(1);
+                    bytes[size++] = REPLACEMENT;
+                }
+            } else {
+                ensureCapacity(3);
+                bytes[size++] = (byte) (0xE0 | (c >> 12));
+                bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Get the number of bytes {@link #writeUtf8} writes for the supplied {@code chars}.
+     *
+     * @param chars the characters.
+     * @return the length of their UTF-8 encoding.
+     */
+    public static int utf8Length(final CharSequence chars) {
+        final int length = chars.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c)
+                        && i + 1 < length
+                        && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    // Pair encodes to 4 bytes:
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            } else if (c >= 0x80) {
+                bytes++;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @return a copy of the bytes in the buffer.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * View the contents of the buffer as a {@link ByteBuffer}.
+     *
+     * <p>The returned buffer shares content with this buffer, so is only valid until this buffer is
+     * next modified.
+     *
+     * @return a read-only view of the buffer's contents.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes, 0, size).asReadOnlyBuffer();
+    }
+
+    private void ensureCapacity(final int additional) {
+        final int required = size + additional;
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+
+/**
+ * Formats log entries and encodes them as UTF-8 bytes, using reusable per-thread {@link
+ * EncodingBuffers}.
+ */
+public final class EntryEncoder implements SinkEncoder {
+
+    private final LogEntryFormatter formatter;
+    private final String terminator;
+
+    /**
+     * @param formatter the formatter to use.
+     * @param terminator the text appended to each formatted entry, e.g. a line separator.
+     */
+    public EntryEncoder(final LogEntryFormatter formatter, final String terminator) {
+        this.formatter = requireNonNull(formatter, "formatter");
+        this.terminator = requireNonNull(terminator, "terminator");
+    }
+
+    @Override
+    public void encode(final Map<String, ?> entry, final Consumer<? super ByteBuffer> consumer) {
+        final EncodingBuffers buffers = EncodingBuffers.acquire();
+        try {
+            consumer.accept(fill(buffers, entry).asByteBuffer());
+        } finally {
+            buffers.release();
+        }
+    }
+
+    /**
+     * Encode text written directly into the encoder's buffer, rather than formatted from an entry.
+     *
+     * @param writer called to write the formatted entry, without its terminator.
+     * @param consumer the consumer of the encoded bytes, valid only for the duration of the call.
+     */
+    public void encode(
+            final Consumer<? super StringBuilder> writer,
+            final Consumer<? super ByteBuffer> consumer) {
+        final EncodingBuffers buffers = EncodingBuffers.acquire();
+        try {
+            final StringBuilder chars = buffers.chars;
+            chars.setLength(0);
+            writer.accept(chars);
+            consumer.accept(encode(buffers).asByteBuffer());
+        } finally {
+            buffers.release();
+        }
+    }
+
+    /**
+     * @return the formatter used to format entries.
+     */
+    public LogEntryFormatter formatter() {
+        return formatter;
+    }
+
+    /**
+     * Encode the {@code entry} into a new array.
+     *
+     * @param entry the log entry to encode.
+     * @return the encoded bytes.
+     */
+    public byte[] toByteArray(final Map<String, ?> entry) {
+        final EncodingBuffers buffers = EncodingBuffers.acquire();
+        try {
+            return fill(buffers, entry).toByteArray();
+        } finally {
+            buffers.release();
+        }
+    }
+
+    private EntryBuffer fill(final EncodingBuffers buffers, final Map<String, ?> entry) {
+        final StringBuilder chars = buffers.chars;
+        chars.setLength(0);
+        formatter.format(entry, chars);
+        return encode(buffers);
+    }
+
+    private EntryBuffer encode(final EncodingBuffers buffers) {
+        buffers.chars.append(terminator);
+        return buffers.encodeChars();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.creekservice.api.observability.logging.structured.LogSink;
+
+/**
+ * A sink that batches entries from many threads and writes each batch to a channel with a single
+ * write, i.e. group commit.
+ *
+ * <p>Writers copy entries into the pending batch, under a short lock. A flusher thread swaps the
+ * pending batch with a spare buffer and writes it, outside the lock, once the batch is half full,
+ * has been pending for the max delay, or a flush is requested. Writers only block if the pending
+ * batch is full.
+ *
+ * <p>Entries larger than the buffer, and entries written after the sink is closed, including by
+ * writers blocked on a full batch when it is closed, are written synchronously by the calling
+ * thread, under the lock, once all earlier entries are written and no batch is being written.
+ *
+ * <p>The channel must be blocking. It is not closed when the sink is closed.
+ */
+public final class GroupCommitSink implements LogSink {
+
+    private final WritableByteChannel channel;
+    private final int flushThreshold;
+    private final long maxDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition work = lock.newCondition();
+    private final Condition progress = lock.newCondition();
+    private final Thread flusher;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private ByteBuffer pending;
+    private ByteBuffer spare;
+    private int pendingEntries;
+    private long pendingSince;
+    private long appended;
+    private long committed;
+    private boolean writing;
+    private boolean flushRequested;
+    private boolean closed;
+    private volatile boolean failureReported;
+
+    /**
+     * @param channel the channel to write to.
+     * @param bufferSize the size, in bytes, of the batch buffers.
+     * @param maxDelay the maximum time an entry is held before its batch is written.
+     * @param threadName the name of the flusher thread.
+     */
+    public GroupCommitSink(
+            final WritableByteChannel channel,
+            final int bufferSize,
+            final Duration maxDelay,
+            final String threadName) {
+        if (bufferSize <= 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than one");
+        }
+        this.channel = requireNonNull(channel, "channel");
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.flushThreshold = bufferSize / 2;
+        this.pending = ByteBuffer.allocateDirect(bufferSize);
+        this.spare = ByteBuffer.allocateDirect(bufferSize);
+        this.flusher = new Thread(this::runFlusher, requireNonNull(threadName, "threadName"));
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void write(final ByteBuffer entry) {
+        final int length = entry.remaining();
+        lock.lock();
+        try {
+            if (closed || length > pending.capacity()) {
+                writeSynchronously(entry);
+                return;
+            }
+
+            while (pending.remaining() < length) {
+                requestFlush();
+                progress.awaitUninterruptibly();
+                if (closed) {
+                    // The flusher may have drained the buffer and stopped while this thread waited:
+                    writeSynchronously(entry);
+                    return;
+                }
+            }
+
+            final boolean first = pending.position() == 0;
+            pending.put(entry);
+            pendingEntries++;
+            appended += length;
+
+            if (first) {
+                pendingSince = System.nanoTime();
+                work.signal();
+            } else if (pending.position() >= flushThreshold) {
+                work.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            awaitCommitted(appended);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long droppedEntries() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        SinkShutdownHook.deregister(this);
+
+        lock.lock();
+        try {
+            closed = true;
+            work.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeSynchronously(final ByteBuffer entry) {
+        while (writing || pending.position() != 0) {
+            requestFlush();
+            progress.awaitUninterruptibly();
+        }
+
+        final long length = entry.remaining();
+        if (!writeFully(entry)) {
+            dropped.incrementAndGet();
+        }
+        appended += length;
+        committed += length;
+    }
+
+    private void awaitCommitted(final long target) {
+        while (committed < target) {
+            requestFlush();
+            progress.awaitUninterruptibly();
+        }
+    }
+
+    private void requestFlush() {
+        flushRequested = true;
+        work.signal();
+    }
+
+    private void runFlusher() {
+        while (true) {
+            final ByteBuffer batch;
+            final int batchEntries;
+            final long batchEnd;
+
+            lock.lock();
+            try {
+                if (!awaitBatch()) {
+                    return;
+                }
+
+                batch = pending;
+                pending = spare;
+                spare = batch;
+                batchEntries = pendingEntries;
+                pendingEntries = 0;
+                batchEnd = appended;
+                writing = true;
+                flushRequested = false;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            batch.flip();
+            if (!writeFully(batch)) {
+                dropped.addAndGet(batchEntries);
+            }
+            batch.clear();
+
+            lock.lock();
+            try {
+                committed = Math.max(committed, batchEnd);
+                writing = false;
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wait for a batch to be ready to write.
+     *
+     * @return {@code false} if the sink is closed and there is nothing left to write.
+     */
+    private boolean awaitBatch() {
+        while (true) {
+            if (pending.position() == 0) {
+                if (closed) {
+                    return false;
+                }
+                flushRequested = false;
+                work.awaitUninterruptibly();
+                continue;
+            }
+
+            final long remainingNanos = pendingSince + maxDelayNanos - System.nanoTime();
+            if (closed
+                    || flushRequested
+                    || pending.position() >= flushThreshold
+                    || remainingNanos <= 0) {
+                return true;
+            }
+
+            try {
+                work.await(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                // The flusher only stops once closed and drained.
+            }
+        }
+    }
+
+    private boolean writeFully(final ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return true;
+        } catch (final IOException e) {
+            buffer.position(buffer.limit());
+            if (!failureReported) {
+                failureReported = true;
+                System.err.println("Failed to write log entries, entries are being dropped: " + e);
+            }
+            return false;
+        }
+    }
+}
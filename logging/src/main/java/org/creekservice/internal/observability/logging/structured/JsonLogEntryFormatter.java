@@ -27,12 +27,18 @@ import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.base.type.Throwables;
 import org.creekservice.api.base.type.config.SystemProperties;
 import org.creekservice.api.base.type.json.Json;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
 
+/** Formats log entries as JSON documents. */
 @SuppressWarnings("DuplicatedCode")
-final class JsonLogEntryFormatter implements LogEntryFormatter {
+public final class JsonLogEntryFormatter implements LogEntryFormatter {
 
+    /** System property that can be set to control the maximum depth of nested values. */
     public static final String MAX_DEPTH_PROP =
             "org.creekservice.observability.logging.structured.depth.max";
+
     private static final char DOUBLE_QUOTE = '"';
     private static final char COMMA = ',';
     private static final char COLON = ':';
@@ -68,11 +74,13 @@ final class JsonLogEntryFormatter implements LogEntryFormatter {
                     new SimpleHandler<>(double[].class, JsonLogEntryFormatter::formatDoubleArray),
                     new ContainerHandler<>(
                             Object[].class, JsonLogEntryFormatter::formatObjectArray),
+                    new LogEventHandler(),
                     new SimpleHandler<>(Object.class, JsonLogEntryFormatter::formatString));
 
     private final int maxDepth;
 
-    JsonLogEntryFormatter() {
+    /** Create a formatter, configured via system properties. */
+    public JsonLogEntryFormatter() {
         this.maxDepth = SystemProperties.getInt(MAX_DEPTH_PROP, 8);
     }
 
@@ -86,6 +94,21 @@ final class JsonLogEntryFormatter implements LogEntryFormatter {
         return formatInternal(o);
     }
 
+    @Override
+    public void format(final Map<String, ?> logEntry, final StringBuilder sb) {
+        format(sb, logEntry, 0, maxDepth);
+    }
+
+    /**
+     * Format a single value, as if it were the value of a top-level field of an entry.
+     *
+     * @param value the value to format.
+     * @param sb the buffer to append the formatted value to.
+     */
+    public void formatValue(final Object value, final StringBuilder sb) {
+        format(sb, value, 1, maxDepth);
+    }
+
     @VisibleForTesting
     String formatInternal(final Object o) {
         final StringBuilder sb = new StringBuilder();
@@ -290,6 +313,72 @@ final class JsonLogEntryFormatter implements LogEntryFormatter {
         sb.append(DOUBLE_QUOTE).append(COLON);
     }
 
+    private static final class LogEventHandler implements Handler {
+        @Override
+        public boolean handles(final Object object) {
+            return LogEventWriters.find(object.getClass()) != null;
+        }
+
+        @Override
+        public void handle(
+                final StringBuilder sb, final Object object, final int depth, final int maxDepth) {
+            sb.append(OBJECT_START);
+            LogEventWriters.find(object.getClass())
+                    .write(object, new JsonFields(sb, depth, maxDepth));
+            sb.append(OBJECT_END);
+        }
+    }
+
+    /** Streams the fields of a {@link LogEventWriter} straight into the output. */
+    private static final class JsonFields implements LogEventWriter.Fields {
+
+        private final StringBuilder sb;
+        private final int depth;
+        private final int maxDepth;
+        private boolean first = true;
+
+        JsonFields(final StringBuilder sb, final int depth, final int maxDepth) {
+            this.sb = sb;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+        }
+
+        @Override
+        public void field(final String name, final Object value) {
+            if (value != null) {
+                key(name);
+                format(sb, value, depth + 1, maxDepth);
+            }
+        }
+
+        @Override
+        public void field(final String name, final long value) {
+            key(name);
+            sb.append(value);
+        }
+
+        @Override
+        public void field(final String name, final double value) {
+            key(name);
+            sb.append(value);
+        }
+
+        @Override
+        public void field(final String name, final boolean value) {
+            key(name);
+            sb.append(value);
+        }
+
+        private void key(final String name) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(COMMA);
+            }
+            appendKeyAndColon(sb, name);
+        }
+    }
+
     private interface Handler {
         boolean handles(Object object);
 
@@ -358,4 +447,21 @@ final class JsonLogEntryFormatter implements LogEntryFormatter {
             void accept(StringBuilder sb, T object, int depth, int maxDepth);
         }
     }
+
+    /** Provider of the {@code json} formatter. */
+    public static final class Provider implements LogEntryFormatterProvider {
+
+        /** Called by the {@link java.util.ServiceLoader}. */
+        public Provider() {}
+
+        @Override
+        public String name() {
+            return LogEntryFormatters.JSON;
+        }
+
+        @Override
+        public LogEntryFormatter create() {
+            return new JsonLogEntryFormatter();
+        }
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider;
+
+/**
+ * Registry of the {@link LogEntryFormatter}s available by name.
+ *
+ * <p>The built-in {@code json} and {@code logfmt} formatters are always available, and can not be
+ * replaced. Other formatters are created, via their {@link LogEntryFormatterProvider}, the first
+ * time they are requested, and the same instance returned thereafter, so that loggers and
+ * factories share a single instance per formatter.
+ *
+ * <p>Providers are loaded via this class's class loader, rather than the thread's context class
+ * loader, so that the formatters available do not depend on the calling thread.
+ */
+public final class LogEntryFormatters {
+
+    /** The name of the built-in JSON formatter. */
+    public static final String JSON = "json";
+
+    /** The name of the built-in logfmt formatter. */
+    public static final String LOGFMT = "logfmt";
+
+    private static final Map<String, LogEntryFormatter> BUILT_IN =
+            Map.of(JSON, new JsonLogEntryFormatter(), LOGFMT, new LogfmtLogEntryFormatter());
+
+    private static final Map<String, LogEntryFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private LogEntryFormatters() {}
+
+    /**
+     * @return the shared JSON formatter.
+     */
+    public static LogEntryFormatter json() {
+        return named(JSON);
+    }
+
+    /**
+     * Get the shared formatter with the supplied {@code name}.
+     *
+     * @param name the name of the formatter.
+     * @return the formatter.
+     * @throws IllegalArgumentException if no provider of the named formatter is registered.
+     */
+    public static LogEntryFormatter named(final String name) {
+        final LogEntryFormatter builtIn = BUILT_IN.get(requireNonNull(name, "name"));
+        if (builtIn != null) {
+            return builtIn;
+        }
+        return FORMATTERS.computeIfAbsent(name, LogEntryFormatters::create);
+    }
+
+    private static LogEntryFormatter create(final String name) {
+        final TreeSet<String> known = new TreeSet<>(BUILT_IN.keySet());
+        for (final LogEntryFormatterProvider provider :
+                ServiceLoader.load(
+                        LogEntryFormatterProvider.class,
+                        LogEntryFormatters.class.getClassLoader())) {
+            if (provider.name().equals(name)) {
+                return requireNonNull(provider.create(), "provider returned null formatter");
+            }
+            known.add(provider.name());
+        }
+
+        throw new IllegalArgumentException(
+                "Unknown log entry formatter: " + name + ", known formatters: " + known);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+/**
+ * Registry of the {@link LogEventWriter}s discovered via {@link ServiceLoader}.
+ *
+ * <p>Writers are loaded once, the first time any value needs one.
+ */
+public final class LogEventWriters {
+
+    private static final Map<Class<?>, LogEventWriter<?>> WRITERS = load();
+
+    private LogEventWriters() {}
+
+    /**
+     * Find the writer of exactly the supplied {@code type}.
+     *
+     * @param type the type of the value to write.
+     * @return the writer, or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static LogEventWriter<Object> find(final Class<?> type) {
+        return (LogEventWriter<Object>) WRITERS.get(type);
+    }
+
+    /**
+     * Write an event's fields to a new map, for formatters that work with maps.
+     *
+     * @param event the event.
+     * @param writer the event's writer.
+     * @return the event's non-null fields, in the order written.
+     */
+    public static Map<String, Object> toMap(
+            final Object event, final LogEventWriter<Object> writer) {
+        final Map<String, Object> fields = new LinkedHashMap<>();
+        writer.write(
+                event,
+                (name, value) -> {
+                    if (value != null) {
+                        fields.put(name, value);
+                    }
+                });
+        return fields;
+    }
+
+    /**
+     * Register a writer, in addition to those discovered.
+     *
+     * @param writer the writer.
+     */
+    @VisibleForTesting
+    static void register(final LogEventWriter<?> writer) {
+        WRITERS.put(requireNonNull(writer.type(), "type"), writer);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Map<Class<?>, LogEventWriter<?>> load() {
+        final Map<Class<?>, LogEventWriter<?>> writers = new ConcurrentHashMap<>();
+        for (final LogEventWriter<?> writer :
+                ServiceLoader.load(LogEventWriter.class, LogEventWriters.class.getClassLoader())) {
+            writers.putIfAbsent(writer.type(), writer);
+        }
+        return writers;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.util.Collection;
+import java.util.Map;
+import org.creekservice.api.base.type.Throwables;
+import org.creekservice.api.base.type.config.SystemProperties;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatterProvider;
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+/**
+ * Formats log entries as logfmt, i.e. space separated {@code key=value} pairs.
+ *
+ * <p>Nested maps, e.g. namespaces, and {@link
+ * org.creekservice.api.observability.logging.structured.LogEvent}s are flattened into dotted keys,
+ * e.g. {@code creek.partition=7}. Values are only quoted when they are empty or contain spaces,
+ * {@code =}, quotes or control characters. Throwables are written as a single, escaped, stack trace
+ * value. Collections and arrays, which logfmt can not represent, are written as a JSON value.
+ *
+ * <p>Characters in keys that logfmt does not allow, e.g. spaces, are replaced with {@code _}.
+ */
+public final class LogfmtLogEntryFormatter implements LogEntryFormatter {
+
+    private static final char SEPARATOR = ' ';
+    private static final char EQUALS = '=';
+    private static final char QUOTE = '"';
+    private static final char NESTING = '.';
+    private static final char KEY_REPLACEMENT = '_';
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final int maxDepth;
+    private final JsonLogEntryFormatter json = new JsonLogEntryFormatter();
+
+    /** Create a formatter, configured via system properties. */
+    public LogfmtLogEntryFormatter() {
+        this.maxDepth = SystemProperties.getInt(JsonLogEntryFormatter.MAX_DEPTH_PROP, 8);
+    }
+
+    @Override
+    public boolean causeInMessage() {
+        return true;
+    }
+
+    @Override
+    public String format(final Map<String, ?> logEntry) {
+        final StringBuilder sb = new StringBuilder();
+        format(logEntry, sb);
+        return sb.toString();
+    }
+
+    @Override
+    public void format(final Map<String, ?> logEntry, final StringBuilder sb) {
+        if (logEntry != null) {
+            formatFields(sb, sb.length(), logEntry, "", 0);
+        }
+    }
+
+    private void formatFields(
+            final StringBuilder sb,
+            final int start,
+            final Map<?, ?> fields,
+            final String prefix,
+            final int depth) {
+        if (depth > maxDepth) {
+            throw new IllegalArgumentException("Max depth of " + maxDepth + " exceeded");
+        }
+
+        fields.forEach(
+                (key, value) -> {
+                    if (key == null) {
+                        throw new IllegalArgumentException(
+                                "null key in " + fields + " at depth " + depth);
+                    }
+
+                    final Map<?, ?> nested = nested(value);
+                    if (nested != null) {
+                        final String nestedPrefix = prefix + safeKey(String.valueOf(key)) + NESTING;
+                        formatFields(sb, start, nested, nestedPrefix, depth + 1);
+                        return;
+                    }
+
+                    if (sb.length() > start) {
+                        sb.append(SEPARATOR);
+                    }
+                    sb.append(prefix);
+                    appendKey(sb, String.valueOf(key));
+                    sb.append(EQUALS);
+                    formatValue(sb, value, depth + 1);
+                });
+    }
+
+    private static Map<?, ?> nested(final Object value) {
+        if (value instanceof Map) {
+            return (Map<?, ?>) value;
+        }
+
+        final LogEventWriter<Object> writer =
+                value == null ? null : LogEventWriters.find(value.getClass());
+        return writer == null ? null : LogEventWriters.toMap(value, writer);
+    }
+
+    private void formatValue(final StringBuilder sb, final Object value, final int depth) {
+        if (value == null) {
+            return;
+        }
+
+        if (value instanceof Number || value instanceof Boolean) {
+            json.formatValue(value, sb);
+        } else if (value instanceof Throwable) {
+            appendText(sb, Throwables.stackTrace((Throwable) value));
+        } else if (value instanceof Collection || value.getClass().isArray()) {
+            if (depth > maxDepth) {
+                throw new IllegalArgumentException("Max depth of " + maxDepth + " exceeded");
+            }
+            final StringBuilder text = new StringBuilder();
+            json.formatValue(value, text);
+            appendText(sb, text);
+        } else {
+            appendText(sb, value.toString());
+        }
+    }
+
+    private static void appendKey(final StringBuilder sb, final String key) {
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            sb.append(needsQuoting(c) ? KEY_REPLACEMENT : c);
+        }
+    }
+
+    private static String safeKey(final String key) {
+        final StringBuilder sb = new StringBuilder(key.length());
+        appendKey(sb, key);
+        return sb.toString();
+    }
+
+    private static void appendText(final StringBuilder sb, final CharSequence text) {
+        if (!needsQuoting(text)) {
+            sb.append(text);
+            return;
+        }
+
+        sb.append(QUOTE);
+        for (int i = 0; i < text.length(); i++) {
+            appendEscaped(sb, text.charAt(i));
+        }
+        sb.append(QUOTE);
+    }
+
+    private static void appendEscaped(final StringBuilder sb, final char c) {
+        switch (c) {
+            case '"':
+            case '\\':
+                sb.append('\\').append(c);
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                } else {
+                    sb.append(c);
+                }
+        }
+    }
+
+    private static boolean needsQuoting(final CharSequence text) {
+        if (text.length() == 0) {
+            return true;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            if (needsQuoting(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean needsQuoting(final char c) {
+        switch (c) {
+            case EQUALS:
+            case QUOTE:
+            case '\\':
+            case 0x7F:
+                return true;
+            default:
+                return c <= ' ';
+        }
+    }
+
+    /** Provider of the {@code logfmt} formatter. */
+    public static final class Provider implements LogEntryFormatterProvider {
+
+        /** Called by the {@link java.util.ServiceLoader}. */
+        public Provider() {}
+
+        @Override
+        public String name() {
+            return LogEntryFormatters.LOGFMT;
+        }
+
+        @Override
+        public LogEntryFormatter create() {
+            return new LogfmtLogEntryFormatter();
+        }
+    }
+}
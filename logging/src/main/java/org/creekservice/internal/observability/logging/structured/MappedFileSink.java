@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.creekservice.api.observability.logging.structured.LogSink;
+
+/**
+ * A sink that appends entries to pre-allocated, memory-mapped, segment files.
+ *
+ * <p>Writer threads claim a range of the current segment with a CAS on its write position, then
+ * copy their entry into the mapped memory, without any lock or appender thread. When a segment
+ * fills, the thread that finds the entry does not fit seals it with an {@link MappedSegments#END}
+ * marker and the sink rolls to a new segment.
+ *
+ * <p>Segments are forced to storage on the configured cadence, when rolled, on {@link #flush()} and
+ * on {@link #close()}. Closing seals the current segment. Entries written after close are dropped.
+ * See {@link MappedSegments} for the layout of segment files.
+ *
+ * <p>A new sink starts a new segment after any existing ones, deleting any temporary file left by a
+ * writer that crashed while creating a segment. If rolling to a new segment fails, entries are
+ * dropped until a later roll succeeds.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class MappedFileSink implements LogSink {
+
+    /** Minimum segment size. */
+    public static final int MIN_SEGMENT_SIZE = 64;
+
+    /** Maximum segment size. */
+    public static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Optional<ScheduledExecutorService> forcer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile Segment current;
+    private volatile boolean closed;
+    private volatile boolean failureReported;
+
+    /**
+     * @param directory the directory to write segments to. Created if it does not exist.
+     * @param segmentSize the size of each segment, in bytes. Must be a multiple of {@link
+     *     MappedSegments#ALIGNMENT}.
+     * @param forceInterval how often the current segment is forced to storage. Zero disables
+     *     periodic forcing, leaving it to the OS.
+     */
+    public MappedFileSink(
+            final Path directory, final int segmentSize, final Duration forceInterval) {
+        if (segmentSize < MIN_SEGMENT_SIZE
+                || segmentSize > MAX_SEGMENT_SIZE
+                || segmentSize % MappedSegments.ALIGNMENT != 0) {
+            throw new IllegalArgumentException(
+                    "segmentSize must be a multiple of "
+                            + MappedSegments.ALIGNMENT
+                            + " between "
+                            + MIN_SEGMENT_SIZE
+                            + " and "
+                            + MAX_SEGMENT_SIZE
+                            + ", but was: "
+                            + segmentSize);
+        }
+        if (forceInterval.isNegative()) {
+            throw new IllegalArgumentException("forceInterval must not be negative");
+        }
+
+        this.directory = requireNonNull(directory, "directory");
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(directory);
+            final long first = MappedSegments.prepareForWriter(directory);
+            this.current = Segment.create(directory, first, segmentSize);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to create log segment in " + directory, e);
+        }
+
+        this.forcer = forceInterval.isZero() ? Optional.empty() : Optional.of(startForcer());
+        forcer.ifPresent(
+                executor ->
+                        executor.scheduleWithFixedDelay(
+                                this::force,
+                                forceInterval.toNanos(),
+                                forceInterval.toNanos(),
+                                TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void write(final ByteBuffer entry) {
+        final int length = entry.remaining();
+        if (length == 0) {
+            return;
+        }
+
+        if (closed) {
+            dropped.incrementAndGet();
+            return;
+        }
+
+        final int recordLength = MappedSegments.recordLength(length);
+        if (recordLength > segmentSize) {
+            dropped.incrementAndGet();
+            reportFailure("Log entry larger than segment size dropped: " + length + " bytes");
+            return;
+        }
+
+        while (true) {
+            final Segment segment = current;
+            final int offset = segment.claim(recordLength);
+            if (offset >= 0) {
+                segment.write(offset, entry, length);
+                return;
+            }
+
+            if (!roll(segment)) {
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        force();
+    }
+
+    @Override
+    public long droppedEntries() {
+        return dropped.get();
+    }
+
+    /**
+     * Seal the current segment, so that readers move on to any later segment, and force it to
+     * storage.
+     */
+    @Override
+    public void close() {
+        SinkShutdownHook.deregister(this);
+
+        forcer.ifPresent(ScheduledExecutorService::shutdownNow);
+        final Segment segment;
+        synchronized (this) {
+            closed = true;
+            segment = current;
+        }
+        segment.seal();
+        segment.buffer.force();
+    }
+
+    private void force() {
+        current.buffer.force();
+    }
+
+    /**
+     * Roll to a new segment, if the full segment is still current.
+     *
+     * @return {@code false} if the sink is closed or a new segment could not be created.
+     */
+    private synchronized boolean roll(final Segment full) {
+        if (closed) {
+            return false;
+        }
+
+        if (current != full) {
+            return true;
+        }
+
+        full.buffer.force();
+
+        try {
+            current = Segment.create(directory, full.sequence + 1, segmentSize);
+            // Report any later failure:
+            failureReported = false;
+            return true;
+        } catch (final IOException e) {
+            reportFailure(
+                    "Failed to roll log segment, entries dropped until a roll succeeds: " + e);
+            return false;
+        }
+    }
+
+    private void reportFailure(final String message) {
+        if (!failureReported) {
+            failureReported = true;
+            System.err.println(message);
+        }
+    }
+
+    private static ScheduledExecutorService startForcer() {
+        return Executors.newSingleThreadScheduledExecutor(
+                task -> {
+                    final Thread thread = new Thread(task, "creek-mapped-sink-force");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static final class Segment {
+
+        final long sequence;
+        final MappedByteBuffer buffer;
+        final int capacity;
+        final AtomicInteger position = new AtomicInteger();
+
+        static Segment create(final Path directory, final long sequence, final int capacity)
+                throws IOException {
+            final Path path = MappedSegments.path(directory, sequence);
+            final Path temp = MappedSegments.temporaryPath(directory, sequence);
+
+            // Pre-allocate under a temporary name, so readers never see a partial segment.
+            // Any temporary file left by an earlier failed attempt is reused:
+            try {
+                final MappedByteBuffer buffer;
+                try (FileChannel channel =
+                        FileChannel.open(temp, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+                return new Segment(sequence, buffer);
+            } catch (final IOException e) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (final IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        private Segment(final long sequence, final MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+
+        /**
+         * Claim space for a record.
+         *
+         * @param recordLength the aligned length of the record.
+         * @return the offset of the claimed space, or {@code -1} if the segment is full.
+         */
+        int claim(final int recordLength) {
+            while (true) {
+                final int offset = position.get();
+                if (offset + recordLength <= capacity) {
+                    if (position.compareAndSet(offset, offset + recordLength)) {
+                        return offset;
+                    }
+                    continue;
+                }
+
+                if (offset == capacity || seal(offset)) {
+                    return -1;
+                }
+            }
+        }
+
+        /** Seal the segment, so no more records can be claimed. */
+        void seal() {
+            int offset = position.get();
+            while (offset != capacity && !seal(offset)) {
+                offset = position.get();
+            }
+        }
+
+        private boolean seal(final int offset) {
+            if (!position.compareAndSet(offset, capacity)) {
+                return false;
+            }
+            MappedSegments.header(buffer, offset, MappedSegments.END);
+            return true;
+        }
+
+        void write(final int offset, final ByteBuffer entry, final int length) {
+            MappedSegments.header(buffer, offset, -length);
+            buffer.put(offset + MappedSegments.HEADER_SIZE, entry, entry.position(), length);
+            MappedSegments.header(buffer, offset, length);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The layout of memory-mapped log segment files.
+ *
+ * <p>Segments are named by a zero padded sequence number, e.g. {@code 00000000000000000042.seg},
+ * and hold a sequence of records, each aligned to {@link #ALIGNMENT} bytes:
+ *
+ * <pre>
+ * [int header, little endian][payload][padding]
+ * </pre>
+ *
+ * <p>The header is:
+ *
+ * <ul>
+ *   <li>{@code 0}: unwritten, i.e. the end of the written data.
+ *   <li>{@code -length}: a record of {@code length} bytes has been claimed, but is not yet
+ *       complete.
+ *   <li>{@code +length}: a complete record of {@code length} bytes.
+ *   <li>{@link #END}: the segment was sealed, the next record is in the next segment.
+ * </ul>
+ *
+ * <p>Headers are written with release semantics and read with acquire semantics, so a reader that
+ * sees a positive header also sees the complete payload.
+ *
+ * <p>Segments are pre-allocated under a {@link #temporaryPath temporary name} and then renamed, so
+ * readers never see a partially created segment.
+ */
+public final class MappedSegments {
+
+    /** Size of a record's header. */
+    public static final int HEADER_SIZE = Integer.BYTES;
+
+    /** Alignment of records within a segment. */
+    public static final int ALIGNMENT = 8;
+
+    /** Header value marking the end of a sealed segment. */
+    public static final int END = Integer.MIN_VALUE;
+
+    private static final VarHandle HEADER =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final String SUFFIX = ".seg";
+    private static final String TEMP_SUFFIX = SUFFIX + ".tmp";
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d{20})\\" + SUFFIX);
+    private static final Pattern TEMP_FILE_NAME =
+            Pattern.compile("(\\d{20})\\" + SUFFIX + "\\.tmp");
+
+    private MappedSegments() {}
+
+    /**
+     * @param payloadLength the length of the record's payload.
+     * @return the number of bytes the record occupies in a segment.
+     */
+    public static int recordLength(final int payloadLength) {
+        return (HEADER_SIZE + payloadLength + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * @param segment the segment buffer.
+     * @param offset the offset of the record.
+     * @return the record's header.
+     */
+    public static int header(final ByteBuffer segment, final int offset) {
+        return (int) HEADER.getAcquire(segment, offset);
+    }
+
+    /**
+     * @param segment the segment buffer.
+     * @param offset the offset of the record.
+     * @param header the header to store.
+     */
+    public static void header(final ByteBuffer segment, final int offset, final int header) {
+        HEADER.setRelease(segment, offset, header);
+    }
+
+    /**
+     * @param directory the directory holding the segments.
+     * @param sequence the segment's sequence number.
+     * @return the path to the segment file.
+     */
+    public static Path path(final Path directory, final long sequence) {
+        return directory.resolve(String.format("%020d", sequence) + SUFFIX);
+    }
+
+    /**
+     * @param directory the directory holding the segments.
+     * @param sequence the segment's sequence number.
+     * @return the path the segment is pre-allocated at, before being renamed to its {@link #path}.
+     */
+    public static Path temporaryPath(final Path directory, final long sequence) {
+        return directory.resolve(String.format("%020d", sequence) + TEMP_SUFFIX);
+    }
+
+    /**
+     * @param directory the directory holding the segments.
+     * @param after the sequence number to start after.
+     * @return the sequence number of the first segment after {@code after}, if any.
+     */
+    public static Optional<Long> next(final Path directory, final long after) {
+        return sequences(directory).stream().filter(seq -> seq > after).findFirst();
+    }
+
+    /**
+     * @param directory the directory holding the segments.
+     * @return the sequence numbers of the segments in the directory, in ascending order.
+     */
+    public static List<Long> sequences(final Path directory) {
+        return sequences(directory, FILE_NAME);
+    }
+
+    /**
+     * Prepare a directory for a new writer.
+     *
+     * <p>Deletes any temporary files left by a writer that crashed while creating a segment.
+     *
+     * @param directory the directory holding the segments.
+     * @return the sequence number of the new writer's first segment: after any existing segment or
+     *     temporary file.
+     * @throws IOException on failure to delete a temporary file.
+     */
+    public static long prepareForWriter(final Path directory) throws IOException {
+        final List<Long> segments = sequences(directory, FILE_NAME);
+        final List<Long> temporary = sequences(directory, TEMP_FILE_NAME);
+        for (final long sequence : temporary) {
+            Files.deleteIfExists(temporaryPath(directory, sequence));
+        }
+
+        final long last =
+                Math.max(
+                        segments.isEmpty() ? -1 : segments.get(segments.size() - 1),
+                        temporary.isEmpty() ? -1 : temporary.get(temporary.size() - 1));
+        return last + 1;
+    }
+
+    private static List<Long> sequences(final Path directory, final Pattern fileName) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> fileName.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Long.parseLong(m.group(1)))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to list log segments in " + directory, e);
+        }
+    }
+}
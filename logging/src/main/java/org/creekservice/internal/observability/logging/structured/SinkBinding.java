@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogSink;
+
+/** A sink, along with the level threshold, field filter and encoding of the entries it receives. */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class SinkBinding {
+
+    /** Field filter that includes all fields. */
+    public static final Predicate<String> ALL_FIELDS = field -> true;
+
+    private final LogSink sink;
+    private final Level threshold;
+    private final Predicate<? super String> fieldFilter;
+    private final Optional<SinkEncoder> encoder;
+
+    /**
+     * @param sink the sink.
+     * @param threshold the minimum level the sink receives.
+     * @param fieldFilter the filter of top-level entry fields the sink receives.
+     */
+    public SinkBinding(
+            final LogSink sink,
+            final Level threshold,
+            final Predicate<? super String> fieldFilter) {
+        this(sink, threshold, fieldFilter, Optional.empty());
+    }
+
+    /**
+     * @param sink the sink.
+     * @param threshold the minimum level the sink receives.
+     * @param fieldFilter the filter of top-level entry fields the sink receives.
+     * @param encoder the encoder of the entries the sink receives, or empty for the logger's
+     *     default encoder.
+     */
+    public SinkBinding(
+            final LogSink sink,
+            final Level threshold,
+            final Predicate<? super String> fieldFilter,
+            final Optional<SinkEncoder> encoder) {
+        this.sink = requireNonNull(sink, "sink");
+        this.threshold = requireNonNull(threshold, "threshold");
+        this.fieldFilter = requireNonNull(fieldFilter, "fieldFilter");
+        this.encoder = requireNonNull(encoder, "encoder");
+    }
+
+    LogSink sink() {
+        return sink;
+    }
+
+    Level threshold() {
+        return threshold;
+    }
+
+    Predicate<? super String> fieldFilter() {
+        return fieldFilter;
+    }
+
+    Optional<SinkEncoder> encoder() {
+        return encoder;
+    }
+}
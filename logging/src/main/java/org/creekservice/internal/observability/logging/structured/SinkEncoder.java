@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/** Encodes log entries into the bytes written to a {@link SinkStructuredLogger}'s sinks. */
+public interface SinkEncoder {
+
+    /**
+     * Encode the {@code entry}, passing the encoded bytes to the {@code consumer}.
+     *
+     * <p>Stateful encoders may require the consumer to write the bytes to their sinks before the
+     * call returns, e.g. so that later entries can refer to definitions in this one.
+     *
+     * @param entry the log entry to encode.
+     * @param consumer the consumer of the encoded bytes. The buffer is only valid for the duration
+     *     of the call.
+     */
+    void encode(Map<String, ?> entry, Consumer<? super ByteBuffer> consumer);
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.LogSink;
+
+/**
+ * A single JVM shutdown hook that closes all registered sinks.
+ *
+ * <p>The hook is added the first time a sink is registered. Registered sinks must deregister
+ * themselves when closed, so that the registry does not hold on to, or close again, sinks closed
+ * before shutdown.
+ */
+public final class SinkShutdownHook {
+
+    private static final Set<LogSink> SINKS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime()
+                .addShutdownHook(new Thread(SinkShutdownHook::closeAll, "creek-sink-shutdown"));
+    }
+
+    private SinkShutdownHook() {}
+
+    /**
+     * Close the supplied {@code sink} on JVM shutdown.
+     *
+     * @param sink the sink to close.
+     * @param <T> the type of the sink.
+     * @return the sink.
+     */
+    public static <T extends LogSink> T register(final T sink) {
+        SINKS.add(requireNonNull(sink, "sink"));
+        return sink;
+    }
+
+    /**
+     * Stop closing the supplied {@code sink} on JVM shutdown.
+     *
+     * <p>A no-op if the sink is not registered.
+     *
+     * @param sink the sink.
+     */
+    public static void deregister(final LogSink sink) {
+        SINKS.remove(sink);
+    }
+
+    @VisibleForTesting
+    static boolean registered(final LogSink sink) {
+        return SINKS.contains(sink);
+    }
+
+    private static void closeAll() {
+        SINKS.forEach(LogSink::close);
+    }
+}
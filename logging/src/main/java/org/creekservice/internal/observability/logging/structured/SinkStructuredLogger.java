@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogEntryCustomizer;
+import org.creekservice.api.observability.logging.structured.LogSink;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+
+/**
+ * Structured logger implementation that writes entries directly to one or more {@link LogSink}s,
+ * bypassing Slf4j.
+ *
+ * <p>Each entry is prefixed with {@code timestamp}, {@code level} and {@code logger} fields.
+ *
+ * <p>Each entry is encoded once per distinct field filter and encoder, with all sinks sharing both
+ * receiving a view of the same buffer. As sinks copy any entry they do not write synchronously, the
+ * buffer can be reused as soon as the last sink returns.
+ *
+ * <p>{@link LogTemplate}s are written to sinks using the JSON formatter, with all fields, directly
+ * from their pre-rendered form, avoiding building the entry as a map.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public final class SinkStructuredLogger implements StructuredLogger {
+
+    private static final Set<String> ENVELOPE_FIELDS =
+            Set.of("timestamp", "level", "logger", DefaultLogEntryCustomizer.Field.message.name());
+
+    private final String loggerName;
+    private final Optional<String> rootNs;
+    private final List<SinkGroup> groups;
+    private final Level threshold;
+    private final Function<String, DefaultLogEntryCustomizer> customizerFactory;
+    private final Clock clock;
+    private final String[] jsonEnvelopes;
+    private final String jsonNs;
+
+    /**
+     * @param clazz the class doing the logging.
+     * @param rootNs optional root namespace all logs should be under.
+     * @param sinks the sinks to write to.
+     * @param defaultEncoder the encoder used for sinks without their own.
+     */
+    public SinkStructuredLogger(
+            final Class<?> clazz,
+            final Optional<String> rootNs,
+            final List<SinkBinding> sinks,
+            final SinkEncoder defaultEncoder) {
+        this(
+                clazz.getName(),
+                rootNs,
+                sinks,
+                DefaultLogEntryCustomizer::create,
+                defaultEncoder,
+                Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    SinkStructuredLogger(
+            final String loggerName,
+            final Optional<String> rootNs,
+            final List<SinkBinding> sinks,
+            final Function<String, DefaultLogEntryCustomizer> customizerFactory,
+            final SinkEncoder defaultEncoder,
+            final Clock clock) {
+        this.loggerName = requireNonNull(loggerName, "loggerName");
+        this.rootNs = requireNonNull(rootNs, "rootNs");
+        this.groups = SinkGroup.group(sinks, requireNonNull(defaultEncoder, "defaultEncoder"));
+        if (groups.isEmpty()) {
+            throw new IllegalArgumentException("At least one sink is required");
+        }
+        this.threshold = groups.stream().map(g -> g.threshold).min(Level::compareTo).orElseThrow();
+        this.customizerFactory = requireNonNull(customizerFactory, "customizerFactory");
+        this.clock = requireNonNull(clock, "clock");
+        this.jsonEnvelopes = jsonEnvelopes(loggerName);
+        this.jsonNs = rootNs.map(DefaultLogTemplate::jsonKey).orElse(null);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    @Override
+    public void log(
+            final Level level,
+            final String message,
+            final Consumer<LogEntryCustomizer> customizeConsumer) {
+        if (level.compareTo(threshold) < 0) {
+            return;
+        }
+
+        final Map<String, Object> entry = entry(level, message, customizeConsumer, clock.instant());
+
+        for (final SinkGroup group : groups) {
+            if (level.compareTo(group.threshold) >= 0) {
+                group.encoder.encode(group.filter(entry), bytes -> group.write(level, bytes));
+            }
+        }
+    }
+
+    @Override
+    public void log(final LogTemplate template, final Object... values) {
+        final Level level = template.level();
+        if (level.compareTo(threshold) < 0) {
+            return;
+        }
+
+        if (!(template instanceof DefaultLogTemplate) || values.length != template.keys().size()) {
+            StructuredLogger.super.log(template, values);
+            return;
+        }
+
+        final Instant timestamp = clock.instant();
+        Map<String, Object> entry = null;
+
+        for (final SinkGroup group : groups) {
+            if (level.compareTo(group.threshold) < 0) {
+                continue;
+            }
+
+            if (group.json != null) {
+                group.jsonEncoder.encode(
+                        sb ->
+                                formatJson(
+                                        sb,
+                                        timestamp,
+                                        (DefaultLogTemplate) template,
+                                        values,
+                                        group.json),
+                        bytes -> group.write(level, bytes));
+            } else {
+                if (entry == null) {
+                    entry = entry(level, template, values, timestamp);
+                }
+                group.encoder.encode(group.filter(entry), bytes -> group.write(level, bytes));
+            }
+        }
+    }
+
+    private Map<String, Object> entry(
+            final Level level,
+            final String message,
+            final Consumer<LogEntryCustomizer> customizeConsumer,
+            final Instant timestamp) {
+        final DefaultLogEntryCustomizer customizer = customizerFactory.apply(message);
+        customizeConsumer.accept(rootNs.map(customizer::ns).orElse(customizer));
+
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", timestamp);
+        entry.put("level", level.name());
+        entry.put("logger", loggerName);
+
+        final Map<String, Object> fields = customizer.build(true);
+        if (fields != null) {
+            fields.forEach(entry::putIfAbsent);
+        }
+        return entry;
+    }
+
+    private Map<String, Object> entry(
+            final Level level,
+            final LogTemplate template,
+            final Object[] values,
+            final Instant timestamp) {
+        final List<String> keys = template.keys();
+        return entry(
+                level,
+                template.message(),
+                log -> {
+                    for (int i = 0; i < values.length; i++) {
+                        log.with(keys.get(i), values[i]);
+                    }
+                },
+                timestamp);
+    }
+
+    private void formatJson(
+            final StringBuilder sb,
+            final Instant timestamp,
+            final DefaultLogTemplate template,
+            final Object[] values,
+            final JsonLogEntryFormatter formatter) {
+        sb.append("{\"timestamp\":\"").append(timestamp).append('"');
+        sb.append(jsonEnvelopes[template.level().ordinal()]);
+        template.formatJson(sb, jsonNs, values, formatter);
+        sb.append('}');
+    }
+
+    private static String[] jsonEnvelopes(final String loggerName) {
+        final Level[] levels = Level.values();
+        final String[] envelopes = new String[levels.length];
+        for (final Level level : levels) {
+            envelopes[level.ordinal()] =
+                    ","
+                            + DefaultLogTemplate.jsonKey("level")
+                            + DefaultLogTemplate.jsonString(level.name())
+                            + ","
+                            + DefaultLogTemplate.jsonKey("logger")
+                            + DefaultLogTemplate.jsonString(loggerName)
+                            + ",";
+        }
+        return envelopes;
+    }
+
+    /** Sinks sharing the same field filter and encoder, and hence the same encoded entry. */
+    private static final class SinkGroup {
+
+        final Predicate<? super String> fieldFilter;
+        final SinkEncoder encoder;
+        final EntryEncoder jsonEncoder;
+        final JsonLogEntryFormatter json;
+        final LogSink[] sinks;
+        final Level[] thresholds;
+        final Level threshold;
+
+        static List<SinkGroup> group(
+                final List<SinkBinding> bindings, final SinkEncoder defaultEncoder) {
+            final Map<SinkEncoder, Map<Predicate<? super String>, List<SinkBinding>>> grouped =
+                    new IdentityHashMap<>();
+            bindings.forEach(
+                    b ->
+                            grouped.computeIfAbsent(
+                                            b.encoder().orElse(defaultEncoder),
+                                            k -> new IdentityHashMap<>())
+                                    .computeIfAbsent(b.fieldFilter(), k -> new ArrayList<>())
+                                    .add(b));
+
+            final List<SinkGroup> groups = new ArrayList<>();
+            grouped.forEach(
+                    (encoder, byFilter) ->
+                            byFilter.forEach(
+                                    (filter, group) ->
+                                            groups.add(new SinkGroup(filter, encoder, group))));
+            return List.copyOf(groups);
+        }
+
+        private SinkGroup(
+                final Predicate<? super String> fieldFilter,
+                final SinkEncoder encoder,
+                final List<SinkBinding> bindings) {
+            this.fieldFilter = fieldFilter;
+            this.encoder = encoder;
+            this.jsonEncoder =
+                    fieldFilter == SinkBinding.ALL_FIELDS
+                                    && encoder instanceof EntryEncoder
+                                    && ((EntryEncoder) encoder).formatter()
+                                            instanceof JsonLogEntryFormatter
+                            ? (EntryEncoder) encoder
+                            : null;
+            this.json =
+                    jsonEncoder == null ? null : (JsonLogEntryFormatter) jsonEncoder.formatter();
+            this.sinks = bindings.stream().map(SinkBinding::sink).toArray(LogSink[]::new);
+            this.thresholds = bindings.stream().map(SinkBinding::threshold).toArray(Level[]::new);
+            this.threshold =
+                    bindings.stream()
+                            .map(SinkBinding::threshold)
+                            .min(Level::compareTo)
+                            .orElseThrow();
+        }
+
+        Map<String, ?> filter(final Map<String, Object> entry) {
+            if (fieldFilter == SinkBinding.ALL_FIELDS) {
+                return entry;
+            }
+
+            final Map<String, Object> filtered = new LinkedHashMap<>();
+            entry.forEach(
+                    (name, value) -> {
+                        if (ENVELOPE_FIELDS.contains(name) || fieldFilter.test(name)) {
+                            filtered.put(name, value);
+                        }
+                    });
+            return filtered;
+        }
+
+        void write(final Level level, final ByteBuffer bytes) {
+            for (int i = 0; i < sinks.length; i++) {
+                if (level.compareTo(thresholds[i]) >= 0) {
+                    sinks[i].write(bytes.duplicate());
+                }
+            }
+        }
+    }
+}
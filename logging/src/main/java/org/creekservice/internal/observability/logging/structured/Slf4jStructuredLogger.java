@@ -18,43 +18,60 @@ package org.creekservice.internal.observability.logging.structured;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.observability.logging.structured.EmissionMode;
 import org.creekservice.api.observability.logging.structured.Level;
 import org.creekservice.api.observability.logging.structured.LogEntryCustomizer;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
 import org.creekservice.api.observability.logging.structured.StructuredLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
 
 /** Structured logger implementation for slf4j. */
 @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public final class Slf4jStructuredLogger implements StructuredLogger {
 
+    private static final String MESSAGE_FIELD = DefaultLogEntryCustomizer.Field.message.name();
+
     private static final Slf4JLLevel[] SLF4J_LEVELS = {
-        new Slf4JLLevel(Logger::isTraceEnabled, Logger::trace),
-        new Slf4JLLevel(Logger::isDebugEnabled, Logger::debug),
-        new Slf4JLLevel(Logger::isInfoEnabled, Logger::info),
-        new Slf4JLLevel(Logger::isWarnEnabled, Logger::warn),
-        new Slf4JLLevel(Logger::isErrorEnabled, Logger::error)
+        new Slf4JLLevel(Logger::isTraceEnabled, Logger::trace, org.slf4j.event.Level.TRACE),
+        new Slf4JLLevel(Logger::isDebugEnabled, Logger::debug, org.slf4j.event.Level.DEBUG),
+        new Slf4JLLevel(Logger::isInfoEnabled, Logger::info, org.slf4j.event.Level.INFO),
+        new Slf4JLLevel(Logger::isWarnEnabled, Logger::warn, org.slf4j.event.Level.WARN),
+        new Slf4JLLevel(Logger::isErrorEnabled, Logger::error, org.slf4j.event.Level.ERROR)
     };
 
     private final Logger logger;
     private final Optional<String> rootNs;
     private final Function<String, DefaultLogEntryCustomizer> customizerFactory;
     private final LogEntryFormatter formatter;
+    private final EmissionMode emissionMode;
+    private final JsonLogEntryFormatter jsonFormatter;
+    private final String jsonNs;
 
     /**
      * @param clazz the class doing the logging.
      * @param rootNs optional root namespace all logs should be under.
+     * @param formatter the formatter used to render entries as the Slf4j message.
+     * @param emissionMode how log entries are passed to Slf4j.
      */
-    public Slf4jStructuredLogger(final Class<?> clazz, final Optional<String> rootNs) {
+    public Slf4jStructuredLogger(
+            final Class<?> clazz,
+            final Optional<String> rootNs,
+            final LogEntryFormatter formatter,
+            final EmissionMode emissionMode) {
         this(
                 LoggerFactory.getLogger(clazz),
                 rootNs,
                 DefaultLogEntryCustomizer::create,
-                new JsonLogEntryFormatter());
+                formatter,
+                emissionMode);
     }
 
     @VisibleForTesting
@@ -62,11 +79,40 @@ public final class Slf4jStructuredLogger implements StructuredLogger {
             final Logger logger,
             final Optional<String> rootNs,
             final Function<String, DefaultLogEntryCustomizer> customizerFactory,
-            final LogEntryFormatter formatter) {
+            final LogEntryFormatter formatter,
+            final EmissionMode emissionMode) {
         this.logger = requireNonNull(logger, "logger");
         this.rootNs = requireNonNull(rootNs, "rootNs");
         this.customizerFactory = requireNonNull(customizerFactory, "customizerFactory");
         this.formatter = requireNonNull(formatter, "formatter");
+        this.emissionMode = requireNonNull(emissionMode, "emissionMode");
+        this.jsonFormatter =
+                emissionMode == EmissionMode.MESSAGE && formatter instanceof JsonLogEntryFormatter
+                        ? (JsonLogEntryFormatter) formatter
+                        : null;
+        this.jsonNs = rootNs.map(DefaultLogTemplate::jsonKey).orElse(null);
+    }
+
+    @Override
+    public boolean isEnabled(final Level level) {
+        return !SLF4J_LEVELS[level.ordinal()].disabled(logger);
+    }
+
+    @Override
+    public void log(final LogTemplate template, final Object... values) {
+        if (jsonFormatter == null || !(template instanceof DefaultLogTemplate)) {
+            StructuredLogger.super.log(template, values);
+            return;
+        }
+
+        final Slf4JLLevel slf4jLevel = SLF4J_LEVELS[template.level().ordinal()];
+        if (slf4jLevel.disabled(logger)) {
+            return;
+        }
+
+        final StringBuilder sb = new StringBuilder().append('{');
+        ((DefaultLogTemplate) template).formatJson(sb, jsonNs, values, jsonFormatter);
+        slf4jLevel.log(logger, sb.append('}').toString(), null);
     }
 
     @Override
@@ -82,12 +128,40 @@ public final class Slf4jStructuredLogger implements StructuredLogger {
         final DefaultLogEntryCustomizer customizer = customizerFactory.apply(message);
         customizeConsumer.accept(rootNs.map(customizer::ns).orElse(customizer));
 
+        if (emissionMode == EmissionMode.KEY_VALUES) {
+            logKeyValues(slf4jLevel, message, customizer);
+            return;
+        }
+
         final boolean causeInMsg = formatter.causeInMessage();
         final Throwable cause = causeInMsg ? null : customizer.throwable().orElse(null);
 
         slf4jLevel.log(logger, formatter.format(customizer.build(causeInMsg)), cause);
     }
 
+    private void logKeyValues(
+            final Slf4JLLevel slf4jLevel,
+            final String message,
+            final DefaultLogEntryCustomizer customizer) {
+        LoggingEventBuilder event = logger.atLevel(slf4jLevel.level);
+
+        final Map<String, Object> entry = customizer.build(false);
+        if (entry != null) {
+            for (final Map.Entry<String, Object> field : entry.entrySet()) {
+                if (!MESSAGE_FIELD.equals(field.getKey())) {
+                    event = event.addKeyValue(field.getKey(), field.getValue());
+                }
+            }
+        }
+
+        final Optional<Throwable> cause = customizer.throwable();
+        if (cause.isPresent()) {
+            event = event.setCause(cause.get());
+        }
+
+        event.log(message);
+    }
+
     private interface EnabledMethod {
         boolean enabled(Logger logger);
     }
@@ -100,10 +174,15 @@ public final class Slf4jStructuredLogger implements StructuredLogger {
 
         final EnabledMethod enabledMethod;
         final LogMethod logMethod;
+        final org.slf4j.event.Level level;
 
-        Slf4JLLevel(final EnabledMethod enabledMethod, final LogMethod logMethod) {
+        Slf4JLLevel(
+                final EnabledMethod enabledMethod,
+                final LogMethod logMethod,
+                final org.slf4j.event.Level level) {
             this.enabledMethod = requireNonNull(enabledMethod, "enabledMethod");
             this.logMethod = requireNonNull(logMethod, "logMethod");
+            this.level = requireNonNull(level, "level");
         }
 
         boolean disabled(final Logger logger) {
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import org.creekservice.api.observability.logging.structured.LogSink;
+import org.creekservice.api.observability.logging.structured.SinkFormat;
+
+/**
+ * Registry of the encoders of stateful formats, keyed by the sink they write to.
+ *
+ * <p>A stateful encoder, e.g. {@link BinaryEntryEncoder}, writes definitions to its sink's stream
+ * that later entries refer to. Two encoders writing to the same sink would interleave conflicting
+ * definitions, so all factories writing a stateful format to a sink share a single encoder.
+ *
+ * <p>Sinks are held weakly, so that registering a sink does not prevent it being collected.
+ */
+public final class StatefulEncoders {
+
+    private static final Map<LogSink, Registration> ENCODERS = new WeakHashMap<>();
+
+    private StatefulEncoders() {}
+
+    /**
+     * Get the shared encoder of the {@code format} for the {@code sink}, creating it on first use.
+     *
+     * @param sink the sink the encoder writes to.
+     * @param format the stateful format.
+     * @param factory the factory of the encoder, called if the sink has no encoder.
+     * @return the sink's encoder.
+     * @throws IllegalArgumentException if the sink already has an encoder of a different format.
+     */
+    public static SinkEncoder forSink(
+            final LogSink sink,
+            final SinkFormat format,
+            final Supplier<? extends SinkEncoder> factory) {
+        requireNonNull(sink, "sink");
+        requireNonNull(format, "format");
+        requireNonNull(factory, "factory");
+
+        synchronized (ENCODERS) {
+            final Registration existing = ENCODERS.get(sink);
+            if (existing == null) {
+                final SinkEncoder encoder = requireNonNull(factory.get(), "encoder");
+                ENCODERS.put(sink, new Registration(format, encoder));
+                return encoder;
+            }
+
+            if (existing.format != format) {
+                throw new IllegalArgumentException(
+                        "Sink already receives stateful format "
+                                + existing.format
+                                + ", so can not also receive "
+                                + format
+                                + ": "
+                                + sink);
+            }
+
+            return existing.encoder;
+        }
+    }
+
+    private static final class Registration {
+
+        private final SinkFormat format;
+        private final SinkEncoder encoder;
+
+        Registration(final SinkFormat format, final SinkEncoder encoder) {
+            this.format = format;
+            this.encoder = encoder;
+        }
+    }
+}
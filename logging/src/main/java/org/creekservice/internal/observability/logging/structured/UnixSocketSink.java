@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.creekservice.api.observability.logging.structured.LogSink;
+
+/**
+ * A sink that streams batches of entries over a Unix domain socket, e.g. to a log shipping
+ * sidecar.
+ *
+ * <p>Writers copy entries into a bounded pending buffer, under a short lock, and never block. If
+ * the buffer is full, e.g. because the socket is disconnected or its reader is slow, the entry is
+ * dropped and counted in {@link #droppedEntries()}.
+ *
+ * <p>A sender thread swaps the pending buffer with a spare and writes each batch using non-blocking
+ * writes. If the connection fails, the sender reconnects after a delay. Any entry that was part
+ * written when the connection failed is dropped, and the rest of the batch is sent once
+ * reconnected.
+ *
+ * <p>The sink records where each entry ends as it is buffered, rather than relying on delimiters
+ * within the entry, so entries in any format, e.g. CBOR, are only ever sent whole. However, each
+ * connection is a new stream, so the sink does not support stateful formats, whose later entries
+ * rely on earlier ones.
+ */
+public final class UnixSocketSink implements LogSink {
+
+    private static final int INITIAL_ENTRIES = 1024;
+    private static final long SELECT_TIMEOUT_MS = 100;
+    private static final long CLOSE_STALL_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private final UnixDomainSocketAddress address;
+    private final int flushThreshold;
+    private final long maxDelayNanos;
+    private final long reconnectDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition work = lock.newCondition();
+    private final Condition progress = lock.newCondition();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Selector selector;
+    private final Thread sender;
+
+    // Guarded by lock:
+    private ByteBuffer pending;
+    private int[] pendingEnds = new int[INITIAL_ENTRIES];
+    private int pendingCount;
+    private long pendingSince;
+    private long appended;
+    private long committed;
+    private boolean flushRequested;
+    private boolean disconnected;
+    private boolean closed;
+
+    // Owned by the sender thread, swapped with pending under lock:
+    private ByteBuffer sending;
+    private int[] sendingEnds = new int[INITIAL_ENTRIES];
+    private int sendingCount;
+    private int sendingIndex;
+    private long sendingEnd;
+    private SocketChannel channel;
+    private boolean failureReported;
+
+    /**
+     * @param socketPath the path of the socket to connect to.
+     * @param bufferSize the size, in bytes, of the pending and sending buffers.
+     * @param maxDelay the maximum time an entry is held before its batch is sent.
+     * @param reconnectDelay the delay between connection attempts.
+     * @param threadName the name of the sender thread.
+     */
+    public UnixSocketSink(
+            final Path socketPath,
+            final int bufferSize,
+            final Duration maxDelay,
+            final Duration reconnectDelay,
+            final String threadName) {
+        if (bufferSize <= 1) {
+            throw new IllegalArgumentException("bufferSize must be greater than one");
+        }
+        this.address = UnixDomainSocketAddress.of(requireNonNull(socketPath, "socketPath"));
+        this.flushThreshold = bufferSize / 2;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.reconnectDelayNanos = reconnectDelay.toNanos();
+        this.pending = ByteBuffer.allocateDirect(bufferSize);
+        this.sending = ByteBuffer.allocateDirect(bufferSize).limit(0);
+
+        try {
+            this.selector = Selector.open();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to open selector", e);
+        }
+
+        this.sender = new Thread(this::runSender, requireNonNull(threadName, "threadName"));
+        this.sender.setDaemon(true);
+        this.sender.start();
+    }
+
+    @Override
+    public void write(final ByteBuffer entry) {
+        final int length = entry.remaining();
+        lock.lock();
+        try {
+            if (closed || pending.remaining() < length) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            final boolean first = pending.position() == 0;
+            pending.put(entry);
+            appended += length;
+
+            if (pendingCount == pendingEnds.length) {
+                pendingEnds = Arrays.copyOf(pendingEnds, pendingCount * 2);
+            }
+            pendingEnds[pendingCount++] = pending.position();
+
+            if (first) {
+                pendingSince = System.nanoTime();
+                work.signal();
+            } else if (pending.position() >= flushThreshold) {
+                work.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Block until all previously written entries have been sent, or the socket is disconnected.
+     *
+     * <p>While disconnected, entries remain buffered until reconnected, or dropped if the buffer
+     * fills.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            final long target = appended;
+            while (committed < target && !disconnected) {
+                flushRequested = true;
+                work.signal();
+                progress.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long droppedEntries() {
+        return dropped.get();
+    }
+
+    /**
+     * @return {@code true}, as each connection is a separate stream.
+     */
+    @Override
+    public boolean restartsStream() {
+        return true;
+    }
+
+    /**
+     * Send any buffered entries, if connected, and stop the sender thread.
+     *
+     * <p>Entries that can not be sent, because the socket is disconnected or its reader stalls, are
+     * dropped.
+     */
+    @Override
+    public void close() {
+        SinkShutdownHook.deregister(this);
+
+        lock.lock();
+        try {
+            closed = true;
+            work.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        selector.wakeup();
+
+        try {
+            sender.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runSender() {
+        try {
+            while (true) {
+                if (channel == null && !connect()) {
+                    if (isClosed()) {
+                        dropRemaining();
+                        return;
+                    }
+                    awaitReconnect();
+                    continue;
+                }
+
+                if (!sending.hasRemaining() && !nextBatch()) {
+                    return;
+                }
+
+                send();
+            }
+        } finally {
+            disconnect();
+            closeQuietly();
+        }
+    }
+
+    /**
+     * Wait for the next batch and swap it in to be sent.
+     *
+     * @return {@code false} if the sink is closed and there is nothing left to send.
+     */
+    private boolean nextBatch() {
+        lock.lock();
+        try {
+            committed = sendingEnd;
+            progress.signalAll();
+
+            if (!awaitBatch()) {
+                return false;
+            }
+
+            final ByteBuffer batch = pending;
+            pending = sending.clear();
+            sending = batch.flip();
+
+            final int[] ends = pendingEnds;
+            pendingEnds = sendingEnds;
+            sendingEnds = ends;
+            sendingCount = pendingCount;
+            sendingIndex = 0;
+            pendingCount = 0;
+
+            sendingEnd = appended;
+            flushRequested = false;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitBatch() {
+        while (true) {
+            if (pending.position() == 0) {
+                if (closed) {
+                    return false;
+                }
+                flushRequested = false;
+                work.awaitUninterruptibly();
+                continue;
+            }
+
+            final long remainingNanos = pendingSince + maxDelayNanos - System.nanoTime();
+            if (closed
+                    || flushRequested
+                    || pending.position() >= flushThreshold
+                    || remainingNanos <= 0) {
+                return true;
+            }
+
+            try {
+                work.await(remainingNanos, TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                // The sender only stops once closed and drained.
+            }
+        }
+    }
+
+    private void send() {
+        long lastProgress = System.nanoTime();
+        try {
+            while (sending.hasRemaining()) {
+                if (channel.write(sending) > 0) {
+                    lastProgress = System.nanoTime();
+                    continue;
+                }
+
+                selector.select(SELECT_TIMEOUT_MS);
+                selector.selectedKeys().clear();
+
+                if (isClosed() && System.nanoTime() - lastProgress > CLOSE_STALL_TIMEOUT_NS) {
+                    dropRemaining();
+                    return;
+                }
+            }
+        } catch (final IOException e) {
+            reportFailure("Log socket disconnected: " + e);
+            disconnect();
+            dropPartialEntry();
+        }
+    }
+
+    private boolean connect() {
+        try {
+            final SocketChannel ch = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                ch.connect(address);
+                ch.configureBlocking(false);
+                ch.register(selector, SelectionKey.OP_WRITE);
+            } catch (final IOException e) {
+                ch.close();
+                throw e;
+            }
+            channel = ch;
+            failureReported = false;
+            setDisconnected(false);
+            return true;
+        } catch (final IOException e) {
+            reportFailure("Failed to connect to log socket " + address + ": " + e);
+            setDisconnected(true);
+            return false;
+        }
+    }
+
+    private void disconnect() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            // Ignore
+        }
+        channel = null;
+        setDisconnected(true);
+    }
+
+    private void setDisconnected(final boolean disconnected) {
+        lock.lock();
+        try {
+            this.disconnected = disconnected;
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitReconnect() {
+        lock.lock();
+        try {
+            long remainingNanos = reconnectDelayNanos;
+            while (!closed && remainingNanos > 0) {
+                remainingNanos = work.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException e) {
+            // Retry connection early.
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Skip the rest of any entry that was part sent when the connection failed. */
+    private void dropPartialEntry() {
+        skipSentEntries();
+        if (sendingIndex == sendingCount) {
+            return;
+        }
+
+        final int start = sendingIndex == 0 ? 0 : sendingEnds[sendingIndex - 1];
+        if (sending.position() == start) {
+            return;
+        }
+
+        sending.position(sendingEnds[sendingIndex++]);
+        dropped.incrementAndGet();
+    }
+
+    /** Drop all buffered entries, including any part sent. */
+    private void dropRemaining() {
+        lock.lock();
+        try {
+            skipSentEntries();
+            dropped.addAndGet(sendingCount - sendingIndex + pendingCount);
+            sending.position(sending.limit());
+            sendingIndex = sendingCount;
+            pending.clear();
+            pendingCount = 0;
+            sendingEnd = appended;
+            committed = appended;
+            progress.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Move {@link #sendingIndex} past the entries already sent in full. */
+    private void skipSentEntries() {
+        final int position = sending.position();
+        while (sendingIndex < sendingCount && sendingEnds[sendingIndex] <= position) {
+            sendingIndex++;
+        }
+    }
+
+    private void reportFailure(final String message) {
+        if (!failureReported) {
+            failureReported = true;
+            System.err.println(message);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            selector.close();
+        } catch (final IOException e) {
+            // Ignore
+        }
+    }
+}
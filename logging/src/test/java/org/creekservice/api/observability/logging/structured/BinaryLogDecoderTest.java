@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import org.creekservice.internal.observability.logging.structured.BinaryEntryEncoder;
+import org.creekservice.internal.observability.logging.structured.BinaryRecords;
+import org.creekservice.internal.observability.logging.structured.JsonLogEntryFormatter;
+import org.junit.jupiter.api.Test;
+
+class BinaryLogDecoderTest {
+
+    private final BinaryEntryEncoder encoder = new BinaryEntryEncoder();
+    private final ByteArrayOutputStream log = new ByteArrayOutputStream();
+    private final StringBuilder out = new StringBuilder();
+
+    @Test
+    void shouldDecodeStream() throws Exception {
+        // Given:
+        final Map<String, Object> second = Map.of("message", "second", "a", 1);
+        write(Map.of("message", "first"));
+        write(second);
+        write(Map.of("message", "first"));
+
+        // When:
+        new BinaryLogDecoder().decode(new ByteArrayInputStream(log.toByteArray()), out);
+
+        // Then:
+        assertThat(
+                out.toString().lines().toArray(),
+                is(
+                        new Object[] {
+                            "{\"message\":\"first\"}",
+                            new JsonLogEntryFormatter().format(second),
+                            "{\"message\":\"first\"}"
+                        }));
+    }
+
+    @Test
+    void shouldDecodeUndefinedRefs() throws Exception {
+        // Given:
+        final byte[] record = {
+            BinaryRecords.ENTRY, 1, BinaryRecords.STRING, 1, 'a', BinaryRecords.REF, 5
+        };
+
+        // When:
+        new BinaryLogDecoder().decode(new ByteArrayInputStream(record), out);
+
+        // Then:
+        assertThat(out.toString(), is("{\"a\":\"<undefined:5>\"}\n"));
+    }
+
+    @Test
+    void shouldThrowOnTruncatedRecord() {
+        // Given:
+        write(Map.of("message", "msg"));
+        final byte[] bytes = log.toByteArray();
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        // When:
+        assertThrows(
+                EOFException.class,
+                () -> new BinaryLogDecoder().decode(new ByteArrayInputStream(truncated), out));
+    }
+
+    @Test
+    void shouldThrowOnUnknownRecordType() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IOException.class,
+                        () ->
+                                new BinaryLogDecoder()
+                                        .decode(new ByteArrayInputStream(new byte[] {99}), out));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown record type: 99"));
+    }
+
+    @Test
+    void shouldThrowOnUnknownValueTag() {
+        // Given:
+        final byte[] record = {BinaryRecords.ENTRY, 1, BinaryRecords.STRING, 1, 'a', 99};
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IOException.class,
+                        () -> new BinaryLogDecoder().decode(new ByteArrayInputStream(record), out));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown value tag: 99"));
+    }
+
+    private void write(final Map<String, ?> entry) {
+        encoder.encode(
+                entry,
+                bytes -> {
+                    final byte[] copy = new byte[bytes.remaining()];
+                    bytes.get(copy);
+                    log.writeBytes(copy);
+                });
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests reading hand-crafted segments, including those left partially written by a crash. */
+class MappedLogReaderTest {
+
+    private static final int SEGMENT_SIZE = 64;
+    private static final int END = Integer.MIN_VALUE;
+
+    @TempDir private Path dir;
+
+    @Test
+    void shouldReadNothingFromEmptyDirectory() {
+        assertThat(readAll(MappedLogReader.tail(dir)), is(empty()));
+        assertThat(readAll(MappedLogReader.recover(dir)), is(empty()));
+    }
+
+    @Test
+    void shouldReadCompleteEntries() {
+        // Given:
+        segment(0, new Segment().entry("a").entry("bb"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a", "bb"));
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "bb"));
+    }
+
+    @Test
+    void shouldFollowEndMarkerToNextSegment() {
+        // Given:
+        segment(0, new Segment().entry("a").end());
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldMoveToNextSegmentWhenExactlyFull() {
+        // Given:
+        segment(0, new Segment().entry("x".repeat(28)).entry("y".repeat(28)));
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(
+                readAll(MappedLogReader.tail(dir)), contains("x".repeat(28), "y".repeat(28), "b"));
+    }
+
+    @Test
+    void shouldWaitAtEndMarkerUntilNextSegmentExists() {
+        // Given:
+        segment(0, new Segment().entry("a").end());
+        final MappedLogReader reader = MappedLogReader.tail(dir);
+        assertThat(readAll(reader), contains("a"));
+
+        // When:
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(reader), contains("b"));
+    }
+
+    @Test
+    void shouldPickUpEntriesWrittenAfterPoll() {
+        // Given:
+        segment(0, new Segment().entry("a"));
+        final MappedLogReader reader = MappedLogReader.tail(dir);
+        assertThat(readAll(reader), contains("a"));
+
+        // When:
+        segment(0, new Segment().entry("a").entry("b"));
+
+        // Then:
+        assertThat(readAll(reader), contains("b"));
+    }
+
+    @Test
+    void shouldTailWaitOnIncompleteEntry() {
+        // Given: crash after claiming "bb", with "c" completed after it:
+        segment(0, new Segment().entry("a").incomplete("bb", 1).entry("c"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a"));
+    }
+
+    @Test
+    void shouldTailWaitOnIncompleteEntryWithinAbandonTimeout() {
+        // Given:
+        segment(0, new Segment().entry("a").incomplete("bb", 1).entry("c"));
+        segment(1, new Segment().entry("d"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a"));
+    }
+
+    @Test
+    void shouldTailSkipAbandonedEntryOnceLaterSegmentExists() {
+        // Given: crashed writer left "bb" incomplete, and a new writer has started segment 1:
+        segment(0, new Segment().entry("a").incomplete("bb", 1).entry("c"));
+        segment(1, new Segment().entry("d"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir, Duration.ZERO)), contains("a", "c", "d"));
+    }
+
+    @Test
+    void shouldTailMoveOnFromUnsealedSegmentOnceLaterSegmentExists() {
+        // Given: crashed writer left segment 0 unsealed:
+        segment(0, new Segment().entry("a"));
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir, Duration.ZERO)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldTailWaitOnUnsealedLastSegmentAfterAbandonTimeout() {
+        // Given:
+        segment(0, new Segment().entry("a").incomplete("bb", 1).entry("c"));
+        final MappedLogReader reader = MappedLogReader.tail(dir, Duration.ZERO);
+
+        // Then:
+        assertThat(readAll(reader), contains("a"));
+
+        // When:
+        segment(1, new Segment().entry("d"));
+
+        // Then:
+        assertThat(readAll(reader), contains("c", "d"));
+    }
+
+    @Test
+    void shouldRecoverBySkippingIncompleteEntry() {
+        // Given: crash after claiming "bb", with "c" completed after it:
+        segment(0, new Segment().entry("a").incomplete("bb", 1).entry("c"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "c"));
+    }
+
+    @Test
+    void shouldRecoverFromIncompleteEntryAtEndOfSegment() {
+        // Given:
+        segment(0, new Segment().entry("a").incomplete("bb", 0));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a"));
+    }
+
+    @Test
+    void shouldRecoverByTreatingUnwrittenGapAsEndOfSegment() {
+        // Given: crash between claiming space and writing its header, in a segment later sealed:
+        segment(0, new Segment().entry("a").gap(8).entry("lost").end());
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldRecoverFromIncompleteEntryClaimingBeyondSegment() {
+        // Given:
+        segment(0, new Segment().entry("a").header(-1_000));
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldHandleTruncatedSegment() throws Exception {
+        // Given: segment file truncated mid entry:
+        segment(0, new Segment().entry("a").entry("0123456789"));
+        truncate(0, 16);
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a", "b"));
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldHandleEntryLengthBeyondSegment() {
+        // Given: corrupt header:
+        segment(0, new Segment().entry("a").header(1_000));
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("a", "b"));
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedAndTemporaryFiles() throws Exception {
+        // Given:
+        Files.writeString(dir.resolve("other.txt"), "not a segment");
+        Files.write(dir.resolve("00000000000000000000.seg.tmp"), new byte[SEGMENT_SIZE]);
+        segment(1, new Segment().entry("b"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.recover(dir)), contains("b"));
+    }
+
+    private void segment(final long sequence, final Segment segment) {
+        // Overwrite in place, without truncating, as the segment may be mapped by a reader:
+        try (FileChannel channel = FileChannel.open(path(sequence), CREATE, WRITE)) {
+            channel.write(ByteBuffer.wrap(segment.bytes.array()), 0);
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void truncate(final long sequence, final int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(sequence), WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private Path path(final long sequence) {
+        return dir.resolve(String.format("%020d.seg", sequence));
+    }
+
+    private static List<String> readAll(final MappedLogReader reader) {
+        final List<String> entries = new ArrayList<>();
+        boolean read;
+        do {
+            read = reader.poll(e -> entries.add(UTF_8.decode(e).toString()));
+        } while (read);
+        return entries;
+    }
+
+    /** Builds the raw bytes of a segment. */
+    private static final class Segment {
+
+        final ByteBuffer bytes = ByteBuffer.allocate(SEGMENT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        Segment entry(final String text) {
+            final byte[] payload = text.getBytes(UTF_8);
+            final int start = bytes.position();
+            bytes.putInt(payload.length).put(payload);
+            return align(start);
+        }
+
+        Segment incomplete(final String text, final int written) {
+            final byte[] payload = text.getBytes(UTF_8);
+            final int start = bytes.position();
+            bytes.putInt(-payload.length).put(payload, 0, written);
+            bytes.position(start + Integer.BYTES + payload.length);
+            return align(start);
+        }
+
+        Segment gap(final int length) {
+            bytes.position(bytes.position() + length);
+            return this;
+        }
+
+        Segment header(final int header) {
+            bytes.putInt(header);
+            return align(bytes.position() - Integer.BYTES);
+        }
+
+        Segment end() {
+            bytes.putInt(END);
+            return this;
+        }
+
+        private Segment align(final int start) {
+            final int length = bytes.position() - start;
+            bytes.position(start + ((length + 7) & -8));
+            return this;
+        }
+    }
+}
@@ -17,9 +17,24 @@
 package org.creekservice.api.observability.logging.structured;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.creekservice.internal.observability.logging.structured.SinkStructuredLogger;
 import org.creekservice.internal.observability.logging.structured.Slf4jStructuredLogger;
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +59,401 @@ class StructuredLoggerFactoryTest {
         // Then:
         assertThat(logger, is(instanceOf(Slf4jStructuredLogger.class)));
     }
+
+    @Test
+    void shouldConstructLoggerFromCustomFactory() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder().emissionMode(EmissionMode.KEY_VALUES).build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(Slf4jStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldConstructInternalLoggerFromCustomFactory() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder().emissionMode(EmissionMode.KEY_VALUES).build();
+
+        // When:
+        final StructuredLogger logger = factory.createInternal(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(Slf4jStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldThrowOnNullEmissionMode() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () -> StructuredLoggerFactory.builder().emissionMode(null));
+
+        // Then:
+        assertThat(e.getMessage(), is("mode"));
+    }
+
+    @Test
+    void shouldConstructSinkLoggerFromCustomFactory() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder().sink(mock(LogSink.class), Level.INFO).build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldConstructInternalSinkLoggerFromCustomFactory() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder().sink(mock(LogSink.class), Level.INFO).build();
+
+        // When:
+        final StructuredLogger logger = factory.createInternal(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldThrowOnNullSink() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () -> StructuredLoggerFactory.builder().sink(null, Level.INFO));
+
+        // Then:
+        assertThat(e.getMessage(), is("sink"));
+    }
+
+    @Test
+    void shouldThrowOnNullThreshold() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () -> StructuredLoggerFactory.builder().sink(mock(LogSink.class), null));
+
+        // Then:
+        assertThat(e.getMessage(), is("threshold"));
+    }
+
+    @Test
+    void shouldConstructSinkLoggerWithMultipleSinks() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder()
+                        .sink(mock(LogSink.class), Level.INFO)
+                        .sink(mock(LogSink.class), Level.WARN, "a"::equals)
+                        .build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldThrowOnNullFieldFilter() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () ->
+                                StructuredLoggerFactory.builder()
+                                        .sink(
+                                                mock(LogSink.class),
+                                                Level.INFO,
+                                                (Predicate<String>) null));
+
+        // Then:
+        assertThat(e.getMessage(), is("fieldFilter"));
+    }
+
+    @Test
+    void shouldConstructSinkLoggerWithBinarySink() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder()
+                        .sink(mock(LogSink.class), Level.INFO, SinkFormat.BINARY)
+                        .build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldThrowOnStatefulFormatForSinkThatRestartsStream() {
+        // Given:
+        final LogSink sink = mock(LogSink.class);
+        when(sink.restartsStream()).thenReturn(true);
+        final StructuredLoggerFactory.Builder builder = StructuredLoggerFactory.builder();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> builder.sink(sink, Level.INFO, SinkFormat.BINARY));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("Stateful format BINARY requires a sink that does not restart"));
+    }
+
+    @Test
+    void shouldShareStatefulEncoderBetweenFactoriesWritingToSameSink() throws Exception {
+        // Given:
+        final BytesSink sink = new BytesSink();
+        final StructuredLogger first =
+                StructuredLoggerFactory.builder()
+                        .sink(sink, Level.INFO, SinkFormat.BINARY)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+        final StructuredLogger second =
+                StructuredLoggerFactory.builder()
+                        .sink(sink, Level.INFO, SinkFormat.BINARY)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+
+        // When:
+        first.info("a");
+        second.info("b");
+        first.info("a");
+
+        // Then:
+        final StringBuilder out = new StringBuilder();
+        new BinaryLogDecoder().decode(ByteBuffer.wrap(sink.bytes.toByteArray()), out);
+        assertThat(
+                out.toString().lines().toArray(),
+                arrayContaining(
+                        containsString("\"message\":\"a\""),
+                        containsString("\"message\":\"b\""),
+                        containsString("\"message\":\"a\"")));
+    }
+
+    @Test
+    void shouldThrowOnDifferentStatefulFormatForSameSink() {
+        // Given:
+        final LogSink sink = mock(LogSink.class);
+        StructuredLoggerFactory.builder().sink(sink, Level.INFO, SinkFormat.BINARY);
+        final StructuredLoggerFactory.Builder builder = StructuredLoggerFactory.builder();
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> builder.sink(sink, Level.INFO, SinkFormat.COMPACT_JSON));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString(
+                        "Sink already receives stateful format BINARY, so can not also receive"
+                                + " COMPACT_JSON"));
+    }
+
+    @Test
+    void shouldConstructSinkLoggerWithCborSinkThatRestartsStream() {
+        // Given:
+        final LogSink sink = mock(LogSink.class);
+        when(sink.restartsStream()).thenReturn(true);
+
+        // When:
+        final StructuredLogger logger =
+                StructuredLoggerFactory.builder()
+                        .sink(sink, Level.INFO, SinkFormat.CBOR)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldConstructSinkLoggerWithLogfmtSink() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder()
+                        .sink(mock(LogSink.class), Level.INFO, SinkFormat.LOGFMT)
+                        .build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(SinkStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldConstructLoggerWithLogfmtFormatter() {
+        // Given:
+        final StructuredLoggerFactory factory =
+                StructuredLoggerFactory.builder().formatter("logfmt").build();
+
+        // When:
+        final StructuredLogger logger = factory.create(StructuredLoggerFactoryTest.class);
+
+        // Then:
+        assertThat(logger, is(instanceOf(Slf4jStructuredLogger.class)));
+    }
+
+    @Test
+    void shouldWriteToSinkUsingFormatterSelectedByName() {
+        // Given:
+        final CapturingSink sink = new CapturingSink();
+        final StructuredLogger logger =
+                StructuredLoggerFactory.builder()
+                        .formatter("logfmt")
+                        .sink(sink, Level.INFO)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+
+        // When:
+        logger.info("some message", log -> log.ns("ns").with("partition", 7));
+
+        // Then:
+        assertThat(sink.entries, hasSize(1));
+        assertThat(sink.entries.get(0), containsString(" message=\"some message\" "));
+        assertThat(sink.entries.get(0), containsString(" ns.partition=7\n"));
+    }
+
+    @Test
+    void shouldWriteToSinkUsingFormatterInstance() {
+        // Given:
+        final CapturingSink sink = new CapturingSink();
+        final LogEntryFormatter formatter =
+                new LogEntryFormatter() {
+                    @Override
+                    public boolean causeInMessage() {
+                        return true;
+                    }
+
+                    @Override
+                    public String format(final Map<String, ?> logEntry) {
+                        return "custom";
+                    }
+                };
+
+        final StructuredLogger logger =
+                StructuredLoggerFactory.builder()
+                        .formatter(formatter)
+                        .sink(sink, Level.INFO)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+
+        // When:
+        logger.info("some message");
+
+        // Then:
+        assertThat(sink.entries, contains("custom\n"));
+    }
+
+    @Test
+    void shouldNotUseFormatterForSinkWithExplicitFormat() {
+        // Given:
+        final CapturingSink sink = new CapturingSink();
+        final StructuredLogger logger =
+                StructuredLoggerFactory.builder()
+                        .formatter("logfmt")
+                        .sink(sink, Level.INFO, SinkFormat.JSON)
+                        .build()
+                        .create(StructuredLoggerFactoryTest.class);
+
+        // When:
+        logger.info("some message");
+
+        // Then:
+        assertThat(sink.entries.get(0), containsString("\"message\":\"some message\""));
+    }
+
+    @Test
+    void shouldThrowOnUnknownFormatterName() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> StructuredLoggerFactory.builder().formatter("unknown"));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("Unknown log entry formatter: unknown, known formatters: [json, logfmt]"));
+    }
+
+    @Test
+    void shouldThrowOnNullFormatter() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () ->
+                                StructuredLoggerFactory.builder()
+                                        .formatter((LogEntryFormatter) null));
+
+        // Then:
+        assertThat(e.getMessage(), is("formatter"));
+    }
+
+    @Test
+    void shouldThrowOnNullFormat() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        NullPointerException.class,
+                        () ->
+                                StructuredLoggerFactory.builder()
+                                        .sink(mock(LogSink.class), Level.INFO, (SinkFormat) null));
+
+        // Then:
+        assertThat(e.getMessage(), is("format"));
+    }
+
+    private static final class BytesSink implements LogSink {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        @Override
+        public synchronized void write(final ByteBuffer entry) {
+            final byte[] copy = new byte[entry.remaining()];
+            entry.get(copy);
+            bytes.writeBytes(copy);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+
+    private static final class CapturingSink implements LogSink {
+
+        final List<String> entries = new ArrayList<>();
+
+        @Override
+        public void write(final ByteBuffer entry) {
+            entries.add(StandardCharsets.UTF_8.decode(entry).toString());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
 }
@@ -22,11 +22,18 @@ import static org.creekservice.api.observability.logging.structured.Level.INFO;
 import static org.creekservice.api.observability.logging.structured.Level.TRACE;
 import static org.creekservice.api.observability.logging.structured.Level.WARN;
 import static org.creekservice.api.observability.logging.structured.StructuredLogger.NO_OP_CONSUMER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -35,6 +42,7 @@ class StructuredLoggerTest {
 
     @Mock private LogMethod logMethod;
     @Mock private Consumer<LogEntryCustomizer> customizer;
+    @Captor private ArgumentCaptor<Consumer<LogEntryCustomizer>> captor;
     private final TestLogger logger = new TestLogger();
 
     @Test
@@ -136,6 +144,35 @@ class StructuredLoggerTest {
         verify(logMethod).log(INFO, "msg", NO_OP_CONSUMER);
     }
 
+    @Test
+    void shouldLogTemplateViaCustomizer() {
+        // Given:
+        final LogTemplate template = LogTemplate.of(WARN, "msg", "a", "b");
+        final LogEntryCustomizer entry = mock(LogEntryCustomizer.class);
+
+        // When:
+        logger.log(template, 1, "x");
+
+        // Then:
+        verify(logMethod).log(eq(WARN), eq("msg"), captor.capture());
+        captor.getValue().accept(entry);
+        verify(entry).with("a", 1);
+        verify(entry).with("b", "x");
+    }
+
+    @Test
+    void shouldThrowOnTemplateValueCountMismatch() {
+        // Given:
+        final LogTemplate template = LogTemplate.of(WARN, "msg", "a");
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> logger.log(template, 1, 2));
+
+        // Then:
+        assertThat(e.getMessage(), is("Expected 1 values, but got 2"));
+    }
+
     private interface LogMethod {
         void log(Level level, String message, Consumer<LogEntryCustomizer> customizer);
     }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.creekservice.api.observability.logging.structured.BinaryLogDecoder;
+import org.junit.jupiter.api.Test;
+
+class BinaryEntryEncoderTest {
+
+    private final JsonLogEntryFormatter json = new JsonLogEntryFormatter();
+    private final List<byte[]> records = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void shouldDecodeToSameJsonAsJsonFormatter() throws Exception {
+        // Given:
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.parse("2026-10-18T10:15:30.123456Z"));
+        entry.put("level", "INFO");
+        entry.put("logger", "some.logger");
+        entry.put("message", "some \"message\" \u00e9\ud83d\ude00");
+        entry.put("int", -1);
+        entry.put("long", Long.MAX_VALUE);
+        entry.put("short", (short) 2);
+        entry.put("byte", (byte) -3);
+        entry.put("double", 1.25);
+        entry.put("float", 1.1f);
+        entry.put("decimal", new BigDecimal("12.3400"));
+        entry.put("bigInt", BigInteger.TEN);
+        entry.put("bool", true);
+        entry.put("null", null);
+        entry.put("map", Map.of("nested", List.of("a", 2)));
+        entry.put("ints", new int[] {1, 2});
+        entry.put("chars", new char[] {'x', '"'});
+        entry.put("objects", new Object[] {"a", false});
+        entry.put("cause", new RuntimeException("boom"));
+        entry.put("other", Instant.EPOCH.atZone(ZoneOffset.UTC));
+
+        // When:
+        final String decoded = decode(encode(new BinaryEntryEncoder(), entry));
+
+        // Then:
+        assertThat(decoded, is(json.format(entry) + "\n"));
+    }
+
+    @Test
+    void shouldOnlyDefineTextOnFirstUse() throws Exception {
+        // Given:
+        final BinaryEntryEncoder encoder = new BinaryEntryEncoder();
+        final Map<String, Object> entry = Map.of("message", "msg", "a", 1);
+        final byte[] first = encode(encoder, entry);
+
+        // When:
+        final byte[] second = encode(encoder, entry);
+
+        // Then:
+        assertThat(first[0], is((byte) BinaryRecords.DEFINITION));
+        assertThat(second[0], is((byte) BinaryRecords.ENTRY));
+        assertThat(second.length, is(lessThan(first.length)));
+        assertThat(
+                decode(first, second), is(json.format(entry) + "\n" + json.format(entry) + "\n"));
+    }
+
+    @Test
+    void shouldInlineTextOnceDictionaryFull() throws Exception {
+        // Given:
+        final BinaryEntryEncoder encoder = new BinaryEntryEncoder(1);
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("a", 1);
+        entry.put("b", 2);
+
+        // When:
+        final byte[] first = encode(encoder, entry);
+        final byte[] second = encode(encoder, entry);
+
+        // Then:
+        assertThat(first[0], is((byte) BinaryRecords.DEFINITION));
+        assertThat(first[4], is((byte) BinaryRecords.ENTRY));
+        assertThat(second[0], is((byte) BinaryRecords.ENTRY));
+        assertThat(decode(first, second), is("{\"a\":1,\"b\":2}\n{\"a\":1,\"b\":2}\n"));
+    }
+
+    @Test
+    void shouldBeMuchSmallerThanJson() {
+        // Given:
+        final BinaryEntryEncoder encoder = new BinaryEntryEncoder();
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.parse("2026-10-18T10:15:30.123456Z"));
+        entry.put("level", "INFO");
+        entry.put("logger", "org.example.SomeService");
+        entry.put("message", "Processed request");
+        entry.put("requestId", 123456);
+        entry.put("latencyMs", 3.5);
+        entry.put("status", "OK");
+        encode(encoder, entry);
+
+        // When:
+        final byte[] result = encode(encoder, entry);
+
+        // Then:
+        assertThat(result.length, is(lessThan(json.format(entry).length() / 3)));
+    }
+
+    @Test
+    void shouldThrowIfMaxDepthExceeded() {
+        // Given:
+        Object value = 1;
+        for (int i = 0; i != 10; i++) {
+            value = Map.of("a", value);
+        }
+
+        final Map<String, Object> entry = Map.of("a", value);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> encode(new BinaryEntryEncoder(), entry));
+
+        // Then:
+        assertThat(e.getMessage(), is("Max depth of 8 exceeded"));
+    }
+
+    @Test
+    void shouldNotBeRetainedByThreadsThatUsedIt() throws Exception {
+        // Given:
+        final WeakReference<BinaryEntryEncoder> encoder =
+                new WeakReference<>(new BinaryEntryEncoder());
+        encode(encoder.get(), Map.of("a", 1));
+
+        // When:
+        for (int i = 0; i < 100 && encoder.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then:
+        assertThat(encoder.get(), is(nullValue()));
+    }
+
+    @Test
+    void shouldWriteDefinitionsBeforeUseAcrossThreads() throws Exception {
+        // Given:
+        final BinaryEntryEncoder encoder = new BinaryEntryEncoder();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When:
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t != 4; t++) {
+                futures.add(executor.submit(() -> encodeMany(encoder)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then:
+        final String decoded = decode(records.toArray(new byte[0][]));
+        assertThat(decoded.lines().count(), is(4000L));
+        assertThat(decoded, not(containsString("<undefined")));
+    }
+
+    private byte[] encode(final BinaryEntryEncoder encoder, final Map<String, ?> entry) {
+        final byte[][] result = new byte[1][];
+        encoder.encode(
+                entry,
+                bytes -> {
+                    result[0] = new byte[bytes.remaining()];
+                    bytes.get(result[0]);
+                    records.add(result[0]);
+                });
+        return result[0];
+    }
+
+    private static String decode(final byte[]... records) throws Exception {
+        final BinaryLogDecoder decoder = new BinaryLogDecoder();
+        final StringBuilder sb = new StringBuilder();
+        for (final byte[] record : records) {
+            decoder.decode(ByteBuffer.wrap(record), sb);
+        }
+        return sb.toString();
+    }
+
+    private void encodeMany(final BinaryEntryEncoder encoder) {
+        for (int i = 0; i != 1000; i++) {
+            encode(encoder, Map.of("k" + (i % 50), i));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CborEntryEncoderTest {
+
+    private final CborEntryEncoder encoder = new CborEntryEncoder();
+
+    /** Examples from RFC 8949, Appendix A. */
+    static Stream<Arguments> rfcExamples() {
+        return Stream.of(
+                Arguments.of(0, "00"),
+                Arguments.of(23, "17"),
+                Arguments.of(24, "1818"),
+                Arguments.of(100, "1864"),
+                Arguments.of(1000, "1903e8"),
+                Arguments.of(1000000, "1a000f4240"),
+                Arguments.of(1000000000000L, "1b000000e8d4a51000"),
+                Arguments.of(-1, "20"),
+                Arguments.of(-1000, "3903e7"),
+                Arguments.of(new BigInteger("18446744073709551616"), "c249010000000000000000"),
+                Arguments.of(new BigInteger("-18446744073709551617"), "c349010000000000000000"),
+                Arguments.of(1.1, "fb3ff199999999999a"),
+                Arguments.of(100000.0f, "fa47c35000"),
+                Arguments.of(false, "f4"),
+                Arguments.of(true, "f5"),
+                Arguments.of("", "60"),
+                Arguments.of("a", "6161"),
+                Arguments.of("\u00fc", "62c3bc"),
+                Arguments.of("\ud800\udd51", "64f0908591"),
+                Arguments.of(new byte[] {1, 2, 3, 4}, "4401020304"),
+                Arguments.of(List.of(1, List.of(2, 3)), "8201820203"),
+                Arguments.of(new BigDecimal("273.15"), "c48221196ab3"),
+                Arguments.of(
+                        Instant.parse("2013-03-21T20:04:00Z"),
+                        "c074323031332d30332d32315432303a30343a30305a"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rfcExamples")
+    void shouldEncodeAsPerRfc(final Object value, final String expectedHex) {
+        // When:
+        final byte[] result = encode(Map.of("k", value));
+
+        // Then:
+        assertThat(HexFormat.of().formatHex(result), is("a1616b" + expectedHex));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        // Given:
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("message", "some \"message\" \u00e9\ud83d\ude00");
+        entry.put("int", -1);
+        entry.put("long", Long.MIN_VALUE);
+        entry.put("short", (short) 300);
+        entry.put("byte", (byte) -3);
+        entry.put("double", 1.25);
+        entry.put("float", 1.5f);
+        entry.put("bool", false);
+        entry.put("null", null);
+        entry.put("long text", "x".repeat(300));
+        entry.put("map", Map.of("nested", List.of("a", 2L)));
+        entry.put("bytes", new byte[] {1, -1});
+        entry.put("ints", new int[] {1, 2});
+        entry.put("chars", new char[] {'x', 'y'});
+        entry.put("other", new StringBuilder("sb"));
+
+        // When:
+        final Object result = new CborReader(encode(entry)).read();
+
+        // Then:
+        final Map<String, Object> expected = new LinkedHashMap<>(entry);
+        expected.put("int", -1L);
+        expected.put("short", 300L);
+        expected.put("byte", -3L);
+        expected.put("float", 1.5);
+        expected.put("map", Map.of("nested", List.of("a", 2L)));
+        expected.put("bytes", List.of((byte) 1, (byte) -1));
+        expected.put("ints", List.of(1L, 2L));
+        expected.put("chars", List.of("x", "y"));
+        expected.put("other", "sb");
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    void shouldEncodeLogEventAsMap() {
+        // Given:
+        final TestLogEvent event = new TestLogEvent("a", 1, true, null);
+
+        // When:
+        final Object result = new CborReader(encode(Map.of("e", event))).read();
+
+        // Then:
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("name", "a");
+        expected.put("count", 1L);
+        expected.put("on", true);
+        assertThat(result, is(Map.of("e", expected)));
+    }
+
+    @Test
+    void shouldEncodeThrowableAsStackTrace() {
+        // Given:
+        final Exception e = new RuntimeException("boom");
+
+        // When:
+        final Object result = new CborReader(encode(Map.of("cause", e))).read();
+
+        // Then:
+        assertThat(
+                ((String) ((Map<?, ?>) result).get("cause"))
+                        .startsWith("java.lang.RuntimeException: boom"),
+                is(true));
+    }
+
+    @Test
+    void shouldThrowIfMaxDepthExceeded() {
+        // Given:
+        Object value = 1;
+        for (int i = 0; i != 10; i++) {
+            value = Map.of("a", value);
+        }
+        final Map<String, Object> entry = Map.of("a", value);
+
+        // When:
+        final Exception e = assertThrows(IllegalArgumentException.class, () -> encode(entry));
+
+        // Then:
+        assertThat(e.getMessage(), is("Max depth of 8 exceeded"));
+    }
+
+    private byte[] encode(final Map<String, ?> entry) {
+        final byte[][] result = new byte[1][];
+        encoder.encode(
+                entry,
+                bytes -> {
+                    result[0] = new byte[bytes.remaining()];
+                    bytes.get(result[0]);
+                });
+        return result[0];
+    }
+
+    /** Minimal reader of the subset of CBOR the encoder writes, for round-trip testing. */
+    private static final class CborReader {
+
+        private final ByteBuffer buffer;
+
+        CborReader(final byte[] bytes) {
+            this.buffer = ByteBuffer.wrap(bytes);
+        }
+
+        Object read() {
+            final int initial = buffer.get() & 0xFF;
+            final int major = initial >>> 5;
+            final int info = initial & 0x1F;
+            switch (major) {
+                case 0:
+                    return argument(info);
+                case 1:
+                    return -1 - argument(info);
+                case 2:
+                    final List<Byte> bytes = new ArrayList<>();
+                    for (long i = argument(info); i > 0; i--) {
+                        bytes.add(buffer.get());
+                    }
+                    return bytes;
+                case 3:
+                    final byte[] text = new byte[(int) argument(info)];
+                    buffer.get(text);
+                    return new String(text, UTF_8);
+                case 4:
+                    final List<Object> items = new ArrayList<>();
+                    for (long i = argument(info); i > 0; i--) {
+                        items.add(read());
+                    }
+                    return items;
+                case 5:
+                    final Map<Object, Object> map = new LinkedHashMap<>();
+                    for (long i = argument(info); i > 0; i--) {
+                        map.put(read(), read());
+                    }
+                    return map;
+                default:
+                    return simple(info);
+            }
+        }
+
+        private Object simple(final int info) {
+            switch (info) {
+                case 20:
+                    return false;
+                case 21:
+                    return true;
+                case 22:
+                    return null;
+                case 26:
+                    return (double) buffer.getFloat();
+                case 27:
+                    return buffer.getDouble();
+                default:
+                    throw new AssertionError("Unsupported: " + info);
+            }
+        }
+
+        private long argument(final int info) {
+            switch (info) {
+                case 24:
+                    return buffer.get() & 0xFF;
+                case 25:
+                    return buffer.getShort() & 0xFFFF;
+                case 26:
+                    return buffer.getInt() & 0xFFFFFFFFL;
+                case 27:
+                    return buffer.getLong();
+                default:
+                    return info;
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class CompactJsonEncoderTest {
+
+    private static final Pattern SCHEMA_ID = Pattern.compile("^\\{\"s\":(\\d+),\"(.)\"");
+
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void shouldUseSharedJsonFormatter() {
+        // When:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+
+        // Then:
+        assertThat(encoder.formatter(), is(sameInstance(LogEntryFormatters.json())));
+    }
+
+    @Test
+    void shouldWriteSchemaBeforeFirstEntry() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+
+        // When:
+        final String result = encode(encoder, entry("msg", "a", 1));
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        "{\"s\":0,\"m\":\"msg\",\"k\":[\"level\",\"a\"]}\n"
+                                + "{\"s\":0,\"v\":[\"INFO\",1]}\n"));
+    }
+
+    @Test
+    void shouldWriteOnlyValuesForKnownSchema() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+        encode(encoder, entry("msg", "a", 1));
+
+        // When:
+        final String result = encode(encoder, entry("msg", "a", "two"));
+
+        // Then:
+        assertThat(result, is("{\"s\":0,\"v\":[\"INFO\",\"two\"]}\n"));
+    }
+
+    @Test
+    void shouldWriteNewSchemaForDifferentMessage() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+        encode(encoder, entry("msg", "a", 1));
+
+        // When:
+        final String result = encode(encoder, entry("other", "a", 1));
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        "{\"s\":1,\"m\":\"other\",\"k\":[\"level\",\"a\"]}\n"
+                                + "{\"s\":1,\"v\":[\"INFO\",1]}\n"));
+    }
+
+    @Test
+    void shouldWriteNewSchemaForDifferentKeys() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+        encode(encoder, entry("msg", "a", 1));
+
+        // When:
+        final String result = encode(encoder, entry("msg", "b", 1));
+
+        // Then:
+        assertThat(
+                result,
+                is(
+                        "{\"s\":1,\"m\":\"msg\",\"k\":[\"level\",\"b\"]}\n"
+                                + "{\"s\":1,\"v\":[\"INFO\",1]}\n"));
+    }
+
+    @Test
+    void shouldEscapeMessageAndKeysInSchema() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+
+        // When:
+        final String result = encode(encoder, entry("\"msg\"", "a\"b", 1));
+
+        // Then:
+        assertThat(
+                result.lines().findFirst().orElseThrow(),
+                is("{\"s\":0,\"m\":\"\\\"msg\\\"\",\"k\":[\"level\",\"a\\\"b\"]}"));
+    }
+
+    @Test
+    void shouldWritePlainJsonOnceSchemaLimitReached() {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder(1);
+        encode(encoder, entry("msg", "a", 1));
+
+        // When:
+        final String result = encode(encoder, entry("other", "a", 1));
+
+        // Then:
+        assertThat(result, is("{\"level\":\"INFO\",\"message\":\"other\",\"a\":1}\n"));
+    }
+
+    @Test
+    void shouldWriteSchemasBeforeUseAcrossThreads() throws Exception {
+        // Given:
+        final CompactJsonEncoder encoder = new CompactJsonEncoder();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When:
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t != 4; t++) {
+                futures.add(executor.submit(() -> encodeMany(encoder)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then:
+        final Set<String> defined = new HashSet<>();
+        int entries = 0;
+        for (final String line : lines) {
+            final Matcher matcher = SCHEMA_ID.matcher(line);
+            assertThat(line, matcher.find(), is(true));
+            if (matcher.group(2).equals("v")) {
+                assertThat(line, defined.contains(matcher.group(1)), is(true));
+                entries++;
+            } else {
+                defined.add(matcher.group(1));
+            }
+        }
+        assertThat(entries, is(4000));
+    }
+
+    private void encodeMany(final CompactJsonEncoder encoder) {
+        for (int i = 0; i != 1000; i++) {
+            encode(encoder, entry("msg " + (i % 50), "a", i));
+        }
+    }
+
+    private String encode(final CompactJsonEncoder encoder, final Map<String, ?> entry) {
+        final String[] result = new String[1];
+        encoder.encode(
+                entry,
+                bytes -> {
+                    result[0] = UTF_8.decode(bytes).toString();
+                    lines.addAll(result[0].lines().toList());
+                });
+        return result[0];
+    }
+
+    private static Map<String, ?> entry(
+            final String message, final String key, final Object value) {
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("level", "INFO");
+        entry.put("message", message);
+        entry.put(key, value);
+        return entry;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.creekservice.api.observability.logging.structured.Level;
+import org.junit.jupiter.api.Test;
+
+class DefaultLogTemplateTest {
+
+    private final JsonLogEntryFormatter formatter = new JsonLogEntryFormatter();
+
+    @Test
+    void shouldExposeDetails() {
+        // When:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.WARN, "msg", "a", "b");
+
+        // Then:
+        assertThat(template.level(), is(Level.WARN));
+        assertThat(template.message(), is("msg"));
+        assertThat(template.keys(), contains("a", "b"));
+    }
+
+    @Test
+    void shouldThrowOnBlankKey() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new DefaultLogTemplate(Level.INFO, "msg", " "));
+    }
+
+    @Test
+    void shouldThrowOnNullKey() {
+        assertThrows(
+                NullPointerException.class,
+                () -> new DefaultLogTemplate(Level.INFO, "msg", (String) null));
+    }
+
+    @Test
+    void shouldThrowOnDuplicateKey() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new DefaultLogTemplate(Level.INFO, "msg", "a", "a"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Duplicate key: a"));
+    }
+
+    @Test
+    void shouldThrowOnMessageKey() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new DefaultLogTemplate(Level.INFO, "msg", "message"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Key clashes with message field: message"));
+    }
+
+    @Test
+    void shouldFormatWithNoKeys() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "msg");
+
+        // When:
+        final String result = format(template, null);
+
+        // Then:
+        assertThat(result, is("\"message\":\"msg\""));
+    }
+
+    @Test
+    void shouldEscapeMessageAndKeys() {
+        // Given:
+        final DefaultLogTemplate template =
+                new DefaultLogTemplate(Level.INFO, "a \"quoted\"\nmsg", "k\"ey");
+
+        // When:
+        final String result = format(template, null, 1);
+
+        // Then:
+        assertThat(result, is("\"message\":\"a \\\"quoted\\\"\\nmsg\",\"k\\\"ey\":1"));
+    }
+
+    @Test
+    void shouldFormatValues() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "m", "a", "b", "c");
+
+        // When:
+        final String result = format(template, null, 1.5, "x\ty", true);
+
+        // Then:
+        assertThat(result, is("\"message\":\"m\",\"a\":1.5,\"b\":\"x\\ty\",\"c\":true"));
+    }
+
+    @Test
+    void shouldNestValuesUnderNamespace() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "m", "a", "b");
+
+        // When:
+        final String result = format(template, "\"creek\":", 1, 2);
+
+        // Then:
+        assertThat(result, is("\"message\":\"m\",\"creek\":{\"a\":1,\"b\":2}"));
+    }
+
+    @Test
+    void shouldOmitNullValues() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "m", "a", "b");
+
+        // When:
+        final String result = format(template, "\"creek\":", null, 2);
+
+        // Then:
+        assertThat(result, is("\"message\":\"m\",\"creek\":{\"b\":2}"));
+    }
+
+    @Test
+    void shouldOmitNamespaceIfAllValuesNull() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "m", "a");
+
+        // When:
+        final String result = format(template, "\"creek\":", (Object) null);
+
+        // Then:
+        assertThat(result, is("\"message\":\"m\""));
+    }
+
+    @Test
+    void shouldThrowOnValueCountMismatch() {
+        // Given:
+        final DefaultLogTemplate template = new DefaultLogTemplate(Level.INFO, "m", "a");
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> format(template, null, 1, 2));
+
+        // Then:
+        assertThat(e.getMessage(), is("Expected 1 values, but got 2"));
+    }
+
+    private String format(
+            final DefaultLogTemplate template, final String jsonNs, final Object... values) {
+        final StringBuilder sb = new StringBuilder();
+        template.formatJson(sb, jsonNs, values, formatter);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EntryBufferTest {
+
+    private final EntryBuffer buffer = new EntryBuffer(4);
+
+    @Test
+    void shouldThrowOnInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EntryBuffer(0));
+    }
+
+    @Test
+    void shouldGrowAsRequired() {
+        // When:
+        buffer.write(new byte[] {1, 2, 3}, 0, 3);
+        buffer.write(4);
+        buffer.write(5);
+
+        // Then:
+        assertThat(buffer.size(), is(5));
+        assertThat(buffer.toByteArray(), is(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+    @Test
+    void shouldWriteSliceOfArray() {
+        // When:
+        buffer.write(new byte[] {1, 2, 3, 4}, 1, 2);
+
+        // Then:
+        assertThat(buffer.toByteArray(), is(new byte[] {2, 3}));
+    }
+
+    @Test
+    void shouldClear() {
+        // Given:
+        buffer.writeUtf8("hello");
+
+        // When:
+        buffer.clear();
+        buffer.writeUtf8("hi");
+
+        // Then:
+        assertThat(buffer.toByteArray(), is("hi".getBytes(UTF_8)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "",
+                "ascii",
+                "latin \u00E9 \u00FC",
+                "three byte \u20AC \u0939",
+                "four byte \uD83D\uDE00 \uD834\uDD1E",
+                "mixed a\u20AC\uD83D\uDE00\u00E9 end"
+            })
+    void shouldEncodeUtf8(final String text) {
+        // When:
+        buffer.writeUtf8(text);
+
+        // Then:
+        assertThat(buffer.toByteArray(), is(text.getBytes(UTF_8)));
+        assertThat(EntryBuffer.utf8Length(text), is(buffer.size()));
+    }
+
+    @Test
+    void shouldReplaceUnpairedSurrogates() {
+        // When:
+        buffer.writeUtf8("a\uD83Db\uDE00");
+
+        // Then:
+        assertThat(new String(buffer.toByteArray(), UTF_8), is("a?b?"));
+        assertThat(EntryBuffer.utf8Length("a\uD83Db\uDE00"), is(4));
+    }
+
+    @Test
+    void shouldReturnReadOnlyViewOfContents() {
+        // Given:
+        buffer.writeUtf8("data");
+
+        // When:
+        final ByteBuffer view = buffer.asByteBuffer();
+
+        // Then:
+        assertThat(view.isReadOnly(), is(true));
+        assertThat(view.remaining(), is(4));
+        assertThat(UTF_8.decode(view).toString(), is("data"));
+    }
+}
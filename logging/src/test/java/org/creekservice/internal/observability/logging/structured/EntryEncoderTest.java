@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EntryEncoderTest {
+
+    private final EntryEncoder encoder = new EntryEncoder(new JsonLogEntryFormatter(), "\n");
+
+    @Test
+    void shouldEncodeToArray() {
+        // When:
+        final byte[] result = encoder.toByteArray(Map.of("a", "\u20AC"));
+
+        // Then:
+        assertThat(new String(result, UTF_8), is("{\"a\":\"\u20AC\"}\n"));
+    }
+
+    @Test
+    void shouldPassEncodedBytesToConsumer() {
+        // Given:
+        final List<String> output = new ArrayList<>();
+
+        // When:
+        encoder.encode(Map.of("a", 1), bytes -> output.add(UTF_8.decode(bytes).toString()));
+
+        // Then:
+        assertThat(output, is(List.of("{\"a\":1}\n")));
+    }
+
+    @Test
+    void shouldSupportReentrantEncoding() {
+        // Given:
+        final Object value =
+                new Object() {
+                    @Override
+                    public String toString() {
+                        return new String(encoder.toByteArray(Map.of("inner", 1)), UTF_8).trim();
+                    }
+                };
+
+        // When:
+        final byte[] result = encoder.toByteArray(Map.of("outer", value));
+
+        // Then:
+        assertThat(new String(result, UTF_8), is("{\"outer\":\"{\\\"inner\\\":1}\"}\n"));
+    }
+
+    @Test
+    void shouldReuseBuffersAfterLargeEntry() {
+        // Given:
+        encoder.toByteArray(Map.of("big", "x".repeat(100_000)));
+
+        // When:
+        final byte[] result = encoder.toByteArray(Map.of("a", 1));
+
+        // Then:
+        assertThat(new String(result, UTF_8), is("{\"a\":1}\n"));
+    }
+}
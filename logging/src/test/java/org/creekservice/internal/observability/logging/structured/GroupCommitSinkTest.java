@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class GroupCommitSinkTest {
+
+    private static final Duration LONG_DELAY = Duration.ofMinutes(1);
+
+    private final CapturingChannel channel = new CapturingChannel();
+    private GroupCommitSink sink;
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    @Test
+    void shouldThrowOnInvalidBufferSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new GroupCommitSink(channel, 1, LONG_DELAY, "test"));
+    }
+
+    @Test
+    void shouldNotWriteUntilThresholdReached() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, LONG_DELAY, "test");
+
+        // When:
+        sink.write(entry("a"));
+
+        // Then:
+        assertThat(channel.writes(), is(empty()));
+    }
+
+    @Test
+    void shouldWriteBatchOnFlush() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, LONG_DELAY, "test");
+        sink.write(entry("a"));
+        sink.write(entry("b"));
+        sink.write(entry("c"));
+
+        // When:
+        sink.flush();
+
+        // Then:
+        assertThat(channel.writes(), contains("a\nb\nc\n"));
+    }
+
+    @Test
+    void shouldWriteOnceHalfFull() {
+        // Given:
+        sink = new GroupCommitSink(channel, 16, LONG_DELAY, "test");
+
+        // When:
+        sink.write(entry("1234"));
+        sink.write(entry("5678"));
+
+        // Then:
+        awaitUntil(() -> !channel.writes().isEmpty());
+        assertThat(channel.writes(), contains("1234\n5678\n"));
+    }
+
+    @Test
+    void shouldWriteOnceMaxDelayElapsed() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, Duration.ofMillis(10), "test");
+
+        // When:
+        sink.write(entry("a"));
+
+        // Then:
+        awaitUntil(() -> !channel.writes().isEmpty());
+        assertThat(channel.writes(), contains("a\n"));
+    }
+
+    @Test
+    void shouldWriteEntriesLargerThanBufferDirectlyInOrder() {
+        // Given:
+        sink = new GroupCommitSink(channel, 8, LONG_DELAY, "test");
+        sink.write(entry("a"));
+
+        // When:
+        sink.write(entry("too long to buffer"));
+
+        // Then:
+        assertThat(channel.writes(), contains("a\n", "too long to buffer\n"));
+    }
+
+    @Test
+    void shouldWritePendingOnClose() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, LONG_DELAY, "test");
+        sink.write(entry("a"));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(channel.writes(), contains("a\n"));
+        assertThat(channel.isOpen(), is(true));
+    }
+
+    @Test
+    void shouldDeregisterFromShutdownHookOnClose() {
+        // Given:
+        sink = SinkShutdownHook.register(new GroupCommitSink(channel, 1024, LONG_DELAY, "test"));
+        assertThat(SinkShutdownHook.registered(sink), is(true));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(SinkShutdownHook.registered(sink), is(false));
+    }
+
+    @Test
+    void shouldWriteSynchronouslyOnceClosed() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, LONG_DELAY, "test");
+        sink.close();
+
+        // When:
+        sink.write(entry("a"));
+
+        // Then:
+        assertThat(channel.writes(), contains("a\n"));
+    }
+
+    @Test
+    void shouldWriteEntryOfWriterBlockedOnFullBufferWhenClosed() throws Exception {
+        // Given:
+        sink = new GroupCommitSink(channel, 6, LONG_DELAY, "test");
+        channel.blockWrites();
+        sink.write(entry("a"));
+        sink.write(entry("b"));
+        awaitUntil(channel::writeBlocked);
+        sink.write(entry("c"));
+        sink.write(entry("d"));
+
+        final Thread writer = new Thread(() -> sink.write(entry("eee")));
+        writer.start();
+        awaitUntil(() -> writer.getState() == Thread.State.WAITING);
+
+        final Thread closer = new Thread(sink::close);
+        closer.start();
+        awaitUntil(() -> closer.getState() == Thread.State.WAITING);
+
+        // When:
+        channel.unblockWrites();
+        writer.join();
+        closer.join();
+
+        // Then:
+        assertTimeoutPreemptively(Duration.ofSeconds(10), sink::flush);
+        assertThat(String.join("", channel.writes()), is("a\nb\nc\nd\neee\n"));
+    }
+
+    @Test
+    void shouldContinueAfterWriteFailure() {
+        // Given:
+        sink = new GroupCommitSink(channel, 1024, LONG_DELAY, "test");
+        channel.failNext();
+        sink.write(entry("lost"));
+        sink.flush();
+
+        // When:
+        sink.write(entry("a"));
+        sink.flush();
+
+        // Then:
+        assertThat(channel.writes(), contains("a\n"));
+        assertThat(sink.droppedEntries(), is(1L));
+    }
+
+    @Test
+    void shouldGroupCommitEntriesFromManyThreadsInOrder() throws Exception {
+        // Given:
+        final int threads = 8;
+        final int perThread = 2_000;
+        sink = new GroupCommitSink(channel, 4096, Duration.ofMillis(1), "test");
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When:
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                executor.execute(
+                        () -> {
+                            awaitLatch(start);
+                            for (int i = 0; i < perThread; i++) {
+                                sink.write(entry(thread + ":" + i));
+                            }
+                        });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        }
+        sink.flush();
+
+        // Then:
+        final List<String> lines = Arrays.asList(String.join("", channel.writes()).split("\n"));
+        assertThat(lines, hasSize(threads * perThread));
+        assertThat(channel.writes().size(), is(lessThan(lines.size())));
+
+        final Map<String, Integer> lastSeen = new HashMap<>();
+        for (final String line : lines) {
+            final String[] parts = line.split(":");
+            final int seq = Integer.parseInt(parts[1]);
+            final Integer last = lastSeen.put(parts[0], seq);
+            assertThat(seq, is(last == null ? 0 : last + 1));
+        }
+        assertThat(lastSeen.size(), is(threads));
+        assertThat(lastSeen.values().stream().collect(Collectors.toSet()), contains(perThread - 1));
+    }
+
+    @Test
+    void shouldKeepOrderWhenMixingLargeAndBufferedEntriesFromManyThreads() throws Exception {
+        // Given:
+        final int threads = 8;
+        final int perThread = 500;
+        final String padding = "x".repeat(100);
+        channel.maxWrite(7);
+        sink = new GroupCommitSink(channel, 64, Duration.ofMillis(1), "test");
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When:
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                executor.execute(
+                        () -> {
+                            awaitLatch(start);
+                            for (int i = 0; i < perThread; i++) {
+                                final String text = thread + ":" + i;
+                                sink.write(entry(i % 5 == 0 ? text + ":" + padding : text));
+                            }
+                        });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(30), sink::flush);
+
+        // Then:
+        final List<String> lines = Arrays.asList(String.join("", channel.writes()).split("\n"));
+        assertThat(lines, hasSize(threads * perThread));
+
+        final Map<String, Integer> lastSeen = new HashMap<>();
+        for (final String line : lines) {
+            final String[] parts = line.split(":");
+            final int seq = Integer.parseInt(parts[1]);
+            final Integer last = lastSeen.put(parts[0], seq);
+            assertThat(line, seq, is(last == null ? 0 : last + 1));
+            if (seq % 5 == 0) {
+                assertThat(line, parts[2], is(padding));
+            }
+        }
+        assertThat(lastSeen.size(), is(threads));
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    private static ByteBuffer entry(final String text) {
+        return ByteBuffer.wrap((text + "\n").getBytes(UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for condition");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private static final class CapturingChannel implements WritableByteChannel {
+
+        private final List<String> writes = new ArrayList<>();
+        private boolean failNext;
+        private boolean open = true;
+        private int maxWrite = Integer.MAX_VALUE;
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean writeBlocked;
+
+        synchronized List<String> writes() {
+            return List.copyOf(writes);
+        }
+
+        synchronized void failNext() {
+            failNext = true;
+        }
+
+        synchronized void maxWrite(final int maxWrite) {
+            this.maxWrite = maxWrite;
+        }
+
+        void blockWrites() {
+            gate = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            gate.countDown();
+        }
+
+        boolean writeBlocked() {
+            return writeBlocked;
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            final CountDownLatch gate = this.gate;
+            if (gate.getCount() != 0) {
+                writeBlocked = true;
+                awaitLatch(gate);
+            }
+            return capture(src);
+        }
+
+        private synchronized int capture(final ByteBuffer src) throws IOException {
+            if (failNext) {
+                failNext = false;
+                throw new IOException("Boom");
+            }
+            final int length = Math.min(src.remaining(), maxWrite);
+            final ByteBuffer chunk = src.slice().limit(length);
+            writes.add(UTF_8.decode(chunk).toString());
+            src.position(src.position() + length);
+            return length;
+        }
+
+        @Override
+        public synchronized boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public synchronized void close() {
+            open = false;
+        }
+    }
+}
@@ -181,6 +181,32 @@ class JsonLogEntryFormatterTest {
         assertThat(formatter.format(Map.of("a", List.of(BYTE))), is("{\"a\":[127]}"));
     }
 
+    @Test
+    void shouldFormatLogEventUsingItsWriter() {
+        // Given:
+        final TestLogEvent event =
+                new TestLogEvent("a", 1, true, new TestLogEvent(null, 2, false, null));
+
+        // Then:
+        assertThat(
+                formatter.formatInternal(event),
+                is(
+                        "{\"name\":\"a\",\"count\":1,\"on\":true,"
+                                + "\"child\":{\"count\":2,\"on\":false}}"));
+    }
+
+    @Test
+    void shouldAppendToExistingBuffer() {
+        // Given:
+        final StringBuilder sb = new StringBuilder("prefix:");
+
+        // When:
+        formatter.format(Map.of("a", List.of(BYTE)), sb);
+
+        // Then:
+        assertThat(sb.toString(), is("prefix:{\"a\":[127]}"));
+    }
+
     @Test
     void shouldThrowOnNullMapKey() {
         // Given:
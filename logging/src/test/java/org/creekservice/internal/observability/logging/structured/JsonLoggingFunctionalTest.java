@@ -25,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
+import org.creekservice.api.observability.logging.structured.EmissionMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -48,7 +49,8 @@ public class JsonLoggingFunctionalTest {
                         slf4jLogger,
                         Optional.empty(),
                         DefaultLogEntryCustomizer::create,
-                        new JsonLogEntryFormatter());
+                        new JsonLogEntryFormatter(),
+                        EmissionMode.MESSAGE);
     }
 
     @Test
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import org.junit.jupiter.api.Test;
+
+class LogEntryFormattersTest {
+
+    @Test
+    void shouldLoadJsonFormatter() {
+        assertThat(LogEntryFormatters.json(), is(instanceOf(JsonLogEntryFormatter.class)));
+    }
+
+    @Test
+    void shouldLoadLogfmtFormatter() {
+        assertThat(
+                LogEntryFormatters.named(LogEntryFormatters.LOGFMT),
+                is(instanceOf(LogfmtLogEntryFormatter.class)));
+    }
+
+    @Test
+    void shouldReturnSharedInstance() {
+        assertThat(
+                LogEntryFormatters.named(LogEntryFormatters.JSON),
+                is(sameInstance(LogEntryFormatters.json())));
+    }
+
+    @Test
+    void shouldThrowOnUnknownFormatter() {
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> LogEntryFormatters.named("x"));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                is("Unknown log entry formatter: x, known formatters: [json, logfmt]"));
+    }
+
+    @Test
+    void shouldNotDependOnContextClassLoader() throws Exception {
+        // Given:
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+
+        try (URLClassLoader isolated = new URLClassLoader(new URL[0], null)) {
+            thread.setContextClassLoader(isolated);
+
+            // When:
+            final Exception e =
+                    assertThrows(
+                            IllegalArgumentException.class, () -> LogEntryFormatters.named("y"));
+
+            // Then:
+            assertThat(
+                    e.getMessage(),
+                    is("Unknown log entry formatter: y, known formatters: [json, logfmt]"));
+            assertThat(
+                    LogEntryFormatters.named(LogEntryFormatters.LOGFMT),
+                    is(instanceOf(LogfmtLogEntryFormatter.class)));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    void shouldThrowOnNullName() {
+        assertThrows(NullPointerException.class, () -> LogEntryFormatters.named(null));
+    }
+}
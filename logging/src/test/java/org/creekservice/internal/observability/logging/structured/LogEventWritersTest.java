@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LogEventWritersTest {
+
+    private static final TestLogEvent EVENT = new TestLogEvent("a", 1, true, null);
+
+    @Test
+    void shouldFindRegisteredWriter() {
+        assertThat(LogEventWriters.find(TestLogEvent.class), is(sameInstance(TestLogEvent.WRITER)));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownType() {
+        assertThat(LogEventWriters.find(String.class), is(nullValue()));
+    }
+
+    @Test
+    void shouldConvertToMapInOrderSkippingNulls() {
+        // When:
+        final Map<String, Object> result =
+                LogEventWriters.toMap(EVENT, LogEventWriters.find(EVENT.getClass()));
+
+        // Then:
+        assertThat(result.toString(), is("{name=a, count=1, on=true}"));
+    }
+}
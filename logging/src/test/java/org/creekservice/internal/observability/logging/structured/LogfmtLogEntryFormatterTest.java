@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LogfmtLogEntryFormatterTest {
+
+    private LogfmtLogEntryFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new LogfmtLogEntryFormatter();
+    }
+
+    @Test
+    void shouldFormatNullEntry() {
+        assertThat(formatter.format(null), is(""));
+    }
+
+    @Test
+    void shouldFormatEmptyEntry() {
+        assertThat(formatter.format(Map.of()), is(""));
+    }
+
+    @Test
+    void shouldIncludeCauseInMessage() {
+        assertThat(formatter.causeInMessage(), is(true));
+    }
+
+    @Test
+    void shouldFormatFieldsInOrder() {
+        // Given:
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("message", "text");
+        entry.put("a", 1);
+        entry.put("b", true);
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("message=text a=1 b=true"));
+    }
+
+    @Test
+    void shouldFormatNumbers() {
+        // Given:
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("i", Integer.MIN_VALUE);
+        entry.put("l", Long.MAX_VALUE);
+        entry.put("d", 3.75);
+        entry.put("bd", new BigDecimal("1.35e-40"));
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("i=-2147483648 l=9223372036854775807 d=3.75 bd=1.35E-40"));
+    }
+
+    @Test
+    void shouldFormatOtherValuesUsingToString() {
+        // Given:
+        final Map<String, Object> entry = Map.of("t", Instant.parse("2026-10-18T10:15:30.123Z"));
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("t=2026-10-18T10:15:30.123Z"));
+    }
+
+    @Test
+    void shouldFormatNullValueAsEmpty() {
+        // Given:
+        final Map<String, Object> entry = new HashMap<>();
+        entry.put("a", null);
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("a="));
+    }
+
+    @Test
+    void shouldQuoteEmptyString() {
+        assertThat(formatter.format(Map.of("a", "")), is("a=\"\""));
+    }
+
+    @Test
+    void shouldQuoteStringWithSpace() {
+        assertThat(formatter.format(Map.of("a", "some text")), is("a=\"some text\""));
+    }
+
+    @Test
+    void shouldQuoteStringWithEquals() {
+        assertThat(formatter.format(Map.of("a", "x=y")), is("a=\"x=y\""));
+    }
+
+    @Test
+    void shouldQuoteAndEscapeStringWithQuotesAndBackslashes() {
+        assertThat(formatter.format(Map.of("a", "\"x\\y\"")), is("a=\"\\\"x\\\\y\\\"\""));
+    }
+
+    @Test
+    void shouldQuoteAndEscapeControlCharacters() {
+        assertThat(formatter.format(Map.of("a", "x\ny\r\tz\b")), is("a=\"x\\ny\\r\\tz\\u0008\""));
+    }
+
+    @Test
+    void shouldNotQuoteNonAsciiText() {
+        assertThat(formatter.format(Map.of("a", "caf\u00e9")), is("a=caf\u00e9"));
+    }
+
+    @Test
+    void shouldFlattenNestedMapsIntoDottedKeys() {
+        // Given:
+        final Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("partition", 7);
+        inner.put("deeper", Map.of("topic", "input"));
+
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("message", "text");
+        entry.put("creek", inner);
+        entry.put("after", 1);
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("message=text creek.partition=7 creek.deeper.topic=input after=1"));
+    }
+
+    @Test
+    void shouldFlattenLogEventsIntoDottedKeys() {
+        // Given:
+        final TestLogEvent event =
+                new TestLogEvent("a", 1, true, new TestLogEvent(null, 2, false, null));
+
+        // When:
+        final String result = formatter.format(Map.of("e", event));
+
+        // Then:
+        assertThat(result, is("e.name=a e.count=1 e.on=true e.child.count=2 e.child.on=false"));
+    }
+
+    @Test
+    void shouldOutputNothingForEmptyNestedMap() {
+        // Given:
+        final Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("ns", Map.of());
+        entry.put("a", 1);
+
+        // When:
+        final String result = formatter.format(entry);
+
+        // Then:
+        assertThat(result, is("a=1"));
+    }
+
+    @Test
+    void shouldReplaceInvalidKeyCharacters() {
+        assertThat(formatter.format(Map.of("a key", Map.of("x=y", 1))), is("a_key.x_y=1"));
+    }
+
+    @Test
+    void shouldFormatListAsJson() {
+        assertThat(formatter.format(Map.of("a", List.of(1, 2, 3))), is("a=[1,2,3]"));
+    }
+
+    @Test
+    void shouldQuoteListWithStrings() {
+        assertThat(
+                formatter.format(Map.of("a", List.of("x", "y"))),
+                is("a=\"[\\\"x\\\",\\\"y\\\"]\""));
+    }
+
+    @Test
+    void shouldFormatArrayAsJson() {
+        assertThat(formatter.format(Map.of("a", new int[] {1, 2})), is("a=[1,2]"));
+    }
+
+    @Test
+    void shouldFormatThrowableAsSingleEscapedField() {
+        // Given:
+        final Exception cause = new RuntimeException("boom");
+
+        // When:
+        final String result = formatter.format(Map.of("cause", cause));
+
+        // Then:
+        assertThat(result, startsWith("cause=\"java.lang.RuntimeException: boom\\n"));
+        assertThat(result, containsString("\\tat "));
+        assertThat(result, not(containsString("\n")));
+    }
+
+    @Test
+    void shouldAppendToExistingBuilder() {
+        // Given:
+        final StringBuilder sb = new StringBuilder("prefix ");
+
+        // When:
+        formatter.format(Map.of("a", 1), sb);
+
+        // Then:
+        assertThat(sb.toString(), is("prefix a=1"));
+    }
+
+    @Test
+    void shouldThrowOnNullKey() {
+        // Given:
+        final Map<String, Object> entry = new HashMap<>();
+        entry.put(null, 1);
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> formatter.format(entry));
+
+        // Then:
+        assertThat(e.getMessage(), is("null key in {null=1} at depth 0"));
+    }
+
+    @Test
+    void shouldThrowIfMaxDepthExceeded() {
+        // Given:
+        Map<String, Object> entry = Map.of("a", 1);
+        for (int i = 0; i != 10; ++i) {
+            entry = Map.of("n", entry);
+        }
+        final Map<String, Object> deep = entry;
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> formatter.format(deep));
+
+        // Then:
+        assertThat(e.getMessage(), is("Max depth of 8 exceeded"));
+    }
+}
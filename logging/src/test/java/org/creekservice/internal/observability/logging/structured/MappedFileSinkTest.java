@@ -0,0 +1,369 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.observability.logging.structured.MappedLogReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MappedFileSinkTest {
+
+    @TempDir private Path dir;
+    private MappedFileSink sink;
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 56, 100, (1 << 30) + 8})
+    void shouldThrowOnInvalidSegmentSize(final int segmentSize) {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new MappedFileSink(dir, segmentSize, Duration.ZERO));
+
+        // Then:
+        assertThat(e.getMessage(), startsWith("segmentSize must be a multiple of 8"));
+    }
+
+    @Test
+    void shouldThrowOnNegativeForceInterval() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new MappedFileSink(dir, 1024, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void shouldCreateDirectory() {
+        // Given:
+        final Path sub = dir.resolve("a/b");
+
+        // When:
+        sink = new MappedFileSink(sub, 1024, Duration.ZERO);
+
+        // Then:
+        assertThat(MappedSegments.sequences(sub), contains(0L));
+    }
+
+    @Test
+    void shouldPreAllocateSegment() throws Exception {
+        // When:
+        sink = new MappedFileSink(dir, 1024, Duration.ZERO);
+
+        // Then:
+        assertThat(Files.size(MappedSegments.path(dir, 0)), is(1024L));
+    }
+
+    @Test
+    void shouldWriteEntriesReadableByTailer() {
+        // Given:
+        sink = new MappedFileSink(dir, 1024, Duration.ZERO);
+        final MappedLogReader reader = MappedLogReader.tail(dir);
+
+        // When:
+        sink.write(entry("a"));
+        sink.write(entry("bb"));
+
+        // Then:
+        assertThat(readAll(reader), contains("a", "bb"));
+
+        // When:
+        sink.write(entry("ccc"));
+
+        // Then:
+        assertThat(readAll(reader), contains("ccc"));
+    }
+
+    @Test
+    void shouldAlignRecords() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+
+        // When:
+        sink.write(entry("a"));
+        sink.write(entry("b"));
+
+        // Then: each 1 byte entry takes 8 bytes:
+        final ByteBuffer segment = map(0);
+        assertThat(MappedSegments.header(segment, 0), is(1));
+        assertThat(MappedSegments.header(segment, 8), is(1));
+        assertThat(MappedSegments.header(segment, 16), is(0));
+    }
+
+    @Test
+    void shouldRollWhenSegmentFull() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+
+        // When:
+        for (int i = 0; i < 10; i++) {
+            sink.write(entry("entry-number-" + i));
+        }
+
+        // Then: 2 x 24 byte records per segment:
+        assertThat(MappedSegments.sequences(dir), hasSize(5));
+        assertThat(MappedSegments.header(map(0), 48), is(MappedSegments.END));
+        assertThat(readAll(MappedLogReader.tail(dir)), hasSize(10));
+    }
+
+    @Test
+    void shouldRollWithoutEndMarkerWhenSegmentExactlyFull() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+
+        // When: 4 x 16 byte records:
+        for (int i = 0; i < 5; i++) {
+            sink.write(entry("0123456789"));
+        }
+
+        // Then:
+        assertThat(MappedSegments.sequences(dir), contains(0L, 1L));
+        assertThat(readAll(MappedLogReader.tail(dir)), hasSize(5));
+    }
+
+    @Test
+    void shouldSealSegmentOnClose() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("a"));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(MappedSegments.header(map(0), 8), is(MappedSegments.END));
+    }
+
+    @Test
+    void shouldDeregisterFromShutdownHookOnClose() {
+        // Given:
+        sink = SinkShutdownHook.register(new MappedFileSink(dir, 1024, Duration.ZERO));
+        assertThat(SinkShutdownHook.registered(sink), is(true));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(SinkShutdownHook.registered(sink), is(false));
+    }
+
+    @Test
+    void shouldStartNewSegmentAfterExisting() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("first"));
+        sink.close();
+
+        // When:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("second"));
+
+        // Then:
+        assertThat(MappedSegments.sequences(dir), contains(0L, 1L));
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("first", "second"));
+    }
+
+    @Test
+    void shouldDeleteTemporaryFilesLeftByCrashedWriter() throws Exception {
+        // Given: crash while creating segment 1:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("first"));
+        sink.close();
+        Files.write(MappedSegments.temporaryPath(dir, 1), new byte[64]);
+
+        // When:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("second"));
+
+        // Then:
+        assertThat(Files.exists(MappedSegments.temporaryPath(dir, 1)), is(false));
+        assertThat(MappedSegments.sequences(dir), contains(0L, 2L));
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("first", "second"));
+    }
+
+    @Test
+    void shouldRollOverStaleTemporaryFile() throws Exception {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        Files.write(MappedSegments.temporaryPath(dir, 1), new byte[] {1, 2, 3});
+
+        // When:
+        for (int i = 0; i < 5; i++) {
+            sink.write(entry("0123456789"));
+        }
+
+        // Then:
+        assertThat(MappedSegments.sequences(dir), contains(0L, 1L));
+        assertThat(readAll(MappedLogReader.tail(dir)), hasSize(5));
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    @Test
+    void shouldDropEntriesWrittenAfterClose() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+        sink.write(entry("a"));
+        sink.close();
+
+        // When:
+        sink.write(entry("b"));
+
+        // Then:
+        assertThat(MappedSegments.sequences(dir), contains(0L));
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a"));
+        assertThat(sink.droppedEntries(), is(1L));
+    }
+
+    @Test
+    void shouldDropEntriesLargerThanSegment() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+
+        // When:
+        sink.write(entry("x".repeat(61)));
+        sink.write(entry("a"));
+
+        // Then:
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a"));
+        assertThat(sink.droppedEntries(), is(1L));
+    }
+
+    @Test
+    void shouldIgnoreEmptyEntries() {
+        // Given:
+        sink = new MappedFileSink(dir, 64, Duration.ZERO);
+
+        // When:
+        sink.write(ByteBuffer.allocate(0));
+
+        // Then:
+        assertThat(MappedSegments.header(map(0), 0), is(0));
+    }
+
+    @Test
+    void shouldForcePeriodically() {
+        // Given:
+        sink = new MappedFileSink(dir, 1024, Duration.ofMillis(1));
+
+        // When:
+        sink.write(entry("a"));
+        sink.flush();
+
+        // Then: did not throw.
+        assertThat(readAll(MappedLogReader.tail(dir)), contains("a"));
+    }
+
+    @Test
+    void shouldWriteFromManyThreadsAcrossRolls() throws Exception {
+        // Given:
+        final int threads = 8;
+        final int perThread = 1_000;
+        sink = new MappedFileSink(dir, 4096, Duration.ZERO);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When:
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                executor.execute(
+                        () -> {
+                            awaitLatch(start);
+                            for (int i = 0; i < perThread; i++) {
+                                sink.write(entry(thread + ":" + i));
+                            }
+                        });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        }
+
+        // Then:
+        final List<String> entries = readAll(MappedLogReader.tail(dir));
+        assertThat(entries, hasSize(threads * perThread));
+
+        final Map<String, Integer> lastSeen = new HashMap<>();
+        for (final String e : entries) {
+            final String[] parts = e.split(":");
+            final int seq = Integer.parseInt(parts[1]);
+            final Integer last = lastSeen.put(parts[0], seq);
+            assertThat(seq, is(last == null ? 0 : last + 1));
+        }
+    }
+
+    private ByteBuffer map(final long sequence) {
+        try (FileChannel channel = FileChannel.open(MappedSegments.path(dir, sequence))) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ByteBuffer entry(final String text) {
+        return ByteBuffer.wrap(text.getBytes(UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static List<String> readAll(final MappedLogReader reader) {
+        final List<String> entries = new ArrayList<>();
+        boolean read;
+        do {
+            read = reader.poll(e -> entries.add(UTF_8.decode(e).toString()));
+        } while (read);
+        return entries;
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,475 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.creekservice.api.observability.logging.structured.BinaryLogDecoder;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogSink;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class SinkStructuredLoggerTest {
+
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+    private static final Clock CLOCK =
+            Clock.fixed(Instant.parse("2026-10-18T10:15:30.123Z"), ZoneOffset.UTC);
+
+    private final CapturingSink sink = new CapturingSink();
+    private final CountingFormatter formatter = new CountingFormatter();
+
+    @ParameterizedTest
+    @EnumSource(
+            value = Level.class,
+            names = {"TRACE", "DEBUG"})
+    void shouldNotWriteBelowThreshold(final Level level) {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.INFO);
+
+        // When:
+        logger.log(level, "msg");
+
+        // Then:
+        assertThat(sink.entries, is(empty()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(
+            value = Level.class,
+            names = {"INFO", "WARN", "ERROR"})
+    void shouldWriteAtOrAboveThreshold(final Level level) {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.INFO);
+
+        // When:
+        logger.log(level, "msg");
+
+        // Then:
+        assertThat(sink.entries, hasSize(1));
+        assertThat(json(0).get("level").asString(), is(level.name()));
+    }
+
+    @Test
+    void shouldOnlyReportLevelsAtOrAboveThresholdAsEnabled() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.INFO);
+
+        // Then:
+        assertThat(logger.isEnabled(Level.DEBUG), is(false));
+        assertThat(logger.isEnabled(Level.INFO), is(true));
+        assertThat(logger.isEnabled(Level.ERROR), is(true));
+    }
+
+    @Test
+    void shouldWriteNdjsonWithEnvelope() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.TRACE);
+
+        // When:
+        logger.info("some message", entry -> entry.with("a", 1));
+
+        // Then:
+        assertThat(sink.entries, hasSize(1));
+        assertThat(
+                sink.entries.get(0),
+                startsWith(
+                        "{\"timestamp\":\"2026-10-18T10:15:30.123Z\",\"level\":\"INFO\","
+                                + "\"logger\":\"some.logger\","));
+        assertThat(sink.entries.get(0), endsWith("}\n"));
+        assertThat(json(0).get("message").asString(), is("some message"));
+        assertThat(json(0).get("a").asInt(), is(1));
+    }
+
+    @Test
+    void shouldWriteUnderRootNamespace() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.of("creek"), Level.TRACE);
+
+        // When:
+        logger.warn("msg", entry -> entry.with("a", 1));
+
+        // Then:
+        assertThat(json(0).get("creek").get("a").asInt(), is(1));
+    }
+
+    @Test
+    void shouldIncludeCause() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.TRACE);
+
+        // When:
+        logger.error("msg", entry -> entry.withThrowable(new RuntimeException("boom")));
+
+        // Then:
+        assertThat(json(0).get("cause").asString(), startsWith("java.lang.RuntimeException: boom"));
+    }
+
+    @Test
+    void shouldNotOverwriteEnvelopeFields() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.TRACE);
+
+        // When:
+        logger.info("msg", entry -> entry.with("level", "nope"));
+
+        // Then:
+        assertThat(json(0).get("level").asString(), is("INFO"));
+    }
+
+    @Test
+    void shouldThrowIfNoSinks() {
+        assertThrows(IllegalArgumentException.class, () -> logger(Optional.empty(), List.of()));
+    }
+
+    @Test
+    void shouldWriteToEachSinkAtOrAboveItsThreshold() {
+        // Given:
+        final CapturingSink other = new CapturingSink();
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(sink, Level.DEBUG, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(other, Level.WARN, SinkBinding.ALL_FIELDS)));
+
+        // When:
+        logger.trace("trace");
+        logger.info("info");
+        logger.error("error");
+
+        // Then:
+        assertThat(sink.entries, hasSize(2));
+        assertThat(other.entries, hasSize(1));
+        assertThat(other.entries.get(0), is(sink.entries.get(1)));
+    }
+
+    @Test
+    void shouldFormatOnceForSinksSharingFilter() {
+        // Given:
+        final CapturingSink other = new CapturingSink();
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(sink, Level.TRACE, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(other, Level.TRACE, SinkBinding.ALL_FIELDS)));
+
+        // When:
+        logger.info("msg", entry -> entry.with("a", 1));
+
+        // Then:
+        assertThat(formatter.count, is(1));
+        assertThat(other.entries, is(sink.entries));
+    }
+
+    @Test
+    void shouldPassEachSinkItsOwnView() {
+        // Given:
+        final LogSink consuming =
+                new CapturingSink() {
+                    @Override
+                    public void write(final ByteBuffer entry) {
+                        entry.position(entry.limit());
+                    }
+                };
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(consuming, Level.TRACE, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(sink, Level.TRACE, SinkBinding.ALL_FIELDS)));
+
+        // When:
+        logger.info("msg");
+
+        // Then:
+        assertThat(json(0).get("message").asString(), is("msg"));
+    }
+
+    @Test
+    void shouldFilterFields() {
+        // Given:
+        final Predicate<String> filter = "a"::equals;
+        final SinkStructuredLogger logger =
+                logger(Optional.empty(), List.of(new SinkBinding(sink, Level.TRACE, filter)));
+
+        // When:
+        logger.info("msg", entry -> entry.with("a", 1).with("b", 2));
+
+        // Then:
+        assertThat(json(0).get("a").asInt(), is(1));
+        assertThat(json(0).has("b"), is(false));
+        assertThat(json(0).has("timestamp"), is(true));
+        assertThat(json(0).has("level"), is(true));
+        assertThat(json(0).has("logger"), is(true));
+        assertThat(json(0).get("message").asString(), is("msg"));
+    }
+
+    @Test
+    void shouldFormatOncePerDistinctFilter() {
+        // Given:
+        final CapturingSink filtered = new CapturingSink();
+        final CapturingSink alsoFiltered = new CapturingSink();
+        final Predicate<String> filter = "a"::equals;
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(sink, Level.TRACE, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(filtered, Level.TRACE, filter),
+                                new SinkBinding(alsoFiltered, Level.TRACE, filter)));
+
+        // When:
+        logger.info("msg", entry -> entry.with("a", 1).with("b", 2));
+
+        // Then:
+        assertThat(formatter.count, is(2));
+        assertThat(json(0).has("b"), is(true));
+        assertThat(filtered.entries.get(0).contains("\"b\""), is(false));
+        assertThat(alsoFiltered.entries, is(filtered.entries));
+    }
+
+    @Test
+    void shouldNotFormatForGroupWithNoEnabledSinks() {
+        // Given:
+        final CapturingSink other = new CapturingSink();
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(sink, Level.TRACE, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(other, Level.ERROR, "a"::equals)));
+
+        // When:
+        logger.info("msg");
+
+        // Then:
+        assertThat(formatter.count, is(1));
+        assertThat(other.entries, is(empty()));
+    }
+
+    @Test
+    void shouldEncodeSeparatelyForSinksWithOwnEncoder() throws Exception {
+        // Given:
+        final CapturingSink binary = new CapturingSink();
+        final SinkStructuredLogger logger =
+                logger(
+                        Optional.empty(),
+                        List.of(
+                                new SinkBinding(sink, Level.TRACE, SinkBinding.ALL_FIELDS),
+                                new SinkBinding(
+                                        binary,
+                                        Level.TRACE,
+                                        SinkBinding.ALL_FIELDS,
+                                        Optional.of(new BinaryEntryEncoder()))));
+
+        // When:
+        logger.info("msg", entry -> entry.with("a", 1));
+
+        // Then:
+        assertThat(formatter.count, is(1));
+        final StringBuilder decoded = new StringBuilder();
+        new BinaryLogDecoder().decode(ByteBuffer.wrap(binary.bytes.get(0)), decoded);
+        assertThat(decoded.toString(), is(sink.entries.get(0)));
+    }
+
+    @Test
+    void shouldWriteTemplateAsIfLoggedViaCustomizer() {
+        // Given:
+        final SinkStructuredLogger logger = jsonLogger(Optional.empty());
+        final LogTemplate template = LogTemplate.of(Level.INFO, "some \"message\"", "a", "b");
+
+        // When:
+        logger.log(template, 1, List.of("x"));
+        logger.info("some \"message\"", entry -> entry.with("a", 1).with("b", List.of("x")));
+
+        // Then:
+        assertThat(
+                sink.entries.get(0),
+                startsWith(
+                        "{\"timestamp\":\"2026-10-18T10:15:30.123Z\",\"level\":\"INFO\","
+                                + "\"logger\":\"some.logger\","
+                                + "\"message\":\"some \\\"message\\\"\","));
+        assertThat(sink.entries.get(0), endsWith("}\n"));
+        assertThat(json(0), is(json(1)));
+    }
+
+    @Test
+    void shouldWriteTemplateUnderRootNamespace() {
+        // Given:
+        final SinkStructuredLogger logger = jsonLogger(Optional.of("creek"));
+        final LogTemplate template = LogTemplate.of(Level.WARN, "msg", "a");
+
+        // When:
+        logger.log(template, 1);
+        logger.warn("msg", entry -> entry.with("a", 1));
+
+        // Then:
+        assertThat(json(0).get("creek").get("a").asInt(), is(1));
+        assertThat(json(0), is(json(1)));
+    }
+
+    @Test
+    void shouldOmitNullTemplateValues() {
+        // Given:
+        final SinkStructuredLogger logger = jsonLogger(Optional.of("creek"));
+        final LogTemplate template = LogTemplate.of(Level.INFO, "msg", "a", "b");
+
+        // When:
+        logger.log(template, null, null);
+        logger.log(template, null, 2);
+
+        // Then:
+        assertThat(json(0).has("creek"), is(false));
+        assertThat(json(1).get("creek").has("a"), is(false));
+        assertThat(json(1).get("creek").get("b").asInt(), is(2));
+    }
+
+    @Test
+    void shouldNotWriteTemplateBelowThreshold() {
+        // Given:
+        final SinkStructuredLogger logger = jsonLogger(Optional.empty());
+
+        // When:
+        logger.log(LogTemplate.of(Level.DEBUG, "msg", "a"), 1);
+
+        // Then:
+        assertThat(sink.entries, is(empty()));
+    }
+
+    @Test
+    void shouldWriteTemplateViaEntryForOtherEncoders() {
+        // Given:
+        final SinkStructuredLogger logger = logger(Optional.empty(), Level.TRACE);
+
+        // When:
+        logger.log(LogTemplate.of(Level.INFO, "msg", "a"), 1);
+
+        // Then:
+        assertThat(formatter.count, is(1));
+        assertThat(json(0).get("message").asString(), is("msg"));
+        assertThat(json(0).get("a").asInt(), is(1));
+    }
+
+    @Test
+    void shouldThrowOnTemplateValueCountMismatch() {
+        // Given:
+        final SinkStructuredLogger logger = jsonLogger(Optional.empty());
+        final LogTemplate template = LogTemplate.of(Level.INFO, "msg", "a", "b");
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> logger.log(template, 1));
+
+        // Then:
+        assertThat(e.getMessage(), is("Expected 2 values, but got 1"));
+    }
+
+    private SinkStructuredLogger jsonLogger(final Optional<String> rootNs) {
+        return new SinkStructuredLogger(
+                "some.logger",
+                rootNs,
+                List.of(new SinkBinding(sink, Level.INFO, SinkBinding.ALL_FIELDS)),
+                DefaultLogEntryCustomizer::create,
+                new EntryEncoder(new JsonLogEntryFormatter(), "\n"),
+                CLOCK);
+    }
+
+    private SinkStructuredLogger logger(final Optional<String> rootNs, final Level threshold) {
+        return logger(rootNs, List.of(new SinkBinding(sink, threshold, SinkBinding.ALL_FIELDS)));
+    }
+
+    private SinkStructuredLogger logger(
+            final Optional<String> rootNs, final List<SinkBinding> sinks) {
+        return new SinkStructuredLogger(
+                "some.logger",
+                rootNs,
+                sinks,
+                DefaultLogEntryCustomizer::create,
+                new EntryEncoder(formatter, "\n"),
+                CLOCK);
+    }
+
+    private JsonNode json(final int index) {
+        return MAPPER.readTree(sink.entries.get(index));
+    }
+
+    private static final class CountingFormatter implements LogEntryFormatter {
+
+        private final JsonLogEntryFormatter delegate = new JsonLogEntryFormatter();
+        int count;
+
+        @Override
+        public boolean causeInMessage() {
+            return delegate.causeInMessage();
+        }
+
+        @Override
+        public String format(final Map<String, ?> logEntry) {
+            count++;
+            return delegate.format(logEntry);
+        }
+
+        @Override
+        public void format(final Map<String, ?> logEntry, final StringBuilder sb) {
+            count++;
+            delegate.format(logEntry, sb);
+        }
+    }
+
+    private static class CapturingSink implements LogSink {
+
+        final List<String> entries = new ArrayList<>();
+        final List<byte[]> bytes = new ArrayList<>();
+
+        @Override
+        public void write(final ByteBuffer entry) {
+            final byte[] copy = new byte[entry.remaining()];
+            entry.duplicate().get(copy);
+            bytes.add(copy);
+            entries.add(UTF_8.decode(entry).toString());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
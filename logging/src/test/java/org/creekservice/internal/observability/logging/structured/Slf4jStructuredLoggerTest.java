@@ -21,8 +21,11 @@ import static org.creekservice.api.observability.logging.structured.Level.ERROR;
 import static org.creekservice.api.observability.logging.structured.Level.INFO;
 import static org.creekservice.api.observability.logging.structured.Level.TRACE;
 import static org.creekservice.api.observability.logging.structured.Level.WARN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -32,8 +35,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import org.creekservice.api.observability.logging.structured.EmissionMode;
 import org.creekservice.api.observability.logging.structured.Level;
 import org.creekservice.api.observability.logging.structured.LogEntryCustomizer;
+import org.creekservice.api.observability.logging.structured.LogEntryFormatter;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +50,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -59,15 +66,24 @@ class Slf4jStructuredLoggerTest {
     @Mock private Function<String, DefaultLogEntryCustomizer> customizerFactory;
     @Mock private DefaultLogEntryCustomizer customizer;
     @Mock private LogEntryFormatter formatter;
+    @Mock private LoggingEventBuilder eventBuilder;
     private Slf4jStructuredLogger logger;
 
     @BeforeEach
     void setUp() {
         logger =
                 new Slf4jStructuredLogger(
-                        slf4jLogger, Optional.empty(), customizerFactory, formatter);
+                        slf4jLogger,
+                        Optional.empty(),
+                        customizerFactory,
+                        formatter,
+                        EmissionMode.MESSAGE);
 
         when(customizerFactory.apply(any())).thenReturn(customizer);
+        when(slf4jLogger.atLevel(any())).thenReturn(eventBuilder);
+        when(eventBuilder.addKeyValue(any(String.class), any(Object.class)))
+                .thenReturn(eventBuilder);
+        when(eventBuilder.setCause(any())).thenReturn(eventBuilder);
         when(customizer.build(anyBoolean())).thenReturn(LOG_STATE);
         when(formatter.format(any())).thenReturn(LOG_LINE);
     }
@@ -173,6 +189,16 @@ class Slf4jStructuredLoggerTest {
         verify(slf4jLogger).trace(LOG_LINE, THROWABLE);
     }
 
+    @Test
+    void shouldReportEnabledLevels() {
+        // Given:
+        when(slf4jLogger.isDebugEnabled()).thenReturn(true);
+
+        // Then:
+        assertThat(logger.isEnabled(DEBUG), is(true));
+        assertThat(logger.isEnabled(TRACE), is(false));
+    }
+
     @Test
     void shouldLogDebugIfEnabled() {
         // Given:
@@ -278,7 +304,11 @@ class Slf4jStructuredLoggerTest {
         // Given:
         logger =
                 new Slf4jStructuredLogger(
-                        slf4jLogger, Optional.of("rootNs"), customizerFactory, formatter);
+                        slf4jLogger,
+                        Optional.of("rootNs"),
+                        customizerFactory,
+                        formatter,
+                        EmissionMode.MESSAGE);
         givenEnabled(Level.INFO);
         final DefaultLogEntryCustomizer nestedCustomizer = mock(DefaultLogEntryCustomizer.class);
         when(customizer.ns("rootNs")).thenReturn(nestedCustomizer);
@@ -291,6 +321,167 @@ class Slf4jStructuredLoggerTest {
         verify(nestedCustomizer).with("a", 1);
     }
 
+    @ParameterizedTest
+    @EnumSource(Level.class)
+    void shouldNotEmitKeyValuesIfNotEnabled(final Level level) {
+        // Given:
+        givenKeyValueMode();
+
+        // When:
+        logger.log(level, "msg", NO_CUSTOMIZATION);
+
+        // Then:
+        verify(slf4jLogger, never()).atLevel(any());
+        verify(customizerFactory, never()).apply(any());
+    }
+
+    @Test
+    void shouldEmitKeyValuesAtMatchingLevel() {
+        // Given:
+        givenKeyValueMode();
+        givenEnabled(WARN);
+
+        // When:
+        logger.log(WARN, "msg");
+
+        // Then:
+        verify(slf4jLogger).atLevel(org.slf4j.event.Level.WARN);
+    }
+
+    @Test
+    void shouldEmitEachFieldOtherThanMessageAsKeyValue() {
+        // Given:
+        givenKeyValueMode();
+        givenEnabled(INFO);
+        final Map<String, Object> nested = Map.of("b", 2);
+        when(customizer.build(anyBoolean()))
+                .thenReturn(Map.of("message", "msg", "a", 1, "ns", nested));
+
+        // When:
+        logger.log(INFO, "msg");
+
+        // Then:
+        verify(customizer).build(false);
+        verify(eventBuilder).addKeyValue("a", 1);
+        verify(eventBuilder).addKeyValue("ns", nested);
+        verify(eventBuilder, never()).addKeyValue(eq("message"), any(Object.class));
+        verify(eventBuilder).log("msg");
+    }
+
+    @Test
+    void shouldEmitThrowableAsCauseInKeyValueMode() {
+        // Given:
+        givenKeyValueMode();
+        givenEnabled(ERROR);
+        when(customizer.throwable()).thenReturn(Optional.of(THROWABLE));
+
+        // When:
+        logger.log(ERROR, "msg");
+
+        // Then:
+        verify(eventBuilder).setCause(THROWABLE);
+    }
+
+    @Test
+    void shouldNotInvokeFormatterInKeyValueMode() {
+        // Given:
+        givenKeyValueMode();
+        givenEnabled(INFO);
+
+        // When:
+        logger.log(INFO, "msg");
+
+        // Then:
+        verify(formatter, never()).format(any());
+        verify(slf4jLogger, never()).info(any(String.class), any(Throwable.class));
+    }
+
+    @Test
+    void shouldHandleEmptyEntryInKeyValueMode() {
+        // Given:
+        givenKeyValueMode();
+        givenEnabled(INFO);
+        when(customizer.build(anyBoolean())).thenReturn(null);
+
+        // When:
+        logger.log(INFO, "msg");
+
+        // Then:
+        verify(eventBuilder, never()).addKeyValue(any(String.class), any(Object.class));
+        verify(eventBuilder).log("msg");
+    }
+
+    private void givenKeyValueMode() {
+        logger =
+                new Slf4jStructuredLogger(
+                        slf4jLogger,
+                        Optional.empty(),
+                        customizerFactory,
+                        formatter,
+                        EmissionMode.KEY_VALUES);
+    }
+
+    @Test
+    void shouldLogTemplateAsPreRenderedJson() {
+        // Given:
+        givenEnabled(INFO);
+        logger = jsonLogger(Optional.empty());
+
+        // When:
+        logger.log(LogTemplate.of(INFO, "msg", "a", "b"), 1, "x");
+
+        // Then:
+        verify(slf4jLogger).info("{\"message\":\"msg\",\"a\":1,\"b\":\"x\"}", NO_THROWABLE);
+    }
+
+    @Test
+    void shouldLogTemplateUnderRootNamespace() {
+        // Given:
+        givenEnabled(WARN);
+        logger = jsonLogger(Optional.of("creek"));
+
+        // When:
+        logger.log(LogTemplate.of(WARN, "msg", "a"), 1);
+
+        // Then:
+        verify(slf4jLogger).warn("{\"message\":\"msg\",\"creek\":{\"a\":1}}", NO_THROWABLE);
+    }
+
+    @Test
+    void shouldNotLogTemplateIfDisabled() {
+        // Given:
+        logger = jsonLogger(Optional.empty());
+
+        // When:
+        logger.log(LogTemplate.of(INFO, "msg", "a"), 1);
+
+        // Then:
+        verify(slf4jLogger, never()).info(any(String.class), any(Throwable.class));
+    }
+
+    @Test
+    void shouldLogTemplateViaCustomizerForOtherFormatters() {
+        // Given:
+        givenEnabled(INFO);
+
+        // When:
+        logger.log(LogTemplate.of(INFO, "msg", "a"), 1);
+
+        // Then:
+        verify(customizerFactory).apply("msg");
+        verify(customizer).with("a", 1);
+        verify(slf4jLogger).info(LOG_LINE, NO_THROWABLE);
+    }
+
+    private Slf4jStructuredLogger jsonLogger(final Optional<String> rootNs) {
+        return new Slf4jStructuredLogger(
+                slf4jLogger,
+                rootNs,
+                DefaultLogEntryCustomizer::create,
+                new JsonLogEntryFormatter(),
+                EmissionMode.MESSAGE);
+    }
+
     private void givenEnabled(final Level level) {
         switch (level) {
             case TRACE:
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import org.creekservice.api.observability.logging.structured.LogEventWriter;
+
+/** A log event, with a hand-written writer equivalent to one the processor would generate. */
+record TestLogEvent(String name, int count, boolean on, TestLogEvent child) {
+
+    static final LogEventWriter<TestLogEvent> WRITER =
+            new LogEventWriter<>() {
+                @Override
+                public Class<TestLogEvent> type() {
+                    return TestLogEvent.class;
+                }
+
+                @Override
+                public void write(final TestLogEvent event, final Fields fields) {
+                    fields.field("name", event.name());
+                    fields.field("count", event.count());
+                    fields.field("on", event.on());
+                    fields.field("child", event.child());
+                }
+            };
+
+    static {
+        LogEventWriters.register(WRITER);
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.logging.structured;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UnixSocketSinkTest {
+
+    private static final Duration LONG_DELAY = Duration.ofMinutes(1);
+    private static final Duration SHORT_DELAY = Duration.ofMillis(10);
+
+    @TempDir private Path tempDir;
+    private Path socketPath;
+    private SocketServer server;
+    private UnixSocketSink sink;
+
+    @BeforeEach
+    void setUp() {
+        socketPath = tempDir.resolve("sink.sock");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sink != null) {
+            sink.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void shouldThrowOnInvalidBufferSize() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new UnixSocketSink(socketPath, 1, LONG_DELAY, LONG_DELAY, "test"));
+    }
+
+    @Test
+    void shouldStreamEntriesToSocket() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 1024, LONG_DELAY, SHORT_DELAY, "test");
+        sink.write(entry("a"));
+        sink.write(entry("b"));
+
+        // When:
+        sink.flush();
+
+        // Then:
+        server.awaitReceived("a\nb\n");
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    @Test
+    void shouldSendBatchAfterMaxDelay() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 1024, SHORT_DELAY, SHORT_DELAY, "test");
+
+        // When:
+        sink.write(entry("a"));
+
+        // Then:
+        server.awaitReceived("a\n");
+    }
+
+    @Test
+    void shouldBufferEntriesUntilConnected() {
+        // Given:
+        sink = new UnixSocketSink(socketPath, 1024, SHORT_DELAY, SHORT_DELAY, "test");
+        sink.write(entry("a"));
+
+        // When:
+        server = new SocketServer(socketPath);
+
+        // Then:
+        server.awaitReceived("a\n");
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    @Test
+    void shouldNotBlockFlushWhileDisconnected() {
+        // Given:
+        sink = new UnixSocketSink(socketPath, 1024, LONG_DELAY, LONG_DELAY, "test");
+        sink.write(entry("a"));
+
+        // When:
+        sink.flush();
+
+        // Then: did not block.
+    }
+
+    @Test
+    void shouldDropEntriesLargerThanBuffer() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 8, LONG_DELAY, SHORT_DELAY, "test");
+
+        // When:
+        sink.write(entry("too long to buffer"));
+
+        // Then:
+        assertThat(sink.droppedEntries(), is(1L));
+    }
+
+    @Test
+    void shouldCountBufferedAndOverflowingEntriesAsDroppedOnCloseIfDisconnected() {
+        // Given:
+        sink = new UnixSocketSink(socketPath, 8, LONG_DELAY, LONG_DELAY, "test");
+        sink.write(entry("abc"));
+        sink.write(entry("def"));
+        sink.write(entry("ghi"));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(sink.droppedEntries(), is(3L));
+    }
+
+    @Test
+    void shouldCountEntriesWithoutLineSeparatorsAsDropped() {
+        // Given:
+        sink = new UnixSocketSink(socketPath, 8, LONG_DELAY, LONG_DELAY, "test");
+        sink.write(binaryEntry("abc"));
+        sink.write(binaryEntry("de\nf"));
+        sink.write(binaryEntry("ghi"));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(sink.droppedEntries(), is(3L));
+    }
+
+    @Test
+    void shouldSendEntriesWithoutLineSeparatorsWhole() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 1024, Duration.ZERO, LONG_DELAY, "test");
+
+        // When:
+        sink.write(binaryEntry("ab\ncd"));
+        sink.write(binaryEntry("ef"));
+        sink.flush();
+
+        // Then:
+        server.awaitReceived("ab\ncdef");
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    @Test
+    void shouldDeregisterFromShutdownHookOnClose() {
+        // Given:
+        sink =
+                SinkShutdownHook.register(
+                        new UnixSocketSink(socketPath, 1024, LONG_DELAY, LONG_DELAY, "test"));
+        assertThat(SinkShutdownHook.registered(sink), is(true));
+
+        // When:
+        sink.close();
+
+        // Then:
+        assertThat(SinkShutdownHook.registered(sink), is(false));
+    }
+
+    @Test
+    void shouldDropEntriesWrittenAfterClose() {
+        // Given:
+        sink = new UnixSocketSink(socketPath, 1024, LONG_DELAY, LONG_DELAY, "test");
+        sink.close();
+
+        // When:
+        sink.write(entry("a"));
+
+        // Then:
+        assertThat(sink.droppedEntries(), is(1L));
+    }
+
+    @Test
+    void shouldSendBufferedEntriesOnClose() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 1024, LONG_DELAY, SHORT_DELAY, "test");
+        server.awaitConnected();
+        sink.write(entry("a"));
+
+        // When:
+        sink.close();
+
+        // Then:
+        server.awaitReceived("a\n");
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    @Test
+    void shouldReconnectIfConnectionLost() {
+        // Given:
+        server = new SocketServer(socketPath);
+        sink = new UnixSocketSink(socketPath, 1024, SHORT_DELAY, SHORT_DELAY, "test");
+        sink.write(entry("a"));
+        server.awaitReceived("a\n");
+
+        // When:
+        server.dropConnection();
+        sink.write(entry("b"));
+
+        // Then:
+        server.awaitReceived("a\nb\n");
+        assertThat(sink.droppedEntries(), is(0L));
+    }
+
+    private static ByteBuffer entry(final String text) {
+        return ByteBuffer.wrap((text + "\n").getBytes(UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer binaryEntry(final String text) {
+        return ByteBuffer.wrap(text.getBytes(UTF_8)).asReadOnlyBuffer();
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out waiting for condition");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /** A non-blocking socket server, polled from the test thread. */
+    private static final class SocketServer {
+
+        private final ServerSocketChannel server;
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(1024);
+        private SocketChannel client;
+
+        SocketServer(final Path socketPath) {
+            try {
+                Files.deleteIfExists(socketPath);
+                server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+                server.bind(UnixDomainSocketAddress.of(socketPath));
+                server.configureBlocking(false);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void awaitConnected() {
+            awaitUntil(
+                    () -> {
+                        poll();
+                        return client != null;
+                    });
+        }
+
+        void awaitReceived(final String expected) {
+            awaitUntil(
+                    () -> {
+                        poll();
+                        return received.toString(UTF_8).equals(expected);
+                    });
+        }
+
+        void dropConnection() {
+            try {
+                client.close();
+                client = null;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                if (client != null) {
+                    client.close();
+                }
+                server.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void poll() {
+            try {
+                if (client == null) {
+                    client = server.accept();
+                    if (client == null) {
+                        return;
+                    }
+                    client.configureBlocking(false);
+                }
+
+                readBuffer.clear();
+                if (client.read(readBuffer) > 0) {
+                    received.write(readBuffer.array(), 0, readBuffer.position());
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
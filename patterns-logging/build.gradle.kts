@@ -14,24 +14,13 @@
  * limitations under the License.
  */
 
-package org.creekservice.internal.observability.logging.structured;
-
-import java.util.Map;
-
-/** A formatter of log entries. */
-interface LogEntryFormatter {
+plugins {
+    `java-library`
+}
 
-    /**
-     * @return {@code true} if any throwable should be included in the message payload in a `cause`
-     *     field, rather than passed to the underlying logging framework.
-     */
-    boolean causeInMessage();
+dependencies {
+    api(project(":patterns"))
+    api(project(":logging"))
 
-    /**
-     * Called to format a log entry.
-     *
-     * @param logEntry the log entry to format.
-     * @return the formatted data.
-     */
-    String format(Map<String, ?> logEntry);
+    testImplementation(project(":logging-fixtures"))
 }
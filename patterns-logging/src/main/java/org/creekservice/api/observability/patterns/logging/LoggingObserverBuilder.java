@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns.logging;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.LogTemplate;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.internal.observability.patterns.GuardedCallHandler;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * Build an observer that logs every call made to it, without hand-written code.
+ *
+ * <p>Add the observer to a composite to tap the calls made to other observers:
+ *
+ * <pre>{@code
+ * MyListener tap = LoggingObserverBuilder.builder(MyListener.class, logger)
+ *     .level(Level.DEBUG)
+ *     .build();
+ *
+ * MyListener composite = CompositeObserverBuilder.builder(MyListener.class, listener)
+ *     .add(tap)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Each call is logged with the method's name as the message and each argument as a field,
+ * keyed by the parameter's name. Parameter names are only available if the observer interface was
+ * compiled with {@code -parameters}. Otherwise, they are {@code arg0}, {@code arg1}, etc. A
+ * parameter named {@code message}, which would clash with the message field, is keyed as {@code
+ * messageArg}. As with other log entries, {@code null} arguments are omitted.
+ *
+ * <p>Each method's message and keys are captured in a {@link LogTemplate} when the observer is
+ * built. Calls first check if the level is enabled, before boxing any arguments, so while the level
+ * is disabled calls cost little more than the level check.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class LoggingObserverBuilder<Observer> {
+
+    private static final String MESSAGE_FIELD = "message";
+
+    private final Class<Observer> observerClass;
+    private final ObserverType type;
+    private final StructuredLogger logger;
+    private Level level = Level.DEBUG;
+
+    /**
+     * Create a builder
+     *
+     * @param observerClass the observer interface type.
+     * @param logger the logger to log calls to.
+     * @return the builder.
+     * @param <Observer> the type of the observer interface.
+     */
+    public static <Observer> LoggingObserverBuilder<Observer> builder(
+            final Class<Observer> observerClass, final StructuredLogger logger) {
+        final ObserverType type = ObserverType.of(observerClass);
+        return new LoggingObserverBuilder<>(observerClass, type, logger);
+    }
+
+    private LoggingObserverBuilder(
+            final Class<Observer> observerClass,
+            final ObserverType type,
+            final StructuredLogger logger) {
+        this.observerClass = observerClass;
+        this.type = type;
+        this.logger = requireNonNull(logger, "logger");
+    }
+
+    /**
+     * Set the level to log calls at.
+     *
+     * <p>Default: {@link Level#DEBUG}.
+     *
+     * @param level the level.
+     * @return self, to allow chaining.
+     */
+    public LoggingObserverBuilder<Observer> level(final Level level) {
+        this.level = requireNonNull(level, "level");
+        return this;
+    }
+
+    /**
+     * @return an observer that logs each call made to it.
+     */
+    public Observer build() {
+        final List<Method> methods = type.methods();
+        final LogTemplate[] templates = new LogTemplate[methods.size()];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = template(level, methods.get(i));
+        }
+
+        return observerClass.cast(
+                type.interceptor(new Handler(logger, level, templates, observerClass)));
+    }
+
+    private static LogTemplate template(final Level level, final Method method) {
+        final Parameter[] params = method.getParameters();
+        final String[] keys = new String[params.length];
+        for (int i = 0; i < params.length; i++) {
+            final String name = params[i].getName();
+            keys[i] = name.equals(MESSAGE_FIELD) ? name + "Arg" : name;
+        }
+        return LogTemplate.of(level, method.getName(), keys);
+    }
+
+    private static final class Handler implements GuardedCallHandler {
+
+        private final StructuredLogger logger;
+        private final Level level;
+        private final LogTemplate[] templates;
+        private final Class<?> observerClass;
+
+        Handler(
+                final StructuredLogger logger,
+                final Level level,
+                final LogTemplate[] templates,
+                final Class<?> observerClass) {
+            this.logger = logger;
+            this.level = level;
+            this.templates = templates;
+            this.observerClass = observerClass;
+        }
+
+        @Override
+        public boolean enabled(final int method) {
+            return logger.isEnabled(level);
+        }
+
+        @Override
+        public void call(final int method, final Object[] args) {
+            logger.log(templates[method], args);
+        }
+
+        @Override
+        public String toString() {
+            return "Logging " + observerClass.getName();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns.logging;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import org.creekservice.api.observability.logging.structured.Level;
+import org.creekservice.api.observability.logging.structured.StructuredLogger;
+import org.creekservice.api.test.observability.logging.structured.TestStructuredLogger;
+import org.junit.jupiter.api.Test;
+
+class LoggingObserverBuilderTest {
+
+    @Test
+    void shouldLogCallsWithArgumentsAsFields() throws Exception {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create();
+        final Observer observer = LoggingObserverBuilder.builder(Observer.class, logger).build();
+        final Parameter[] params =
+                Observer.class.getMethod("foo", String.class, int.class).getParameters();
+
+        // When:
+        observer.foo("text", 10);
+
+        // Then:
+        assertThat(logger.entries(), hasSize(1));
+        assertThat(logger.entries().get(0).level(), is(Level.DEBUG));
+        assertThat(
+                logger.entries().get(0).message(),
+                is(
+                        Map.of(
+                                "message",
+                                "foo",
+                                params[0].getName(),
+                                "text",
+                                params[1].getName(),
+                                10)));
+    }
+
+    @Test
+    void shouldLogAtConfiguredLevel() {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create();
+        final Observer observer =
+                LoggingObserverBuilder.builder(Observer.class, logger).level(Level.WARN).build();
+
+        // When:
+        observer.bar();
+
+        // Then:
+        assertThat(logger.entries(), hasSize(1));
+        assertThat(logger.entries().get(0).level(), is(Level.WARN));
+        assertThat(logger.entries().get(0).message(), is(Map.of("message", "bar")));
+    }
+
+    @Test
+    void shouldNotLogIfLevelDisabled() {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create(Level.INFO);
+        final Observer observer = LoggingObserverBuilder.builder(Observer.class, logger).build();
+
+        // When:
+        observer.foo("text", 10);
+
+        // Then:
+        assertThat(logger.entries(), is(empty()));
+    }
+
+    @Test
+    void shouldCheckLevelBeforeCapturingArguments() {
+        // Given:
+        final StructuredLogger logger = mock();
+        final Observer observer = LoggingObserverBuilder.builder(Observer.class, logger).build();
+
+        // When:
+        observer.foo("text", 10);
+
+        // Then:
+        verify(logger).isEnabled(Level.DEBUG);
+        verifyNoMoreInteractions(logger);
+    }
+
+    @Test
+    void shouldRenameMessageParameter() {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create();
+        final WithMessageParam observer =
+                LoggingObserverBuilder.builder(WithMessageParam.class, logger).build();
+
+        // When:
+        observer.baz("text");
+
+        // Then:
+        assertThat(logger.entries(), hasSize(1));
+    }
+
+    @Test
+    void shouldSupportNonPublicInterfaces() {
+        // Given:
+        final TestStructuredLogger logger = TestStructuredLogger.create();
+        final NonPublicObserver observer =
+                LoggingObserverBuilder.builder(NonPublicObserver.class, logger).build();
+
+        // When:
+        observer.baz(10L);
+
+        // Then:
+        assertThat(logger.entries(), hasSize(1));
+        assertThat(logger.entries().get(0).message().get("message"), is("baz"));
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+
+    public interface WithMessageParam {
+        void baz(String message);
+    }
+
+    interface NonPublicObserver {
+        void baz(long l);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the cost of calling a generated composite and a {@link java.lang.reflect.Proxy} based
+ * composite, each with three observers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompositeObserverBenchmark {
+
+    private PublicObserver generated;
+    private PackagePrivateObserver proxy;
+    private long offset;
+
+    /**
+     * Build the composites under test.
+     *
+     * @param blackhole the blackhole the observers pass their arguments to.
+     */
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        final Counter counter = new Counter(blackhole);
+
+        generated =
+                CompositeObserverBuilder.builder(PublicObserver.class, counter::onRecord)
+                        .add(counter::onRecord)
+                        .add(counter::onRecord)
+                        .build();
+
+        proxy =
+                CompositeObserverBuilder.builder(PackagePrivateObserver.class, counter::onRecord)
+                        .add(counter::onRecord)
+                        .add(counter::onRecord)
+                        .build();
+    }
+
+    /** Call the generated composite. */
+    @Benchmark
+    public void generated() {
+        generated.onRecord(offset++, "topic");
+    }
+
+    /** Call the proxy based composite. */
+    @Benchmark
+    public void proxy() {
+        proxy.onRecord(offset++, "topic");
+    }
+
+    /** Public, so a composite class is generated. */
+    public interface PublicObserver {
+        void onRecord(long offset, String topic);
+    }
+
+    /** Package-private, so a proxy is used. */
+    interface PackagePrivateObserver {
+        void onRecord(long offset, String topic);
+    }
+
+    private static final class Counter {
+
+        private final Blackhole blackhole;
+
+        Counter(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        void onRecord(final long offset, final String topic) {
+            blackhole.consume(offset);
+            blackhole.consume(topic);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.creekservice.internal.observability.patterns.ObserverType;
+import org.creekservice.internal.observability.patterns.SerialDrain;
+import org.creekservice.internal.observability.patterns.SerialQueue;
+
+/**
+ * Calls observers asynchronously, on an {@link Executor}.
+ *
+ * <p>Use to stop slow observers, e.g. metrics exporters or audit writers, adding their latency to
+ * the thread raising the events:
+ *
+ * <pre>{@code
+ * AsyncDispatcher dispatcher = AsyncDispatcher.builder(executor).build();
+ *
+ * MyListener composite = CompositeObserverBuilder.builder(MyListener.class, fastListener)
+ *     .addAsync(slowListener, dispatcher)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Each observer wrapped by a dispatcher has its own bounded queue of calls. Calls to an observer
+ * are made in the order they were queued, one at a time, though not necessarily on the same
+ * thread. Any executor can be used, including one that starts a virtual thread per task.
+ *
+ * <p>Closing the dispatcher stops it accepting new calls and waits for queued calls to complete.
+ * It does not shut down the executor. Observers wrapped after close discard all calls. If the
+ * executor rejects a task, e.g. because it has been shut down, the calls queued to that observer
+ * are discarded and counted, rather than the rejection being thrown to the caller.
+ *
+ * <p>A dispatcher only holds the queues of wrapped observers that are still reachable, or still
+ * have calls to make, so wrapping short-lived observers does not leak memory.
+ */
+public final class AsyncDispatcher implements AutoCloseable {
+
+    /** What to do when a call is made to an observer whose queue is full. */
+    public enum OverflowPolicy {
+        /** Block the calling thread until there is space in the queue. */
+        BLOCK,
+        /** Discard the call. Discarded calls are counted. */
+        DISCARD,
+        /** Throw a {@link java.util.concurrent.RejectedExecutionException}. */
+        THROW
+    }
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super Throwable> exceptionHandler;
+    private final List<WeakReference<SerialQueue>> queues = new CopyOnWriteArrayList<>();
+    private final LongAdder discarded = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Create a builder
+     *
+     * @param executor the executor to call observers on.
+     * @return the builder.
+     */
+    public static Builder builder(final Executor executor) {
+        return new Builder(executor);
+    }
+
+    private AsyncDispatcher(
+            final Executor executor,
+            final int queueCapacity,
+            final OverflowPolicy overflowPolicy,
+            final Consumer<? super Throwable> exceptionHandler) {
+        this.executor = requireNonNull(executor, "executor");
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+        this.exceptionHandler = requireNonNull(exceptionHandler, "exceptionHandler");
+    }
+
+    /**
+     * Wrap an observer, so that calls to it are made asynchronously.
+     *
+     * @param observerClass the observer interface type.
+     * @param observer the observer to wrap.
+     * @param <Observer> the type of the observer interface.
+     * @return an observer that queues calls to {@code observer}, or, if the dispatcher is closed,
+     *     that discards all calls.
+     */
+    public <Observer> Observer wrap(final Class<Observer> observerClass, final Observer observer) {
+        final ObserverType type = ObserverType.of(observerClass);
+        requireNonNull(observer, "observer");
+        if (closed) {
+            return observerClass.cast(type.interceptor((method, args) -> discarded.increment()));
+        }
+
+        final SerialQueue queue =
+                new SerialQueue(
+                        type,
+                        observer,
+                        executor,
+                        queueCapacity,
+                        overflowPolicy,
+                        exceptionHandler,
+                        discarded);
+        purge();
+        queues.add(new WeakReference<>(queue));
+        if (closed) {
+            // Raced with close, which may not have seen the queue:
+            queue.shutdown();
+        }
+        return observerClass.cast(type.interceptor(queue));
+    }
+
+    /**
+     * @return the number of calls waiting to be made, across all wrapped observers.
+     */
+    public long queued() {
+        return queues().stream().mapToLong(SerialQueue::depth).sum();
+    }
+
+    /**
+     * @return the number of calls discarded, across all wrapped observers.
+     */
+    public long discarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Stop accepting calls and wait for queued calls to complete.
+     *
+     * <p>Calls made after close are discarded. All queues stop accepting calls before waiting
+     * starts, so an interrupt while waiting does not leave any queue accepting calls.
+     */
+    @Override
+    public void close() {
+        try {
+            for (final SerialQueue queue : shutdown()) {
+                queue.awaitDrained();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop accepting calls and wait, up to {@code timeout}, for queued calls to complete.
+     *
+     * <p>Calls made after close are discarded. Calls still queued when the timeout expires continue
+     * to be made in the background.
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if all queued calls completed within the timeout.
+     */
+    public boolean close(final Duration timeout) {
+        requireNonNull(timeout, "timeout");
+        final long start = System.nanoTime();
+        try {
+            boolean drained = true;
+            for (final SerialQueue queue : shutdown()) {
+                final Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+                drained &= queue.awaitDrained(remaining.isNegative() ? Duration.ZERO : remaining);
+            }
+            return drained;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private List<SerialQueue> shutdown() {
+        closed = true;
+        final List<SerialQueue> queues = queues();
+        queues.forEach(SerialQueue::shutdown);
+        return queues;
+    }
+
+    private List<SerialQueue> queues() {
+        purge();
+        return queues.stream()
+                .map(WeakReference::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private void purge() {
+        queues.removeIf(queue -> queue.get() == null);
+    }
+
+    /** Builder of {@link AsyncDispatcher}. */
+    public static final class Builder {
+
+        private final Executor executor;
+        private int queueCapacity = 1024;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Consumer<? super Throwable> exceptionHandler = SerialDrain::uncaught;
+
+        private Builder(final Executor executor) {
+            this.executor = requireNonNull(executor, "executor");
+        }
+
+        /**
+         * Set the maximum number of calls to queue per observer.
+         *
+         * <p>Default: 1024.
+         *
+         * @param capacity the capacity.
+         * @return self, to allow chaining.
+         */
+        public Builder queueCapacity(final int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+            this.queueCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set what to do when an observer's queue is full.
+         *
+         * <p>Default: {@link OverflowPolicy#BLOCK}.
+         *
+         * @param policy the policy.
+         * @return self, to allow chaining.
+         */
+        public Builder overflowPolicy(final OverflowPolicy policy) {
+            this.overflowPolicy = requireNonNull(policy, "policy");
+            return this;
+        }
+
+        /**
+         * Set the handler of exceptions thrown by observers.
+         *
+         * <p>Default: the executing thread's uncaught exception handler.
+         *
+         * @param handler the handler.
+         * @return self, to allow chaining.
+         */
+        public Builder exceptionHandler(final Consumer<? super Throwable> handler) {
+            this.exceptionHandler = requireNonNull(handler, "handler");
+            return this;
+        }
+
+        /**
+         * @return the dispatcher.
+         */
+        public AsyncDispatcher build() {
+            return new AsyncDispatcher(executor, queueCapacity, overflowPolicy, exceptionHandler);
+        }
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.creekservice.api.observability.patterns.AsyncDispatcher.OverflowPolicy;
+import org.creekservice.internal.observability.patterns.BatchBuffer;
+import org.creekservice.internal.observability.patterns.DecoratorHook;
+import org.creekservice.internal.observability.patterns.ObserverType;
+import org.creekservice.internal.observability.patterns.SerialDrain;
+
+/**
+ * Records calls to an observer interface and delivers them in batches.
+ *
+ * <p>Use to amortise expensive work, e.g. I/O or lock acquisition, across many high-frequency
+ * calls:
+ *
+ * <pre>{@code
+ * BatchingObserver<MyListener> batching = BatchingObserver.builder(MyListener.class, executor)
+ *     .build(batch -> {
+ *         try (Connection connection = pool.connection()) {
+ *             batch.replay(new WritingListener(connection));
+ *         }
+ *     });
+ *
+ * MyListener listener = batching.observer();
+ * }</pre>
+ *
+ * <p>Or, to simply replay calls in order, in batches, to an existing observer:
+ *
+ * <pre>{@code
+ * BatchingObserver<MyListener> batching = BatchingObserver.builder(MyListener.class, executor)
+ *     .buildReplaying(listener);
+ * }</pre>
+ *
+ * <p>Calls are recorded into a preallocated, bounded, buffer. Batches are delivered on the
+ * executor, one at a time and in order, though not necessarily on the same thread. A batch holds
+ * all the calls recorded since the last batch, up to the maximum batch size, so batches grow under
+ * load, without adding latency when the load is light.
+ *
+ * <p>Closing stops the observer accepting new calls and waits for buffered calls to be delivered.
+ * It does not shut down the executor. If the executor rejects a task, e.g. because it has been shut
+ * down, the buffered calls are discarded and counted.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class BatchingObserver<Observer> implements AutoCloseable {
+
+    private final Observer observer;
+    private final BatchBuffer buffer;
+
+    /**
+     * Create a builder
+     *
+     * @param observerClass the observer interface type.
+     * @param executor the executor to deliver batches on.
+     * @return the builder.
+     * @param <Observer> the type of the observer interface.
+     */
+    public static <Observer> Builder<Observer> builder(
+            final Class<Observer> observerClass, final Executor executor) {
+        return new Builder<>(observerClass, executor);
+    }
+
+    private BatchingObserver(
+            final Class<Observer> observerClass,
+            final ObserverType type,
+            final BatchBuffer buffer) {
+        this.buffer = requireNonNull(buffer, "buffer");
+        this.observer = observerClass.cast(type.interceptor(buffer));
+    }
+
+    /**
+     * @return an observer that records calls into the buffer.
+     */
+    public Observer observer() {
+        return observer;
+    }
+
+    /**
+     * @return the number of calls waiting to be delivered.
+     */
+    public long queued() {
+        return buffer.depth();
+    }
+
+    /**
+     * @return the number of calls discarded.
+     */
+    public long discarded() {
+        return buffer.discarded();
+    }
+
+    /**
+     * Stop accepting calls and wait for buffered calls to be delivered.
+     *
+     * <p>Calls made after close are discarded.
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.close();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop accepting calls and wait, up to {@code timeout}, for buffered calls to be delivered.
+     *
+     * <p>Calls made after close are discarded. Calls still buffered when the timeout expires
+     * continue to be delivered in the background.
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if all buffered calls were delivered within the timeout.
+     */
+    public boolean close(final Duration timeout) {
+        try {
+            return buffer.close(timeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * A batch of recorded calls.
+     *
+     * <p>A batch is only valid for the duration of the callback it is passed to.
+     *
+     * @param <Observer> the observer interface type
+     */
+    public interface Batch<Observer> {
+
+        /**
+         * @return the number of calls in the batch.
+         */
+        int size();
+
+        /**
+         * @param index the index of the call within the batch.
+         * @return the method called.
+         */
+        Method method(int index);
+
+        /**
+         * @param index the index of the call within the batch.
+         * @return the arguments of the call, boxed. Must not be modified.
+         */
+        Object[] arguments(int index);
+
+        /**
+         * Replay the calls in the batch, in order, to the supplied {@code observer}.
+         *
+         * <p>Any exception thrown by the observer is propagated, and the remaining calls are not
+         * replayed.
+         *
+         * @param observer the observer to call.
+         */
+        void replay(Observer observer);
+    }
+
+    /**
+     * Builder of {@link BatchingObserver}.
+     *
+     * @param <Observer> the observer interface type
+     */
+    public static final class Builder<Observer> {
+
+        private final Class<Observer> observerClass;
+        private final ObserverType type;
+        private final Executor executor;
+        private int capacity = 8192;
+        private int maxBatchSize = 1024;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Consumer<? super Throwable> exceptionHandler = SerialDrain::uncaught;
+
+        private Builder(final Class<Observer> observerClass, final Executor executor) {
+            this.type = ObserverType.of(observerClass);
+            this.observerClass = observerClass;
+            this.executor = requireNonNull(executor, "executor");
+        }
+
+        /**
+         * Set the maximum number of calls to buffer.
+         *
+         * <p>Default: 8192.
+         *
+         * @param capacity the capacity.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> capacity(final int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of calls in a single batch.
+         *
+         * <p>Default: 1024.
+         *
+         * @param size the maximum batch size.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> maxBatchSize(final int size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size must be positive: " + size);
+            }
+            this.maxBatchSize = size;
+            return this;
+        }
+
+        /**
+         * Set what to do when the buffer is full.
+         *
+         * <p>Default: {@link OverflowPolicy#BLOCK}.
+         *
+         * @param policy the policy.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> overflowPolicy(final OverflowPolicy policy) {
+            this.overflowPolicy = requireNonNull(policy, "policy");
+            return this;
+        }
+
+        /**
+         * Set the handler of exceptions thrown when delivering batches.
+         *
+         * <p>Default: the executing thread's uncaught exception handler.
+         *
+         * @param handler the handler.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> exceptionHandler(final Consumer<? super Throwable> handler) {
+            this.exceptionHandler = requireNonNull(handler, "handler");
+            return this;
+        }
+
+        /**
+         * Build an observer whose calls are delivered in batches to the supplied {@code handler}.
+         *
+         * <p>Any exception thrown by the handler is passed to the exception handler.
+         *
+         * @param handler the handler of each batch.
+         * @return the batching observer.
+         */
+        public BatchingObserver<Observer> build(final Consumer<? super Batch<Observer>> handler) {
+            requireNonNull(handler, "handler");
+            final CallBatch<Observer> batch = new CallBatch<>(type);
+            return build(
+                    (methods, args, size) -> {
+                        batch.reset(methods, args, size);
+                        handler.accept(batch);
+                    },
+                    handler.toString());
+        }
+
+        /**
+         * Build an observer whose calls are replayed, in order and in batches, to the supplied
+         * {@code observer}.
+         *
+         * <p>Any exception thrown by the observer is passed to the exception handler, and the
+         * remaining calls in the batch are still replayed.
+         *
+         * @param observer the observer to replay calls to.
+         * @return the batching observer.
+         */
+        public BatchingObserver<Observer> buildReplaying(final Observer observer) {
+            requireNonNull(observer, "observer");
+            final Consumer<? super Throwable> exceptionHandler = this.exceptionHandler;
+            return build(
+                    (methods, args, size) -> {
+                        for (int i = 0; i < size; i++) {
+                            try {
+                                type.invoke(observer, methods[i], args[i]);
+                            } catch (final Throwable e) {
+                                exceptionHandler.accept(e);
+                            }
+                        }
+                    },
+                    observer.toString());
+        }
+
+        private BatchingObserver<Observer> build(final BatchBuffer.Sink sink, final String name) {
+            final BatchBuffer buffer =
+                    new BatchBuffer(
+                            sink,
+                            executor,
+                            capacity,
+                            maxBatchSize,
+                            overflowPolicy,
+                            exceptionHandler,
+                            name);
+            return new BatchingObserver<>(observerClass, type, buffer);
+        }
+    }
+
+    private static final class CallBatch<Observer> implements Batch<Observer> {
+
+        private final ObserverType type;
+        private int[] methods;
+        private Object[][] args;
+        private int size;
+
+        CallBatch(final ObserverType type) {
+            this.type = type;
+        }
+
+        void reset(final int[] methods, final Object[][] args, final int size) {
+            this.methods = methods;
+            this.args = args;
+            this.size = size;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Method method(final int index) {
+            return type.methods().get(methods[checkIndex(index)]);
+        }
+
+        @Override
+        public Object[] arguments(final int index) {
+            return args[checkIndex(index)];
+        }
+
+        @Override
+        public void replay(final Observer observer) {
+            requireNonNull(observer, "observer");
+            for (int i = 0; i < size; i++) {
+                try {
+                    type.invoke(observer, methods[i], args[i]);
+                } catch (final Throwable e) {
+                    throw DecoratorHook.rethrow(e);
+                }
+            }
+        }
+
+        private int checkIndex(final int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+            }
+            return index;
+        }
+    }
+}
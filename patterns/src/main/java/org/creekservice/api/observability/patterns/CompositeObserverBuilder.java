@@ -15,17 +15,16 @@
  */
 package org.creekservice.api.observability.patterns;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
+import static java.util.Objects.requireNonNull;
+
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import org.creekservice.internal.observability.patterns.ObserverType;
 
 /**
  * Easily build a chain of multiple <i>Observer</i> / <i>Listener</i> implementations.
@@ -47,8 +46,14 @@ import java.util.stream.Collectors;
  */
 public final class CompositeObserverBuilder<Observer> {
 
+    private static final Predicate<Method> DETECT_EMPTY = method -> true;
+
     private final Class<Observer> observerClass;
+    private final ObserverType type;
     private final List<Observer> observers = new ArrayList<>();
+    private final List<BitSet> subscriptions = new ArrayList<>();
+    private CompositeStats stats;
+    private Consumer<? super Throwable> exceptionHandler;
 
     /**
      * Create a builder
@@ -60,101 +65,231 @@ public final class CompositeObserverBuilder<Observer> {
      */
     public static <Observer> CompositeObserverBuilder<Observer> builder(
             final Class<Observer> observerClass, final Observer observer) {
-        if (!observerClass.isInterface()) {
-            throw new IllegalArgumentException("observerClass must be an interface");
-        }
-        validateMethodsAreVoidReturnType(observerClass);
-        return new CompositeObserverBuilder<>(observerClass, observer);
+        final ObserverType type = ObserverType.of(observerClass);
+        return new CompositeObserverBuilder<>(observerClass, type, observer);
     }
 
-    private CompositeObserverBuilder(final Class<Observer> observerClass, final Observer observer) {
+    private CompositeObserverBuilder(
+            final Class<Observer> observerClass, final ObserverType type, final Observer observer) {
         this.observerClass = observerClass;
+        this.type = type;
         add(observer);
     }
 
+    /**
+     * Subscribe an observer to only the methods it does not implement with an empty body.
+     *
+     * <p>Pass to {@link #add(Object, Predicate)}, or {@link DynamicComposite#add(Object,
+     * Predicate)}, to skip calls to methods the observer implements with an empty body, including
+     * empty default methods it does not override:
+     *
+     * <pre>{@code
+     * CompositeObserverBuilder.builder(MyListener.class, listener1)
+     *     .add(listener2, CompositeObserverBuilder.detectEmpty())
+     *     .build();
+     * }</pre>
+     *
+     * <p>Empty methods are detected from the observer's class file. Where this is not possible,
+     * e.g. for lambdas or mocks, the observer is subscribed to all methods.
+     *
+     * @return the predicate.
+     */
+    public static Predicate<Method> detectEmpty() {
+        return DETECT_EMPTY;
+    }
+
     /**
      * Add another observer to the chain
      *
+     * <p>The observer is called for all methods. Use {@link #add(Object, Predicate)} to call it for
+     * only some.
+     *
      * @param observer the observer to add.
      * @return self, to allow chaining.
      */
     public CompositeObserverBuilder<Observer> add(final Observer observer) {
-        this.observers.add(Objects.requireNonNull(observer, "observer"));
+        requireNonNull(observer, "observer");
+        return add(observer, type.subscriptions(method -> true));
+    }
+
+    /**
+     * Add another observer to the chain, to be called only for the methods it is subscribed to.
+     *
+     * <p>Calls to other methods skip the observer entirely, so observers interested in only a few
+     * methods of a wide interface add no cost to calls of the rest.
+     *
+     * @param observer the observer to add.
+     * @param subscribed predicate returning {@code true} for the methods the observer is
+     *     interested in, or {@link #detectEmpty()}.
+     * @return self, to allow chaining.
+     */
+    public CompositeObserverBuilder<Observer> add(
+            final Observer observer, final Predicate<? super Method> subscribed) {
+        return add(observer, subscriptions(type, observer, subscribed));
+    }
+
+    /**
+     * Add another observer to the chain, to be called asynchronously.
+     *
+     * <p>Calls to the {@code observer} are queued and made on the {@code dispatcher}'s executor, so
+     * a slow observer does not add latency to the thread calling the composite. See {@link
+     * AsyncDispatcher} for details.
+     *
+     * @param observer the observer to add.
+     * @param dispatcher the dispatcher to make calls to the observer.
+     * @return self, to allow chaining.
+     */
+    public CompositeObserverBuilder<Observer> addAsync(
+            final Observer observer, final AsyncDispatcher dispatcher) {
+        requireNonNull(observer, "observer");
+        return add(dispatcher.wrap(observerClass, observer), type.subscriptions(method -> true));
+    }
+
+    /**
+     * Record per-observer, per-method call counts and latencies.
+     *
+     * <p>Instrumentation adds two calls to {@link System#nanoTime()} and a few uncontended counter
+     * updates to each call of each observer.
+     *
+     * @param stats the stats to record to.
+     * @return self, to allow chaining.
+     */
+    public CompositeObserverBuilder<Observer> instrumented(final CompositeStats stats) {
+        this.stats = requireNonNull(stats, "stats");
         return this;
     }
 
     /**
+     * Isolate observers from exceptions thrown by other observers in the chain.
+     *
+     * <p>By default, an exception thrown by an observer is propagated to the caller of the
+     * composite, and subsequent observers in the chain are not called. Once isolated, such
+     * exceptions are instead passed to the supplied {@code handler}, and the remaining observers
+     * are still called. {@link VirtualMachineError}s are always propagated.
+     *
+     * @param handler the handler of exceptions thrown by observers.
+     * @return self, to allow chaining.
+     */
+    public CompositeObserverBuilder<Observer> isolateExceptions(
+            final Consumer<? super Throwable> handler) {
+        this.exceptionHandler = requireNonNull(handler, "handler");
+        return this;
+    }
+
+    /**
+     * Build the composite.
+     *
+     * <p>Where possible, the composite is an instance of a generated class that calls each observer
+     * directly. If the observer interface is not accessible to generated code, e.g. it is not
+     * public, a slower {@link java.lang.reflect.Proxy} based composite is returned.
+     *
+     * <p>The generated class is cached per observer interface, so building further composites of
+     * the same interface does not require any reflection.
+     *
+     * <p>The composite holds a dispatch table with, for each method, only the observers subscribed
+     * to it. Calls do not touch, nor instrument, observers not subscribed to the called method.
+     *
+     * <p>Observers added to the builder after the call to {@code build} are not called by the
+     * returned composite.
+     *
      * @return the composite observer implementation.
      */
-    @SuppressWarnings("unchecked")
     public Observer build() {
         try {
-            final Map<Method, MethodHandle> handles = methodHandles(observerClass);
-            return (Observer)
-                    Proxy.newProxyInstance(
-                            getClass().getClassLoader(),
-                            new Class<?>[] {observerClass},
-                            (proxy, method, args) -> {
-                                if (method.getName().equals("toString")) {
-                                    return "Proxy composite for " + observerClass.getName();
-                                }
-                                if (method.getName().equals("equals")) {
-                                    return this == proxy;
-                                }
-                                if (method.getName().equals("hashCode")) {
-                                    return observerClass.getName().hashCode();
-                                }
-
-                                for (Observer delegate : observers) {
-                                    final MethodHandle methodHandle = handles.get(method);
-                                    methodHandle.bindTo(delegate).invokeWithArguments(args);
-                                }
-                                return null;
-                            });
+            final Function<Observer, Delegate> instrumentation = instrumentation();
+            final Object[] delegates = new Object[observers.size()];
+            for (int i = 0; i < delegates.length; i++) {
+                delegates[i] = instrumentation.apply(observers.get(i)).target();
+            }
+            final BitSet[] subscribed = subscriptions.toArray(new BitSet[0]);
+            return observerClass.cast(type.composite(type.dispatchTable(delegates, subscribed)));
+        } catch (Exception e) {
+            throw new CompositeCreationFailedException(
+                    "failed to generate composite observer for interface: " + observerClass, e);
+        }
+    }
+
+    /**
+     * Build a composite whose observers can be added and removed after it is built.
+     *
+     * <p>See {@link DynamicComposite} for details.
+     *
+     * @return the dynamic composite.
+     */
+    public DynamicComposite<Observer> buildDynamic() {
+        try {
+            return new DynamicComposite<>(
+                    type, List.copyOf(observers), List.copyOf(subscriptions), instrumentation());
         } catch (Exception e) {
             throw new CompositeCreationFailedException(
                     "failed to generate composite observer for interface: " + observerClass, e);
         }
     }
 
-    private Map<Method, MethodHandle> methodHandles(final Class<?> observerClass) {
-        final Map<Method, MethodHandle> handles =
-                Arrays.stream(observerClass.getDeclaredMethods())
-                        .collect(
-                                Collectors.toMap(
-                                        Function.identity(),
-                                        m -> {
-                                            try {
-                                                return MethodHandles.publicLookup().unreflect(m);
-                                            } catch (IllegalAccessException e) {
-                                                throw new CompositeCreationFailedException(
-                                                        "Unable to unreflect method", e);
-                                            }
-                                        }));
-
-        for (Class<?> extending : observerClass.getInterfaces()) {
-            handles.putAll(methodHandles(extending));
+    static BitSet subscriptions(
+            final ObserverType type,
+            final Object observer,
+            final Predicate<? super Method> subscribed) {
+        requireNonNull(observer, "observer");
+        return requireNonNull(subscribed, "subscribed") == DETECT_EMPTY
+                ? type.subscriptions(observer)
+                : type.subscriptions(subscribed);
+    }
+
+    private CompositeObserverBuilder<Observer> add(
+            final Observer observer, final BitSet subscribed) {
+        observers.add(observer);
+        subscriptions.add(subscribed);
+        return this;
+    }
+
+    private Function<Observer, Delegate> instrumentation() {
+        final ObserverType type = this.type;
+        final CompositeStats stats = this.stats;
+        final Consumer<? super Throwable> exceptionHandler = this.exceptionHandler;
+        if (stats == null && exceptionHandler == null) {
+            return observer -> new Delegate(observer, null, null);
         }
-        return handles;
+
+        return observer -> {
+            final CompositeStats.ObserverStats observerStats =
+                    stats == null ? null : new CompositeStats.ObserverStats(type, observer);
+            final InstrumentingHook hook = new InstrumentingHook(observerStats, exceptionHandler);
+            if (stats != null) {
+                stats.register(observerStats, hook);
+            }
+            return new Delegate(type.decorator(observer, hook), stats, observerStats);
+        };
     }
 
-    private static void validateMethodsAreVoidReturnType(final Class<?> observerClass) {
-        final List<Method> invalidMethods =
-                Arrays.stream(observerClass.getDeclaredMethods())
-                        .filter(method -> !method.getReturnType().equals(void.class))
-                        .collect(Collectors.toList());
-
-        if (!invalidMethods.isEmpty()) {
-            throw new UnsupportedOperationException(
-                    "Only observer interfaces, where all methods have a void return type, are"
-                            + " supported. Interface: "
-                            + observerClass
-                            + " invalidMethods: "
-                            + invalidMethods);
+    /** An observer, as called by a composite, and any stats registered for it. */
+    static final class Delegate {
+
+        private final Object target;
+        private final CompositeStats stats;
+        private final CompositeStats.ObserverStats observerStats;
+
+        private Delegate(
+                final Object target,
+                final CompositeStats stats,
+                final CompositeStats.ObserverStats observerStats) {
+            this.target = target;
+            this.stats = stats;
+            this.observerStats = observerStats;
+        }
+
+        /**
+         * @return the object the composite calls.
+         */
+        Object target() {
+            return target;
         }
 
-        for (Class<?> extending : observerClass.getInterfaces()) {
-            validateMethodsAreVoidReturnType(extending);
+        /** Unregister any stats, once the observer is removed from its composite. */
+        void release() {
+            if (stats != null) {
+                stats.unregister(observerStats);
+            }
         }
     }
 
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * Per-observer, per-method, call statistics of instrumented composites.
+ *
+ * <pre>{@code
+ * CompositeStats stats = CompositeStats.create();
+ *
+ * MyListener composite = CompositeObserverBuilder.builder(MyListener.class, listener1)
+ *     .add(listener2)
+ *     .instrumented(stats)
+ *     .build();
+ *
+ * for (CompositeStats.ObserverStats observer : stats.observers()) {
+ *     for (CompositeStats.MethodStats method : observer.methods()) {
+ *         long p99 = method.percentileNanos(0.99);
+ *         export(observer.observer(), method.method(), method.count(), p99);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Recording uses striped counters, so instrumenting a composite called concurrently from many
+ * threads does not introduce contention. Reading stats is not atomic across counters.
+ *
+ * <p>Stats are only held while the composite, or actor, recording them is reachable. Once it has
+ * been garbage collected, its stats are dropped.
+ */
+public final class CompositeStats {
+
+    private final StatsRegistry<ObserverStats> observers = new StatsRegistry<>();
+
+    /**
+     * @return new, empty, stats.
+     */
+    public static CompositeStats create() {
+        return new CompositeStats();
+    }
+
+    private CompositeStats() {}
+
+    /**
+     * @return the stats of each observer in reachable instrumented composites, in the order they
+     *     were added. Observers removed from a {@link DynamicComposite} are not included.
+     */
+    public List<ObserverStats> observers() {
+        return observers.stats();
+    }
+
+    void register(final ObserverStats stats, final Object recorder) {
+        observers.register(stats, recorder);
+    }
+
+    void unregister(final ObserverStats stats) {
+        observers.unregister(stats);
+    }
+
+    /** Stats of a single observer within a composite. */
+    public static final class ObserverStats {
+
+        private final Object observer;
+        private final List<MethodStats> methods;
+
+        ObserverStats(final ObserverType type, final Object observer) {
+            this.observer = observer;
+            this.methods = PerMethod.create(type, MethodStats::new);
+        }
+
+        /**
+         * @return the observer.
+         */
+        public Object observer() {
+            return observer;
+        }
+
+        /**
+         * @return the stats of each method of the observer interface.
+         */
+        public List<MethodStats> methods() {
+            return methods;
+        }
+
+        /**
+         * Get the stats of the first method with the supplied {@code name}.
+         *
+         * @param name the name of the method.
+         * @return the method's stats.
+         * @throws IllegalArgumentException if there is no such method.
+         */
+        public MethodStats method(final String name) {
+            return PerMethod.named(methods, MethodStats::method, name);
+        }
+
+        MethodStats method(final int index) {
+            return methods.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return "ObserverStats{" + "observer=" + observer + ", methods=" + methods + '}';
+        }
+    }
+
+    /**
+     * Stats of calls to a single method of a single observer.
+     *
+     * <p>Latencies are recorded in a histogram with power-of-two buckets, so percentiles are
+     * accurate to within a factor of two.
+     */
+    public static final class MethodStats {
+
+        private final Method method;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final Histogram latency = new Histogram();
+
+        private MethodStats(final Method method) {
+            this.method = method;
+        }
+
+        /**
+         * @return the method.
+         */
+        public Method method() {
+            return method;
+        }
+
+        /**
+         * @return the number of calls, including failed calls.
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * @return the number of calls that threw.
+         */
+        public long failures() {
+            return failures.sum();
+        }
+
+        /**
+         * @return the histogram of call times, in nanoseconds.
+         */
+        public Histogram latency() {
+            return latency;
+        }
+
+        /**
+         * @return the total time spent in calls, in nanoseconds.
+         */
+        public long totalNanos() {
+            return latency.total();
+        }
+
+        /**
+         * @return the longest call, in nanoseconds.
+         */
+        public long maxNanos() {
+            return latency.max();
+        }
+
+        /**
+         * @return the mean call time, in nanoseconds, or zero if there have been no calls.
+         */
+        public double meanNanos() {
+            final long count = count();
+            return count == 0 ? 0 : (double) totalNanos() / count;
+        }
+
+        /**
+         * Get the call count of each histogram bucket.
+         *
+         * <p>Bucket {@code i} counts calls taking between {@code 2^i} and {@code 2^(i+1) - 1}
+         * nanoseconds, except bucket zero, which also counts calls taking zero nanoseconds.
+         *
+         * @return the bucket counts.
+         */
+        public long[] histogram() {
+            return latency.buckets();
+        }
+
+        /**
+         * Get an approximate percentile of call times.
+         *
+         * @param percentile the percentile, between 0 and 1, e.g. {@code 0.99}.
+         * @return the upper bound of the histogram bucket containing the percentile, in
+         *     nanoseconds, or zero if there have been no calls.
+         */
+        public long percentileNanos(final double percentile) {
+            return latency.percentile(percentile);
+        }
+
+        void record(final long nanos, final boolean failed) {
+            count.increment();
+            if (failed) {
+                failures.increment();
+            }
+            latency.record(nanos);
+        }
+
+        @Override
+        public String toString() {
+            return "MethodStats{"
+                    + "method="
+                    + method.getName()
+                    + ", count="
+                    + count()
+                    + ", failures="
+                    + failures()
+                    + ", meanNanos="
+                    + meanNanos()
+                    + ", maxNanos="
+                    + maxNanos()
+                    + '}';
+        }
+    }
+}
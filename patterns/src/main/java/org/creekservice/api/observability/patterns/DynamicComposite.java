@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.creekservice.api.observability.patterns.CompositeObserverBuilder.Delegate;
+import org.creekservice.internal.observability.patterns.MutableComposite;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * A composite observer whose observers can be added and removed after it is built.
+ *
+ * <p>Created via {@link CompositeObserverBuilder#buildDynamic()}:
+ *
+ * <pre>{@code
+ * DynamicComposite<MyListener> dynamic =
+ *     CompositeObserverBuilder.builder(MyListener.class, listener1).buildDynamic();
+ *
+ * MyListener composite = dynamic.observer();
+ *
+ * dynamic.add(debugTap);
+ * ...
+ * dynamic.remove(debugTap);
+ * }</pre>
+ *
+ * <p>Observers are held in a copy-on-write dispatch table. Calls to the composite read the table
+ * once and loop over the observers subscribed to the called method, without locking or allocation.
+ * Adding or removing an observer replaces the composite's immutable state with a compare-and-set,
+ * then installs the state's table. The change is seen by calls made after the update completes.
+ * Calls already in progress continue with the table they read.
+ *
+ * <p>Stats of observers removed from an {@link CompositeObserverBuilder#instrumented instrumented}
+ * composite are removed from its {@link CompositeStats}.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class DynamicComposite<Observer> {
+
+    private final ObserverType type;
+    private final Function<Observer, Delegate> wrapper;
+    private final MutableComposite composite;
+
+    /** The current state. Its table is installed in the composite once the update completes. */
+    private final AtomicReference<State> state;
+
+    DynamicComposite(
+            final ObserverType type,
+            final List<Observer> observers,
+            final List<BitSet> subscriptions,
+            final Function<Observer, Delegate> wrapper) {
+        this.type = requireNonNull(type, "type");
+        this.wrapper = requireNonNull(wrapper, "wrapper");
+
+        final Delegate[] delegates = new Delegate[observers.size()];
+        for (int i = 0; i < delegates.length; i++) {
+            delegates[i] = wrapper.apply(observers.get(i));
+        }
+
+        final State initial =
+                new State(observers.toArray(), delegates, subscriptions.toArray(new BitSet[0]));
+        this.state = new AtomicReference<>(initial);
+        this.composite = type.mutableComposite(initial.table);
+    }
+
+    /**
+     * @return the composite observer implementation.
+     */
+    @SuppressWarnings("unchecked")
+    public Observer observer() {
+        return (Observer) composite.composite();
+    }
+
+    /**
+     * Add an observer to the end of the chain.
+     *
+     * <p>Any instrumentation or exception isolation configured on the builder is also applied to
+     * observers added later.
+     *
+     * <p>As with {@link CompositeObserverBuilder#add(Object)}, the observer is called for all
+     * methods.
+     *
+     * @param observer the observer to add.
+     * @return self, to allow chaining.
+     */
+    public DynamicComposite<Observer> add(final Observer observer) {
+        requireNonNull(observer, "observer");
+        return add(observer, type.subscriptions(method -> true));
+    }
+
+    /**
+     * Add an observer to the end of the chain, to be called only for the methods it is subscribed
+     * to.
+     *
+     * @param observer the observer to add.
+     * @param subscribed predicate returning {@code true} for the methods the observer is
+     *     interested in, or {@link CompositeObserverBuilder#detectEmpty()}.
+     * @return self, to allow chaining.
+     */
+    public DynamicComposite<Observer> add(
+            final Observer observer, final Predicate<? super Method> subscribed) {
+        return add(observer, CompositeObserverBuilder.subscriptions(type, observer, subscribed));
+    }
+
+    /**
+     * Remove the first instance of an observer from the chain.
+     *
+     * <p>Observers are compared by identity.
+     *
+     * @param observer the observer to remove.
+     * @return {@code true} if the observer was found and removed.
+     */
+    public boolean remove(final Observer observer) {
+        while (true) {
+            final State current = state.get();
+            final int index = indexOf(current.observers, observer);
+            if (index < 0) {
+                return false;
+            }
+
+            final State updated =
+                    new State(
+                            remove(current.observers, index),
+                            remove(current.delegates, index),
+                            remove(current.subscriptions, index));
+
+            if (state.compareAndSet(current, updated)) {
+                install();
+                current.delegates[index].release();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return the current observers, in the order they are called.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Observer> observers() {
+        return (List<Observer>) List.of(state.get().observers);
+    }
+
+    private DynamicComposite<Observer> add(final Observer observer, final BitSet subscriptions) {
+        final Delegate delegate = wrapper.apply(observer);
+
+        while (true) {
+            final State current = state.get();
+            final State updated =
+                    new State(
+                            append(current.observers, observer),
+                            append(current.delegates, delegate),
+                            append(current.subscriptions, subscriptions));
+
+            if (state.compareAndSet(current, updated)) {
+                install();
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Install the current state's table in the composite, unless a later table is already
+     * installed.
+     *
+     * <p>Tables are only installed after their state is current, and the installed table is read
+     * before the current state. So the state read is never older than the installed table, and a
+     * stale table can never replace a later one. A failed compare-and-set means another update has
+     * installed a table, so the loop is lock-free.
+     */
+    private void install() {
+        while (true) {
+            final Object[][] installed = composite.table();
+            final State current = state.get();
+            if (installed == current.table
+                    || composite.compareAndSetTable(installed, current.table)) {
+                return;
+            }
+        }
+    }
+
+    private static int indexOf(final Object[] observers, final Object observer) {
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> T[] append(final T[] array, final T element) {
+        final T[] updated = Arrays.copyOf(array, array.length + 1);
+        updated[array.length] = element;
+        return updated;
+    }
+
+    private static <T> T[] remove(final T[] array, final int index) {
+        final T[] updated = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, updated, index, updated.length - index);
+        return updated;
+    }
+
+    private final class State {
+
+        final Object[] observers;
+        final Delegate[] delegates;
+        final BitSet[] subscriptions;
+        final Object[][] table;
+
+        State(final Object[] observers, final Delegate[] delegates, final BitSet[] subscriptions) {
+            this.observers = observers;
+            this.delegates = delegates;
+            this.subscriptions = subscriptions;
+
+            final Object[] targets = new Object[delegates.length];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = delegates[i].target();
+            }
+            this.table = type.dispatchTable(targets, subscriptions);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, with power-of-two buckets.
+ *
+ * <p>Recording uses striped counters, so recording from many threads concurrently does not
+ * introduce contention. Reading is not atomic across buckets.
+ *
+ * <p>Percentiles are accurate to within a factor of two.
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    Histogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the number of values recorded.
+     */
+    public long count() {
+        long count = 0;
+        for (final LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return the sum of the values recorded.
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * @return the largest value recorded, or zero if none have been.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the values recorded, or zero if none have been.
+     */
+    public double mean() {
+        final long count = count();
+        return count == 0 ? 0 : (double) total() / count;
+    }
+
+    /**
+     * Get the count of each bucket.
+     *
+     * <p>Bucket {@code i} counts values between {@code 2^i} and {@code 2^(i+1) - 1}, except bucket
+     * zero, which also counts zero.
+     *
+     * @return the bucket counts.
+     */
+    public long[] buckets() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Get an approximate percentile of the values recorded.
+     *
+     * @param percentile the percentile, between 0 and 1, e.g. {@code 0.99}.
+     * @return the upper bound of the bucket containing the percentile, or zero if no values have
+     *     been recorded.
+     */
+    public long percentile(final double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile not in range [0, 1]: " + percentile);
+        }
+
+        final long[] counts = buckets();
+        long total = 0;
+        for (final long c : counts) {
+            total += c;
+        }
+
+        final long target = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) {
+                return i == BUCKETS - 1 ? Long.MAX_VALUE : (2L << i) - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Record a value.
+     *
+     * @param value the value. Negative values are recorded as zero.
+     */
+    void record(final long value) {
+        final long v = Math.max(0, value);
+        total.add(v);
+        max.accumulate(v);
+        buckets[Long.SIZE - 1 - Long.numberOfLeadingZeros(v | 1)].increment();
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram{"
+                + "count="
+                + count()
+                + ", mean="
+                + mean()
+                + ", max="
+                + max()
+                + '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.util.function.Consumer;
+import org.creekservice.internal.observability.patterns.DecoratorHook;
+
+/**
+ * Hook used to time calls to, and optionally isolate exceptions from, an observer in an
+ * instrumented composite.
+ */
+final class InstrumentingHook implements DecoratorHook {
+
+    private final CompositeStats.ObserverStats stats;
+    private final Consumer<? super Throwable> exceptionHandler;
+
+    /**
+     * @param stats the stats to record to, or {@code null} if not recording.
+     * @param exceptionHandler the handler to pass exceptions to, or {@code null} to rethrow.
+     */
+    InstrumentingHook(
+            final CompositeStats.ObserverStats stats,
+            final Consumer<? super Throwable> exceptionHandler) {
+        this.stats = stats;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    @Override
+    public long enter(final int method) {
+        return stats == null ? 0 : System.nanoTime();
+    }
+
+    @Override
+    public void exit(final int method, final long start) {
+        if (stats != null) {
+            stats.method(method).record(System.nanoTime() - start, false);
+        }
+    }
+
+    @Override
+    public void failed(final int method, final long start, final Throwable e) {
+        if (stats != null) {
+            stats.method(method).record(System.nanoTime() - start, true);
+        }
+
+        if (exceptionHandler == null || e instanceof VirtualMachineError) {
+            throw DecoratorHook.rethrow(e);
+        }
+
+        exceptionHandler.accept(e);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import org.creekservice.internal.observability.patterns.Mailbox;
+import org.creekservice.internal.observability.patterns.ObserverType;
+import org.creekservice.internal.observability.patterns.SerialDrain;
+
+/**
+ * Makes an observer that is not thread-safe usable from many threads concurrently, without locks.
+ *
+ * <p>Use in place of wrapping calls to aggregators, state trackers, etc. in {@code synchronized}
+ * blocks:
+ *
+ * <pre>{@code
+ * ObserverActor<MyListener> actor = ObserverActor.builder(MyListener.class, executor)
+ *     .build(new NotThreadSafeAggregator());
+ *
+ * MyListener listener = actor.observer();
+ * }</pre>
+ *
+ * <p>Each call to the returned observer is appended to a lock-free queue and the caller returns
+ * immediately, without blocking. Calls are made to the wrapped observer one at a time, in the
+ * order they were queued, though not necessarily on the same thread, so the observer needs no
+ * synchronization of its own. Any executor can be used, including one that starts a virtual thread
+ * per task.
+ *
+ * <p>The queue is unbounded by default. Set a {@link Builder#capacity capacity} to discard calls
+ * rather than let a slow observer exhaust memory.
+ *
+ * <p>Closing the actor stops it accepting new calls and waits for queued calls to complete. It
+ * does not shut down the executor. If the executor rejects a task, e.g. because it has been shut
+ * down, the queued calls are discarded and counted.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class ObserverActor<Observer> implements AutoCloseable {
+
+    private final Observer observer;
+    private final Mailbox mailbox;
+
+    /**
+     * Create a builder
+     *
+     * @param observerClass the observer interface type.
+     * @param executor the executor to call the observer on.
+     * @return the builder.
+     * @param <Observer> the type of the observer interface.
+     */
+    public static <Observer> Builder<Observer> builder(
+            final Class<Observer> observerClass, final Executor executor) {
+        return new Builder<>(observerClass, executor);
+    }
+
+    private ObserverActor(
+            final Class<Observer> observerClass, final ObserverType type, final Mailbox mailbox) {
+        this.mailbox = requireNonNull(mailbox, "mailbox");
+        this.observer = observerClass.cast(type.interceptor(mailbox));
+    }
+
+    /**
+     * @return an observer, safe to call from any thread, that queues calls to the wrapped observer.
+     */
+    public Observer observer() {
+        return observer;
+    }
+
+    /**
+     * @return the number of calls queued or in progress.
+     */
+    public long depth() {
+        return mailbox.depth();
+    }
+
+    /**
+     * @return the number of calls discarded.
+     */
+    public long discarded() {
+        return mailbox.discarded();
+    }
+
+    /**
+     * Stop accepting calls and wait for queued calls to complete.
+     *
+     * <p>Calls made after close are discarded.
+     */
+    @Override
+    public void close() {
+        try {
+            mailbox.close();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop accepting calls and wait, up to {@code timeout}, for queued calls to complete.
+     *
+     * <p>Calls made after close are discarded. Calls still queued when the timeout expires continue
+     * to be made in the background.
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if all queued calls completed within the timeout.
+     */
+    public boolean close(final Duration timeout) {
+        try {
+            return mailbox.close(timeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Builder of {@link ObserverActor}.
+     *
+     * @param <Observer> the observer interface type
+     */
+    public static final class Builder<Observer> {
+
+        private final Class<Observer> observerClass;
+        private final ObserverType type;
+        private final Executor executor;
+        private int capacity = Integer.MAX_VALUE;
+        private CompositeStats stats;
+        private Consumer<? super Throwable> exceptionHandler = SerialDrain::uncaught;
+
+        private Builder(final Class<Observer> observerClass, final Executor executor) {
+            this.type = ObserverType.of(observerClass);
+            this.observerClass = observerClass;
+            this.executor = requireNonNull(executor, "executor");
+        }
+
+        /**
+         * Set the maximum number of calls to queue.
+         *
+         * <p>Calls made while the queue is at capacity are discarded. The capacity is checked
+         * without locking, so may be exceeded slightly under contention.
+         *
+         * <p>Default: unbounded.
+         *
+         * @param capacity the capacity.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> capacity(final int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Record per-method call counts and latencies.
+         *
+         * <p>Latencies are measured from when a call is queued to when it completes, so include
+         * time spent waiting in the queue.
+         *
+         * @param stats the stats to record to.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> instrumented(final CompositeStats stats) {
+            this.stats = requireNonNull(stats, "stats");
+            return this;
+        }
+
+        /**
+         * Set the handler of exceptions thrown by the observer.
+         *
+         * <p>Default: the executing thread's uncaught exception handler.
+         *
+         * @param handler the handler.
+         * @return self, to allow chaining.
+         */
+        public Builder<Observer> exceptionHandler(final Consumer<? super Throwable> handler) {
+            this.exceptionHandler = requireNonNull(handler, "handler");
+            return this;
+        }
+
+        /**
+         * Build the actor.
+         *
+         * @param observer the observer to wrap.
+         * @return the actor.
+         */
+        public ObserverActor<Observer> build(final Observer observer) {
+            requireNonNull(observer, "observer");
+            final CompositeStats.ObserverStats observerStats =
+                    stats == null ? null : new CompositeStats.ObserverStats(type, observer);
+            final InstrumentingHook hook = new InstrumentingHook(observerStats, exceptionHandler);
+            if (stats != null) {
+                stats.register(observerStats, hook);
+            }
+            final Mailbox mailbox = new Mailbox(type, observer, executor, capacity, hook);
+            return new ObserverActor<>(observerClass, type, mailbox);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import org.creekservice.internal.observability.patterns.CallHandler;
+import org.creekservice.internal.observability.patterns.DecoratorHook;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * Per-method metrics of calls to an observer interface, recorded without hand-written code.
+ *
+ * <pre>{@code
+ * ObserverMetrics<MyListener> metrics = ObserverMetrics.builder(MyListener.class)
+ *     .histogram("onBatch", args -> ((List<?>) args[0]).size())
+ *     .histogram("onLag", 1)
+ *     .build();
+ *
+ * MyListener decorated = metrics.decorate(listener);
+ *
+ * long batches = metrics.method("onBatch").count();
+ * long p99Size = metrics.method("onBatch").histogram().orElseThrow().percentile(0.99);
+ * }</pre>
+ *
+ * <p>Every method's calls are counted. Methods can optionally also record a value derived from
+ * their arguments into a {@link Histogram}.
+ *
+ * <p>Counters are striped and histograms lock-free, so decorating an observer called concurrently
+ * from many threads does not introduce contention. Counting a call allocates nothing. Recording a
+ * histogram value requires the call's arguments to be boxed, so is only done for methods with a
+ * histogram.
+ *
+ * <p>An exception thrown while deriving a histogram value is counted as a {@link
+ * MethodMetrics#failures() failure}, and the call is still passed on to the delegate.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class ObserverMetrics<Observer> {
+
+    private final Class<Observer> observerClass;
+    private final ObserverType type;
+    private final List<MethodMetrics> methods;
+    private final Object recorder;
+    private final BitSet recorded;
+    private final Counter counter = new Counter();
+
+    /**
+     * Create a builder
+     *
+     * @param observerClass the observer interface type.
+     * @return the builder.
+     * @param <Observer> the type of the observer interface.
+     */
+    public static <Observer> Builder<Observer> builder(final Class<Observer> observerClass) {
+        return new Builder<>(observerClass);
+    }
+
+    private ObserverMetrics(
+            final Class<Observer> observerClass,
+            final ObserverType type,
+            final List<ToLongFunction<Object[]>> extractors) {
+        this.observerClass = observerClass;
+        this.type = type;
+
+        final List<MethodMetrics> methods = new ArrayList<>(extractors.size());
+        this.recorded = new BitSet(extractors.size());
+        for (int i = 0; i < extractors.size(); i++) {
+            methods.add(new MethodMetrics(type.methods().get(i), extractors.get(i)));
+            if (extractors.get(i) != null) {
+                recorded.set(i);
+            }
+        }
+        this.methods = List.copyOf(methods);
+        this.recorder = recorded.isEmpty() ? null : type.interceptor(new Recorder());
+    }
+
+    /**
+     * @return an observer that only records metrics, e.g. to add to a composite.
+     */
+    public Observer observer() {
+        final Object noop = type.composite(type.dispatchTable(new Object[0], new BitSet[0]));
+        return decorate(observerClass.cast(noop));
+    }
+
+    /**
+     * Decorate an observer, so that metrics are recorded for each call to it.
+     *
+     * <p>Metrics are recorded before the call is passed on to the {@code delegate}.
+     *
+     * @param delegate the observer to decorate.
+     * @return the decorated observer.
+     */
+    public Observer decorate(final Observer delegate) {
+        final Object counted = type.decorator(requireNonNull(delegate, "delegate"), counter);
+        if (recorder == null) {
+            return observerClass.cast(counted);
+        }
+
+        final BitSet all = new BitSet();
+        all.set(0, methods.size());
+        return observerClass.cast(
+                type.composite(
+                        type.dispatchTable(
+                                new Object[] {recorder, counted}, new BitSet[] {recorded, all})));
+    }
+
+    /**
+     * @return the metrics of each method of the observer interface.
+     */
+    public List<MethodMetrics> methods() {
+        return methods;
+    }
+
+    /**
+     * Get the metrics of the first method with the supplied {@code name}.
+     *
+     * @param name the name of the method.
+     * @return the method's metrics.
+     * @throws IllegalArgumentException if there is no such method.
+     */
+    public MethodMetrics method(final String name) {
+        return PerMethod.named(methods, MethodMetrics::method, name);
+    }
+
+    @Override
+    public String toString() {
+        return "ObserverMetrics{"
+                + "type="
+                + observerClass.getName()
+                + ", methods="
+                + methods
+                + '}';
+    }
+
+    /** Metrics of calls to a single method. */
+    public static final class MethodMetrics {
+
+        private final Method method;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ToLongFunction<Object[]> extractor;
+        private final Histogram histogram;
+
+        private MethodMetrics(final Method method, final ToLongFunction<Object[]> extractor) {
+            this.method = method;
+            this.extractor = extractor;
+            this.histogram = extractor == null ? null : new Histogram();
+        }
+
+        /**
+         * @return the method.
+         */
+        public Method method() {
+            return method;
+        }
+
+        /**
+         * @return the number of calls.
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * @return the number of calls for which no histogram value could be derived, because
+         *     deriving it threw an exception.
+         */
+        public long failures() {
+            return failures.sum();
+        }
+
+        /**
+         * @return the histogram of values derived from the method's arguments, if configured.
+         */
+        public Optional<Histogram> histogram() {
+            return Optional.ofNullable(histogram);
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics{"
+                    + "method="
+                    + method.getName()
+                    + ", count="
+                    + count()
+                    + ", failures="
+                    + failures()
+                    + ", histogram="
+                    + histogram
+                    + '}';
+        }
+    }
+
+    /**
+     * Builder of {@link ObserverMetrics}.
+     *
+     * @param <Observer> the observer interface type
+     */
+    public static final class Builder<Observer> {
+
+        private final Class<Observer> observerClass;
+        private final ObserverType type;
+        private final List<ToLongFunction<Object[]>> extractors = new ArrayList<>();
+
+        private Builder(final Class<Observer> observerClass) {
+            this.type = ObserverType.of(observerClass);
+            this.observerClass = observerClass;
+            type.methods().forEach(method -> extractors.add(null));
+        }
+
+        /**
+         * Record a value derived from the arguments of calls to a method into a histogram.
+         *
+         * <p>Applies to all overloads of the method.
+         *
+         * @param method the name of the method.
+         * @param value function to derive the value to record from the method's arguments.
+         *     Negative values are recorded as zero.
+         * @return self, to allow chaining.
+         * @throws IllegalArgumentException if there is no such method.
+         */
+        public Builder<Observer> histogram(
+                final String method, final ToLongFunction<Object[]> value) {
+            requireNonNull(value, "value");
+            indexesOf(method).forEach(i -> extractors.set(i, value));
+            return this;
+        }
+
+        /**
+         * Record a numeric argument of calls to a method into a histogram.
+         *
+         * <p>Applies to all overloads of the method.
+         *
+         * @param method the name of the method.
+         * @param argument the index of the argument, which must be a primitive number or a {@link
+         *     Number} in every overload of the method.
+         * @return self, to allow chaining.
+         * @throws IllegalArgumentException if there is no such method, or any overload does not
+         *     have a numeric argument at index {@code argument}.
+         */
+        public Builder<Observer> histogram(final String method, final int argument) {
+            final List<Integer> indexes = indexesOf(method);
+            for (final int i : indexes) {
+                final Method m = type.methods().get(i);
+                if (argument < 0 || argument >= m.getParameterCount()) {
+                    throw new IllegalArgumentException(
+                            "Argument index " + argument + " out of range for method: " + m);
+                }
+                if (!isNumeric(m.getParameterTypes()[argument])) {
+                    throw new IllegalArgumentException(
+                            "Argument " + argument + " is not numeric for method: " + m);
+                }
+            }
+
+            final ToLongFunction<Object[]> value = args -> ((Number) args[argument]).longValue();
+            indexes.forEach(i -> extractors.set(i, value));
+            return this;
+        }
+
+        /**
+         * @return the metrics.
+         */
+        public ObserverMetrics<Observer> build() {
+            return new ObserverMetrics<>(observerClass, type, new ArrayList<>(extractors));
+        }
+
+        private List<Integer> indexesOf(final String method) {
+            requireNonNull(method, "method");
+
+            final List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < type.methods().size(); i++) {
+                if (type.methods().get(i).getName().equals(method)) {
+                    indexes.add(i);
+                }
+            }
+
+            if (indexes.isEmpty()) {
+                throw new IllegalArgumentException("Unknown method: " + method);
+            }
+            return indexes;
+        }
+
+        private static boolean isNumeric(final Class<?> type) {
+            return type.isPrimitive()
+                    ? type != boolean.class && type != char.class
+                    : Number.class.isAssignableFrom(type);
+        }
+    }
+
+    private final class Counter implements DecoratorHook {
+
+        @Override
+        public long enter(final int method) {
+            methods.get(method).count.increment();
+            return 0;
+        }
+
+        @Override
+        public void exit(final int method, final long state) {}
+
+        @Override
+        public void failed(final int method, final long state, final Throwable e) {
+            throw DecoratorHook.rethrow(e);
+        }
+    }
+
+    private final class Recorder implements CallHandler {
+
+        @Override
+        public void call(final int method, final Object[] args) {
+            final MethodMetrics metrics = methods.get(method);
+            final long value;
+            try {
+                value = metrics.extractor.applyAsLong(args);
+            } catch (final RuntimeException e) {
+                metrics.failures.increment();
+                return;
+            }
+            metrics.histogram.record(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics of " + observerClass.getName();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/** Helpers for per-method stats and metrics of an observer interface. */
+final class PerMethod {
+
+    private PerMethod() {}
+
+    /**
+     * Create an entry for each method of an observer interface.
+     *
+     * @param type the observer type.
+     * @param factory the factory of the entry for a method.
+     * @param <T> the type of the entries.
+     * @return the entries, in method index order.
+     */
+    static <T> List<T> create(final ObserverType type, final Function<Method, T> factory) {
+        final List<T> entries = new ArrayList<>(type.methods().size());
+        type.methods().forEach(method -> entries.add(factory.apply(method)));
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Get the entry of the first method with the supplied {@code name}.
+     *
+     * @param entries the entries, in method index order.
+     * @param method the accessor of an entry's method.
+     * @param name the name of the method.
+     * @param <T> the type of the entries.
+     * @return the entry.
+     * @throws IllegalArgumentException if there is no such method.
+     */
+    static <T> T named(final List<T> entries, final Function<T, Method> method, final String name) {
+        return entries.stream()
+                .filter(entry -> method.apply(entry).getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown method: " + name));
+    }
+}
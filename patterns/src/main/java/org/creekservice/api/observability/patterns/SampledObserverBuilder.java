@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.creekservice.internal.observability.patterns.DecoratorHook;
+import org.creekservice.internal.observability.patterns.GuardedCallHandler;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * Build an observer that passes on only a sampled, or rate-limited, subset of calls to another.
+ *
+ * <p>Useful for observers too expensive to call for every event, e.g. one that takes a snapshot of
+ * state. The sampled observer can be added to a composite like any other:
+ *
+ * <pre>{@code
+ * MyListener sampled = SampledObserverBuilder.builder(MyListener.class, snapshotter)
+ *     .sample("onEvent", 100)
+ *     .rateLimit("onStateChange", 10, Duration.ofSeconds(1))
+ *     .build();
+ *
+ * MyListener composite = CompositeObserverBuilder.builder(MyListener.class, listener)
+ *     .add(sampled)
+ *     .build();
+ * }</pre>
+ *
+ * <p>Calls to methods that are neither sampled nor rate-limited are always passed on, directly.
+ * Each overload of a method is sampled, or rate-limited, independently.
+ *
+ * <p>Whether to pass on a call is decided without locks, and before the call's arguments are
+ * boxed, so skipped calls do not allocate. Calls that are passed on have their arguments boxed.
+ *
+ * @param <Observer> the observer interface type
+ */
+public final class SampledObserverBuilder<Observer> {
+
+    private final Class<Observer> observerClass;
+    private final ObserverType type;
+    private final Observer observer;
+    private final List<Supplier<Admission>> admissions = new ArrayList<>();
+    private SamplingStats stats;
+
+    /**
+     * Create a builder
+     *
+     * @param observerClass the observer interface type.
+     * @param observer the observer to pass sampled calls to.
+     * @return the builder.
+     * @param <Observer> the type of the observer interface.
+     */
+    public static <Observer> SampledObserverBuilder<Observer> builder(
+            final Class<Observer> observerClass, final Observer observer) {
+        final ObserverType type = ObserverType.of(observerClass);
+        return new SampledObserverBuilder<>(
+                observerClass, type, requireNonNull(observer, "observer"));
+    }
+
+    private SampledObserverBuilder(
+            final Class<Observer> observerClass, final ObserverType type, final Observer observer) {
+        this.observerClass = observerClass;
+        this.type = type;
+        this.observer = observer;
+        type.methods().forEach(method -> admissions.add(null));
+    }
+
+    /**
+     * Pass on only one in every {@code n} calls to a method.
+     *
+     * <p>The first call is passed on, then every {@code n}th call after it.
+     *
+     * @param method the name of the method. Applies to all overloads.
+     * @param n the sampling interval. A value of {@code 1} passes on every call.
+     * @return self, to allow chaining.
+     * @throws IllegalArgumentException if there is no such method, or {@code n} is not positive.
+     */
+    public SampledObserverBuilder<Observer> sample(final String method, final int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        return admission(method, () -> new Sample(n));
+    }
+
+    /**
+     * Pass on, at most, {@code permits} calls to a method per {@code period}.
+     *
+     * <p>Calls are limited by a token bucket holding up to {@code permits} tokens, refilled at a
+     * steady rate of {@code permits} per {@code period}. So a burst of up to {@code permits} calls
+     * can be passed on after a quiet period.
+     *
+     * @param method the name of the method. Applies to all overloads.
+     * @param permits the number of calls to pass on per period.
+     * @param period the period.
+     * @return self, to allow chaining.
+     * @throws IllegalArgumentException if there is no such method, {@code permits} is not
+     *     positive, or {@code period} is shorter than {@code permits} nanoseconds.
+     */
+    public SampledObserverBuilder<Observer> rateLimit(
+            final String method, final int permits, final Duration period) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        final long interval = requireNonNull(period, "period").toNanos() / permits;
+        if (interval <= 0) {
+            throw new IllegalArgumentException(
+                    "period too short for " + permits + " permits: " + period);
+        }
+        return admission(method, () -> new RateLimit(permits, interval));
+    }
+
+    /**
+     * Record per-method counts of the calls passed on and skipped.
+     *
+     * @param stats the stats to record to.
+     * @return self, to allow chaining.
+     */
+    public SampledObserverBuilder<Observer> instrumented(final SamplingStats stats) {
+        this.stats = requireNonNull(stats, "stats");
+        return this;
+    }
+
+    /**
+     * Build the sampled observer.
+     *
+     * <p>Each built observer samples, or rate-limits, calls independently of any others built by
+     * the same builder.
+     *
+     * @return the sampled observer implementation.
+     */
+    public Observer build() {
+        final Admission[] admitted = new Admission[admissions.size()];
+        final BitSet limited = new BitSet(admitted.length);
+        final BitSet direct = new BitSet(admitted.length);
+        for (int i = 0; i < admitted.length; i++) {
+            if (admissions.get(i) == null) {
+                direct.set(i);
+            } else {
+                admitted[i] = admissions.get(i).get();
+                limited.set(i);
+            }
+        }
+
+        if (limited.isEmpty()) {
+            return observer;
+        }
+
+        final SamplingStats.ObserverStats observerStats =
+                stats == null ? null : new SamplingStats.ObserverStats(type, observer);
+        final Object gate = type.interceptor(new Gate(type, observer, admitted, observerStats));
+        final Observer sampled =
+                observerClass.cast(
+                        type.composite(
+                                type.dispatchTable(
+                                        new Object[] {gate, observer},
+                                        new BitSet[] {limited, direct})));
+        if (stats != null) {
+            stats.register(observerStats, sampled);
+        }
+        return sampled;
+    }
+
+    private SampledObserverBuilder<Observer> admission(
+            final String method, final Supplier<Admission> admission) {
+        requireNonNull(method, "method");
+
+        boolean found = false;
+        for (int i = 0; i < type.methods().size(); i++) {
+            if (type.methods().get(i).getName().equals(method)) {
+                admissions.set(i, admission);
+                found = true;
+            }
+        }
+
+        if (!found) {
+            throw new IllegalArgumentException("Unknown method: " + method);
+        }
+        return this;
+    }
+
+    private interface Admission {
+        boolean admit();
+    }
+
+    /** Admits the first of every {@code n} calls. */
+    private static final class Sample implements Admission {
+
+        private final int n;
+        private final AtomicLong calls = new AtomicLong();
+
+        Sample(final int n) {
+            this.n = n;
+        }
+
+        @Override
+        public boolean admit() {
+            return calls.getAndIncrement() % n == 0;
+        }
+    }
+
+    /**
+     * Token bucket, tracked as the theoretical arrival time of the next call.
+     *
+     * <p>A call is admitted if the bucket has a token, i.e. the next call is not due more than
+     * {@code burst} intervals in the future. Admitting a call moves the next call back one
+     * interval. Rejected calls only read the state, so do not contend with other callers.
+     */
+    private static final class RateLimit implements Admission {
+
+        private final long interval;
+        private final long tolerance;
+        private final AtomicLong next;
+
+        RateLimit(final int permits, final long interval) {
+            this.interval = interval;
+            this.tolerance = interval * (permits - 1);
+            this.next = new AtomicLong(System.nanoTime());
+        }
+
+        @Override
+        public boolean admit() {
+            final long now = System.nanoTime();
+            while (true) {
+                final long due = next.get();
+                final long start = due - now > 0 ? due : now;
+                if (start - now > tolerance) {
+                    return false;
+                }
+                if (next.compareAndSet(due, start + interval)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class Gate implements GuardedCallHandler {
+
+        private final ObserverType type;
+        private final Object observer;
+        private final Admission[] admissions;
+        private final SamplingStats.ObserverStats stats;
+
+        Gate(
+                final ObserverType type,
+                final Object observer,
+                final Admission[] admissions,
+                final SamplingStats.ObserverStats stats) {
+            this.type = type;
+            this.observer = observer;
+            this.admissions = admissions;
+            this.stats = stats;
+        }
+
+        @Override
+        public boolean enabled(final int method) {
+            final boolean admitted = admissions[method].admit();
+            if (stats != null) {
+                stats.method(method).record(admitted);
+            }
+            return admitted;
+        }
+
+        @Override
+        public void call(final int method, final Object[] args) {
+            try {
+                type.invoke(observer, method, args);
+            } catch (final Throwable e) {
+                throw DecoratorHook.rethrow(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Sampled " + observer;
+        }
+    }
+}
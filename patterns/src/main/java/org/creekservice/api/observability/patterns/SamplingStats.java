@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import org.creekservice.internal.observability.patterns.ObserverType;
+
+/**
+ * Per-observer, per-method, counts of the calls forwarded and skipped by sampled observers.
+ *
+ * <pre>{@code
+ * SamplingStats stats = SamplingStats.create();
+ *
+ * MyListener sampled = SampledObserverBuilder.builder(MyListener.class, snapshotter)
+ *     .sample("onEvent", 100)
+ *     .instrumented(stats)
+ *     .build();
+ *
+ * for (SamplingStats.ObserverStats observer : stats.observers()) {
+ *     for (SamplingStats.MethodStats method : observer.methods()) {
+ *         export(observer.observer(), method.method(), method.forwarded(), method.skipped());
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Only calls to methods that are sampled or rate-limited are counted. Calls to other methods
+ * are passed straight to the observer.
+ *
+ * <p>Recording uses striped counters, so instrumenting an observer called concurrently from many
+ * threads does not introduce contention. Reading stats is not atomic across counters.
+ *
+ * <p>Stats are only held while the sampled observer they belong to is reachable. Once it has been
+ * garbage collected, its stats are dropped.
+ */
+public final class SamplingStats {
+
+    private final StatsRegistry<ObserverStats> observers = new StatsRegistry<>();
+
+    /**
+     * @return new, empty, stats.
+     */
+    public static SamplingStats create() {
+        return new SamplingStats();
+    }
+
+    private SamplingStats() {}
+
+    /**
+     * @return the stats of each reachable sampled observer, in the order they were built.
+     */
+    public List<ObserverStats> observers() {
+        return observers.stats();
+    }
+
+    void register(final ObserverStats stats, final Object sampled) {
+        observers.register(stats, sampled);
+    }
+
+    /** Stats of a single sampled observer. */
+    public static final class ObserverStats {
+
+        private final Object observer;
+        private final List<MethodStats> methods;
+
+        ObserverStats(final ObserverType type, final Object observer) {
+            this.observer = observer;
+            this.methods = PerMethod.create(type, MethodStats::new);
+        }
+
+        /**
+         * @return the observer calls are forwarded to.
+         */
+        public Object observer() {
+            return observer;
+        }
+
+        /**
+         * @return the stats of each method of the observer interface.
+         */
+        public List<MethodStats> methods() {
+            return methods;
+        }
+
+        /**
+         * Get the stats of the first method with the supplied {@code name}.
+         *
+         * @param name the name of the method.
+         * @return the method's stats.
+         * @throws IllegalArgumentException if there is no such method.
+         */
+        public MethodStats method(final String name) {
+            return PerMethod.named(methods, MethodStats::method, name);
+        }
+
+        MethodStats method(final int index) {
+            return methods.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return "ObserverStats{" + "observer=" + observer + ", methods=" + methods + '}';
+        }
+    }
+
+    /** Counts of calls to a single method of a single sampled observer. */
+    public static final class MethodStats {
+
+        private final Method method;
+        private final LongAdder forwarded = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private MethodStats(final Method method) {
+            this.method = method;
+        }
+
+        /**
+         * @return the method.
+         */
+        public Method method() {
+            return method;
+        }
+
+        /**
+         * @return the number of calls passed on to the observer.
+         */
+        public long forwarded() {
+            return forwarded.sum();
+        }
+
+        /**
+         * @return the number of calls not passed on to the observer.
+         */
+        public long skipped() {
+            return skipped.sum();
+        }
+
+        void record(final boolean admitted) {
+            if (admitted) {
+                forwarded.increment();
+            } else {
+                skipped.increment();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "MethodStats{"
+                    + "method="
+                    + method.getName()
+                    + ", forwarded="
+                    + forwarded()
+                    + ", skipped="
+                    + skipped()
+                    + '}';
+        }
+    }
+}
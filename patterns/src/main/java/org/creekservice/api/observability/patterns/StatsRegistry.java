@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Stats registered against the object that records them.
+ *
+ * <p>Registrations are only held while the object recording the stats is reachable, so
+ * instrumenting short-lived observers does not leak memory.
+ *
+ * @param <S> the type of the stats.
+ */
+final class StatsRegistry<S> {
+
+    private final List<Registration<S>> registrations = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return the registered stats whose recorder is still reachable, in the order they were
+     *     registered.
+     */
+    List<S> stats() {
+        purge();
+        return registrations.stream()
+                .map(registration -> registration.stats)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * @param stats the stats to register.
+     * @param recorder the object that records to the {@code stats}.
+     */
+    void register(final S stats, final Object recorder) {
+        purge();
+        registrations.add(new Registration<>(stats, recorder));
+    }
+
+    /**
+     * @param stats the stats to unregister.
+     */
+    void unregister(final S stats) {
+        registrations.removeIf(registration -> registration.stats == stats);
+    }
+
+    private void purge() {
+        registrations.removeIf(registration -> registration.recorder.get() == null);
+    }
+
+    private static final class Registration<S> {
+
+        final S stats;
+        final WeakReference<Object> recorder;
+
+        Registration(final S stats, final Object recorder) {
+            this.stats = stats;
+            this.recorder = new WeakReference<>(recorder);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.creekservice.api.observability.patterns.AsyncDispatcher.OverflowPolicy;
+
+/**
+ * A bounded ring buffer of calls, delivered in batches on an {@link Executor}.
+ *
+ * <p>Calls are stored as a method index and argument array in preallocated, parallel, arrays, so
+ * recording a call allocates nothing beyond the argument array built by the interceptor.
+ *
+ * <p>As with {@link SerialQueue}, batches are never delivered concurrently, and are delivered in
+ * the order the calls were recorded. Each drain task delivers a single batch, of all the calls
+ * recorded since the last, up to the maximum batch size. The more calls recorded while a batch is
+ * being handled, the larger the next batch.
+ */
+public final class BatchBuffer extends SerialDrain {
+
+    /** Receiver of batches of calls. */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Handle a batch of calls.
+         *
+         * <p>The arrays are reused for the next batch, so must not be retained.
+         *
+         * @param methods the index of the method of each call.
+         * @param args the arguments of each call.
+         * @param size the number of calls in the batch, which may be less than the array lengths.
+         */
+        void accept(int[] methods, Object[][] args, int size);
+    }
+
+    private final Sink sink;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super Throwable> exceptionHandler;
+    private final String name;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final int[] methods;
+    private final Object[][] args;
+    private int head;
+    private int count;
+
+    private final int[] batchMethods;
+    private final Object[][] batchArgs;
+
+    /**
+     * @param sink the receiver of batches.
+     * @param executor the executor to deliver batches on.
+     * @param capacity the maximum number of calls to buffer.
+     * @param maxBatchSize the maximum number of calls to deliver in one batch.
+     * @param overflowPolicy what to do when the buffer is full.
+     * @param exceptionHandler handler of any exception thrown by {@code sink}.
+     * @param name the name of the buffer, used in exception messages.
+     */
+    public BatchBuffer(
+            final Sink sink,
+            final Executor executor,
+            final int capacity,
+            final int maxBatchSize,
+            final OverflowPolicy overflowPolicy,
+            final Consumer<? super Throwable> exceptionHandler,
+            final String name) {
+        super(executor);
+        this.sink = requireNonNull(sink, "sink");
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+        this.exceptionHandler = requireNonNull(exceptionHandler, "exceptionHandler");
+        this.name = requireNonNull(name, "name");
+        this.methods = new int[capacity];
+        this.args = new Object[capacity][];
+        this.batchMethods = new int[Math.min(capacity, maxBatchSize)];
+        this.batchArgs = new Object[batchMethods.length][];
+    }
+
+    @Override
+    public void call(final int method, final Object[] args) {
+        if (closed()) {
+            discard();
+            return;
+        }
+
+        if (enqueue(method, args)) {
+            schedule();
+        }
+    }
+
+    /**
+     * @return the number of calls waiting to be delivered.
+     */
+    public int depth() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Batching " + name;
+    }
+
+    private boolean enqueue(final int method, final Object[] args) {
+        lock.lock();
+        try {
+            while (count == methods.length) {
+                switch (overflowPolicy) {
+                    case BLOCK:
+                        try {
+                            notFull.await();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            discard();
+                            return false;
+                        }
+                        break;
+                    case DISCARD:
+                        discard();
+                        return false;
+                    default:
+                        throw new RejectedExecutionException("Buffer full, calling: " + name);
+                }
+            }
+
+            final int tail = (head + count) % methods.length;
+            this.methods[tail] = method;
+            this.args[tail] = args;
+            count++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected boolean hasPending() {
+        return depth() != 0;
+    }
+
+    @Override
+    protected void drainBatch() {
+        final int size = take();
+        if (size == 0) {
+            return;
+        }
+
+        try {
+            sink.accept(batchMethods, batchArgs, size);
+        } catch (final Throwable e) {
+            exceptionHandler.accept(e);
+        } finally {
+            Arrays.fill(batchArgs, 0, size, null);
+        }
+    }
+
+    @Override
+    protected int discardPending() {
+        lock.lock();
+        try {
+            final int size = count;
+            for (int i = 0; i < size; i++) {
+                args[(head + i) % methods.length] = null;
+            }
+            head = 0;
+            count = 0;
+            notFull.signalAll();
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int take() {
+        lock.lock();
+        try {
+            final int size = Math.min(count, batchMethods.length);
+            for (int i = 0; i < size; i++) {
+                final int slot = (head + i) % methods.length;
+                batchMethods[i] = methods[slot];
+                batchArgs[i] = args[slot];
+                args[slot] = null;
+            }
+            head = (head + size) % methods.length;
+            count -= size;
+            if (size != 0) {
+                notFull.signalAll();
+            }
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+/** Handles calls made to an interceptor created by {@link ObserverType#interceptor}. */
+public interface CallHandler {
+
+    /**
+     * Handle a call.
+     *
+     * @param method the index of the method called, as returned by {@link ObserverType#index}.
+     * @param args the arguments, with primitives boxed. Never {@code null}.
+     */
+    void call(int method, Object[] args);
+}
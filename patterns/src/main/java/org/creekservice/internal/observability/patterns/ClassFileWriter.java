@@ -0,0 +1,588 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal class file writer.
+ *
+ * <p>Supports only what is needed to generate the simple, final, observer implementations used by
+ * this module. Callers are responsible for computing max stack and locals, and for adding stack map
+ * frames at branch targets.
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_VOLATILE = 0x0040;
+
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int FLOAD = 0x17;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int ISTORE = 0x36;
+    static final int LSTORE = 0x37;
+    static final int ASTORE = 0x3a;
+    static final int AASTORE = 0x53;
+    static final int DUP = 0x59;
+    static final int IINC = 0x84;
+    static final int IFNE = 0x9a;
+    static final int IF_ICMPGE = 0xa2;
+    static final int GOTO = 0xa7;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int ANEWARRAY = 0xbd;
+    static final int ARRAYLENGTH = 0xbe;
+    static final int CHECKCAST = 0xc0;
+
+    /** Stack map verification type of an {@code int}. */
+    static final int ITEM_INTEGER = 1;
+
+    /** Stack map verification type of a {@code float}. */
+    static final int ITEM_FLOAT = 2;
+
+    /** Stack map verification type of a {@code double}. */
+    static final int ITEM_DOUBLE = 3;
+
+    /** Stack map verification type of a {@code long}. */
+    static final int ITEM_LONG = 4;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int JAVA_17 = 61;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private static final int ITEM_OBJECT = 7;
+    private static final int SAME_FRAME_MAX = 63;
+    private static final int SAME_FRAME_EXTENDED = 251;
+    private static final int FULL_FRAME = 255;
+
+    private final Bytes pool = new Bytes();
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private final List<Bytes> fields = new ArrayList<>();
+    private final List<Bytes> methods = new ArrayList<>();
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private int poolCount = 1;
+
+    /**
+     * @param name the internal name of the class to write, e.g. {@code a/b/C}.
+     * @param superName the internal name of the super class.
+     * @param interfaceNames the internal names of the interfaces the class implements.
+     */
+    ClassFileWriter(final String name, final String superName, final String... interfaceNames) {
+        this.thisClass = classRef(name);
+        this.superClass = classRef(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+    }
+
+    /**
+     * @param internalName the internal name of a class or the descriptor of an array type.
+     * @return the constant pool index of the class.
+     */
+    public int classRef(final String internalName) {
+        return constant(CONSTANT_CLASS, utf8(internalName));
+    }
+
+    /**
+     * @param value the string
+     * @return the constant pool index of the string constant.
+     */
+    public int stringRef(final String value) {
+        return constant(CONSTANT_STRING, utf8(value));
+    }
+
+    /**
+     * @param owner the internal name of the class declaring the field.
+     * @param name the field name.
+     * @param descriptor the field descriptor.
+     * @return the constant pool index of the field reference.
+     */
+    public int fieldRef(final String owner, final String name, final String descriptor) {
+        return constant(CONSTANT_FIELD_REF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    /**
+     * @param owner the internal name of the type declaring the method.
+     * @param name the method name.
+     * @param descriptor the method descriptor.
+     * @param isInterface {@code true} if {@code owner} is an interface.
+     * @return the constant pool index of the method reference.
+     */
+    public int methodRef(
+            final String owner,
+            final String name,
+            final String descriptor,
+            final boolean isInterface) {
+        return constant(
+                isInterface ? CONSTANT_INTERFACE_METHOD_REF : CONSTANT_METHOD_REF,
+                classRef(owner),
+                nameAndType(name, descriptor));
+    }
+
+    /**
+     * @param internalName the internal name of a class or the descriptor of an array type.
+     * @return the stack map verification type of a reference to the class.
+     */
+    public int objectType(final String internalName) {
+        return ITEM_OBJECT << 16 | classRef(internalName);
+    }
+
+    /**
+     * @param type the type of a local variable or stack entry.
+     * @return the stack map verification type of {@code type}.
+     */
+    public int verificationType(final Class<?> type) {
+        if (type == long.class) {
+            return ITEM_LONG;
+        }
+        if (type == double.class) {
+            return ITEM_DOUBLE;
+        }
+        if (type == float.class) {
+            return ITEM_FLOAT;
+        }
+        if (type.isPrimitive()) {
+            return ITEM_INTEGER;
+        }
+        return objectType(
+                type.isArray() ? type.descriptorString() : type.getName().replace('.', '/'));
+    }
+
+    /**
+     * Add a field.
+     *
+     * @param access the access flags.
+     * @param name the field name.
+     * @param descriptor the field descriptor.
+     */
+    public void field(final int access, final String name, final String descriptor) {
+        final Bytes field = new Bytes();
+        field.u2(access);
+        field.u2(utf8(name));
+        field.u2(utf8(descriptor));
+        field.u2(0);
+        fields.add(field);
+    }
+
+    /**
+     * Start a method. The method is added once {@link Code#end} is called.
+     *
+     * @param access the access flags.
+     * @param name the method name.
+     * @param descriptor the method descriptor.
+     * @return the method's code.
+     */
+    public Code method(final int access, final String name, final String descriptor) {
+        return new Code(access, name, descriptor);
+    }
+
+    /**
+     * @return the class file.
+     */
+    public byte[] toByteArray() {
+        final Bytes out = new Bytes();
+        out.u4(MAGIC);
+        out.u2(0);
+        out.u2(JAVA_17);
+        out.u2(poolCount);
+        pool.writeTo(out);
+        out.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        out.u2(thisClass);
+        out.u2(superClass);
+        out.u2(interfaces.length);
+        for (final int i : interfaces) {
+            out.u2(i);
+        }
+        out.u2(fields.size());
+        fields.forEach(f -> f.writeTo(out));
+        out.u2(methods.size());
+        methods.forEach(m -> m.writeTo(out));
+        out.u2(0);
+        return out.toByteArray();
+    }
+
+    private int utf8(final String value) {
+        final Integer existing = poolIndex.get(CONSTANT_UTF8 + ":" + value);
+        if (existing != null) {
+            return existing;
+        }
+
+        final Bytes encoded = new Bytes();
+        for (int i = 0; i < value.length(); i++) {
+            // Modified UTF-8, as required by class files:
+            final char c = value.charAt(i);
+            if (c != 0 && c < 0x80) {
+                encoded.u1(c);
+            } else if (c < 0x800) {
+                encoded.u1(0xC0 | c >> 6);
+                encoded.u1(0x80 | c & 0x3F);
+            } else {
+                encoded.u1(0xE0 | c >> 12);
+                encoded.u1(0x80 | c >> 6 & 0x3F);
+                encoded.u1(0x80 | c & 0x3F);
+            }
+        }
+
+        pool.u1(CONSTANT_UTF8);
+        pool.u2(encoded.size());
+        encoded.writeTo(pool);
+        return register(CONSTANT_UTF8 + ":" + value);
+    }
+
+    private int nameAndType(final String name, final String descriptor) {
+        return constant(CONSTANT_NAME_AND_TYPE, utf8(name), utf8(descriptor));
+    }
+
+    private int constant(final int tag, final int... refs) {
+        final StringBuilder key = new StringBuilder().append(tag);
+        for (final int ref : refs) {
+            key.append(':').append(ref);
+        }
+
+        final Integer existing = poolIndex.get(key.toString());
+        if (existing != null) {
+            return existing;
+        }
+
+        pool.u1(tag);
+        for (final int ref : refs) {
+            pool.u2(ref);
+        }
+        return register(key.toString());
+    }
+
+    private int register(final String key) {
+        final int index = poolCount++;
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    /** The code of a method. */
+    public final class Code {
+
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final Bytes code = new Bytes();
+        private final Bytes frames = new Bytes();
+        private final Bytes exceptions = new Bytes();
+        private int frameCount;
+        private int exceptionCount;
+        private int lastFrame = -1;
+
+        private Code(final int access, final String name, final String descriptor) {
+            this.access = access;
+            this.name = utf8(name);
+            this.descriptor = utf8(descriptor);
+        }
+
+        /**
+         * @return the current offset in the code, for use as a branch target.
+         */
+        public int offset() {
+            return code.size();
+        }
+
+        /**
+         * Write an instruction with no operands.
+         *
+         * @param opcode the opcode.
+         * @return self.
+         */
+        public Code op(final int opcode) {
+            code.u1(opcode);
+            return this;
+        }
+
+        /**
+         * Write an instruction with a single local variable index operand, e.g. {@code ALOAD}.
+         *
+         * @param opcode the opcode.
+         * @param local the local variable index.
+         * @return self.
+         */
+        public Code local(final int opcode, final int local) {
+            if (local > 0xFF) {
+                throw new IllegalArgumentException("Too many locals: " + local);
+            }
+            code.u1(opcode);
+            code.u1(local);
+            return this;
+        }
+
+        /**
+         * Write an instruction with a single constant pool index operand, e.g. {@code GETFIELD}.
+         *
+         * @param opcode the opcode.
+         * @param index the constant pool index.
+         * @return self.
+         */
+        public Code ref(final int opcode, final int index) {
+            code.u1(opcode);
+            code.u2(index);
+            return this;
+        }
+
+        /**
+         * Push an {@code int} constant.
+         *
+         * @param value the value, which must fit in a {@code short}.
+         * @return self.
+         */
+        public Code intConstant(final int value) {
+            if (value >= -1 && value <= 5) {
+                return op(ICONST_0 + value);
+            }
+            if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.u1(BIPUSH);
+                code.u1(value);
+                return this;
+            }
+            if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.u1(SIPUSH);
+                code.u2(value);
+                return this;
+            }
+            throw new IllegalArgumentException("Constant too large: " + value);
+        }
+
+        /**
+         * Write an {@code INVOKEINTERFACE} instruction.
+         *
+         * @param methodRef the constant pool index of the interface method.
+         * @param argSlots the number of argument slots, including the receiver.
+         * @return self.
+         */
+        public Code invokeInterface(final int methodRef, final int argSlots) {
+            ref(INVOKEINTERFACE, methodRef);
+            code.u1(argSlots);
+            code.u1(0);
+            return this;
+        }
+
+        /**
+         * Write an {@code IINC} instruction.
+         *
+         * @param local the local to increment.
+         * @param amount the amount to increment by.
+         * @return self.
+         */
+        public Code iinc(final int local, final int amount) {
+            local(IINC, local);
+            code.u1(amount);
+            return this;
+        }
+
+        /**
+         * Write a branch instruction.
+         *
+         * @param opcode the opcode.
+         * @param target the target offset, or {@code -1} if the target is later patched.
+         * @return the offset of the branch, for use with {@link #patch}.
+         */
+        public int branch(final int opcode, final int target) {
+            final int at = offset();
+            code.u1(opcode);
+            code.u2(target < 0 ? 0 : target - at);
+            return at;
+        }
+
+        /**
+         * Patch a forward branch to target the current offset.
+         *
+         * @param branch the offset of the branch instruction.
+         */
+        public void patch(final int branch) {
+            code.set2(branch + 1, offset() - branch);
+        }
+
+        /**
+         * Add a stack map frame, at the current offset, with the same locals as the previous frame
+         * and an empty stack.
+         */
+        public void sameFrame() {
+            final int delta = frameDelta();
+            if (delta <= SAME_FRAME_MAX) {
+                frames.u1(delta);
+            } else {
+                frames.u1(SAME_FRAME_EXTENDED);
+                frames.u2(delta);
+            }
+        }
+
+        /**
+         * Add a stack map frame, at the current offset, with additional locals compared to the
+         * previous frame and an empty stack.
+         *
+         * @param locals the verification types of the additional locals, between 1 and 3.
+         */
+        public void appendFrame(final int... locals) {
+            frames.u1(SAME_FRAME_EXTENDED + locals.length);
+            frames.u2(frameDelta());
+            for (final int local : locals) {
+                writeType(local);
+            }
+        }
+
+        /**
+         * Add a stack map frame, at the current offset, explicitly listing all locals and stack
+         * entries.
+         *
+         * @param locals the verification types of the locals. Long and double locals have a single
+         *     entry.
+         * @param stack the verification types of the stack entries.
+         */
+        public void fullFrame(final int[] locals, final int... stack) {
+            frames.u1(FULL_FRAME);
+            frames.u2(frameDelta());
+            frames.u2(locals.length);
+            for (final int local : locals) {
+                writeType(local);
+            }
+            frames.u2(stack.length);
+            for (final int entry : stack) {
+                writeType(entry);
+            }
+        }
+
+        /**
+         * Add an exception handler.
+         *
+         * @param start the offset of the first instruction covered by the handler.
+         * @param end the offset after the last instruction covered by the handler.
+         * @param handler the offset of the handler.
+         * @param catchType the constant pool index of the class to catch, or {@code 0} to catch
+         *     all.
+         */
+        public void tryCatch(
+                final int start, final int end, final int handler, final int catchType) {
+            exceptions.u2(start);
+            exceptions.u2(end);
+            exceptions.u2(handler);
+            exceptions.u2(catchType);
+            exceptionCount++;
+        }
+
+        /**
+         * Complete the method and add it to the class.
+         *
+         * @param maxStack the maximum stack depth.
+         * @param maxLocals the number of local variable slots, including parameters.
+         */
+        public void end(final int maxStack, final int maxLocals) {
+            final Bytes method = new Bytes();
+            method.u2(access);
+            method.u2(name);
+            method.u2(descriptor);
+            method.u2(1);
+
+            final int stackMapTable = frameCount == 0 ? 0 : utf8("StackMapTable");
+            final int stackMapLength = frameCount == 0 ? 0 : 2 + 2 + 4 + frames.size();
+
+            method.u2(utf8("Code"));
+            method.u4(2 + 2 + 4 + code.size() + 2 + exceptions.size() + 2 + stackMapLength);
+            method.u2(maxStack);
+            method.u2(maxLocals);
+            method.u4(code.size());
+            code.writeTo(method);
+            method.u2(exceptionCount);
+            exceptions.writeTo(method);
+            if (frameCount == 0) {
+                method.u2(0);
+            } else {
+                method.u2(1);
+                method.u2(stackMapTable);
+                method.u4(2 + frames.size());
+                method.u2(frameCount);
+                frames.writeTo(method);
+            }
+
+            methods.add(method);
+        }
+
+        private void writeType(final int type) {
+            frames.u1(type >>> 16 == 0 ? type : type >>> 16);
+            if (type >>> 16 != 0) {
+                frames.u2(type & 0xFFFF);
+            }
+        }
+
+        private int frameDelta() {
+            final int at = offset();
+            final int delta = lastFrame < 0 ? at : at - lastFrame - 1;
+            lastFrame = at;
+            frameCount++;
+            return delta;
+        }
+    }
+
+    private static final class Bytes extends ByteArrayOutputStream {
+
+        void u1(final int value) {
+            write(value);
+        }
+
+        void u2(final int value) {
+            write(value >>> 8);
+            write(value);
+        }
+
+        void u4(final int value) {
+            u2(value >>> 16);
+            u2(value);
+        }
+
+        void set2(final int at, final int value) {
+            buf[at] = (byte) (value >>> 8);
+            buf[at + 1] = (byte) value;
+        }
+
+        void writeTo(final Bytes out) {
+            out.write(buf, 0, count);
+        }
+    }
+}
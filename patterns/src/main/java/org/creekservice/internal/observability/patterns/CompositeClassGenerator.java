@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.AALOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_FINAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PRIVATE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PUBLIC;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_VOLATILE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ALOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ARETURN;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ARRAYLENGTH;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ASTORE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.CHECKCAST;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.DLOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.FLOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.GETFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.GOTO;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ICONST_0;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.IF_ICMPGE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ILOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKESPECIAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ISTORE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ITEM_INTEGER;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.LDC_W;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.LLOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.PUTFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.RETURN;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Generates composite observer classes.
+ *
+ * <p>A generated composite implements each method of the observer interface by looping over the
+ * delegates subscribed to the method, calling the same method on each directly. This avoids the
+ * argument boxing, array allocation and reflective dispatch of a {@link java.lang.reflect.Proxy},
+ * and allows the JIT to inline the calls.
+ *
+ * <p>The delegates are held in a dispatch table, as built by {@link ObserverType#dispatchTable}.
+ *
+ * <p>Generated composites inherit {@link Object#equals} and {@link Object#hashCode}, so, like those
+ * created by {@link CompositeProxy}, compare by identity.
+ *
+ * <p>Classes are defined as hidden classes in this package, so can only implement interfaces that
+ * are public, exported and visible from this class's class loader.
+ */
+public final class CompositeClassGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassLoader LOADER = CompositeClassGenerator.class.getClassLoader();
+    private static final Module MODULE = CompositeClassGenerator.class.getModule();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CLASS_NAME =
+            CompositeClassGenerator.class.getPackageName().replace('.', '/') + "/Composite$";
+    private static final String TABLE = "table";
+    private static final MethodType CONSTRUCTOR =
+            MethodType.methodType(void.class, Object[][].class);
+    private static final MethodType FACTORY = MethodType.methodType(Object.class, Object[][].class);
+
+    private CompositeClassGenerator() {}
+
+    /**
+     * Generate a composite class for the supplied {@code observerClass}.
+     *
+     * @param observerClass the observer interface.
+     * @return factory of composite instances, or empty if the interface can not be implemented by a
+     *     generated class. The factory must be passed a dispatch table.
+     */
+    public static Optional<Function<Object[][], Object>> generate(final Class<?> observerClass) {
+        return define(observerClass, false)
+                .map(lookup -> constructor(lookup, observerClass))
+                .map(constructor -> table -> newInstance(constructor, table));
+    }
+
+    /**
+     * Generate a mutable composite class for the supplied {@code observerClass}.
+     *
+     * <p>Unlike those created by {@link #generate}, the composite reads its dispatch table from a
+     * volatile field, which can be replaced.
+     *
+     * @param observerClass the observer interface.
+     * @return factory of mutable composite instances, or empty if the interface can not be
+     *     implemented by a generated class. The factory must be passed a dispatch table.
+     */
+    public static Optional<Function<Object[][], MutableComposite>> generateMutable(
+            final Class<?> observerClass) {
+        return define(observerClass, true)
+                .map(
+                        lookup -> {
+                            final MethodHandle constructor = constructor(lookup, observerClass);
+                            final VarHandle field = field(lookup, observerClass);
+                            return table -> new Mutable(newInstance(constructor, table), field);
+                        });
+    }
+
+    private static Optional<MethodHandles.Lookup> define(
+            final Class<?> observerClass, final boolean mutable) {
+        final List<Method> methods = methods(observerClass);
+        if (!accessible(observerClass, methods)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(
+                    LOOKUP.defineHiddenClass(classFile(observerClass, methods, mutable), true));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(
+                    "Failed to generate composite for " + observerClass.getName(), e);
+        }
+    }
+
+    private static MethodHandle constructor(
+            final MethodHandles.Lookup lookup, final Class<?> observerClass) {
+        try {
+            return lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR).asType(FACTORY);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Failed to generate composite for " + observerClass.getName(), e);
+        }
+    }
+
+    private static VarHandle field(
+            final MethodHandles.Lookup lookup, final Class<?> observerClass) {
+        try {
+            return lookup.findVarHandle(
+                    lookup.lookupClass(), TABLE, observerClass.arrayType().arrayType());
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Failed to generate composite for " + observerClass.getName(), e);
+        }
+    }
+
+    /**
+     * Get the methods a generated class must implement.
+     *
+     * @param observerClass the observer interface.
+     * @return the instance methods of the interface, including inherited methods, with one method
+     *     per signature.
+     */
+    static List<Method> methods(final Class<?> observerClass) {
+        final Map<String, Method> methods = new LinkedHashMap<>();
+        for (final Method method : observerClass.getMethods()) {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                methods.putIfAbsent(
+                        method.getName() + descriptor(method.getParameterTypes()), method);
+            }
+        }
+        return List.copyOf(methods.values());
+    }
+
+    static boolean accessible(final Class<?> observerClass, final List<Method> methods) {
+        if (!accessible(observerClass)) {
+            return false;
+        }
+
+        for (final Method method : methods) {
+            if (!accessible(method.getDeclaringClass())) {
+                return false;
+            }
+
+            for (final Class<?> param : method.getParameterTypes()) {
+                if (!visible(param)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean accessible(final Class<?> type) {
+        return Modifier.isPublic(type.getModifiers())
+                && MODULE.canRead(type.getModule())
+                && type.getModule().isExported(type.getPackageName(), MODULE)
+                && visible(type);
+    }
+
+    private static boolean visible(final Class<?> type) {
+        Class<?> element = type;
+        while (element.isArray()) {
+            element = element.getComponentType();
+        }
+
+        if (element.isPrimitive()) {
+            return true;
+        }
+
+        try {
+            return Class.forName(element.getName(), false, LOADER) == element;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static byte[] classFile(
+            final Class<?> observerClass, final List<Method> methods, final boolean mutable) {
+        final String className = CLASS_NAME + observerClass.getSimpleName();
+        final String observerName = internalName(observerClass);
+        final String arrayType = observerClass.arrayType().descriptorString();
+        final String tableType = observerClass.arrayType().arrayType().descriptorString();
+
+        final ClassFileWriter cw = new ClassFileWriter(className, OBJECT, observerName);
+        cw.field(ACC_PRIVATE | (mutable ? ACC_VOLATILE : ACC_FINAL), TABLE, tableType);
+
+        final int table = cw.fieldRef(className, TABLE, tableType);
+
+        cw.method(ACC_PUBLIC, "<init>", CONSTRUCTOR.toMethodDescriptorString())
+                .local(ALOAD, 0)
+                .ref(INVOKESPECIAL, cw.methodRef(OBJECT, "<init>", "()V", false))
+                .local(ALOAD, 0)
+                .local(ALOAD, 1)
+                .ref(CHECKCAST, cw.classRef(tableType))
+                .ref(PUTFIELD, table)
+                .op(RETURN)
+                .end(2, 2);
+
+        cw.method(ACC_PUBLIC, "toString", "()Ljava/lang/String;")
+                .ref(LDC_W, cw.stringRef("Composite for " + observerClass.getName()))
+                .op(ARETURN)
+                .end(1, 1);
+
+        for (int m = 0; m < methods.size(); m++) {
+            final Method method = methods.get(m);
+            final Class<?>[] params = method.getParameterTypes();
+            final int argSlots = slots(params);
+            final int array = 1 + argSlots;
+            final int index = array + 1;
+
+            final ClassFileWriter.Code code =
+                    cw.method(ACC_PUBLIC, method.getName(), descriptor(params));
+
+            // final Observer[] array = this.table[m];
+            code.local(ALOAD, 0).ref(GETFIELD, table).intConstant(m).op(AALOAD);
+            code.local(ASTORE, array);
+
+            // for (int index = 0; index < array.length; index++)
+            code.op(ICONST_0).local(ISTORE, index);
+            final int loop = code.offset();
+            code.appendFrame(cw.objectType(arrayType), ITEM_INTEGER);
+            code.local(ILOAD, index).local(ALOAD, array).op(ARRAYLENGTH);
+            final int exit = code.branch(IF_ICMPGE, -1);
+
+            // array[index].method(args...);
+            code.local(ALOAD, array).local(ILOAD, index).op(AALOAD);
+            loadArgs(code, params);
+            code.invokeInterface(
+                    cw.methodRef(
+                            internalName(method.getDeclaringClass()),
+                            method.getName(),
+                            descriptor(params),
+                            true),
+                    1 + argSlots);
+            code.iinc(index, 1);
+            code.branch(GOTO, loop);
+
+            code.patch(exit);
+            code.sameFrame();
+            code.op(RETURN).end(Math.max(2, 1 + argSlots), index + 1);
+        }
+
+        return cw.toByteArray();
+    }
+
+    /**
+     * Load method arguments onto the stack.
+     *
+     * @param code the code to add to.
+     * @param params the parameter types, which start at local 1.
+     */
+    static void loadArgs(final ClassFileWriter.Code code, final Class<?>[] params) {
+        int slot = 1;
+        for (final Class<?> param : params) {
+            loadArg(code, slot, param);
+            slot += slots(param);
+        }
+    }
+
+    /**
+     * Load a single method argument onto the stack.
+     *
+     * @param code the code to add to.
+     * @param slot the local variable slot of the argument.
+     * @param type the type of the argument.
+     */
+    static void loadArg(final ClassFileWriter.Code code, final int slot, final Class<?> type) {
+        code.local(loadOpcode(type), slot);
+    }
+
+    private static int loadOpcode(final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return ALOAD;
+        }
+        if (type == long.class) {
+            return LLOAD;
+        }
+        if (type == float.class) {
+            return FLOAD;
+        }
+        if (type == double.class) {
+            return DLOAD;
+        }
+        return ILOAD;
+    }
+
+    static int slots(final Class<?>... types) {
+        int slots = 0;
+        for (final Class<?> type : types) {
+            slots += type == long.class || type == double.class ? 2 : 1;
+        }
+        return slots;
+    }
+
+    static String internalName(final Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    static String descriptor(final Class<?>... params) {
+        return MethodType.methodType(void.class, params).toMethodDescriptorString();
+    }
+
+    private static final class Mutable implements MutableComposite {
+
+        private final Object composite;
+        private final VarHandle table;
+
+        Mutable(final Object composite, final VarHandle table) {
+            this.composite = composite;
+            this.table = table;
+        }
+
+        @Override
+        public Object composite() {
+            return composite;
+        }
+
+        @Override
+        public Object[][] table() {
+            return (Object[][]) table.getVolatile(composite);
+        }
+
+        @Override
+        public boolean compareAndSetTable(final Object[][] expected, final Object[][] table) {
+            return this.table.compareAndSet(composite, expected, table);
+        }
+    }
+
+    private static Object newInstance(final MethodHandle constructor, final Object[][] table) {
+        try {
+            return (Object) constructor.invokeExact(table);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
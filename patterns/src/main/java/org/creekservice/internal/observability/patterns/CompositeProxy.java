@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * {@link Proxy} based composite, used for observer interfaces that generated classes can not
+ * implement.
+ */
+final class CompositeProxy implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final VarHandle TABLE = tableHandle();
+
+    private final ObserverType type;
+    private final MethodHandle[] handles;
+    private volatile Object[][] table;
+
+    static Function<Object[][], Object> factory(final ObserverType type) {
+        final MethodHandle[] handles = type.methodHandles();
+        return table -> new CompositeProxy(type, handles, table).proxy();
+    }
+
+    static Function<Object[][], MutableComposite> mutableFactory(final ObserverType type) {
+        final MethodHandle[] handles = type.methodHandles();
+        return table -> {
+            final CompositeProxy handler = new CompositeProxy(type, handles, table);
+            final Object composite = handler.proxy();
+            return new MutableComposite() {
+                @Override
+                public Object composite() {
+                    return composite;
+                }
+
+                @Override
+                public Object[][] table() {
+                    return handler.table;
+                }
+
+                @Override
+                public boolean compareAndSetTable(
+                        final Object[][] expected, final Object[][] table) {
+                    return TABLE.compareAndSet(handler, expected, table);
+                }
+            };
+        };
+    }
+
+    private CompositeProxy(
+            final ObserverType type, final MethodHandle[] handles, final Object[][] table) {
+        this.type = type;
+        this.handles = handles;
+        this.table = table;
+    }
+
+    private Object proxy() {
+        return Proxy.newProxyInstance(
+                type.type().getClassLoader(), new Class<?>[] {type.type()}, this);
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+            throws Throwable {
+        final int index = type.index(method);
+        if (index < 0) {
+            return objectMethod(proxy, method, args);
+        }
+
+        final MethodHandle handle = handles[index];
+        final Object[] arguments = args == null ? NO_ARGS : args;
+        for (final Object delegate : table[index]) {
+            handle.bindTo(delegate).invokeWithArguments(arguments);
+        }
+        return null;
+    }
+
+    private static VarHandle tableHandle() {
+        try {
+            return MethodHandles.lookup()
+                    .findVarHandle(CompositeProxy.class, "table", Object[][].class);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object objectMethod(final Object proxy, final Method method, final Object[] args) {
+        // Identity equality, matching the composites of CompositeClassGenerator:
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "Proxy composite for " + type.type().getName();
+        }
+    }
+}
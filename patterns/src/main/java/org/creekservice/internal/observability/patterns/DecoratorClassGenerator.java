@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_FINAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PRIVATE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PUBLIC;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ALOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ARETURN;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ASTORE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.CHECKCAST;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.GETFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKESPECIAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKEVIRTUAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ITEM_LONG;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.LLOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.LSTORE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.PUTFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.RETURN;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.descriptor;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.internalName;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.loadArgs;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.slots;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Generates decorator classes.
+ *
+ * <p>A generated decorator implements each method of the observer interface by calling the same
+ * method on its delegate directly, bracketed by calls to a {@link DecoratorHook}:
+ *
+ * <pre>{@code
+ * public void method(args...) {
+ *     final long state = hook.enter(index);
+ *     try {
+ *         delegate.method(args...);
+ *     } catch (Throwable e) {
+ *         hook.failed(index, state, e);
+ *         return;
+ *     }
+ *     hook.exit(index, state);
+ * }
+ * }</pre>
+ *
+ * <p>As with {@link CompositeClassGenerator}, classes can only be generated for interfaces that are
+ * public, exported and visible from this class's class loader.
+ */
+final class DecoratorClassGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String THROWABLE = "java/lang/Throwable";
+    private static final String CLASS_NAME =
+            DecoratorClassGenerator.class.getPackageName().replace('.', '/') + "/Decorator$";
+    private static final String DELEGATE = "delegate";
+    private static final String HOOK = "hook";
+    private static final String HOOK_TYPE = DecoratorHook.class.descriptorString();
+    private static final MethodType CONSTRUCTOR =
+            MethodType.methodType(void.class, Object.class, DecoratorHook.class);
+    private static final MethodType FACTORY =
+            MethodType.methodType(Object.class, Object.class, DecoratorHook.class);
+
+    private DecoratorClassGenerator() {}
+
+    /**
+     * Generate a decorator class for the supplied {@code type}.
+     *
+     * @param type the observer type.
+     * @return factory of decorator instances, or empty if the interface can not be implemented by a
+     *     generated class.
+     */
+    static Optional<BiFunction<Object, DecoratorHook, Object>> generate(final ObserverType type) {
+        if (!CompositeClassGenerator.accessible(type.type(), type.methods())) {
+            return Optional.empty();
+        }
+
+        final MethodHandle constructor;
+        try {
+            final MethodHandles.Lookup lookup =
+                    LOOKUP.defineHiddenClass(classFile(type.type(), type.methods()), true);
+            constructor = lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR).asType(FACTORY);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Failed to generate decorator for " + type.type().getName(), e);
+        }
+
+        return Optional.of((delegate, hook) -> newInstance(constructor, delegate, hook));
+    }
+
+    private static byte[] classFile(final Class<?> observerClass, final List<Method> methods) {
+        final String className = CLASS_NAME + observerClass.getSimpleName();
+        final String observerName = internalName(observerClass);
+        final String observerType = observerClass.descriptorString();
+        final String hookName = internalName(DecoratorHook.class);
+
+        final ClassFileWriter cw = new ClassFileWriter(className, OBJECT, observerName);
+        cw.field(ACC_PRIVATE | ACC_FINAL, DELEGATE, observerType);
+        cw.field(ACC_PRIVATE | ACC_FINAL, HOOK, HOOK_TYPE);
+
+        final int delegate = cw.fieldRef(className, DELEGATE, observerType);
+        final int hook = cw.fieldRef(className, HOOK, HOOK_TYPE);
+        final int enter = cw.methodRef(hookName, "enter", "(I)J", true);
+        final int exit = cw.methodRef(hookName, "exit", "(IJ)V", true);
+        final int failed =
+                cw.methodRef(hookName, "failed", "(IJL" + THROWABLE + ";)V", true);
+        final int throwable = cw.classRef(THROWABLE);
+
+        cw.method(ACC_PUBLIC, "<init>", CONSTRUCTOR.toMethodDescriptorString())
+                .local(ALOAD, 0)
+                .ref(INVOKESPECIAL, cw.methodRef(OBJECT, "<init>", "()V", false))
+                .local(ALOAD, 0)
+                .local(ALOAD, 1)
+                .ref(CHECKCAST, cw.classRef(observerName))
+                .ref(PUTFIELD, delegate)
+                .local(ALOAD, 0)
+                .local(ALOAD, 2)
+                .ref(PUTFIELD, hook)
+                .op(RETURN)
+                .end(2, 3);
+
+        cw.method(ACC_PUBLIC, "toString", "()Ljava/lang/String;")
+                .local(ALOAD, 0)
+                .ref(GETFIELD, delegate)
+                .ref(
+                        INVOKEVIRTUAL,
+                        cw.methodRef(OBJECT, "toString", "()Ljava/lang/String;", false))
+                .op(ARETURN)
+                .end(1, 1);
+
+        for (int index = 0; index < methods.size(); index++) {
+            final Method method = methods.get(index);
+            final Class<?>[] params = method.getParameterTypes();
+            final int argSlots = slots(params);
+            final int state = 1 + argSlots;
+            final int exception = state + 2;
+
+            final ClassFileWriter.Code code =
+                    cw.method(ACC_PUBLIC, method.getName(), descriptor(params));
+
+            // final long state = this.hook.enter(index);
+            code.local(ALOAD, 0).ref(GETFIELD, hook).intConstant(index);
+            code.invokeInterface(enter, 2).local(LSTORE, state);
+
+            // try { this.delegate.method(args...); }
+            final int start = code.offset();
+            code.local(ALOAD, 0).ref(GETFIELD, delegate);
+            loadArgs(code, params);
+            code.invokeInterface(
+                    cw.methodRef(
+                            internalName(method.getDeclaringClass()),
+                            method.getName(),
+                            descriptor(params),
+                            true),
+                    1 + argSlots);
+            final int end = code.offset();
+
+            // this.hook.exit(index, state);
+            code.local(ALOAD, 0).ref(GETFIELD, hook).intConstant(index).local(LLOAD, state);
+            code.invokeInterface(exit, 4).op(RETURN);
+
+            // catch (Throwable e) { this.hook.failed(index, state, e); }
+            final int handler = code.offset();
+            code.tryCatch(start, end, handler, throwable);
+            code.fullFrame(locals(cw, observerClass, params), cw.objectType(THROWABLE));
+            code.local(ASTORE, exception);
+            code.local(ALOAD, 0).ref(GETFIELD, hook).intConstant(index).local(LLOAD, state);
+            code.local(ALOAD, exception).invokeInterface(failed, 5).op(RETURN);
+
+            code.end(Math.max(5, 1 + argSlots), exception + 1);
+        }
+
+        return cw.toByteArray();
+    }
+
+    private static int[] locals(
+            final ClassFileWriter cw, final Class<?> observerClass, final Class<?>[] params) {
+        final int[] locals = new int[params.length + 2];
+        locals[0] = cw.objectType(CLASS_NAME + observerClass.getSimpleName());
+        for (int i = 0; i < params.length; i++) {
+            locals[i + 1] = cw.verificationType(params[i]);
+        }
+        locals[params.length + 1] = ITEM_LONG;
+        return locals;
+    }
+
+    private static Object newInstance(
+            final MethodHandle constructor, final Object delegate, final DecoratorHook hook) {
+        try {
+            return (Object) constructor.invokeExact(delegate, hook);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
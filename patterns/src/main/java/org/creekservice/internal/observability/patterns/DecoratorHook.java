@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+/**
+ * Hook called around each call a decorator, created by {@link ObserverType#decorator}, makes to its
+ * delegate.
+ *
+ * <p>The decorator passes the value returned from {@link #enter} to either {@link #exit} or {@link
+ * #failed}, allowing state, e.g. a start time, to be passed without allocation.
+ */
+public interface DecoratorHook {
+
+    /**
+     * Called before the delegate is called.
+     *
+     * @param method the index of the method being called.
+     * @return state to pass to {@link #exit} or {@link #failed}.
+     */
+    long enter(int method);
+
+    /**
+     * Called after the delegate returned normally.
+     *
+     * @param method the index of the method called.
+     * @param state the value returned from {@link #enter}.
+     */
+    void exit(int method, long state);
+
+    /**
+     * Called if the delegate throws.
+     *
+     * <p>The exception is not rethrown unless this method throws it, e.g. by calling {@link
+     * #rethrow}.
+     *
+     * @param method the index of the method called.
+     * @param state the value returned from {@link #enter}.
+     * @param e the exception thrown.
+     */
+    void failed(int method, long state, Throwable e);
+
+    /**
+     * Rethrow any exception, without wrapping checked exceptions.
+     *
+     * @param e the exception to throw.
+     * @return never returns. Declared to allow callers to write {@code throw rethrow(e)}.
+     */
+    static RuntimeException rethrow(final Throwable e) {
+        return DecoratorHook.<RuntimeException>sneaky(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> RuntimeException sneaky(final Throwable e) throws T {
+        throw (T) e;
+    }
+}
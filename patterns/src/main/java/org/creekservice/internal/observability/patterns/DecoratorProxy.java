@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link Proxy} based decorator, used for observer interfaces that generated classes can not
+ * implement.
+ */
+final class DecoratorProxy implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final ObserverType type;
+    private final Object delegate;
+    private final DecoratorHook hook;
+
+    static Object create(final ObserverType type, final Object delegate, final DecoratorHook hook) {
+        return Proxy.newProxyInstance(
+                type.type().getClassLoader(),
+                new Class<?>[] {type.type()},
+                new DecoratorProxy(type, delegate, hook));
+    }
+
+    private DecoratorProxy(
+            final ObserverType type, final Object delegate, final DecoratorHook hook) {
+        this.type = type;
+        this.delegate = delegate;
+        this.hook = hook;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        final int index = type.index(method);
+        if (index < 0) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return delegate.toString();
+            }
+        }
+
+        final long state = hook.enter(index);
+        try {
+            type.invoke(delegate, index, args == null ? NO_ARGS : args);
+        } catch (final Throwable e) {
+            hook.failed(index, state, e);
+            return null;
+        }
+        hook.exit(index, state);
+        return null;
+    }
+}
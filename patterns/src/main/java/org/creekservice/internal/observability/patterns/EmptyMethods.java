@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Detects methods with empty bodies, i.e. whose code is a single {@code return} instruction.
+ *
+ * <p>Detection reads the class file of the class declaring the method, so is only possible for
+ * classes whose class file is available as a resource. Methods of other classes, such as hidden
+ * classes, lambdas and proxies, are never reported as empty.
+ */
+final class EmptyMethods {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int RETURN = 0xb1;
+
+    private static final ClassValue<Set<String>> EMPTY =
+            new ClassValue<>() {
+                @Override
+                protected Set<String> computeValue(final Class<?> type) {
+                    return emptyMethods(type);
+                }
+            };
+
+    private EmptyMethods() {}
+
+    /**
+     * @param method the method to check.
+     * @return {@code true} if the method is known to have an empty body.
+     */
+    static boolean isEmpty(final Method method) {
+        return EMPTY.get(method.getDeclaringClass())
+                .contains(
+                        method.getName()
+                                + CompositeClassGenerator.descriptor(method.getParameterTypes()));
+    }
+
+    private static Set<String> emptyMethods(final Class<?> type) {
+        if (type.isHidden() || type.isArray() || type.isPrimitive()) {
+            return Set.of();
+        }
+
+        final String name = type.getName();
+        final String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            return in == null ? Set.of() : read(new DataInputStream(in));
+        } catch (final IOException | RuntimeException e) {
+            return Set.of();
+        }
+    }
+
+    private static Set<String> read(final DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            return Set.of();
+        }
+        in.readUnsignedShort(); // minor
+        in.readUnsignedShort(); // major
+
+        final String[] utf8 = readConstantPool(in);
+
+        in.readUnsignedShort(); // access
+        in.readUnsignedShort(); // this
+        in.readUnsignedShort(); // super
+        skip(in, in.readUnsignedShort() * 2); // interfaces
+
+        final int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            skip(in, 6);
+            skipAttributes(in);
+        }
+
+        final Set<String> empty = new HashSet<>();
+        final int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            in.readUnsignedShort(); // access
+            final String methodName = utf8[in.readUnsignedShort()];
+            final String descriptor = utf8[in.readUnsignedShort()];
+
+            final int attributeCount = in.readUnsignedShort();
+            for (int a = 0; a < attributeCount; a++) {
+                final String attribute = utf8[in.readUnsignedShort()];
+                final int length = in.readInt();
+                if (!"Code".equals(attribute)) {
+                    skip(in, length);
+                    continue;
+                }
+
+                in.readUnsignedShort(); // max stack
+                in.readUnsignedShort(); // max locals
+                final int codeLength = in.readInt();
+                final int first = in.readUnsignedByte();
+                if (codeLength == 1 && first == RETURN) {
+                    empty.add(methodName + descriptor);
+                }
+                skip(in, length - 9);
+            }
+        }
+        return Set.copyOf(empty);
+    }
+
+    private static String[] readConstantPool(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        final String[] utf8 = new String[count];
+        for (int i = 1; i < count; i++) {
+            final int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(in, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(in, 3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(in, 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skip(in, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag: " + tag);
+            }
+        }
+        return utf8;
+    }
+
+    private static void skipAttributes(final DataInputStream in) throws IOException {
+        final int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort();
+            skip(in, in.readInt());
+        }
+    }
+
+    private static void skip(final DataInputStream in, final int bytes) throws IOException {
+        in.skipNBytes(bytes);
+    }
+}
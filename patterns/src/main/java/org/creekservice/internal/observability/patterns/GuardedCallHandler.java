@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+/**
+ * A {@link CallHandler} that is asked whether it wants each call before the call's arguments are
+ * captured.
+ *
+ * <p>Interceptors created for guarded handlers skip calls the handler does not want, without
+ * boxing their arguments or allocating.
+ */
+public interface GuardedCallHandler extends CallHandler {
+
+    /**
+     * @param method the index of the method being called, as returned by {@link
+     *     ObserverType#index}.
+     * @return {@code true} if the handler wants the call passed to {@link #call}.
+     */
+    boolean enabled(int method);
+}
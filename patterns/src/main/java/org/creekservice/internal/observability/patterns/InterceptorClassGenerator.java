@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.AASTORE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_FINAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PRIVATE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ACC_PUBLIC;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ALOAD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ANEWARRAY;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.ARETURN;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.CHECKCAST;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.DUP;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.GETFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.IFNE;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKESPECIAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKESTATIC;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.INVOKEVIRTUAL;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.PUTFIELD;
+import static org.creekservice.internal.observability.patterns.ClassFileWriter.RETURN;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.descriptor;
+import static org.creekservice.internal.observability.patterns.CompositeClassGenerator.internalName;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Generates interceptor classes.
+ *
+ * <p>A generated interceptor implements each method of the observer interface by boxing its
+ * arguments into an array and passing them, along with the method's index, to a {@link
+ * CallHandler}. This is the minimum work needed to capture a call, e.g. to replay it later on
+ * another thread.
+ *
+ * <p>Interceptors for a {@link GuardedCallHandler} first ask the handler if it is enabled for the
+ * method, returning immediately, before boxing any arguments, if not.
+ *
+ * <p>As with {@link CompositeClassGenerator}, classes can only be generated for interfaces that are
+ * public, exported and visible from this class's class loader.
+ */
+final class InterceptorClassGenerator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String CLASS_NAME =
+            InterceptorClassGenerator.class.getPackageName().replace('.', '/') + "/Interceptor$";
+    private static final String HANDLER = "handler";
+    private static final String HANDLER_TYPE = CallHandler.class.descriptorString();
+    private static final String GUARDED_HANDLER_TYPE =
+            GuardedCallHandler.class.descriptorString();
+    private static final MethodType CONSTRUCTOR =
+            MethodType.methodType(void.class, CallHandler.class);
+    private static final MethodType FACTORY =
+            MethodType.methodType(Object.class, CallHandler.class);
+
+    private InterceptorClassGenerator() {}
+
+    /**
+     * Generate an interceptor class for the supplied {@code type}.
+     *
+     * @param type the observer type.
+     * @param guarded {@code true} to generate an interceptor for {@link GuardedCallHandler}s.
+     * @return factory of interceptor instances, or empty if the interface can not be implemented by
+     *     a generated class.
+     */
+    static Optional<Function<CallHandler, Object>> generate(
+            final ObserverType type, final boolean guarded) {
+        if (!CompositeClassGenerator.accessible(type.type(), type.methods())) {
+            return Optional.empty();
+        }
+
+        final MethodHandle constructor;
+        try {
+            final MethodHandles.Lookup lookup =
+                    LOOKUP.defineHiddenClass(
+                            classFile(type.type(), type.methods(), guarded), true);
+            constructor = lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR).asType(FACTORY);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Failed to generate interceptor for " + type.type().getName(), e);
+        }
+
+        return Optional.of(handler -> newInstance(constructor, handler));
+    }
+
+    private static byte[] classFile(
+            final Class<?> observerClass, final List<Method> methods, final boolean guarded) {
+        final String className =
+                CLASS_NAME + (guarded ? "Guarded$" : "") + observerClass.getSimpleName();
+        final String handlerType = guarded ? GUARDED_HANDLER_TYPE : HANDLER_TYPE;
+
+        final ClassFileWriter cw =
+                new ClassFileWriter(className, OBJECT, internalName(observerClass));
+        cw.field(ACC_PRIVATE | ACC_FINAL, HANDLER, handlerType);
+
+        final int handler = cw.fieldRef(className, HANDLER, handlerType);
+
+        final ClassFileWriter.Code init =
+                cw.method(ACC_PUBLIC, "<init>", CONSTRUCTOR.toMethodDescriptorString())
+                        .local(ALOAD, 0)
+                        .ref(INVOKESPECIAL, cw.methodRef(OBJECT, "<init>", "()V", false))
+                        .local(ALOAD, 0)
+                        .local(ALOAD, 1);
+        if (guarded) {
+            init.ref(CHECKCAST, cw.classRef(internalName(GuardedCallHandler.class)));
+        }
+        init.ref(PUTFIELD, handler)
+                .op(RETURN)
+                .end(2, 2);
+
+        cw.method(ACC_PUBLIC, "toString", "()Ljava/lang/String;")
+                .local(ALOAD, 0)
+                .ref(GETFIELD, handler)
+                .ref(
+                        INVOKEVIRTUAL,
+                        cw.methodRef(OBJECT, "toString", "()Ljava/lang/String;", false))
+                .op(ARETURN)
+                .end(1, 1);
+
+        final int call =
+                cw.methodRef(
+                        internalName(CallHandler.class),
+                        "call",
+                        MethodType.methodType(void.class, int.class, Object[].class)
+                                .toMethodDescriptorString(),
+                        true);
+
+        final int enabled =
+                guarded
+                        ? cw.methodRef(
+                                internalName(GuardedCallHandler.class),
+                                "enabled",
+                                MethodType.methodType(boolean.class, int.class)
+                                        .toMethodDescriptorString(),
+                                true)
+                        : 0;
+
+        for (int index = 0; index < methods.size(); index++) {
+            final Class<?>[] params = methods.get(index).getParameterTypes();
+
+            final ClassFileWriter.Code code =
+                    cw.method(ACC_PUBLIC, methods.get(index).getName(), descriptor(params));
+
+            if (guarded) {
+                // if (!this.handler.enabled(index)) return;
+                code.local(ALOAD, 0).ref(GETFIELD, handler).intConstant(index);
+                final int proceed = code.invokeInterface(enabled, 2).branch(IFNE, -1);
+                code.op(RETURN);
+                code.patch(proceed);
+                code.sameFrame();
+            }
+
+            // this.handler.call(index, new Object[] {args...});
+            code.local(ALOAD, 0).ref(GETFIELD, handler).intConstant(index);
+            boxArgs(cw, code, params);
+            code.invokeInterface(call, 3);
+
+            code.op(RETURN).end(7, 1 + CompositeClassGenerator.slots(params));
+        }
+
+        return cw.toByteArray();
+    }
+
+    /**
+     * Push a new {@code Object[]} holding the, boxed, method arguments onto the stack.
+     *
+     * <p>Requires up to four stack slots above the current stack depth.
+     *
+     * @param cw the class being written.
+     * @param code the code to add to.
+     * @param params the parameter types, which start at local 1.
+     */
+    static void boxArgs(
+            final ClassFileWriter cw, final ClassFileWriter.Code code, final Class<?>[] params) {
+        code.intConstant(params.length).ref(ANEWARRAY, cw.classRef(OBJECT));
+
+        int slot = 1;
+        for (int i = 0; i < params.length; i++) {
+            final Class<?> param = params[i];
+            code.op(DUP).intConstant(i);
+            CompositeClassGenerator.loadArg(code, slot, param);
+            if (param.isPrimitive()) {
+                final Class<?> boxed = MethodType.methodType(param).wrap().returnType();
+                code.ref(
+                        INVOKESTATIC,
+                        cw.methodRef(
+                                internalName(boxed),
+                                "valueOf",
+                                MethodType.methodType(boxed, param).toMethodDescriptorString(),
+                                false));
+            }
+            code.op(AASTORE);
+            slot += CompositeClassGenerator.slots(param);
+        }
+    }
+
+    private static Object newInstance(final MethodHandle constructor, final CallHandler handler) {
+        try {
+            return (Object) constructor.invokeExact(handler);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link Proxy} based interceptor, used for observer interfaces that generated classes can not
+ * implement.
+ */
+final class InterceptorProxy implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final ObserverType type;
+    private final CallHandler handler;
+
+    static Object create(final ObserverType type, final CallHandler handler) {
+        return Proxy.newProxyInstance(
+                type.type().getClassLoader(),
+                new Class<?>[] {type.type()},
+                new InterceptorProxy(type, handler));
+    }
+
+    private InterceptorProxy(final ObserverType type, final CallHandler handler) {
+        this.type = type;
+        this.handler = handler;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        final int index = type.index(method);
+        if (index >= 0) {
+            if (handler instanceof GuardedCallHandler
+                    && !((GuardedCallHandler) handler).enabled(index)) {
+                return null;
+            }
+            handler.call(index, args == null ? NO_ARGS : args);
+            return null;
+        }
+
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return handler.toString();
+        }
+    }
+}
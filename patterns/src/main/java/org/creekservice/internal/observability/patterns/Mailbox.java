@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An unbounded, lock-free, queue of calls to a single observer, drained in order on an {@link
+ * Executor}.
+ *
+ * <p>Any number of threads can make calls concurrently. Calls never block: they are appended to a
+ * lock-free multi-producer queue, which is drained by a single task at a time. The observer is
+ * therefore only ever called by one thread at a time, in the order the calls were queued.
+ *
+ * <p>The supplied {@link DecoratorHook} is entered when a call is queued and exited when the call
+ * completes, so timings include the time spent queued.
+ */
+public final class Mailbox extends SerialDrain {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final ObserverType type;
+    private final Object target;
+    private final int capacity;
+    private final DecoratorHook hook;
+    private final Queue<Message> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * @param type the observer type.
+     * @param target the observer to call.
+     * @param executor the executor to drain the queue on.
+     * @param capacity the depth at which further calls are discarded.
+     * @param hook hook called as calls are queued, and as they complete or fail.
+     */
+    public Mailbox(
+            final ObserverType type,
+            final Object target,
+            final Executor executor,
+            final int capacity,
+            final DecoratorHook hook) {
+        super(executor);
+        this.type = requireNonNull(type, "type");
+        this.target = requireNonNull(target, "target");
+        this.capacity = capacity;
+        this.hook = requireNonNull(hook, "hook");
+    }
+
+    @Override
+    public void call(final int method, final Object[] args) {
+        if (closed() || depth() >= capacity) {
+            discard();
+            return;
+        }
+
+        queued.increment();
+        queue.offer(new Message(method, args, hook.enter(method)));
+        schedule();
+    }
+
+    /**
+     * @return the number of calls queued or in progress.
+     */
+    public long depth() {
+        final long done = completed.sum();
+        return queued.sum() - done;
+    }
+
+    @Override
+    public String toString() {
+        return "Actor " + target;
+    }
+
+    @Override
+    protected boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    protected int discardPending() {
+        int count = 0;
+        while (queue.poll() != null) {
+            completed.increment();
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    protected void drainBatch() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final Message message = queue.poll();
+            if (message == null) {
+                break;
+            }
+
+            try {
+                message.invoke();
+            } finally {
+                completed.increment();
+            }
+        }
+    }
+
+    private final class Message {
+
+        private final int method;
+        private final Object[] args;
+        private final long state;
+
+        Message(final int method, final Object[] args, final long state) {
+            this.method = method;
+            this.args = args;
+            this.state = state;
+        }
+
+        void invoke() {
+            try {
+                type.invoke(target, method, args);
+            } catch (final Throwable e) {
+                hook.failed(method, state, e);
+                return;
+            }
+            hook.exit(method, state);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+/**
+ * A composite whose dispatch table can be replaced after construction.
+ *
+ * <p>The composite reads its table from a volatile field on each call, so a replaced table is seen
+ * by subsequent calls. A table must never be mutated once passed in, nor passed in again once
+ * replaced.
+ */
+public interface MutableComposite {
+
+    /**
+     * @return the composite, which implements the observer interface.
+     */
+    Object composite();
+
+    /**
+     * @return the current dispatch table.
+     */
+    Object[][] table();
+
+    /**
+     * Replace the dispatch table, if it is still {@code expected}.
+     *
+     * @param expected the table expected to be current.
+     * @param table the new table, as built by {@link ObserverType#dispatchTable}.
+     * @return {@code true} if the table was replaced.
+     */
+    boolean compareAndSetTable(Object[][] expected, Object[][] table);
+}
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Validated metadata about an observer interface.
+ *
+ * <p>Instances are cached per interface, so the reflection needed to validate an interface and
+ * generate its composite class is only done once, no matter how many composites are built.
+ */
+public final class ObserverType {
+
+    private static final MethodType INVOKER =
+            MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final MethodHandle INVOKE_IMPLEMENTATION = invokeImplementationHandle();
+
+    private static final ClassValue<ObserverType> TYPES =
+            new ClassValue<>() {
+                @Override
+                protected ObserverType computeValue(final Class<?> type) {
+                    return new ObserverType(type);
+                }
+            };
+
+    private final Class<?> type;
+    private final String invalid;
+    private final List<Method> methods;
+    private final Map<Method, Integer> indexes;
+    private final ClassValue<BitSet> subscriptions =
+            new ClassValue<>() {
+                @Override
+                protected BitSet computeValue(final Class<?> implementation) {
+                    return detectSubscriptions(implementation);
+                }
+            };
+    private volatile Function<Object[][], Object> compositeFactory;
+    private volatile Function<Object[][], MutableComposite> mutableCompositeFactory;
+    private volatile Function<CallHandler, Object> interceptorFactory;
+    private volatile Function<CallHandler, Object> guardedInterceptorFactory;
+    private volatile BiFunction<Object, DecoratorHook, Object> decoratorFactory;
+    private volatile MethodHandle[] invokers;
+
+    /**
+     * Get the metadata for an observer interface.
+     *
+     * @param observerClass the observer interface.
+     * @return the metadata.
+     * @throws IllegalArgumentException if {@code observerClass} is not an interface.
+     * @throws UnsupportedOperationException if any of the interface's methods do not have a {@code
+     *     void} return type.
+     */
+    public static ObserverType of(final Class<?> observerClass) {
+        if (!observerClass.isInterface()) {
+            throw new IllegalArgumentException("observerClass must be an interface");
+        }
+
+        final ObserverType type = TYPES.get(observerClass);
+        if (type.invalid != null) {
+            throw new UnsupportedOperationException(type.invalid);
+        }
+        return type;
+    }
+
+    private ObserverType(final Class<?> type) {
+        this.type = type;
+        this.invalid = invalidMethods(type);
+        this.methods = invalid == null ? CompositeClassGenerator.methods(type) : List.of();
+        this.indexes = invalid == null ? indexes(type, methods) : Map.of();
+    }
+
+    /**
+     * @return the observer interface.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * @return the methods an implementation of the interface must implement, including inherited
+     *     methods, with one method per signature. A method's position in the list is its index.
+     */
+    public List<Method> methods() {
+        return methods;
+    }
+
+    /**
+     * Get the index of a method, as passed to a {@link java.lang.reflect.InvocationHandler}.
+     *
+     * @param method the method.
+     * @return the method's index in {@link #methods()}, or {@code -1} if not an observer method.
+     */
+    public int index(final Method method) {
+        return indexes.getOrDefault(method, -1);
+    }
+
+    /**
+     * Create an array to hold delegates.
+     *
+     * @param size the size of the array.
+     * @return an array whose component type is the observer interface.
+     */
+    public Object[] newArray(final int size) {
+        return (Object[]) Array.newInstance(type, size);
+    }
+
+    /**
+     * Detect which methods an observer is subscribed to.
+     *
+     * <p>An observer is subscribed to all methods, except those where its implementation is known
+     * to have an empty body, e.g. an empty default method it does not override, or an empty
+     * override. Calling such methods has no effect, so a composite can skip them.
+     *
+     * @param observer the observer.
+     * @return the indexes of the methods the observer is subscribed to. Must not be mutated.
+     */
+    public BitSet subscriptions(final Object observer) {
+        return subscriptions.get(observer.getClass());
+    }
+
+    /**
+     * Get the methods matching a predicate.
+     *
+     * @param subscribed the predicate.
+     * @return the indexes of the methods matching {@code subscribed}.
+     */
+    public BitSet subscriptions(final Predicate<? super Method> subscribed) {
+        final BitSet bits = new BitSet(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            if (subscribed.test(methods.get(i))) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Build the dispatch table used by composites.
+     *
+     * <p>The table has a row per method, indexed by method index, holding the delegates subscribed
+     * to the method, in order. A final row holds all the delegates, subscribed or not.
+     *
+     * @param delegates the delegates, in the order they should be called.
+     * @param subscriptions the methods each delegate is subscribed to, as returned by {@link
+     *     #subscriptions}.
+     * @return the dispatch table.
+     */
+    public Object[][] dispatchTable(final Object[] delegates, final BitSet[] subscriptions) {
+        final Object[][] table =
+                (Object[][]) Array.newInstance(type.arrayType(), methods.size() + 1);
+        for (int m = 0; m < methods.size(); m++) {
+            int count = 0;
+            for (final BitSet subscribed : subscriptions) {
+                if (subscribed.get(m)) {
+                    count++;
+                }
+            }
+
+            final Object[] row = newArray(count);
+            int next = 0;
+            for (int d = 0; d < delegates.length; d++) {
+                if (subscriptions[d].get(m)) {
+                    row[next++] = delegates[d];
+                }
+            }
+            table[m] = row;
+        }
+
+        final Object[] all = newArray(delegates.length);
+        System.arraycopy(delegates, 0, all, 0, delegates.length);
+        table[methods.size()] = all;
+        return table;
+    }
+
+    /**
+     * Create a composite that, for each method, calls each subscribed delegate in turn.
+     *
+     * @param table the dispatch table, as built by {@link #dispatchTable}.
+     * @return the composite, which implements the observer interface.
+     */
+    public Object composite(final Object[][] table) {
+        Function<Object[][], Object> factory = compositeFactory;
+        if (factory == null) {
+            factory =
+                    CompositeClassGenerator.generate(type)
+                            .orElseGet(() -> CompositeProxy.factory(this));
+            compositeFactory = factory;
+        }
+        return factory.apply(table);
+    }
+
+    /**
+     * Create a composite whose dispatch table can be replaced after construction.
+     *
+     * @param table the initial dispatch table, as built by {@link #dispatchTable}.
+     * @return the mutable composite.
+     */
+    public MutableComposite mutableComposite(final Object[][] table) {
+        Function<Object[][], MutableComposite> factory = mutableCompositeFactory;
+        if (factory == null) {
+            factory =
+                    CompositeClassGenerator.generateMutable(type)
+                            .orElseGet(() -> CompositeProxy.mutableFactory(this));
+            mutableCompositeFactory = factory;
+        }
+        return factory.apply(table);
+    }
+
+    /**
+     * Create an interceptor that passes each call, with its arguments, to the supplied {@code
+     * handler}.
+     *
+     * <p>If the handler is a {@link GuardedCallHandler}, the interceptor first checks the handler
+     * is {@link GuardedCallHandler#enabled enabled} for the method, before capturing the arguments.
+     *
+     * @param handler the handler to call.
+     * @return the interceptor, which implements the observer interface.
+     */
+    public Object interceptor(final CallHandler handler) {
+        if (handler instanceof GuardedCallHandler) {
+            Function<CallHandler, Object> factory = guardedInterceptorFactory;
+            if (factory == null) {
+                factory = interceptorFactory(true);
+                guardedInterceptorFactory = factory;
+            }
+            return factory.apply(handler);
+        }
+
+        Function<CallHandler, Object> factory = interceptorFactory;
+        if (factory == null) {
+            factory = interceptorFactory(false);
+            interceptorFactory = factory;
+        }
+        return factory.apply(handler);
+    }
+
+    /**
+     * Create a decorator that calls {@code delegate}, passing each call through the supplied {@code
+     * hook}.
+     *
+     * @param delegate the observer to decorate, which must implement the observer interface.
+     * @param hook the hook to call around each call to the delegate.
+     * @return the decorator, which implements the observer interface.
+     */
+    public Object decorator(final Object delegate, final DecoratorHook hook) {
+        BiFunction<Object, DecoratorHook, Object> factory = decoratorFactory;
+        if (factory == null) {
+            factory =
+                    DecoratorClassGenerator.generate(this)
+                            .orElseGet(() -> (d, h) -> DecoratorProxy.create(this, d, h));
+            decoratorFactory = factory;
+        }
+        return factory.apply(delegate, hook);
+    }
+
+    /**
+     * Invoke a method on an observer, e.g. to replay a call captured by an {@link #interceptor}.
+     *
+     * @param target the observer to call.
+     * @param method the index of the method to call.
+     * @param args the arguments to pass, with primitives boxed.
+     * @throws Throwable anything the method throws.
+     */
+    public void invoke(final Object target, final int method, final Object[] args)
+            throws Throwable {
+        MethodHandle[] handles = invokers;
+        if (handles == null) {
+            handles = methodHandles();
+            for (int i = 0; i < handles.length; i++) {
+                handles[i] =
+                        handles[i]
+                                .asSpreader(Object[].class, handles[i].type().parameterCount() - 1)
+                                .asType(INVOKER);
+            }
+            invokers = handles;
+        }
+        handles[method].invokeExact(target, args);
+    }
+
+    /**
+     * Get method handles for the observer methods, ordered by method index.
+     *
+     * <p>Used where generated code can not be, e.g. for non-public interfaces.
+     *
+     * @return the method handles.
+     */
+    MethodHandle[] methodHandles() {
+        final MethodHandle[] handles = new MethodHandle[methods.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = methodHandle(methods.get(i));
+        }
+        return handles;
+    }
+
+    /**
+     * Get a method handle for an observer method.
+     *
+     * <p>If the method can not be accessed, nor made accessible, e.g. its interface is in a named
+     * module that does not open its package to this module, the returned handle instead calls the
+     * target's own implementation of the method reflectively, which is much slower.
+     *
+     * @param method the observer method.
+     * @return the handle, whose first parameter is the target.
+     */
+    private static MethodHandle methodHandle(final Method method) {
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException e) {
+            // Not accessible without suppressing access checks:
+        }
+
+        if (!method.trySetAccessible()) {
+            return implementationInvoker(method);
+        }
+
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Unable to unreflect method: " + method, e);
+        }
+    }
+
+    /**
+     * Get a method handle that calls the target's implementation of {@code method} reflectively.
+     *
+     * @param method the observer method.
+     * @return the handle, whose first parameter is the target.
+     */
+    static MethodHandle implementationInvoker(final Method method) {
+        final Class<?>[] params = method.getParameterTypes();
+        return MethodHandles.insertArguments(INVOKE_IMPLEMENTATION, 0, method)
+                .asCollector(Object[].class, params.length)
+                .asType(MethodType.methodType(void.class, method.getDeclaringClass(), params));
+    }
+
+    @SuppressWarnings("unused") // Invoked via INVOKE_IMPLEMENTATION
+    private static void invokeImplementation(
+            final Method method, final Object target, final Object[] args) throws Throwable {
+        final Method implementation =
+                target.getClass().getMethod(method.getName(), method.getParameterTypes());
+        if (!implementation.trySetAccessible()) {
+            throw new IllegalStateException(
+                    "Unable to call "
+                            + method
+                            + " on "
+                            + target.getClass().getName()
+                            + ". Neither the observer interface nor the observer's class is"
+                            + " accessible. Open the interface's package to "
+                            + ObserverType.class.getModule());
+        }
+
+        try {
+            implementation.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static MethodHandle invokeImplementationHandle() {
+        try {
+            return MethodHandles.lookup()
+                    .findStatic(
+                            ObserverType.class,
+                            "invokeImplementation",
+                            MethodType.methodType(
+                                    void.class, Method.class, Object.class, Object[].class));
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Function<CallHandler, Object> interceptorFactory(final boolean guarded) {
+        return InterceptorClassGenerator.generate(this, guarded)
+                .orElseGet(() -> h -> InterceptorProxy.create(this, h));
+    }
+
+    private BitSet detectSubscriptions(final Class<?> implementation) {
+        final BitSet bits = new BitSet(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i);
+            try {
+                final Method implemented =
+                        implementation.getMethod(method.getName(), method.getParameterTypes());
+                if (!EmptyMethods.isEmpty(implemented)) {
+                    bits.set(i);
+                }
+            } catch (final NoSuchMethodException e) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    private static String invalidMethods(final Class<?> observerClass) {
+        final List<Method> invalidMethods =
+                Arrays.stream(observerClass.getDeclaredMethods())
+                        .filter(ObserverType::isObserverMethod)
+                        .filter(method -> !method.getReturnType().equals(void.class))
+                        .collect(Collectors.toList());
+
+        if (!invalidMethods.isEmpty()) {
+            return "Only observer interfaces, where all methods have a void return type, are"
+                    + " supported. Interface: "
+                    + observerClass
+                    + " invalidMethods: "
+                    + invalidMethods;
+        }
+
+        for (Class<?> extending : observerClass.getInterfaces()) {
+            final String invalid = TYPES.get(extending).invalid;
+            if (invalid != null) {
+                return invalid;
+            }
+        }
+        return null;
+    }
+
+    private static Map<Method, Integer> indexes(
+            final Class<?> observerClass, final List<Method> methods) {
+        final Map<String, Integer> bySignature = new HashMap<>();
+        for (int i = 0; i < methods.size(); i++) {
+            bySignature.put(signature(methods.get(i)), i);
+        }
+
+        final Map<Method, Integer> indexes = new HashMap<>();
+        addIndexes(observerClass, bySignature, indexes);
+        return Map.copyOf(indexes);
+    }
+
+    private static void addIndexes(
+            final Class<?> observerClass,
+            final Map<String, Integer> bySignature,
+            final Map<Method, Integer> indexes) {
+        for (final Method method : observerClass.getDeclaredMethods()) {
+            if (isObserverMethod(method)) {
+                indexes.put(method, bySignature.get(signature(method)));
+            }
+        }
+
+        for (Class<?> extending : observerClass.getInterfaces()) {
+            addIndexes(extending, bySignature, indexes);
+        }
+    }
+
+    private static String signature(final Method method) {
+        return method.getName() + CompositeClassGenerator.descriptor(method.getParameterTypes());
+    }
+
+    private static boolean isObserverMethod(final Method method) {
+        final int modifiers = method.getModifiers();
+        return !Modifier.isStatic(modifiers)
+                && !Modifier.isPrivate(modifiers)
+                && !method.isSynthetic();
+    }
+}
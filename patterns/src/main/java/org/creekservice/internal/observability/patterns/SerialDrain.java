@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base type of handlers that queue calls and drain them on an {@link Executor}, one task at a time.
+ *
+ * <p>At most one drain task is scheduled at any time, so queued calls are never handled
+ * concurrently, and are handled in the order they were queued, regardless of the executor used.
+ * Each task handles one batch, then schedules another task if more calls are pending.
+ *
+ * <p>If the executor rejects a drain task, e.g. because it has been shut down, all pending calls
+ * are discarded and counted, as nothing would otherwise ever handle them. The rejection is not
+ * propagated to the caller.
+ */
+public abstract class SerialDrain implements CallHandler {
+
+    private static final long CLOSE_POLL_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder discarded;
+    private volatile boolean closed;
+
+    /**
+     * @param executor the executor to drain on.
+     */
+    protected SerialDrain(final Executor executor) {
+        this(executor, new LongAdder());
+    }
+
+    /**
+     * @param executor the executor to drain on.
+     * @param discarded the counter of discarded calls, which may be shared between drains.
+     */
+    protected SerialDrain(final Executor executor, final LongAdder discarded) {
+        this.executor = requireNonNull(executor, "executor");
+        this.discarded = requireNonNull(discarded, "discarded");
+    }
+
+    /**
+     * The default handler of exceptions thrown while draining: the executing thread's uncaught
+     * exception handler.
+     *
+     * @param e the exception.
+     */
+    public static void uncaught(final Throwable e) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    /**
+     * @return the number of calls discarded, including by any other drains sharing the counter.
+     */
+    public final long discarded() {
+        return discarded.sum();
+    }
+
+    /**
+     * Stop accepting calls and wait for any pending calls to be handled.
+     *
+     * <p>Calls made after close are discarded.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public final void close() throws InterruptedException {
+        shutdown();
+        awaitDrained();
+    }
+
+    /**
+     * Stop accepting calls and wait, up to {@code timeout}, for any pending calls to be handled.
+     *
+     * <p>Calls made after close are discarded. Calls still pending when the timeout expires
+     * continue to be handled in the background.
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if all pending calls were handled within the timeout.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public final boolean close(final Duration timeout) throws InterruptedException {
+        shutdown();
+        return awaitDrained(timeout);
+    }
+
+    /**
+     * Stop accepting calls, without waiting for pending calls to be handled.
+     *
+     * <p>Calls made after shutdown are discarded.
+     */
+    public final void shutdown() {
+        closed = true;
+    }
+
+    /**
+     * Wait for any pending calls to be handled.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public final void awaitDrained() throws InterruptedException {
+        awaitNanos(Long.MAX_VALUE);
+    }
+
+    /**
+     * Wait, up to {@code timeout}, for any pending calls to be handled.
+     *
+     * @param timeout the maximum time to wait.
+     * @return {@code true} if all pending calls were handled within the timeout.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public final boolean awaitDrained(final Duration timeout) throws InterruptedException {
+        return awaitNanos(
+                requireNonNull(timeout, "timeout").compareTo(MAX_TIMEOUT) >= 0
+                        ? Long.MAX_VALUE
+                        : timeout.toNanos());
+    }
+
+    /**
+     * @return {@code true} once {@link #close} or {@link #shutdown} has been called.
+     */
+    protected final boolean closed() {
+        return closed;
+    }
+
+    /** Count a discarded call. */
+    protected final void discard() {
+        discarded.increment();
+    }
+
+    /**
+     * Schedule a drain task, unless one is already scheduled.
+     *
+     * <p>If the executor rejects the task, all pending calls are discarded. Calls queued while
+     * discarding found a task scheduled, so did not schedule their own. Hence, once unscheduled,
+     * pending calls are rechecked, and scheduling retried, until none remain.
+     */
+    protected final void schedule() {
+        while (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+                return;
+            } catch (final RuntimeException e) {
+                discarded.add(discardPending());
+                unschedule();
+            }
+
+            if (!hasPending()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if there are calls waiting to be handled.
+     */
+    protected abstract boolean hasPending();
+
+    /** Handle the next batch of pending calls. Only ever called by one thread at a time. */
+    protected abstract void drainBatch();
+
+    /**
+     * Remove all pending calls, without handling them.
+     *
+     * <p>Only called while no drain task is scheduled.
+     *
+     * @return the number of calls removed.
+     */
+    protected abstract int discardPending();
+
+    private void drain() {
+        try {
+            drainBatch();
+        } finally {
+            unschedule();
+        }
+
+        if (hasPending()) {
+            schedule();
+        }
+    }
+
+    private void unschedule() {
+        scheduled.set(false);
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    private synchronized boolean awaitNanos(final long timeoutNs) throws InterruptedException {
+        final long start = System.nanoTime();
+        while (scheduled.get() || hasPending()) {
+            final long remaining = timeoutNs - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, Math.min(remaining, CLOSE_POLL_NS));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.creekservice.api.observability.patterns.AsyncDispatcher.OverflowPolicy;
+
+/**
+ * A bounded queue of calls to a single observer, drained in order on an {@link Executor}.
+ *
+ * <p>Calls are never made concurrently, and are made in the order they were queued, regardless of
+ * the executor used.
+ */
+public final class SerialQueue extends SerialDrain {
+
+    private final ObserverType type;
+    private final Object target;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<? super Throwable> exceptionHandler;
+    private final int batchSize;
+    private final BlockingQueue<Call> queue;
+
+    /**
+     * @param type the observer type.
+     * @param target the observer to call.
+     * @param executor the executor to drain the queue on.
+     * @param capacity the maximum number of calls to queue.
+     * @param overflowPolicy what to do when the queue is full.
+     * @param exceptionHandler handler of any exception thrown by {@code target}.
+     * @param discarded the counter of discarded calls, which may be shared between queues.
+     */
+    public SerialQueue(
+            final ObserverType type,
+            final Object target,
+            final Executor executor,
+            final int capacity,
+            final OverflowPolicy overflowPolicy,
+            final Consumer<? super Throwable> exceptionHandler,
+            final LongAdder discarded) {
+        super(executor, discarded);
+        this.type = requireNonNull(type, "type");
+        this.target = requireNonNull(target, "target");
+        this.overflowPolicy = requireNonNull(overflowPolicy, "overflowPolicy");
+        this.exceptionHandler = requireNonNull(exceptionHandler, "exceptionHandler");
+        this.batchSize = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void call(final int method, final Object[] args) {
+        if (closed()) {
+            discard();
+            return;
+        }
+
+        if (enqueue(new Call(method, args))) {
+            schedule();
+        }
+    }
+
+    /**
+     * @return the number of calls waiting to be made.
+     */
+    public int depth() {
+        return queue.size();
+    }
+
+    @Override
+    public String toString() {
+        return "Async " + target;
+    }
+
+    private boolean enqueue(final Call call) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(call);
+                    return true;
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    discard();
+                    return false;
+                }
+            case DISCARD:
+                if (queue.offer(call)) {
+                    return true;
+                }
+                discard();
+                return false;
+            default:
+                if (queue.offer(call)) {
+                    return true;
+                }
+                throw new RejectedExecutionException("Queue full, calling: " + target);
+        }
+    }
+
+    @Override
+    protected boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    protected int discardPending() {
+        int count = 0;
+        while (queue.poll() != null) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    protected void drainBatch() {
+        for (int i = 0; i < batchSize; i++) {
+            final Call call = queue.poll();
+            if (call == null) {
+                break;
+            }
+            call.invoke();
+        }
+    }
+
+    private final class Call {
+
+        private final int method;
+        private final Object[] args;
+
+        Call(final int method, final Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+
+        void invoke() {
+            try {
+                type.invoke(target, method, args);
+            } catch (final Throwable e) {
+                exceptionHandler.accept(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncDispatcherTest {
+
+    @Mock private Observer observer;
+    @Mock private Consumer<Throwable> exceptionHandler;
+    private ManualExecutor executor;
+    private AsyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        dispatcher =
+                AsyncDispatcher.builder(executor)
+                        .queueCapacity(2)
+                        .overflowPolicy(AsyncDispatcher.OverflowPolicy.DISCARD)
+                        .exceptionHandler(exceptionHandler)
+                        .build();
+    }
+
+    @Test
+    void shouldNotCallObserverOnCallingThread() {
+        // When:
+        dispatcher.wrap(Observer.class, observer).foo("text", 1);
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(dispatcher.queued(), is(1L));
+    }
+
+    @Test
+    void shouldCallObserverInOrderOnExecutor() {
+        // Given:
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+        wrapped.foo("a", 1);
+        wrapped.bar();
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        final InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer).foo("a", 1);
+        inOrder.verify(observer).bar();
+        assertThat(dispatcher.queued(), is(0L));
+    }
+
+    @Test
+    void shouldOnlyScheduleOneDrainAtATime() {
+        // Given:
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+
+        // When:
+        wrapped.foo("a", 1);
+        wrapped.foo("b", 2);
+
+        // Then:
+        assertThat(executor.tasks.size(), is(1));
+    }
+
+    @Test
+    void shouldDiscardWhenFull() {
+        // Given:
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+
+        // When:
+        wrapped.foo("a", 1);
+        wrapped.foo("b", 2);
+        wrapped.foo("c", 3);
+        executor.runAll();
+
+        // Then:
+        verify(observer).foo("a", 1);
+        verify(observer).foo("b", 2);
+        assertThat(dispatcher.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldThrowWhenFullIfConfigured() {
+        // Given:
+        final Observer wrapped =
+                AsyncDispatcher.builder(executor)
+                        .queueCapacity(1)
+                        .overflowPolicy(AsyncDispatcher.OverflowPolicy.THROW)
+                        .build()
+                        .wrap(Observer.class, observer);
+
+        wrapped.bar();
+
+        // When:
+        assertThrows(RejectedExecutionException.class, wrapped::bar);
+    }
+
+    @Test
+    void shouldPassExceptionsToHandler() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer).bar();
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+        wrapped.bar();
+        wrapped.foo("a", 1);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        verify(exceptionHandler).accept(e);
+        verify(observer).foo("a", 1);
+    }
+
+    @Test
+    void shouldDiscardCallsAfterClose() {
+        // Given:
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+        dispatcher.close();
+
+        // When:
+        wrapped.bar();
+
+        // Then:
+        assertThat(executor.tasks.size(), is(0));
+        assertThat(dispatcher.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldDiscardCallsToObserversWrappedAfterClose() {
+        // Given:
+        dispatcher.close();
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+
+        // When:
+        wrapped.bar();
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(executor.tasks.size(), is(0));
+        assertThat(dispatcher.queued(), is(0L));
+        assertThat(dispatcher.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldStopAllQueuesAcceptingCallsEvenIfCloseInterrupted() {
+        // Given:
+        final Observer first = dispatcher.wrap(Observer.class, observer);
+        final Observer second = dispatcher.wrap(Observer.class, mock(Observer.class));
+        first.bar();
+        Thread.currentThread().interrupt();
+
+        // When:
+        dispatcher.close();
+
+        // Then:
+        assertThat(Thread.interrupted(), is(true));
+        second.bar();
+        assertThat(dispatcher.queued(), is(1L));
+        assertThat(dispatcher.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldDrainOnClose() {
+        // Given:
+        final Executor async = Runnable::run;
+        final AsyncDispatcher dispatcher = AsyncDispatcher.builder(async).build();
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+        wrapped.bar();
+
+        // When:
+        dispatcher.close();
+
+        // Then:
+        verify(observer).bar();
+    }
+
+    @Test
+    void shouldDiscardQueuedCallsIfExecutorRejects() {
+        // Given:
+        final Executor rejecting =
+                task -> {
+                    throw new RejectedExecutionException("shut down");
+                };
+        final AsyncDispatcher dispatcher = AsyncDispatcher.builder(rejecting).build();
+        final Observer wrapped = dispatcher.wrap(Observer.class, observer);
+        wrapped.bar();
+
+        // When:
+        dispatcher.close();
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(dispatcher.queued(), is(0L));
+        assertThat(dispatcher.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldNotRetainUnreachableWrappedObservers() throws Exception {
+        // Given:
+        final WeakReference<Observer> target = new WeakReference<>(new NoopObserver());
+        dispatcher.wrap(Observer.class, target.get());
+
+        // When:
+        for (int i = 0; i < 100 && target.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then:
+        assertThat(target.get(), is(nullValue()));
+    }
+
+    @Test
+    void shouldTimeOutCloseIfCallsNotMade() {
+        // Given:
+        dispatcher.wrap(Observer.class, observer).bar();
+
+        // When:
+        final boolean drained = dispatcher.close(Duration.ofMillis(1));
+
+        // Then:
+        assertThat(drained, is(false));
+        assertThat(dispatcher.queued(), is(1L));
+    }
+
+    @Test
+    void shouldNotTimeOutCloseIfCallsMade() {
+        // Given:
+        final AsyncDispatcher dispatcher = AsyncDispatcher.builder(Runnable::run).build();
+        dispatcher.wrap(Observer.class, observer).bar();
+
+        // When:
+        final boolean drained = dispatcher.close(Duration.ofMillis(1));
+
+        // Then:
+        assertThat(drained, is(true));
+        verify(observer).bar();
+    }
+
+    @Test
+    void shouldSupportNonPublicInterfaces() {
+        // Given:
+        final NonPublicObserver nonPublic = mock();
+        dispatcher.wrap(NonPublicObserver.class, nonPublic).baz(10L);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        verify(nonPublic).baz(10L);
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+
+    private static final class NoopObserver implements Observer {
+        @Override
+        public void foo(final String text, final int i) {}
+
+        @Override
+        public void bar() {}
+    }
+
+    interface NonPublicObserver {
+        void baz(long l);
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingObserverTest {
+
+    @Mock private Observer observer;
+    @Mock private Consumer<Throwable> exceptionHandler;
+    private ManualExecutor executor;
+    private BatchingObserver.Builder<Observer> builder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        builder =
+                BatchingObserver.builder(Observer.class, executor)
+                        .capacity(4)
+                        .maxBatchSize(2)
+                        .overflowPolicy(AsyncDispatcher.OverflowPolicy.DISCARD)
+                        .exceptionHandler(exceptionHandler);
+    }
+
+    @Test
+    void shouldNotCallObserverOnCallingThread() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+
+        // When:
+        batching.observer().foo("text", 1);
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(batching.queued(), is(1L));
+    }
+
+    @Test
+    void shouldReplayCallsInOrder() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+        batching.observer().foo("a", 1);
+        batching.observer().bar();
+        batching.observer().foo("b", 2);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        final InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer).foo("a", 1);
+        inOrder.verify(observer).bar();
+        inOrder.verify(observer).foo("b", 2);
+        assertThat(batching.queued(), is(0L));
+    }
+
+    @Test
+    void shouldDeliverBatchesUpToMaxSize() {
+        // Given:
+        final List<List<String>> batches = new ArrayList<>();
+        final BatchingObserver<Observer> batching =
+                builder.build(
+                        batch -> {
+                            final List<String> calls = new ArrayList<>();
+                            for (int i = 0; i < batch.size(); i++) {
+                                calls.add(batch.method(i).getName() + batch.arguments(i).length);
+                            }
+                            batches.add(calls);
+                        });
+        batching.observer().foo("a", 1);
+        batching.observer().bar();
+        batching.observer().foo("b", 2);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        assertThat(batches, contains(List.of("foo2", "bar0"), List.of("foo2")));
+    }
+
+    @Test
+    void shouldReplayBatch() {
+        // Given:
+        final BatchingObserver<Observer> batching =
+                builder.build(batch -> batch.replay(observer));
+        batching.observer().foo("a", 1);
+        batching.observer().bar();
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        final InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer).foo("a", 1);
+        inOrder.verify(observer).bar();
+    }
+
+    @Test
+    void shouldOnlyScheduleOneDeliveryAtATime() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+
+        // When:
+        batching.observer().foo("a", 1);
+        batching.observer().foo("b", 2);
+
+        // Then:
+        assertThat(executor.tasks.size(), is(1));
+    }
+
+    @Test
+    void shouldDiscardWhenFull() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+
+        // When:
+        for (int i = 0; i < 5; i++) {
+            batching.observer().foo("a", i);
+        }
+        executor.runAll();
+
+        // Then:
+        verify(observer).foo("a", 3);
+        assertThat(batching.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldThrowWhenFullIfConfigured() {
+        // Given:
+        final Observer batching =
+                builder.capacity(1)
+                        .overflowPolicy(AsyncDispatcher.OverflowPolicy.THROW)
+                        .buildReplaying(observer)
+                        .observer();
+
+        batching.bar();
+
+        // When:
+        assertThrows(RejectedExecutionException.class, batching::bar);
+    }
+
+    @Test
+    void shouldPassReplayExceptionsToHandlerAndContinue() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer).bar();
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+        batching.observer().bar();
+        batching.observer().foo("a", 1);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        verify(exceptionHandler).accept(e);
+        verify(observer).foo("a", 1);
+    }
+
+    @Test
+    void shouldPassBatchExceptionsToHandler() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        final BatchingObserver<Observer> batching =
+                builder.build(
+                        batch -> {
+                            throw e;
+                        });
+        batching.observer().bar();
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        verify(exceptionHandler).accept(e);
+    }
+
+    @Test
+    void shouldDiscardCallsAfterClose() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+        batching.close();
+
+        // When:
+        batching.observer().bar();
+
+        // Then:
+        assertThat(executor.tasks.size(), is(0));
+        assertThat(batching.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldDiscardBufferedCallsIfExecutorRejects() {
+        // Given:
+        final Executor rejecting =
+                task -> {
+                    throw new RejectedExecutionException("shut down");
+                };
+        final BatchingObserver<Observer> batching =
+                BatchingObserver.builder(Observer.class, rejecting).buildReplaying(observer);
+        batching.observer().bar();
+
+        // When:
+        batching.close();
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(batching.queued(), is(0L));
+        assertThat(batching.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldTimeOutCloseIfCallsNotDelivered() {
+        // Given:
+        final BatchingObserver<Observer> batching = builder.buildReplaying(observer);
+        batching.observer().bar();
+
+        // When:
+        final boolean drained = batching.close(Duration.ofMillis(1));
+
+        // Then:
+        assertThat(drained, is(false));
+        assertThat(batching.queued(), is(1L));
+    }
+
+    @Test
+    void shouldDeliverOnClose() {
+        // Given:
+        final Executor sync = Runnable::run;
+        final BatchingObserver<Observer> batching =
+                BatchingObserver.builder(Observer.class, sync).buildReplaying(observer);
+        batching.observer().bar();
+
+        // When:
+        batching.close();
+
+        // Then:
+        verify(observer).bar();
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+}
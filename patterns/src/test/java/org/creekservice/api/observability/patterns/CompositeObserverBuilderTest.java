@@ -17,12 +17,20 @@ package org.creekservice.api.observability.patterns;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -110,14 +118,16 @@ class CompositeObserverBuilderTest {
                         () -> CompositeObserverBuilder.builder(NotAnObserver.class, mock()));
 
         // Then:
+        final String type = NotAnObserver.class.getName();
         assertThat(
                 e.getMessage(),
                 is(
                         "Only observer interfaces, where all methods have a void return type, are"
-                            + " supported. Interface: interface"
-                            + " org.creekservice.api.observability.patterns.CompositeObserverBuilderTest$NotAnObserver"
-                            + " invalidMethods: [public abstract int"
-                            + " org.creekservice.api.observability.patterns.CompositeObserverBuilderTest$NotAnObserver.foo(java.lang.String)]"));
+                                + " supported. Interface: interface "
+                                + type
+                                + " invalidMethods: [public abstract int "
+                                + type
+                                + ".foo(java.lang.String)]"));
     }
 
     @Test
@@ -165,6 +175,277 @@ class CompositeObserverBuilderTest {
                 notNullValue());
     }
 
+    @Test
+    public void shouldGenerateCompositeForPublicInterface() {
+        assertThat(
+                CompositeObserverBuilder.builder(Observer.class, observer1).build().toString(),
+                is("Composite for " + Observer.class.getName()));
+    }
+
+    @Test
+    public void shouldPassPrimitiveArguments() {
+        // Given:
+        final PrimitiveObserver observer1 = mock();
+        final PrimitiveObserver observer2 = mock();
+        final PrimitiveObserver result =
+                CompositeObserverBuilder.builder(PrimitiveObserver.class, observer1)
+                        .add(observer2)
+                        .build();
+
+        // When:
+        result.narrow(true, (byte) 1, 'c', (short) 2, 3);
+        result.wide(4L, "text", 5.5d, 6.5f);
+
+        // Then:
+        verify(observer1).narrow(true, (byte) 1, 'c', (short) 2, 3);
+        verify(observer1).wide(4L, "text", 5.5d, 6.5f);
+        verify(observer2).narrow(true, (byte) 1, 'c', (short) 2, 3);
+        verify(observer2).wide(4L, "text", 5.5d, 6.5f);
+    }
+
+    @Test
+    public void shouldCallDelegatesDefaultMethods() {
+        // Given:
+        final DefaultMethodObserver observer = mock();
+        final DefaultMethodObserver result =
+                CompositeObserverBuilder.builder(DefaultMethodObserver.class, observer).build();
+
+        // When:
+        result.withDefault(1);
+
+        // Then:
+        verify(observer).withDefault(1);
+    }
+
+    @Test
+    public void shouldFallBackToProxyForNonPublicInterface() {
+        // Given:
+        final PackagePrivateObserver observer = mock();
+        final PackagePrivateObserver result =
+                CompositeObserverBuilder.builder(PackagePrivateObserver.class, observer).build();
+
+        // When:
+        result.foo("text");
+
+        // Then:
+        verify(observer).foo("text");
+        assertThat(result.toString(), startsWith("Proxy composite for"));
+    }
+
+    @Test
+    public void shouldUseIdentityEqualityForGeneratedAndProxyComposites() {
+        // Given:
+        final CompositeObserverBuilder<Observer> generated =
+                CompositeObserverBuilder.builder(Observer.class, observer1);
+        final CompositeObserverBuilder<PackagePrivateObserver> proxied =
+                CompositeObserverBuilder.builder(PackagePrivateObserver.class, mock());
+
+        // Then:
+        assertIdentityEquality(generated.build(), generated.build());
+        assertIdentityEquality(proxied.build(), proxied.build());
+    }
+
+    @Test
+    public void shouldNotCallObserversAddedAfterBuild() {
+        // Given:
+        final CompositeObserverBuilder<Observer> builder =
+                CompositeObserverBuilder.builder(Observer.class, observer1);
+        final Observer result = builder.build();
+        builder.add(observer2);
+
+        // When:
+        result.foo("text");
+
+        // Then:
+        verify(observer1).foo("text");
+        verifyNoInteractions(observer2);
+    }
+
+    @Test
+    public void shouldCallAsyncObserversOnDispatcher() {
+        // Given:
+        final AsyncDispatcher dispatcher = AsyncDispatcher.builder(Runnable::run).build();
+        final Observer result =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .addAsync(observer2, dispatcher)
+                        .build();
+
+        // When:
+        result.foo("text");
+        dispatcher.close();
+
+        // Then:
+        verify(observer1).foo("text");
+        verify(observer2).foo("text");
+    }
+
+    @Test
+    public void shouldPropagateObserverExceptionsByDefault() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer1).foo("text");
+        final Observer result =
+                CompositeObserverBuilder.builder(Observer.class, observer1).add(observer2).build();
+
+        // When:
+        final Exception thrown = assertThrows(RuntimeException.class, () -> result.foo("text"));
+
+        // Then:
+        assertThat(thrown, is(sameInstance(e)));
+        verifyNoInteractions(observer2);
+    }
+
+    @Test
+    public void shouldIsolateObserverExceptions() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer1).foo("text");
+        final Consumer<Throwable> handler = mock();
+        final Observer result =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .add(observer2)
+                        .isolateExceptions(handler)
+                        .build();
+
+        // When:
+        result.foo("text");
+
+        // Then:
+        verify(handler).accept(e);
+        verify(observer2).foo("text");
+    }
+
+    @Test
+    public void shouldRecordStatsPerObserver() {
+        // Given:
+        doThrow(new RuntimeException("boom")).when(observer2).foo(any());
+        final CompositeStats stats = CompositeStats.create();
+        final Observer result =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .add(observer2)
+                        .instrumented(stats)
+                        .isolateExceptions(e -> {})
+                        .build();
+
+        // When:
+        result.foo("a");
+        result.foo("b");
+
+        // Then:
+        assertThat(stats.observers(), hasSize(2));
+        assertThat(stats.observers().get(0).observer(), is(observer1));
+        assertThat(stats.observers().get(0).method("foo").count(), is(2L));
+        assertThat(stats.observers().get(0).method("foo").failures(), is(0L));
+        assertThat(stats.observers().get(1).method("foo").count(), is(2L));
+        assertThat(stats.observers().get(1).method("foo").failures(), is(2L));
+    }
+
+    @Test
+    public void shouldDropStatsOfUnreachableComposites() throws Exception {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final CompositeObserverBuilder<Observer> builder =
+                CompositeObserverBuilder.builder(Observer.class, observer1).instrumented(stats);
+        final Observer retained = builder.build();
+        for (int i = 0; i < 100; i++) {
+            builder.build();
+        }
+
+        // When:
+        for (int i = 0; i < 100 && stats.observers().size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then:
+        assertThat(stats.observers(), hasSize(1));
+        retained.foo("a");
+        assertThat(stats.observers().get(0).method("foo").count(), is(1L));
+    }
+
+    @Test
+    public void shouldInstrumentNonPublicInterfaces() {
+        // Given:
+        final PackagePrivateObserver observer = mock();
+        final CompositeStats stats = CompositeStats.create();
+        final PackagePrivateObserver result =
+                CompositeObserverBuilder.builder(PackagePrivateObserver.class, observer)
+                        .instrumented(stats)
+                        .build();
+
+        // When:
+        result.foo("text");
+
+        // Then:
+        verify(observer).foo("text");
+        assertThat(stats.observers().get(0).method("foo").count(), is(1L));
+    }
+
+    @Test
+    public void shouldOnlyCallSubscribedMethods() {
+        // Given:
+        final ExtendingObserver observer = mock();
+        final ExtendingObserver result =
+                CompositeObserverBuilder.builder(ExtendingObserver.class, observer)
+                        .add(observer, method -> method.getName().equals("bar"))
+                        .build();
+
+        // When:
+        result.foo("text");
+        result.bar();
+
+        // Then:
+        verify(observer).foo("text");
+        verify(observer, times(2)).bar();
+    }
+
+    @Test
+    public void shouldCallEmptyMethodsByDefault() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final ExtendingObserver result =
+                CompositeObserverBuilder.builder(ExtendingObserver.class, new EmptyBar())
+                        .instrumented(stats)
+                        .build();
+
+        // When:
+        result.foo("text");
+        result.bar();
+
+        // Then:
+        final CompositeStats.ObserverStats observerStats = stats.observers().get(0);
+        assertThat(observerStats.method("foo").count(), is(1L));
+        assertThat(observerStats.method("bar").count(), is(1L));
+    }
+
+    @Test
+    public void shouldSkipEmptyMethodsIfDetected() {
+        // Given:
+        final ExtendingObserver observer = mock();
+        final CompositeStats stats = CompositeStats.create();
+        final ExtendingObserver result =
+                CompositeObserverBuilder.builder(ExtendingObserver.class, observer)
+                        .add(new EmptyBar(), CompositeObserverBuilder.detectEmpty())
+                        .instrumented(stats)
+                        .build();
+
+        // When:
+        result.foo("text");
+        result.bar();
+
+        // Then:
+        final CompositeStats.ObserverStats observerStats = stats.observers().get(1);
+        assertThat(observerStats.method("foo").count(), is(1L));
+        assertThat(observerStats.method("bar").count(), is(0L));
+    }
+
+    @SuppressWarnings({"EqualsWithItself", "SimplifiableAssertion"})
+    private static void assertIdentityEquality(final Object composite, final Object other) {
+        assertThat(composite.equals(composite), is(true));
+        assertThat(composite.equals(other), is(false));
+        assertThat(composite.hashCode(), is(System.identityHashCode(composite)));
+    }
+
     public interface Observer {
 
         void foo(String message);
@@ -178,6 +459,32 @@ class CompositeObserverBuilderTest {
         void lar();
     }
 
+    public interface PrimitiveObserver {
+        void narrow(boolean z, byte b, char c, short s, int i);
+
+        void wide(long j, String text, double d, float f);
+    }
+
+    public interface DefaultMethodObserver {
+        default void withDefault(int i) {}
+    }
+
+    interface PackagePrivateObserver {
+        void foo(String message);
+    }
+
+    public static final class EmptyBar implements ExtendingObserver {
+        private String message;
+
+        @Override
+        public void foo(final String message) {
+            this.message = message;
+        }
+
+        @Override
+        public void bar() {}
+    }
+
     @SuppressWarnings("unused")
     public interface NotAnObserver {
         int foo(String message);
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.creekservice.internal.observability.patterns.ObserverType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompositeStatsTest {
+
+    private CompositeStats.MethodStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats =
+                new CompositeStats.ObserverStats(ObserverType.of(Observer.class), new Object())
+                        .method("foo");
+    }
+
+    @Test
+    void shouldBeEmptyInitially() {
+        assertThat(stats.count(), is(0L));
+        assertThat(stats.meanNanos(), is(0.0));
+        assertThat(stats.percentileNanos(0.99), is(0L));
+    }
+
+    @Test
+    void shouldRecordCalls() {
+        // When:
+        stats.record(10, false);
+        stats.record(30, true);
+
+        // Then:
+        assertThat(stats.count(), is(2L));
+        assertThat(stats.failures(), is(1L));
+        assertThat(stats.totalNanos(), is(40L));
+        assertThat(stats.maxNanos(), is(30L));
+        assertThat(stats.meanNanos(), is(20.0));
+    }
+
+    @Test
+    void shouldBucketByPowerOfTwo() {
+        // When:
+        stats.record(0, false);
+        stats.record(1, false);
+        stats.record(2, false);
+        stats.record(3, false);
+        stats.record(1024, false);
+
+        // Then:
+        final long[] histogram = stats.histogram();
+        assertThat(histogram[0], is(2L));
+        assertThat(histogram[1], is(2L));
+        assertThat(histogram[10], is(1L));
+    }
+
+    @Test
+    void shouldReturnBucketUpperBoundForPercentile() {
+        // Given:
+        for (int i = 0; i < 99; i++) {
+            stats.record(100, false);
+        }
+        stats.record(5000, false);
+
+        // Then:
+        assertThat(stats.percentileNanos(0.5), is(127L));
+        assertThat(stats.percentileNanos(0.99), is(127L));
+        assertThat(stats.percentileNanos(1.0), is(8191L));
+    }
+
+    @Test
+    void shouldThrowOnInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> stats.percentileNanos(1.1));
+    }
+
+    @Test
+    void shouldThrowOnUnknownMethod() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        new CompositeStats.ObserverStats(
+                                        ObserverType.of(Observer.class), new Object())
+                                .method("bar"));
+    }
+
+    public interface Observer {
+        void foo(String text);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DynamicCompositeTest {
+
+    @Mock private Observer observer1;
+    @Mock private Observer observer2;
+
+    @Test
+    void shouldCallObserversAddedAfterBuild() {
+        // Given:
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1).buildDynamic();
+
+        // When:
+        dynamic.add(observer2);
+        dynamic.observer().foo("text");
+
+        // Then:
+        final InOrder inOrder = inOrder(observer1, observer2);
+        inOrder.verify(observer1).foo("text");
+        inOrder.verify(observer2).foo("text");
+    }
+
+    @Test
+    void shouldNotCallObserversAddedWithoutSubscription() {
+        // Given:
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1).buildDynamic();
+
+        // When:
+        dynamic.add(observer2, method -> false);
+        dynamic.observer().foo("text");
+
+        // Then:
+        verify(observer1).foo("text");
+        verifyNoInteractions(observer2);
+        assertThat(dynamic.observers(), contains(observer1, observer2));
+    }
+
+    @Test
+    void shouldCallAllMethodsOfObserversAddedAfterBuild() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .instrumented(stats)
+                        .buildDynamic();
+
+        // When:
+        dynamic.add(new EmptyFoo());
+        dynamic.observer().foo("text");
+
+        // Then:
+        assertThat(stats.observers().get(1).method("foo").count(), is(1L));
+    }
+
+    @Test
+    void shouldSkipEmptyMethodsOfObserversAddedWithDetection() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .instrumented(stats)
+                        .buildDynamic();
+
+        // When:
+        dynamic.add(new EmptyFoo(), CompositeObserverBuilder.detectEmpty());
+        dynamic.observer().foo("text");
+
+        // Then:
+        verify(observer1).foo("text");
+        assertThat(stats.observers().get(1).method("foo").count(), is(0L));
+    }
+
+    @Test
+    void shouldNotCallRemovedObservers() {
+        // Given:
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .add(observer2)
+                        .buildDynamic();
+
+        // When:
+        final boolean removed = dynamic.remove(observer1);
+        dynamic.observer().foo("text");
+
+        // Then:
+        assertThat(removed, is(true));
+        verifyNoInteractions(observer1);
+        verify(observer2).foo("text");
+        assertThat(dynamic.observers(), contains(observer2));
+    }
+
+    @Test
+    void shouldReturnFalseWhenRemovingUnknownObserver() {
+        // Given:
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1).buildDynamic();
+
+        // Then:
+        assertThat(dynamic.remove(observer2), is(false));
+        assertThat(dynamic.observers(), contains(observer1));
+    }
+
+    @Test
+    void shouldSupportRemovingAllObservers() {
+        // Given:
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1).buildDynamic();
+        dynamic.remove(observer1);
+
+        // When:
+        dynamic.observer().foo("text");
+
+        // Then:
+        verifyNoInteractions(observer1);
+    }
+
+    @Test
+    void shouldInstrumentAddedObserversAndRemoveByOriginal() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .instrumented(stats)
+                        .buildDynamic();
+        dynamic.add(observer2);
+
+        // When:
+        dynamic.observer().foo("text");
+
+        // Then:
+        assertThat(stats.observers().get(1).method("foo").count(), is(1L));
+        assertThat(dynamic.observers(), contains(observer1, observer2));
+        assertThat(dynamic.remove(observer2), is(true));
+        assertThat(dynamic.observers(), contains(observer1));
+    }
+
+    @Test
+    void shouldUnregisterStatsOfRemovedObservers() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1)
+                        .instrumented(stats)
+                        .buildDynamic();
+        dynamic.add(observer2);
+
+        // When:
+        dynamic.remove(observer2);
+
+        // Then:
+        assertThat(stats.observers(), hasSize(1));
+        assertThat(stats.observers().get(0).observer(), is(observer1));
+    }
+
+    @Test
+    void shouldApplyConcurrentUpdates() throws Exception {
+        // Given:
+        final int threads = 4;
+        final DynamicComposite<Observer> dynamic =
+                CompositeObserverBuilder.builder(Observer.class, observer1).buildDynamic();
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final List<Counter> kept = new ArrayList<>();
+        final List<Future<?>> results = new ArrayList<>();
+
+        // When:
+        for (int t = 0; t < threads; t++) {
+            final Counter temporary = new Counter();
+            final Counter keep = new Counter();
+            kept.add(keep);
+            results.add(
+                    pool.submit(
+                            () -> {
+                                for (int i = 0; i < 1_000; i++) {
+                                    dynamic.add(temporary);
+                                    assertThat(dynamic.remove(temporary), is(true));
+                                }
+                                dynamic.add(keep);
+                            }));
+        }
+        for (final Future<?> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+
+        // Then:
+        assertThat(dynamic.observers(), hasSize(threads + 1));
+        assertThat(dynamic.observers(), hasItems(kept.toArray(new Observer[0])));
+
+        dynamic.observer().foo("text");
+        verify(observer1).foo("text");
+        for (final Counter keep : kept) {
+            assertThat(keep.count, is(1));
+        }
+    }
+
+    @Test
+    void shouldSupportNonPublicInterfaces() {
+        // Given:
+        final NonPublicObserver first = mock();
+        final NonPublicObserver second = mock();
+        final DynamicComposite<NonPublicObserver> dynamic =
+                CompositeObserverBuilder.builder(NonPublicObserver.class, first).buildDynamic();
+
+        // When:
+        dynamic.add(second);
+        dynamic.remove(first);
+        dynamic.observer().bar(1);
+
+        // Then:
+        verifyNoInteractions(first);
+        verify(second).bar(1);
+    }
+
+    public interface Observer {
+        void foo(String text);
+    }
+
+    private static final class Counter implements Observer {
+
+        int count;
+
+        @Override
+        public void foo(final String text) {
+            count++;
+        }
+    }
+
+    public static final class EmptyFoo implements Observer {
+        @Override
+        public void foo(final String text) {}
+    }
+
+    interface NonPublicObserver {
+        void bar(int i);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ObserverActorTest {
+
+    @Mock private Observer observer;
+    @Mock private Consumer<Throwable> exceptionHandler;
+    private ManualExecutor executor;
+    private ObserverActor.Builder<Observer> builder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        builder =
+                ObserverActor.builder(Observer.class, executor).exceptionHandler(exceptionHandler);
+    }
+
+    @Test
+    void shouldNotCallObserverOnCallingThread() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.build(observer);
+
+        // When:
+        actor.observer().foo("text", 1);
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(actor.depth(), is(1L));
+    }
+
+    @Test
+    void shouldCallObserverInOrderOnExecutor() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.build(observer);
+        actor.observer().foo("a", 1);
+        actor.observer().bar();
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        final InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer).foo("a", 1);
+        inOrder.verify(observer).bar();
+        assertThat(actor.depth(), is(0L));
+    }
+
+    @Test
+    void shouldOnlyScheduleOneDrainAtATime() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.build(observer);
+
+        // When:
+        actor.observer().foo("a", 1);
+        actor.observer().foo("b", 2);
+
+        // Then:
+        assertThat(executor.tasks.size(), is(1));
+    }
+
+    @Test
+    void shouldDiscardAtCapacity() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.capacity(1).build(observer);
+
+        // When:
+        actor.observer().foo("a", 1);
+        actor.observer().foo("b", 2);
+        executor.runAll();
+
+        // Then:
+        verify(observer).foo("a", 1);
+        assertThat(actor.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldPassExceptionsToHandler() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer).bar();
+        final ObserverActor<Observer> actor = builder.build(observer);
+        actor.observer().bar();
+        actor.observer().foo("a", 1);
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        verify(exceptionHandler).accept(e);
+        verify(observer).foo("a", 1);
+    }
+
+    @Test
+    void shouldRecordQueuedLatency() {
+        // Given:
+        final CompositeStats stats = CompositeStats.create();
+        final ObserverActor<Observer> actor = builder.instrumented(stats).build(observer);
+        actor.observer().bar();
+
+        // When:
+        executor.runAll();
+
+        // Then:
+        final CompositeStats.ObserverStats observerStats = stats.observers().get(0);
+        assertThat(observerStats.observer(), is(observer));
+        assertThat(observerStats.method("bar").count(), is(1L));
+        assertThat(observerStats.method("foo").count(), is(0L));
+    }
+
+    @Test
+    void shouldDiscardCallsAfterClose() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.build(observer);
+        actor.close();
+
+        // When:
+        actor.observer().bar();
+
+        // Then:
+        assertThat(executor.tasks.size(), is(0));
+        assertThat(actor.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldDiscardQueuedCallsIfExecutorRejects() {
+        // Given:
+        final ObserverActor<Observer> actor =
+                ObserverActor.builder(
+                                Observer.class,
+                                task -> {
+                                    throw new RejectedExecutionException("shut down");
+                                })
+                        .build(observer);
+        actor.observer().bar();
+
+        // When:
+        actor.close();
+
+        // Then:
+        verifyNoInteractions(observer);
+        assertThat(actor.depth(), is(0L));
+        assertThat(actor.discarded(), is(1L));
+    }
+
+    @Test
+    void shouldTimeOutCloseIfCallsNotMade() {
+        // Given:
+        final ObserverActor<Observer> actor = builder.build(observer);
+        actor.observer().bar();
+
+        // When:
+        final boolean drained = actor.close(Duration.ofMillis(1));
+
+        // Then:
+        assertThat(drained, is(false));
+        assertThat(actor.depth(), is(1L));
+    }
+
+    @Test
+    void shouldCallObserverOneThreadAtATime() throws Exception {
+        // Given:
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final Counter counter = new Counter();
+        final ObserverActor<Observer> actor =
+                ObserverActor.builder(Observer.class, pool).build(counter);
+
+        final Thread[] callers = new Thread[4];
+        for (int t = 0; t < callers.length; t++) {
+            callers[t] =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 10_000; i++) {
+                                    actor.observer().bar();
+                                }
+                            });
+            callers[t].start();
+        }
+
+        // When:
+        for (final Thread caller : callers) {
+            caller.join();
+        }
+        actor.close();
+        pool.shutdown();
+
+        // Then:
+        assertThat(counter.count, is(40_000));
+        assertThat(actor.depth(), is(0L));
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+
+    private static final class Counter implements Observer {
+
+        int count;
+
+        @Override
+        public void foo(final String text, final int i) {}
+
+        @Override
+        public void bar() {
+            count++;
+        }
+    }
+}
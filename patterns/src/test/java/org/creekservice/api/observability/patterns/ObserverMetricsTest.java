@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ObserverMetricsTest {
+
+    @Mock private Observer observer;
+
+    @Test
+    void shouldCountCallsPerMethod() {
+        // Given:
+        final ObserverMetrics<Observer> metrics = ObserverMetrics.builder(Observer.class).build();
+        final Observer decorated = metrics.decorate(observer);
+
+        // When:
+        decorated.foo("a", 1);
+        decorated.foo("b", 2);
+        decorated.bar();
+
+        // Then:
+        verify(observer).foo("a", 1);
+        verify(observer).foo("b", 2);
+        verify(observer).bar();
+        assertThat(metrics.method("foo").count(), is(2L));
+        assertThat(metrics.method("bar").count(), is(1L));
+        assertThat(metrics.method("foo").histogram().isPresent(), is(false));
+    }
+
+    @Test
+    void shouldRecordArgumentsIntoHistograms() {
+        // Given:
+        final ObserverMetrics<Observer> metrics =
+                ObserverMetrics.builder(Observer.class).histogram("foo", 1).build();
+        final Observer decorated = metrics.decorate(observer);
+
+        // When:
+        decorated.foo("a", 3);
+        decorated.foo("b", 100);
+
+        // Then:
+        verify(observer).foo("a", 3);
+        verify(observer).foo("b", 100);
+        final Histogram histogram = metrics.method("foo").histogram().orElseThrow();
+        assertThat(histogram.count(), is(2L));
+        assertThat(histogram.total(), is(103L));
+        assertThat(histogram.max(), is(100L));
+        assertThat(metrics.method("foo").count(), is(2L));
+    }
+
+    @Test
+    void shouldRecordDerivedValues() {
+        // Given:
+        final ObserverMetrics<Observer> metrics =
+                ObserverMetrics.builder(Observer.class)
+                        .histogram("foo", args -> ((String) args[0]).length())
+                        .build();
+
+        // When:
+        metrics.observer().foo("four", 0);
+
+        // Then:
+        assertThat(metrics.method("foo").histogram().orElseThrow().total(), is(4L));
+    }
+
+    @Test
+    void shouldRecordWithoutDelegate() {
+        // Given:
+        final ObserverMetrics<Observer> metrics = ObserverMetrics.builder(Observer.class).build();
+
+        // When:
+        metrics.observer().bar();
+
+        // Then:
+        assertThat(metrics.method("bar").count(), is(1L));
+    }
+
+    @Test
+    void shouldPropagateExceptions() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer).bar();
+        final ObserverMetrics<Observer> metrics = ObserverMetrics.builder(Observer.class).build();
+        final Observer decorated = metrics.decorate(observer);
+
+        // When:
+        final Exception thrown = assertThrows(RuntimeException.class, decorated::bar);
+
+        // Then:
+        assertThat(thrown, is(e));
+        assertThat(metrics.method("bar").count(), is(1L));
+    }
+
+    @Test
+    void shouldCountFailuresToDeriveValuesAndStillCallDelegate() {
+        // Given:
+        final ObserverMetrics<Observer> metrics =
+                ObserverMetrics.builder(Observer.class)
+                        .histogram("foo", args -> ((String) args[0]).length())
+                        .build();
+        final Observer decorated = metrics.decorate(observer);
+
+        // When:
+        decorated.foo(null, 1);
+        decorated.foo("four", 2);
+
+        // Then:
+        verify(observer).foo(null, 1);
+        verify(observer).foo("four", 2);
+        assertThat(metrics.method("foo").failures(), is(1L));
+        assertThat(metrics.method("foo").histogram().orElseThrow().count(), is(1L));
+        assertThat(metrics.method("foo").count(), is(2L));
+    }
+
+    @Test
+    void shouldThrowOnArgumentIndexOutOfRange() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ObserverMetrics.builder(Observer.class).histogram("foo", 2));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Argument index 2 out of range"));
+    }
+
+    @Test
+    void shouldThrowOnNegativeArgumentIndex() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ObserverMetrics.builder(Observer.class).histogram("foo", -1));
+    }
+
+    @Test
+    void shouldThrowOnNonNumericArgument() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> ObserverMetrics.builder(Observer.class).histogram("foo", 0));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Argument 0 is not numeric"));
+    }
+
+    @Test
+    void shouldThrowOnUnknownMethod() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ObserverMetrics.builder(Observer.class).histogram("unknown", 0));
+    }
+
+    @Test
+    void shouldSupportNonPublicInterfaces() {
+        // Given:
+        final NonPublicObserver nonPublic = mock();
+        final ObserverMetrics<NonPublicObserver> metrics =
+                ObserverMetrics.builder(NonPublicObserver.class).histogram("baz", 0).build();
+
+        // When:
+        metrics.decorate(nonPublic).baz(10L);
+
+        // Then:
+        verify(nonPublic).baz(10L);
+        assertThat(metrics.method("baz").histogram().orElseThrow().total(), is(10L));
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+
+    interface NonPublicObserver {
+        void baz(long l);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SampledObserverBuilderTest {
+
+    @Mock private Observer observer;
+
+    @Test
+    void shouldReturnObserverIfNothingSampled() {
+        assertThat(
+                SampledObserverBuilder.builder(Observer.class, observer).build(),
+                is(sameInstance(observer)));
+    }
+
+    @Test
+    void shouldPassOnOneInEveryNCalls() {
+        // Given:
+        final Observer sampled =
+                SampledObserverBuilder.builder(Observer.class, observer).sample("foo", 3).build();
+
+        // When:
+        for (int i = 0; i < 7; i++) {
+            sampled.foo("a", i);
+        }
+
+        // Then:
+        verify(observer).foo("a", 0);
+        verify(observer).foo("a", 3);
+        verify(observer).foo("a", 6);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    void shouldPassOnAllCallsToOtherMethods() {
+        // Given:
+        final Observer sampled =
+                SampledObserverBuilder.builder(Observer.class, observer).sample("foo", 100).build();
+
+        // When:
+        sampled.bar();
+        sampled.bar();
+
+        // Then:
+        verify(observer, times(2)).bar();
+    }
+
+    @Test
+    void shouldRateLimitCalls() {
+        // Given:
+        final Observer sampled =
+                SampledObserverBuilder.builder(Observer.class, observer)
+                        .rateLimit("bar", 2, Duration.ofHours(1))
+                        .build();
+
+        // When:
+        for (int i = 0; i < 5; i++) {
+            sampled.bar();
+        }
+
+        // Then:
+        verify(observer, times(2)).bar();
+    }
+
+    @Test
+    void shouldRecordForwardedAndSkippedCalls() {
+        // Given:
+        final SamplingStats stats = SamplingStats.create();
+        final Observer sampled =
+                SampledObserverBuilder.builder(Observer.class, observer)
+                        .sample("foo", 4)
+                        .instrumented(stats)
+                        .build();
+
+        // When:
+        for (int i = 0; i < 10; i++) {
+            sampled.foo("a", i);
+        }
+        sampled.bar();
+
+        // Then:
+        final SamplingStats.ObserverStats observerStats = stats.observers().get(0);
+        assertThat(observerStats.observer(), is(sameInstance(observer)));
+        assertThat(observerStats.method("foo").forwarded(), is(3L));
+        assertThat(observerStats.method("foo").skipped(), is(7L));
+        assertThat(observerStats.method("bar").forwarded(), is(0L));
+        assertThat(observerStats.method("bar").skipped(), is(0L));
+    }
+
+    @Test
+    void shouldDropStatsOfUnreachableSampledObservers() throws Exception {
+        // Given:
+        final SamplingStats stats = SamplingStats.create();
+        final SampledObserverBuilder<Observer> builder =
+                SampledObserverBuilder.builder(Observer.class, observer)
+                        .sample("foo", 4)
+                        .instrumented(stats);
+        final Observer retained = builder.build();
+        for (int i = 0; i < 100; i++) {
+            builder.build();
+        }
+
+        // When:
+        for (int i = 0; i < 100 && stats.observers().size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then:
+        assertThat(stats.observers(), hasSize(1));
+        retained.foo("a", 1);
+        assertThat(stats.observers().get(0).method("foo").forwarded(), is(1L));
+    }
+
+    @Test
+    void shouldSampleEachBuiltObserverIndependently() {
+        // Given:
+        final SampledObserverBuilder<Observer> builder =
+                SampledObserverBuilder.builder(Observer.class, observer).sample("bar", 10);
+        final Observer first = builder.build();
+        final Observer second = builder.build();
+
+        // When:
+        first.bar();
+        second.bar();
+
+        // Then:
+        verify(observer, times(2)).bar();
+    }
+
+    @Test
+    void shouldPropagateExceptions() {
+        // Given:
+        final RuntimeException e = new RuntimeException("boom");
+        doThrow(e).when(observer).bar();
+        final Observer sampled =
+                SampledObserverBuilder.builder(Observer.class, observer).sample("bar", 2).build();
+
+        // When:
+        final Exception thrown = assertThrows(RuntimeException.class, sampled::bar);
+
+        // Then:
+        assertThat(thrown, is(e));
+    }
+
+    @Test
+    void shouldThrowOnUnknownMethod() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        SampledObserverBuilder.builder(Observer.class, observer)
+                                .sample("unknown", 2));
+    }
+
+    @Test
+    void shouldThrowOnInvalidSampleRate() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> SampledObserverBuilder.builder(Observer.class, observer).sample("foo", 0));
+    }
+
+    @Test
+    void shouldThrowOnInvalidRateLimit() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                        SampledObserverBuilder.builder(Observer.class, observer)
+                                .rateLimit("foo", 10, Duration.ofNanos(5)));
+    }
+
+    @Test
+    void shouldSupportNonPublicInterfaces() {
+        // Given:
+        final NonPublicObserver nonPublic = mock();
+        final NonPublicObserver sampled =
+                SampledObserverBuilder.builder(NonPublicObserver.class, nonPublic)
+                        .sample("baz", 2)
+                        .build();
+
+        // When:
+        sampled.baz(1L);
+        sampled.baz(2L);
+        sampled.baz(3L);
+
+        // Then:
+        verify(nonPublic).baz(1L);
+        verify(nonPublic).baz(3L);
+    }
+
+    public interface Observer {
+        void foo(String text, int i);
+
+        void bar();
+    }
+
+    interface NonPublicObserver {
+        void baz(long l);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.lang.reflect.Method;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class CompositeClassGeneratorTest {
+
+    @Test
+    void shouldIncludeInheritedMethodsOnce() {
+        // When:
+        final List<Method> methods = CompositeClassGenerator.methods(Child.class);
+
+        // Then:
+        assertThat(
+                methods.stream().map(Method::getName).collect(Collectors.toList()),
+                containsInAnyOrder("a", "b", "b", "c"));
+    }
+
+    @Test
+    void shouldExcludeStaticMethods() {
+        assertThat(CompositeClassGenerator.methods(WithStatic.class).size(), is(0));
+    }
+
+    @Test
+    void shouldNotGenerateForNonPublicInterface() {
+        assertThat(CompositeClassGenerator.generate(NonPublic.class).isPresent(), is(false));
+    }
+
+    @Test
+    void shouldGenerateIfOnlyParameterTypeNotPublic() {
+        assertThat(
+                CompositeClassGenerator.generate(WithNonPublicParam.class).isPresent(), is(true));
+    }
+
+    @Test
+    void shouldGenerateCompositeCallingDelegatesInOrder() {
+        // Given:
+        final Child delegate1 = mock();
+        final Child delegate2 = mock();
+        final ObserverType type = ObserverType.of(Child.class);
+        final Function<Object[][], Object> factory =
+                CompositeClassGenerator.generate(Child.class).orElseThrow();
+        final Child composite =
+                (Child)
+                        factory.apply(
+                                type.dispatchTable(
+                                        new Object[] {delegate1, delegate2},
+                                        new BitSet[] {all(type), all(type)}));
+
+        // When:
+        composite.a(1L, 2.0);
+        composite.b("x");
+        composite.b(3);
+        composite.c();
+
+        // Then:
+        final InOrder inOrder = inOrder(delegate1, delegate2);
+        inOrder.verify(delegate1).a(1L, 2.0);
+        inOrder.verify(delegate2).a(1L, 2.0);
+        inOrder.verify(delegate1).b("x");
+        inOrder.verify(delegate2).b("x");
+        inOrder.verify(delegate1).b(3);
+        inOrder.verify(delegate2).b(3);
+        inOrder.verify(delegate1).c();
+        inOrder.verify(delegate2).c();
+    }
+
+    @Test
+    void shouldOnlyCallSubscribedDelegates() throws Exception {
+        // Given:
+        final Child delegate1 = mock();
+        final Child delegate2 = mock();
+        final ObserverType type = ObserverType.of(Child.class);
+        final BitSet onlyC = new BitSet();
+        onlyC.set(type.index(Child.class.getMethod("c")));
+        final Child composite =
+                (Child)
+                        CompositeClassGenerator.generate(Child.class)
+                                .orElseThrow()
+                                .apply(
+                                        type.dispatchTable(
+                                                new Object[] {delegate1, delegate2},
+                                                new BitSet[] {all(type), onlyC}));
+
+        // When:
+        composite.b(3);
+        composite.c();
+
+        // Then:
+        verify(delegate1).b(3);
+        verify(delegate1).c();
+        verify(delegate2).c();
+        verifyNoMoreInteractions(delegate2);
+    }
+
+    @Test
+    void shouldGenerateCompositeWithNoDelegates() {
+        // Given:
+        final ObserverType type = ObserverType.of(Child.class);
+        final Child composite =
+                (Child)
+                        CompositeClassGenerator.generate(Child.class)
+                                .orElseThrow()
+                                .apply(type.dispatchTable(new Object[0], new BitSet[0]));
+
+        // When:
+        composite.a(1L, 2.0);
+
+        // Then: did not throw.
+    }
+
+    private static BitSet all(final ObserverType type) {
+        final BitSet all = new BitSet();
+        all.set(0, type.methods().size());
+        return all;
+    }
+
+    public interface Parent {
+        void a(long l, double d);
+
+        void b(String s);
+    }
+
+    public interface Child extends Parent {
+        @Override
+        void b(String s);
+
+        void b(int i);
+
+        void c();
+    }
+
+    public interface WithStatic {
+        static void s() {}
+    }
+
+    interface NonPublic {
+        void a();
+    }
+
+    public interface WithNonPublicParam {
+        void a(NonPublic param);
+    }
+}
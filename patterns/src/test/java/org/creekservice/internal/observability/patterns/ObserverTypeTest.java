@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.lang.invoke.MethodHandle;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ObserverTypeTest {
+
+    @Test
+    void shouldCacheTypePerInterface() {
+        assertThat(ObserverType.of(Child.class), is(sameInstance(ObserverType.of(Child.class))));
+    }
+
+    @Test
+    void shouldReuseGeneratedClass() {
+        // Given:
+        final ObserverType type = ObserverType.of(Child.class);
+
+        // When:
+        final Object first = type.composite(type.dispatchTable(new Object[0], new BitSet[0]));
+        final Object second = type.composite(type.dispatchTable(new Object[0], new BitSet[0]));
+
+        // Then:
+        assertThat(first, is(not(sameInstance(second))));
+        assertThat(first.getClass(), is(sameInstance(second.getClass())));
+    }
+
+    @Test
+    void shouldThrowOnEachCallForInvalidType() {
+        assertThrows(UnsupportedOperationException.class, () -> ObserverType.of(Invalid.class));
+
+        final Exception e =
+                assertThrows(
+                        UnsupportedOperationException.class,
+                        () -> ObserverType.of(ExtendsInvalid.class));
+
+        assertThat(e.getMessage(), containsString("Invalid.foo()"));
+    }
+
+    @Test
+    void shouldIndexInheritedAndOverriddenMethods() throws Exception {
+        // Given:
+        final ObserverType type = ObserverType.of(Child.class);
+
+        // Then:
+        final int index = type.index(Parent.class.getMethod("b", String.class));
+        assertThat(index, is(type.index(Child.class.getMethod("b", String.class))));
+        assertThat(type.methods().get(index).getName(), is("b"));
+        assertThat(type.index(Object.class.getMethod("toString")), is(-1));
+    }
+
+    @Test
+    void shouldDetectEmptyMethods() throws Exception {
+        // Given:
+        final ObserverType type = ObserverType.of(Child.class);
+
+        // When:
+        final BitSet subscriptions = type.subscriptions(new OnlyB());
+
+        // Then:
+        final int b = type.index(Child.class.getMethod("b", String.class));
+        assertThat(subscriptions.get(type.index(Child.class.getMethod("a"))), is(false));
+        assertThat(subscriptions.get(b), is(true));
+        assertThat(subscriptions.get(type.index(Child.class.getMethod("c"))), is(false));
+    }
+
+    @Test
+    void shouldSubscribeLambdasToAllMethods() {
+        // Given:
+        final ObserverType type = ObserverType.of(Single.class);
+        final Single lambda = () -> {};
+
+        // Then:
+        assertThat(type.subscriptions(lambda).cardinality(), is(1));
+    }
+
+    @Test
+    void shouldBuildDispatchTable() throws Exception {
+        // Given:
+        final ObserverType type = ObserverType.of(Child.class);
+        final Child all = mock();
+        final OnlyB onlyB = new OnlyB();
+
+        // When:
+        final Object[][] table =
+                type.dispatchTable(
+                        new Object[] {all, onlyB},
+                        new BitSet[] {type.subscriptions(m -> true), type.subscriptions(onlyB)});
+
+        // Then:
+        final int a = type.index(Child.class.getMethod("a"));
+        final int b = type.index(Child.class.getMethod("b", String.class));
+        assertThat(table.length, is(type.methods().size() + 1));
+        assertThat(List.of(table[a]), contains(all));
+        assertThat(List.of(table[b]), contains(all, onlyB));
+        assertThat(List.of(table[type.methods().size()]), contains(all, onlyB));
+    }
+
+    @Test
+    void shouldCallImplementationReflectivelyIfInterfaceInaccessible() throws Throwable {
+        // Given:
+        final OnlyB observer = new OnlyB();
+        final MethodHandle handle =
+                ObserverType.implementationInvoker(Parent.class.getMethod("b", String.class));
+
+        // When:
+        handle.invokeWithArguments(observer, "x");
+
+        // Then:
+        assertThat(observer.last, is("x"));
+    }
+
+    @Test
+    void shouldPropagateExceptionsFromImplementationCalledReflectively() throws Exception {
+        // Given:
+        final RuntimeException expected = new RuntimeException("boom");
+        final Single observer =
+                new Single() {
+                    @Override
+                    public void a() {
+                        throw expected;
+                    }
+                };
+        final MethodHandle handle = ObserverType.implementationInvoker(Single.class.getMethod("a"));
+
+        // When:
+        final Exception e =
+                assertThrows(RuntimeException.class, () -> handle.invokeWithArguments(observer));
+
+        // Then:
+        assertThat(e, is(sameInstance(expected)));
+    }
+
+    public interface Parent {
+        void a();
+
+        void b(String s);
+    }
+
+    public interface Child extends Parent {
+        @Override
+        void b(String s);
+
+        default void c() {}
+    }
+
+    public interface Single {
+        void a();
+    }
+
+    public static final class OnlyB implements Child {
+        private String last;
+
+        @Override
+        public void a() {}
+
+        @Override
+        public void b(final String s) {
+            last = s;
+        }
+    }
+
+    public interface Invalid {
+        int foo();
+    }
+
+    public interface ExtendsInvalid extends Invalid {
+        void bar();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.observability.patterns;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SerialDrainTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private int rejections;
+
+    private final Executor executor =
+            task -> {
+                if (rejections > 0) {
+                    rejections--;
+                    throw new RejectedExecutionException("rejected");
+                }
+                tasks.add(task);
+            };
+
+    @Test
+    void shouldScheduleCallQueuedWhileDiscardingOnRejection() throws Exception {
+        // Given:
+        rejections = 1;
+        final TestDrain drain = new TestDrain(executor);
+        drain.callWhileDiscarding = true;
+
+        // When:
+        drain.call(0, new Object[0]);
+
+        // Then:
+        assertThat(drain.discarded(), is(1L));
+        assertThat(tasks, hasSize(1));
+        tasks.get(0).run();
+        assertThat(drain.handled.get(), is(1));
+        assertThat(drain.close(Duration.ZERO), is(true));
+    }
+
+    @Test
+    void shouldDiscardCallQueuedWhileDiscardingIfExecutorStillRejects() throws Exception {
+        // Given:
+        rejections = 2;
+        final TestDrain drain = new TestDrain(executor);
+        drain.callWhileDiscarding = true;
+
+        // When:
+        drain.call(0, new Object[0]);
+
+        // Then:
+        assertThat(drain.discarded(), is(2L));
+        assertThat(tasks, hasSize(0));
+        assertThat(drain.close(Duration.ZERO), is(true));
+    }
+
+    private static final class TestDrain extends SerialDrain {
+
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicInteger handled = new AtomicInteger();
+        boolean callWhileDiscarding;
+
+        TestDrain(final Executor executor) {
+            super(executor);
+        }
+
+        @Override
+        public void call(final int method, final Object[] args) {
+            pending.incrementAndGet();
+            schedule();
+        }
+
+        @Override
+        protected boolean hasPending() {
+            return pending.get() > 0;
+        }
+
+        @Override
+        protected void drainBatch() {
+            handled.addAndGet(pending.getAndSet(0));
+        }
+
+        @Override
+        protected int discardPending() {
+            final int discarded = pending.getAndSet(0);
+            if (callWhileDiscarding) {
+                // Another thread queues a call, but finds the drain still scheduled:
+                callWhileDiscarding = false;
+                call(0, new Object[0]);
+            }
+            return discarded;
+        }
+    }
+}
@@ -20,6 +20,10 @@ include(
     "lifecycle",
     "logging",
     "logging-fixtures",
-    "patterns"
+    "logging-log4j2",
+    "logging-processor",
+    "logging-logback",
+    "patterns",
+    "patterns-logging"
 )
 